@@ -0,0 +1,58 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Commands that the current player can issue during a turn.
+ * The legal commands of a state are packed in an {@code int} bitmask,
+ * one bit per command (see {@link LegalActions}).
+ */
+public enum ActionType {
+
+    /**
+     * Throw the dice.
+     */
+    ROLL,
+
+    /**
+     * Buy the property of the current tile.
+     */
+    BUY,
+
+    /**
+     * Build a house on one of the player's properties.
+     */
+    BUILD,
+
+    /**
+     * Sell a house built on one of the player's properties.
+     */
+    SELL_HOUSE,
+
+    /**
+     * Pay the fee to leave the jail.
+     */
+    PAY_JAIL_FEE,
+
+    /**
+     * Pass the turn to the next player.
+     */
+    END_TURN;
+
+    /**
+     * Returns the bit of this command in a bitmask of legal actions.
+     *
+     * @return the bit of the command
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Checks if this command is set in a bitmask of legal actions.
+     *
+     * @param actions the bitmask of legal actions
+     * @return true if the command is legal
+     */
+    public boolean isIn(final int actions) {
+        return (actions & mask()) != 0;
+    }
+}
@@ -1,17 +1,18 @@
 package it.unibo.javapoly.controller.api;
 
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import it.unibo.javapoly.controller.impl.BoardControllerImpl;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.model.api.board.Board;
 import it.unibo.javapoly.model.api.board.Tile;
 import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.HashedComponent;
 import it.unibo.javapoly.model.api.Player;
 
 /**
  * Controller responsible for managing board operations such as player movement,
  * tile logic execution, and handling the "Go" tile bonus.
  */
-@JsonDeserialize(as = BoardControllerImpl.class)
-public interface BoardController {
+public interface BoardController extends HashedComponent {
 
     /**
      * Moves a player by a specified number of steps on the board.
@@ -78,4 +79,36 @@ public interface BoardController {
      * @return the meessage
      */
     String getMessagePrint();
+
+    /**
+     * Returns the controller of the cards drawn on the unexpected tiles.
+     *
+     * @return the card controller
+     */
+    CardController getCardController();
+
+    /**
+     * Registers the landing logic for a class of tiles, replacing the previous one.
+     * Every board position holding a tile of that class (or of a subclass without a
+     * more specific handler) is bound to the new handler.
+     *
+     * @param <T> the type of tile handled
+     * @param tileClass the class of tiles handled
+     * @param handler the landing logic
+     */
+    <T extends Tile> void registerTileHandler(Class<T> tileClass, TileHandler<? super T> handler);
+
+    /**
+     * Creates an independent copy of this controller for a copied match.
+     * The card deck is copied with its piles and held cards; the copy uses the
+     * default tile handlers and, belonging to a simulated match, records no metrics.
+     *
+     * @param board the copied board
+     * @param propertyController the property controller of the copied match
+     * @param economy the economy controller of the copied match
+     * @param random the random generator used by the copied deck
+     * @return the copy of the controller
+     */
+    BoardController fork(Board board, PropertyController propertyController, EconomyController economy,
+            RandomGenerator random);
 }
@@ -1,16 +1,17 @@
 package it.unibo.javapoly.controller.api;
 
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import it.unibo.javapoly.controller.impl.CardControllerImpl;
+import java.util.random.RandomGenerator;
+
 import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.card.payload.CardPayload;
+import it.unibo.javapoly.model.api.HashedComponent;
 import it.unibo.javapoly.model.api.Player;
 
 /**
  * Controller responsible for managing game cards (Chance/Community Chest).
  * Handles drawing cards and executing their effects on players.
  */
-@JsonDeserialize(as = CardControllerImpl.class)
-public interface CardController {
+public interface CardController extends HashedComponent {
 
     /**
      * Draws a card from the deck for the specified player.
@@ -39,4 +40,73 @@ public interface CardController {
      */
     boolean useGetOutOfJailFreeCard(String playerId);
 
+    /**
+     * Checks if a player holds a "Get Out of Jail Free" card.
+     *
+     * @param playerId the ID of the player
+     * @return true if the player holds the card
+     */
+    boolean hasGetOutOfJailFreeCard(String playerId);
+
+    /**
+     * Gives a "Get Out of Jail Free" card held by a player to another player.
+     *
+     * @param fromId the ID of the player holding the card
+     * @param toId the ID of the player receiving the card
+     * @return true if the card was given, false if the first player doesn't have one
+     */
+    boolean transferGetOutOfJailFreeCard(String fromId, String toId);
+
+    /**
+     * Returns the number of cards the next draw can return.
+     *
+     * @return the number of drawable cards
+     */
+    int getDrawableCount();
+
+    /**
+     * Returns one of the cards the next draw can return, in no particular order.
+     *
+     * @param index the index of the card, between 0 and {@link #getDrawableCount()} excluded
+     * @return the card
+     */
+    GameCard getDrawableCard(int index);
+
+    /**
+     * Returns the number of cards of the deck, drawable, discarded or held.
+     *
+     * @return the number of cards
+     */
+    int getCardCount();
+
+    /**
+     * Returns one of the cards of the deck, in a fixed order.
+     *
+     * @param index the index of the card, between 0 and {@link #getCardCount()} excluded
+     * @return the card
+     */
+    GameCard getCard(int index);
+
+    /**
+     * Registers the effect for a class of card payloads, replacing the previous one.
+     *
+     * @param <P> the type of payload handled
+     * @param payloadClass the class of payloads handled
+     * @param effect the effect to apply
+     */
+    <P extends CardPayload> void registerCardEffect(Class<P> payloadClass, CardEffect<? super P> effect);
+
+    /**
+     * Creates an independent copy of this controller for a copied match.
+     * The deck is copied with its piles and held cards; the copy uses the
+     * default card effects.
+     *
+     * @param boardController the board controller of the copied match
+     * @param propertyController the property controller of the copied match
+     * @param economy the economy controller of the copied match
+     * @param random the random generator used by the copied deck
+     * @return the copy of the controller
+     */
+    CardController fork(BoardController boardController, PropertyController propertyController,
+            EconomyController economy, RandomGenerator random);
 }
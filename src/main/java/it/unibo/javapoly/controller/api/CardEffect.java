@@ -0,0 +1,26 @@
+package it.unibo.javapoly.controller.api;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.card.payload.CardPayload;
+
+/**
+ * Effect applied when a card with a given payload class is executed.
+ *
+ * <p>
+ * Effects are registered on the {@link CardController} by payload class.
+ *
+ * @param <P> the type of payload handled
+ */
+@FunctionalInterface
+public interface CardEffect<P extends CardPayload> {
+
+    /**
+     * Applies the effect of the payload to the player.
+     *
+     * @param player the player affected by the card
+     * @param payload the payload of the drawn card
+     * @param diceRoll the current dice roll value
+     * @return the position of the tile the player ended up on, or {@code -1} for non-move effects
+     */
+    int apply(Player player, P payload, int diceRoll);
+}
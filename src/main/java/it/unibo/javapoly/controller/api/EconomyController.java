@@ -1,6 +1,8 @@
 package it.unibo.javapoly.controller.api;
 
+import it.unibo.javapoly.controller.api.turn.SettlementQueue;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.Ledger;
 import it.unibo.javapoly.model.api.property.Property;
 
 /**
@@ -71,6 +73,14 @@ public interface EconomyController {
      */
     boolean sellProperty(Player owner, Property property);
 
+    /**
+     * Returns the value of the houses built on a property, at their cost.
+     *
+     * @param property the property.
+     * @return the building value, {@code 0} if the property is not a land.
+     */
+    int getBuildingValue(Property property);
+
     /**
      * Pay rent to payee.
      *
@@ -96,4 +106,19 @@ public interface EconomyController {
      * @param observer of observer.
      */
     void setLiquidationObserver(LiquidationObserver observer);
+
+    /**
+     * Sets the queue where deposits, withdrawals, rents and payments are deferred while
+     * it is open, so that the money of a dice throw moves at its settlement.
+     *
+     * @param queue the settlement queue, null to always move the money immediately
+     */
+    void setSettlementQueue(SettlementQueue queue);
+
+    /**
+     * Returns the ledger recording the movements of money made through this controller.
+     *
+     * @return the ledger
+     */
+    Ledger getLedger();
 }
@@ -0,0 +1,41 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.BitSet;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+
+/**
+ * Generates the commands that the current player may legally issue.
+ *
+ * <p>
+ * It is the single place deciding what can be done in a state: the GUI, the
+ * bots and the remote clients all ask it instead of re-deriving the rules.
+ * The generation does not allocate; the positions of the property commands
+ * are written into bit sets supplied, and reused, by the caller.
+ */
+public interface LegalActions {
+
+    /**
+     * Computes the legal commands of the current player.
+     *
+     * @param state the match state
+     * @return the bitmask of legal commands, see {@link ActionType#mask()}
+     */
+    int generate(GameStateView state);
+
+    /**
+     * Computes the positions where the current player may build a house.
+     *
+     * @param state the match state
+     * @param positions the bit set cleared and filled with the positions
+     */
+    void buildPositions(GameStateView state, BitSet positions);
+
+    /**
+     * Computes the positions where the current player may sell a house.
+     *
+     * @param state the match state
+     * @param positions the bit set cleared and filled with the positions
+     */
+    void sellHousePositions(GameStateView state, BitSet positions);
+}
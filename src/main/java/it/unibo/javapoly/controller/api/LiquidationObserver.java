@@ -1,10 +1,16 @@
 package it.unibo.javapoly.controller.api;
 
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.property.Property;
 
 /**
  * Observer liquidation-related events.
  * Used to trigger UI flows like asset-selling dialogs.
+ *
+ * <p>
+ * A human player paying off a debt sells its assets through the commands submitted
+ * to the executor of the match, which call the methods below on the writer thread;
+ * the liquidation completes as soon as the debt is covered.
  */
 public interface LiquidationObserver {
 
@@ -26,4 +32,41 @@ public interface LiquidationObserver {
      * @param totalDebt the total unpaid amount that triggered the bankruptcy. Must be {@code >= 0}.
      */
     void onBankruptcyDeclared(Player bankruptPlayer, Player creditor, int totalDebt);
+
+    /**
+     * Checks if a player is paying off a debt by selling its assets.
+     *
+     * @param playerId the player ID.
+     * @return true if the player has a liquidation in progress.
+     */
+    boolean isLiquidating(String playerId);
+
+    /**
+     * Sells a house of a player paying off a debt.
+     *
+     * @param player the player with a liquidation in progress.
+     * @param property the property to sell a house of.
+     * @return true if the house was sold.
+     * @throws IllegalStateException if the player has no liquidation in progress.
+     */
+    boolean sellHouse(Player player, Property property);
+
+    /**
+     * Sells a property of a player paying off a debt.
+     *
+     * @param player the player with a liquidation in progress.
+     * @param property the property to sell.
+     * @return true if the property was sold.
+     * @throws IllegalStateException if the player has no liquidation in progress.
+     */
+    boolean sellProperty(Player player, Property property);
+
+    /**
+     * Ends the liquidation of a player who cannot raise the money, declaring the bankruptcy.
+     *
+     * @param player the player with a liquidation in progress.
+     * @return the debt left unpaid.
+     * @throws IllegalStateException if the player has no liquidation in progress.
+     */
+    int declareBankruptcy(Player player);
 }
@@ -0,0 +1,39 @@
+package it.unibo.javapoly.controller.api;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+
+/**
+ * Computes which assets a player should sell to raise money, keeping as much
+ * future rent as possible.
+ */
+public interface LiquidationPlanner {
+
+    /**
+     * Computes the best plan to raise the given amount.
+     *
+     * <p>
+     * Houses are sold at half their building cost and properties at half their
+     * purchase price. Among the plans that raise the amount, the one losing the
+     * least rent value is chosen; if no plan raises it, the returned plan sells
+     * everything and is not covering.
+     *
+     * @param player the player who has to raise the money
+     * @param amount the amount of money to raise, on top of the current balance
+     * @return the liquidation plan (empty if the amount is not positive)
+     */
+    LiquidationPlan plan(Player player, int amount);
+
+    /**
+     * Executes a plan, selling houses before the property they are built on.
+     * The steps are matched to the properties of the player by ID, so a plan computed
+     * on a fork of the match can be executed on the match itself; steps referring to
+     * properties the player no longer owns are skipped.
+     *
+     * @param player the player who owns the assets
+     * @param plan the plan to execute
+     * @param economy the economy controller used to sell the assets
+     * @return the money actually raised
+     */
+    int execute(Player player, LiquidationPlan plan, EconomyController economy);
+}
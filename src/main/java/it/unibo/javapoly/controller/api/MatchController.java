@@ -2,8 +2,15 @@ package it.unibo.javapoly.controller.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.random.RandomGenerator;
 
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.trade.TradeController;
+import it.unibo.javapoly.controller.api.turn.TurnPipeline;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.BalanceHistory;
+import it.unibo.javapoly.model.api.economy.Leaderboard;
 import it.unibo.javapoly.model.api.PlayerObserver;
 import it.unibo.javapoly.model.api.board.Board;
 import it.unibo.javapoly.model.api.property.Property;
@@ -131,6 +138,20 @@ public interface MatchController extends PlayerObserver {
      */
     PropertyController getPropertyController();
 
+    /**
+     * Returns the planner suggesting which assets to sell to pay a debt.
+     *
+     * @return the liquidation planner.
+     */
+    LiquidationPlanner getLiquidationPlanner();
+
+    /**
+     * Returns the observer handling the debts the players cannot pay.
+     *
+     * @return the liquidation observer.
+     */
+    LiquidationObserver getLiquidationObserver();
+
     /** 
      * Acquista la proprietà sulla casella attuale. 
      */
@@ -149,4 +170,117 @@ public interface MatchController extends PlayerObserver {
      * @param p the player being liquidated.
      */
     void finalizeLiquidation(Player p);
+
+    /**
+     * Returns the strategy controlling a player.
+     *
+     * @param playerId the player ID.
+     * @return the strategy, or {@code null} if the player is human.
+     */
+    PlayerStrategy getStrategy(String playerId);
+
+    /**
+     * Returns the read-only view of the match used by the strategies.
+     *
+     * @return the match state view.
+     */
+    GameStateView getStateView();
+
+    /**
+     * Returns the pipeline of the dice throws of the match, to add interceptors to it.
+     * A forked match starts with the default interceptors only.
+     *
+     * @return the turn pipeline.
+     */
+    TurnPipeline getTurnPipeline();
+
+    /**
+     * Returns the standings of the match, kept up to date by its ledger.
+     *
+     * @return the leaderboard.
+     */
+    Leaderboard getLeaderboard();
+
+    /**
+     * Returns the balance and net worth of the players after every turn of the match.
+     * A loaded or forked match starts a new history.
+     *
+     * @return the balance history.
+     */
+    BalanceHistory getBalanceHistory();
+
+    /**
+     * Returns the controller of the trades between the players.
+     *
+     * @return the trade controller.
+     */
+    TradeController getTradeController();
+
+    /**
+     * Plays the whole turn of the current player through its strategy:
+     * jail decision, rolls, purchases and buildings, then passes the turn.
+     * Does nothing if the current player is human.
+     */
+    void playBotTurn();
+
+    /**
+     * Checks if the match is over, that is if at most one player is not bankrupt.
+     *
+     * @return true if the match is over.
+     */
+    boolean isGameOver();
+
+    /**
+     * Creates an independent headless copy of the match, in the same state,
+     * where every player is driven by the given strategies.
+     * Used by the search-based bots to play simulated continuations,
+     * so the copy records no metrics and emits no JFR events.
+     *
+     * @param strategies the strategies of the copied match, by player name.
+     * @param random the random generator of the dice and of the card deck.
+     * @return the copy of the match.
+     */
+    MatchController fork(Map<String, PlayerStrategy> strategies, RandomGenerator random);
+
+    /**
+     * Returns the commands that the current player may legally issue.
+     *
+     * @return the bitmask of legal commands, see {@link ActionType#mask()}.
+     */
+    int getLegalActions();
+
+    /**
+     * Returns the Zobrist hash of the match state: positions, balances (in buckets),
+     * states and jail counters of the players, owners and houses of the properties,
+     * order of the card deck and turn state.
+     * The hash is updated incrementally by every change, so reading it costs O(1);
+     * equal states have equal hashes, whatever the sequence of moves leading to them.
+     *
+     * @return the 64-bit hash of the match state.
+     */
+    long getStateHash();
+
+    /**
+     * Returns the single writer of the match: the GUI, the bots and the remote
+     * clients submit their commands to it instead of calling the match directly.
+     *
+     * @return the executor of the match.
+     */
+    MatchExecutor getExecutor();
+
+    /**
+     * Returns the last published snapshot of the match. Reading it costs a single
+     * volatile read and never blocks the writer, so any thread (GUI, spectators,
+     * dashboards) gets a consistent state, at most one command old.
+     *
+     * @return the last published snapshot, or null if none was published yet.
+     */
+    MatchSnapshot getSnapshot();
+
+    /**
+     * Publishes the current state as the snapshot returned by {@link #getSnapshot()},
+     * with a new version only if it changed. Called by the writer of the match
+     * after every command, see {@link MatchExecutor}.
+     */
+    void publishSnapshot();
 }
@@ -0,0 +1,83 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+
+/**
+ * Single writer of a match.
+ *
+ * <p>
+ * Commands and queries from any thread are queued and applied one at a time,
+ * in submission order, by a single writer, so the match is never mutated
+ * concurrently and the callers never lock. The result of each submission is
+ * delivered through a {@link CompletableFuture}; a command that is not legal
+ * in the state it is applied to completes exceptionally with an
+ * {@link IllegalStateException}.
+ *
+ * <p>
+ * Callbacks attached to the futures may run on the writer: they must not
+ * block waiting for other submissions to the same match.
+ */
+public interface MatchExecutor {
+
+    /**
+     * Queues a command.
+     *
+     * @param <R> the type of the result
+     * @param command the command to apply
+     * @return the future result of the command
+     */
+    <R> CompletableFuture<R> submit(MatchCommand<R> command);
+
+    /**
+     * Queues a read of the match, executed between two commands so it sees a consistent state.
+     *
+     * @param <R> the type of the result
+     * @param query the function reading the match
+     * @return the future result of the query
+     */
+    <R> CompletableFuture<R> query(Function<? super MatchController, ? extends R> query);
+
+    /**
+     * Stops accepting submissions: the ones already queued are still applied,
+     * the later ones complete exceptionally with an {@link IllegalStateException}.
+     */
+    void shutdown();
+
+    /**
+     * Checks if the executor has been shut down.
+     *
+     * @return true if the executor no longer accepts submissions
+     */
+    boolean isShutdown();
+
+    /**
+     * Returns the number of commands and queries applied so far.
+     *
+     * @return the applied submissions
+     */
+    long getAppliedCount();
+
+    /**
+     * Returns the number of submissions waiting to be applied.
+     *
+     * @return the pending submissions
+     */
+    int getPendingCount();
+
+    /**
+     * Returns the time spent by the writer applying submissions.
+     *
+     * @return the busy time, in nanoseconds
+     */
+    long getBusyNanos();
+
+    /**
+     * Returns the longest time between the submission of a command or query and its completion.
+     *
+     * @return the maximum latency, in nanoseconds
+     */
+    long getMaxLatencyNanos();
+}
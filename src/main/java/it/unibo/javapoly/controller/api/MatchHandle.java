@@ -0,0 +1,54 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+
+/**
+ * Access to a match hosted by a {@link MatchRegistry}, limited to what can be done
+ * from any thread: submitting commands and queries to its executor and reading its
+ * published snapshot.
+ *
+ * <p>
+ * A handle names the match rather than holding it, so it can be kept: every call
+ * looks the match up again, rehydrating it if it was passivated. Once the match is
+ * closed, commands and queries are rejected with a
+ * {@link java.util.concurrent.RejectedExecutionException}.
+ */
+public interface MatchHandle {
+
+    /**
+     * Returns the ID of the match.
+     *
+     * @return the ID
+     */
+    String getMatchId();
+
+    /**
+     * Submits a command to the match, as {@link MatchRegistry#submit} does.
+     *
+     * @param <R> the type of the result
+     * @param command the command
+     * @return the future result of the command
+     */
+    <R> CompletableFuture<R> submit(MatchCommand<R> command);
+
+    /**
+     * Runs a read-only function on the match, on its executor, after the commands already submitted.
+     * The function must not keep or return the match.
+     *
+     * @param <R> the type of the result
+     * @param query the function reading the match
+     * @return the future result of the query
+     */
+    <R> CompletableFuture<R> query(Function<? super MatchController, ? extends R> query);
+
+    /**
+     * Returns the last snapshot published by the match.
+     *
+     * @return the snapshot, or empty if the match is no longer hosted or has not published one yet
+     */
+    Optional<MatchSnapshot> getSnapshot();
+}
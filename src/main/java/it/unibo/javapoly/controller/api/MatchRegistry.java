@@ -0,0 +1,96 @@
+package it.unibo.javapoly.controller.api;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+
+/**
+ * Hosts many headless matches in the same process.
+ *
+ * <p>
+ * Every match is driven by its own {@link MatchExecutor}, which holds a thread
+ * only while it has commands to apply, so the number of hosted matches is
+ * bounded by memory rather than by threads. The registry is thread safe.
+ */
+public interface MatchRegistry {
+
+    /**
+     * Creates and registers a headless match on the standard board.
+     *
+     * @param playerNames the names of the players, in turn order
+     * @param bots the strategy of the players driven by a bot, by player name
+     * @param random the random generator of the dice
+     * @return the ID of the new match
+     * @throws IOException if the board cannot be loaded
+     * @throws IllegalStateException if the registry is full
+     */
+    String create(List<String> playerNames, Map<String, PlayerStrategy> bots, RandomGenerator random)
+            throws IOException;
+
+    /**
+     * Looks up a hosted match, rehydrating it if it was passivated, see {@link MatchSessionStore}.
+     * The match itself is never exposed, as it may only be touched by its executor and may be
+     * replaced by a new instance once passivated: the handle submits commands and queries to it.
+     *
+     * @param matchId the ID of the match
+     * @return the handle of the match, or empty if no match has this ID
+     */
+    Optional<MatchHandle> find(String matchId);
+
+    /**
+     * Submits a command to a hosted match. The command is rejected with a
+     * {@link java.util.concurrent.RejectedExecutionException} when the match is
+     * unknown or already has too many pending commands, so the latency of the
+     * accepted ones stays bounded.
+     *
+     * @param <R> the type of the result
+     * @param matchId the ID of the match
+     * @param command the command
+     * @return the future result of the command
+     */
+    <R> CompletableFuture<R> submit(String matchId, MatchCommand<R> command);
+
+    /**
+     * Unregisters a match and shuts down its executor; the commands already queued are still applied.
+     *
+     * @param matchId the ID of the match
+     * @return true if the match was hosted
+     */
+    boolean close(String matchId);
+
+    /**
+     * Returns the IDs of the hosted matches.
+     *
+     * @return an unmodifiable snapshot of the IDs
+     */
+    Set<String> getMatchIds();
+
+    /**
+     * Returns the number of hosted matches.
+     *
+     * @return the number of matches
+     */
+    int size();
+
+    /**
+     * Returns the resources used by a hosted match, all zero while the match is passivated.
+     *
+     * @param matchId the ID of the match
+     * @return the usage, or empty if no match has this ID
+     */
+    Optional<MatchUsage> getUsage(String matchId);
+
+    /**
+     * Returns the resources used by all the hosted matches.
+     *
+     * @return the combined usage
+     */
+    MatchUsage getTotalUsage();
+}
@@ -0,0 +1,105 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Keeps the hosted matches, resident in memory only while they are played.
+ *
+ * <p>
+ * The store records the last access to every match. A match left idle longer
+ * than the time to live, or the least recently used one when too many matches
+ * are resident, is passivated: its state is written to disk and the match is
+ * released, together with its executor. The next access rehydrates it
+ * transparently, so callers only see the latency of the first command.
+ *
+ * <p>
+ * A match with pending commands is never passivated. Callers must not keep a
+ * reference to a match across accesses: a passivated match is replaced by a new
+ * instance when it is rehydrated. The store is thread safe.
+ */
+public interface MatchSessionStore {
+
+    /**
+     * Adds a resident match.
+     *
+     * @param matchId the ID of the match
+     * @param match the match
+     * @throws IllegalArgumentException if a match with this ID is already stored
+     */
+    void put(String matchId, MatchController match);
+
+    /**
+     * Applies an action to a match, rehydrating it if it was passivated, and records the access.
+     * The match is not passivated while the action runs, so the action should be short,
+     * e.g. a submission to the executor of the match.
+     *
+     * @param <R> the type of the result
+     * @param matchId the ID of the match
+     * @param action the action
+     * @return the result of the action, or empty if no match has this ID
+     * @throws java.io.UncheckedIOException if the passivated match cannot be read
+     */
+    <R> Optional<R> access(String matchId, Function<? super MatchController, ? extends R> action);
+
+    /**
+     * Returns a match only if it is resident, without recording an access.
+     *
+     * @param matchId the ID of the match
+     * @return the match, or empty if it is unknown or passivated
+     */
+    Optional<MatchController> peek(String matchId);
+
+    /**
+     * Removes a match, resident or passivated, and shuts down its executor.
+     *
+     * @param matchId the ID of the match
+     * @return true if the match was stored
+     */
+    boolean remove(String matchId);
+
+    /**
+     * Passivates the matches idle for longer than the time to live.
+     *
+     * @return the number of passivated matches
+     */
+    int passivateIdle();
+
+    /**
+     * Checks if a match is stored, resident or passivated.
+     *
+     * @param matchId the ID of the match
+     * @return true if the match is stored
+     */
+    boolean contains(String matchId);
+
+    /**
+     * Checks if a match is resident in memory.
+     *
+     * @param matchId the ID of the match
+     * @return true if the match is stored and not passivated
+     */
+    boolean isResident(String matchId);
+
+    /**
+     * Returns the IDs of the stored matches, resident or passivated.
+     *
+     * @return an unmodifiable snapshot of the IDs
+     */
+    Set<String> getMatchIds();
+
+    /**
+     * Returns the number of stored matches, resident or passivated.
+     *
+     * @return the number of matches
+     */
+    int size();
+
+    /**
+     * Returns the number of matches resident in memory.
+     *
+     * @return the number of resident matches
+     */
+    int getResidentCount();
+}
@@ -0,0 +1,310 @@
+package it.unibo.javapoly.controller.api;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+
+/**
+ * Immutable copy of the state of a match shown to remote players and spectators:
+ * turn, positions, balances and flags of the players, owners and houses of the tiles.
+ *
+ * <p>
+ * Players are referred to by their index in turn order and tiles by their position,
+ * so that consecutive snapshots can be compared and encoded field by field.
+ */
+public final class MatchSnapshot {
+
+    /**
+     * Owner index of a tile without owner.
+     */
+    public static final int NO_OWNER = -1;
+
+    private static final int BANKRUPT = 1;
+    private static final int JAILED = 1 << 1;
+    private static final int JAIL_CARD = 1 << 2;
+
+    private final long version;
+    private final long stateHash;
+    private final int currentPlayer;
+    private final String[] playerIds;
+    private final int[] positions;
+    private final int[] balances;
+    private final int[] flags;
+    private final int[] owners;
+    private final int[] houses;
+
+    /**
+     * Constructor to create an instance of MatchSnapshot.
+     *
+     * @param version the version of the snapshot, increasing along the match
+     * @param stateHash the hash of the match state
+     * @param currentPlayer the index of the player whose turn it is
+     * @param playerIds the players, in turn order
+     * @param positions the positions of the players
+     * @param balances the balances of the players
+     * @param flags the flags of the players, see {@link #isBankrupt(int)}, {@link #isInJail(int)}
+     *     and {@link #hasGetOutOfJailFreeCard(int)}
+     * @param owners the index of the owner of each tile, {@value #NO_OWNER} if none
+     * @param houses the houses built on each tile
+     */
+    public MatchSnapshot(final long version, final long stateHash, final int currentPlayer, final String[] playerIds,
+            final int[] positions, final int[] balances, final int[] flags, final int[] owners, final int[] houses) {
+        this.version = version;
+        this.stateHash = stateHash;
+        this.currentPlayer = currentPlayer;
+        this.playerIds = playerIds.clone();
+        this.positions = positions.clone();
+        this.balances = balances.clone();
+        this.flags = flags.clone();
+        this.owners = owners.clone();
+        this.houses = houses.clone();
+        if (positions.length != playerIds.length || balances.length != playerIds.length
+                || flags.length != playerIds.length || houses.length != owners.length) {
+            throw new IllegalArgumentException("The arrays of the players and of the tiles must have the same length");
+        }
+    }
+
+    /**
+     * Copies the state of a match.
+     *
+     * @param version the version of the snapshot
+     * @param state the state of the match
+     * @return the snapshot
+     */
+    public static MatchSnapshot of(final long version, final GameStateView state) {
+        final int players = state.getPlayerCount();
+        final String[] ids = new String[players];
+        final int[] positions = new int[players];
+        final int[] balances = new int[players];
+        final int[] flags = new int[players];
+        int current = 0;
+        for (int i = 0; i < players; i++) {
+            final String id = state.getPlayerId(i);
+            ids[i] = id;
+            positions[i] = state.getPosition(id);
+            balances[i] = state.getBalance(id);
+            flags[i] = (state.isBankrupt(id) ? BANKRUPT : 0)
+                    | (state.isInJail(id) ? JAILED : 0)
+                    | (state.hasGetOutOfJailFreeCard(id) ? JAIL_CARD : 0);
+            if (id.equals(state.getCurrentPlayerId())) {
+                current = i;
+            }
+        }
+        final int tiles = state.getBoardSize();
+        final int[] owners = new int[tiles];
+        final int[] houses = new int[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            final String owner = state.isProperty(tile) ? state.getOwner(tile) : null;
+            owners[tile] = owner == null ? NO_OWNER : indexOf(ids, owner);
+            houses[tile] = owner == null ? 0 : state.getHouses(tile);
+        }
+        return new MatchSnapshot(version, state.getStateHash(), current, ids, positions, balances, flags,
+                owners, houses);
+    }
+
+    private static int indexOf(final String[] ids, final String id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(id)) {
+                return i;
+            }
+        }
+        return NO_OWNER;
+    }
+
+    /**
+     * Returns the version of the snapshot; later snapshots of a match have greater versions.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the hash of the match state, see {@link MatchController#getStateHash()}.
+     *
+     * @return the state hash
+     */
+    public long getStateHash() {
+        return this.stateHash;
+    }
+
+    /**
+     * Returns the index of the player whose turn it is.
+     *
+     * @return the index of the current player
+     */
+    public int getCurrentPlayerIndex() {
+        return this.currentPlayer;
+    }
+
+    /**
+     * Returns the player whose turn it is.
+     *
+     * @return the current player ID
+     */
+    public String getCurrentPlayerId() {
+        return this.playerIds[this.currentPlayer];
+    }
+
+    /**
+     * Returns the number of players.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return this.playerIds.length;
+    }
+
+    /**
+     * Returns a player.
+     *
+     * @param index the index of the player, in turn order
+     * @return the player ID
+     */
+    public String getPlayerId(final int index) {
+        return this.playerIds[index];
+    }
+
+    /**
+     * Returns the position of a player.
+     *
+     * @param index the index of the player
+     * @return the position
+     */
+    public int getPosition(final int index) {
+        return this.positions[index];
+    }
+
+    /**
+     * Returns the balance of a player.
+     *
+     * @param index the index of the player
+     * @return the balance
+     */
+    public int getBalance(final int index) {
+        return this.balances[index];
+    }
+
+    /**
+     * Returns the flags of a player, as a bit set.
+     *
+     * @param index the index of the player
+     * @return the flags
+     */
+    public int getFlags(final int index) {
+        return this.flags[index];
+    }
+
+    /**
+     * Checks if a player is bankrupt.
+     *
+     * @param index the index of the player
+     * @return true if the player is bankrupt
+     */
+    public boolean isBankrupt(final int index) {
+        return (this.flags[index] & BANKRUPT) != 0;
+    }
+
+    /**
+     * Checks if a player is in jail.
+     *
+     * @param index the index of the player
+     * @return true if the player is in jail
+     */
+    public boolean isInJail(final int index) {
+        return (this.flags[index] & JAILED) != 0;
+    }
+
+    /**
+     * Checks if a player holds a "Get Out Of Jail Free" card.
+     *
+     * @param index the index of the player
+     * @return true if the player holds the card
+     */
+    public boolean hasGetOutOfJailFreeCard(final int index) {
+        return (this.flags[index] & JAIL_CARD) != 0;
+    }
+
+    /**
+     * Returns the number of tiles.
+     *
+     * @return the board size
+     */
+    public int getTileCount() {
+        return this.owners.length;
+    }
+
+    /**
+     * Returns the owner of a tile.
+     *
+     * @param position the position of the tile
+     * @return the index of the owner, {@value #NO_OWNER} if none
+     */
+    public int getOwnerIndex(final int position) {
+        return this.owners[position];
+    }
+
+    /**
+     * Returns the houses built on a tile.
+     *
+     * @param position the position of the tile
+     * @return the number of houses
+     */
+    public int getHouses(final int position) {
+        return this.houses[position];
+    }
+
+    /**
+     * Checks if another snapshot describes the same state, whatever its version.
+     *
+     * @param other the other snapshot
+     * @return true if the two snapshots have the same fields
+     */
+    public boolean hasSameState(final MatchSnapshot other) {
+        return other != null
+                && this.stateHash == other.stateHash
+                && this.currentPlayer == other.currentPlayer
+                && Arrays.equals(this.playerIds, other.playerIds)
+                && Arrays.equals(this.positions, other.positions)
+                && Arrays.equals(this.balances, other.balances)
+                && Arrays.equals(this.flags, other.flags)
+                && Arrays.equals(this.owners, other.owners)
+                && Arrays.equals(this.houses, other.houses);
+    }
+
+    /**
+     * Returns a string representation of the MatchSnapshot object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "MatchSnapshot[version=" + this.version + ", current=" + getCurrentPlayerId()
+                + ", players=" + Arrays.toString(this.playerIds) + ", positions=" + Arrays.toString(this.positions)
+                + ", balances=" + Arrays.toString(this.balances) + "]";
+    }
+
+    /**
+     * Returns the hash code of the MatchSnapshot object.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.version, this.stateHash);
+    }
+
+    /**
+     * Checks if another object is a snapshot of the same state with the same version.
+     *
+     * @param obj the object to compare
+     * @return true if the objects are equal
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj
+                || obj instanceof MatchSnapshot other && this.version == other.version && hasSameState(other);
+    }
+}
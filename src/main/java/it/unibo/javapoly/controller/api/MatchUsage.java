@@ -0,0 +1,97 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Resources used by a hosted match, or by all the matches of a {@link MatchRegistry}.
+ */
+public final class MatchUsage {
+
+    private final long appliedCount;
+    private final int pendingCount;
+    private final long busyNanos;
+    private final long maxLatencyNanos;
+
+    /**
+     * Constructor to create an instance of MatchUsage.
+     *
+     * @param appliedCount the commands and queries applied
+     * @param pendingCount the submissions waiting to be applied
+     * @param busyNanos the time spent applying submissions, in nanoseconds
+     * @param maxLatencyNanos the longest time from a submission to its completion, in nanoseconds
+     */
+    public MatchUsage(final long appliedCount, final int pendingCount, final long busyNanos,
+            final long maxLatencyNanos) {
+        this.appliedCount = appliedCount;
+        this.pendingCount = pendingCount;
+        this.busyNanos = busyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    /**
+     * Reads the usage of a match from its executor.
+     *
+     * @param executor the executor of the match
+     * @return the usage of the match
+     */
+    public static MatchUsage of(final MatchExecutor executor) {
+        return new MatchUsage(executor.getAppliedCount(), executor.getPendingCount(),
+                executor.getBusyNanos(), executor.getMaxLatencyNanos());
+    }
+
+    /**
+     * Adds the usage of another match: counters and times are summed, latencies keep their maximum.
+     *
+     * @param other the usage to add
+     * @return the combined usage
+     */
+    public MatchUsage plus(final MatchUsage other) {
+        return new MatchUsage(this.appliedCount + other.appliedCount, this.pendingCount + other.pendingCount,
+                this.busyNanos + other.busyNanos, Math.max(this.maxLatencyNanos, other.maxLatencyNanos));
+    }
+
+    /**
+     * Returns the number of commands and queries applied.
+     *
+     * @return the applied submissions
+     */
+    public long getAppliedCount() {
+        return this.appliedCount;
+    }
+
+    /**
+     * Returns the number of submissions waiting to be applied.
+     *
+     * @return the pending submissions
+     */
+    public int getPendingCount() {
+        return this.pendingCount;
+    }
+
+    /**
+     * Returns the time spent applying submissions.
+     *
+     * @return the busy time, in nanoseconds
+     */
+    public long getBusyNanos() {
+        return this.busyNanos;
+    }
+
+    /**
+     * Returns the longest time from a submission to its completion.
+     *
+     * @return the maximum latency, in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return this.maxLatencyNanos;
+    }
+
+    /**
+     * Returns a string representation of the MatchUsage object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "MatchUsage[applied=" + this.appliedCount + ", pending=" + this.pendingCount
+                + ", busyNanos=" + this.busyNanos + ", maxLatencyNanos=" + this.maxLatencyNanos + "]";
+    }
+}
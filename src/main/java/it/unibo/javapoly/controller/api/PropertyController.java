@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import it.unibo.javapoly.controller.impl.PropertyControllerImpl;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
 
 import java.util.List;
 
@@ -32,6 +33,15 @@ public interface PropertyController {
      */
     int getRent(Player payer, String propertyId, int diceRoll);
 
+    /**
+     * Calculates the rent any player other than the owner pays when landing on a property.
+     *
+     * @param propertyId the ID of the property
+     * @param diceRoll the dice roll (needed for utilities)
+     * @return the rent, 0 if the property is owned by the bank
+     */
+    int getRent(String propertyId, int diceRoll);
+
     /**
      * Gets all properties owned by a specific player.
      * 
@@ -78,6 +88,17 @@ public interface PropertyController {
      */
     void returnPropertyToBank(Property property);
 
+    /**
+     * Transfers a property between two players, as part of a trade.
+     *
+     * @param from the current owner.
+     * @param to the new owner.
+     * @param propertyId the property ID.
+     * @return true if the property was transferred, false if it is unknown, not owned by
+     *         {@code from} or has houses built on it.
+     */
+    boolean transferProperty(Player from, Player to, String propertyId);
+
     /**
      * Retrieves all properties owned by a specific player with house built on.
      *
@@ -102,4 +123,13 @@ public interface PropertyController {
      */
     Player getOwnerByProperty(Property property);
 
+    /**
+     * Checks if a player owns all properties in a group (monopoly).
+     *
+     * @param playerId the player
+     * @param group the property group to check
+     * @return true if the player owns all properties in the group
+     */
+    boolean ownsCompleteGroup(String playerId, PropertyGroup group);
+
 }
@@ -0,0 +1,27 @@
+package it.unibo.javapoly.controller.api;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+
+/**
+ * Exact evaluator of the next turn of a player.
+ *
+ * <p>
+ * The evaluator enumerates the 36 outcomes of the dice, the further rolls granted
+ * by doubles (up to the third double, which sends the player to jail) and, on
+ * the unexpected tiles, every card that can be drawn, weighted by the composition
+ * of the deck. It is meant to be called by the bots on every decision and by the
+ * GUI on every change, so it does not allocate once its buffers are sized.
+ * An evaluator is not thread safe.
+ */
+public interface RollEvaluator {
+
+    /**
+     * Evaluates the next turn of a player from the current state.
+     * For the current player, the doubles already rolled in the turn are taken into account.
+     *
+     * @param state the match state
+     * @param playerIndex the index of the player, see {@link GameStateView#getPlayerId(int)}
+     * @return the forecast, valid until the next evaluation for the same player
+     */
+    RollForecast evaluate(GameStateView state, int playerIndex);
+}
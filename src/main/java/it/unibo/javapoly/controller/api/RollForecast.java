@@ -0,0 +1,56 @@
+package it.unibo.javapoly.controller.api;
+
+/**
+ * Expected outcome of the next turn of a player, computed by a {@link RollEvaluator}.
+ *
+ * <p>
+ * A forecast is a view over buffers owned by the evaluator: it stays valid until
+ * the next evaluation for the same player.
+ */
+public interface RollForecast {
+
+    /**
+     * Returns the player the forecast refers to.
+     *
+     * @return the player ID
+     */
+    String getPlayerId();
+
+    /**
+     * Returns the rent the player is expected to pay in the turn.
+     *
+     * @return the expected rent
+     */
+    double getExpectedRent();
+
+    /**
+     * Returns the money the player is expected to collect passing through GO in the turn.
+     *
+     * @return the expected GO income
+     */
+    double getExpectedGoIncome();
+
+    /**
+     * Returns the probability that the player ends the turn in jail.
+     *
+     * @return the jail probability, between 0 and 1
+     */
+    double getJailProbability();
+
+    /**
+     * Returns the expected number of times the player stops on a tile in the turn.
+     * A roll of a double can stop the player on more than one tile.
+     *
+     * @param position the board position
+     * @return the expected number of landings
+     */
+    double getLandingProbability(int position);
+
+    /**
+     * Returns the part of the expected rent paid on a tile.
+     *
+     * @param position the board position
+     * @return the expected rent paid on the tile
+     */
+    double getExpectedRent(int position);
+}
@@ -0,0 +1,27 @@
+package it.unibo.javapoly.controller.api;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Tile;
+
+/**
+ * Logic executed when a player lands on a tile of a given class.
+ *
+ * <p>
+ * Handlers are registered on the {@link BoardController} by tile class and are
+ * bound to the board positions once, when the board is loaded.
+ *
+ * @param <T> the type of tile handled
+ */
+@FunctionalInterface
+public interface TileHandler<T extends Tile> {
+
+    /**
+     * Executes the landing logic of the tile.
+     *
+     * @param tile the tile the player landed on
+     * @param player the player who landed on the tile
+     * @param diceRoll the result of the dice roll that moved the player
+     * @return the tile the player is on after the logic is executed
+     */
+    Tile onLand(T tile, Player player, int diceRoll);
+}
@@ -0,0 +1,312 @@
+package it.unibo.javapoly.controller.api.bot;
+
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.model.api.board.BoardTopology;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+
+/**
+ * Read-only view of a match, used by the {@link PlayerStrategy} implementations.
+ *
+ * <p>
+ * Every query returns primitives, enums or strings already held by the model,
+ * so a strategy can take its decisions without allocating anything.
+ * Queries on a position that is not a property return {@code 0}, {@code false}
+ * or {@code null}.
+ */
+public interface GameStateView {
+
+    /**
+     * Returns the ID of the player whose turn it is.
+     *
+     * @return the current player ID
+     */
+    String getCurrentPlayerId();
+
+    /**
+     * Returns the number of players, bankrupt ones included.
+     *
+     * @return the number of players
+     */
+    int getPlayerCount();
+
+    /**
+     * Returns the ID of a player, in turn order.
+     *
+     * @param index the index of the player, between 0 and {@link #getPlayerCount()} excluded
+     * @return the player ID
+     */
+    String getPlayerId(int index);
+
+    /**
+     * Returns the number of players that are not bankrupt.
+     *
+     * @return the number of active players
+     */
+    int getActivePlayerCount();
+
+    /**
+     * Checks if a player is bankrupt.
+     *
+     * @param playerId the player ID
+     * @return true if the player is bankrupt
+     */
+    boolean isBankrupt(String playerId);
+
+    /**
+     * Checks if the current player can still throw the dice in this turn.
+     *
+     * @return true if the current player can roll
+     */
+    boolean canRoll();
+
+    /**
+     * Checks if the current player has already moved in this turn.
+     *
+     * @return true if the current player has thrown the dice at least once
+     */
+    boolean hasMoved();
+
+    /**
+     * Returns the doubles rolled in a row by the current player in this turn.
+     *
+     * @return the number of consecutive doubles
+     */
+    int getConsecutiveDoubles();
+
+    /**
+     * Returns the incrementally updated hash of the match state.
+     *
+     * @return the 64-bit hash of the state
+     */
+    long getStateHash();
+
+    /**
+     * Returns the balance of a player.
+     *
+     * @param playerId the player ID
+     * @return the balance, or {@code 0} if the player does not exist
+     */
+    int getBalance(String playerId);
+
+    /**
+     * Returns the net worth of a player: its cash, its properties at their purchase
+     * price and its houses at their cost.
+     *
+     * @param playerId the player ID
+     * @return the net worth, or {@code 0} if the player does not exist
+     */
+    int getNetWorth(String playerId);
+
+    /**
+     * Returns the net worth of all the players.
+     *
+     * @return the sum of the net worths
+     */
+    long getTotalNetWorth();
+
+    /**
+     * Returns the position of a player.
+     *
+     * @param playerId the player ID
+     * @return the position, or {@code 0} if the player does not exist
+     */
+    int getPosition(String playerId);
+
+    /**
+     * Checks if a player is in jail.
+     *
+     * @param playerId the player ID
+     * @return true if the player is in jail
+     */
+    boolean isInJail(String playerId);
+
+    /**
+     * Returns how many times a jailed player already failed to roll a double.
+     *
+     * @param playerId the player ID
+     * @return the number of failed attempts
+     */
+    int getJailAttempts(String playerId);
+
+    /**
+     * Returns the fee to pay to leave the jail.
+     *
+     * @return the jail fee
+     */
+    int getJailFee();
+
+    /**
+     * Returns the number of tiles on the board.
+     *
+     * @return the board size
+     */
+    int getBoardSize();
+
+    /**
+     * Returns the topology of the board: movement, GO and jail positions.
+     *
+     * @return the board topology
+     */
+    BoardTopology getTopology();
+
+    /**
+     * Returns the type of a tile.
+     *
+     * @param position the board position
+     * @return the type of the tile
+     */
+    TileType getTileType(int position);
+
+    /**
+     * Returns the rent a player other than the owner pays when landing on a property.
+     *
+     * @param position the board position
+     * @param diceTotal the total of the dice that moved the player (needed for utilities)
+     * @return the rent, 0 if the position is not an owned property
+     */
+    int getRent(int position, int diceTotal);
+
+    /**
+     * Returns the number of cards the next draw on an unexpected tile can return.
+     *
+     * @return the number of drawable cards
+     */
+    int getDrawableCardCount();
+
+    /**
+     * Returns one of the cards the next draw can return, in no particular order.
+     *
+     * @param index the index of the card, between 0 and {@link #getDrawableCardCount()} excluded
+     * @return the card
+     */
+    GameCard getDrawableCard(int index);
+
+    /**
+     * Returns the number of cards of the deck of the unexpected tiles, drawable or not.
+     *
+     * @return the number of cards, 0 if the match has no cards
+     */
+    int getCardCount();
+
+    /**
+     * Returns one of the cards of the deck, in a fixed order.
+     *
+     * @param index the index of the card, between 0 and {@link #getCardCount()} excluded
+     * @return the card
+     */
+    GameCard getCard(int index);
+
+    /**
+     * Checks if a player holds a "Get Out of Jail Free" card.
+     *
+     * @param playerId the player ID
+     * @return true if the player holds the card
+     */
+    boolean hasGetOutOfJailFreeCard(String playerId);
+
+    /**
+     * Checks if the tile at a position is a property.
+     *
+     * @param position the position
+     * @return true if the tile is a property
+     */
+    boolean isProperty(int position);
+
+    /**
+     * Checks if the tile at a position is a property owned by the bank.
+     *
+     * @param position the position
+     * @return true if the property can be bought
+     */
+    boolean isBuyable(int position);
+
+    /**
+     * Returns the purchase price of the property at a position.
+     *
+     * @param position the position
+     * @return the price
+     */
+    int getPrice(int position);
+
+    /**
+     * Returns the group of the property at a position.
+     *
+     * @param position the position
+     * @return the group, or {@code null} if the tile is not a property
+     */
+    PropertyGroup getGroup(int position);
+
+    /**
+     * Returns the owner of the property at a position.
+     *
+     * @param position the position
+     * @return the owner ID, or {@code null} if the property belongs to the bank
+     */
+    String getOwner(int position);
+
+    /**
+     * Returns the houses built on the property at a position (a hotel counts as five).
+     *
+     * @param position the position
+     * @return the number of houses
+     */
+    int getHouses(int position);
+
+    /**
+     * Returns the cost of a house on the property at a position.
+     *
+     * @param position the position
+     * @return the house cost, or {@code 0} if houses cannot be built
+     */
+    int getHouseCost(int position);
+
+    /**
+     * Returns the number of properties of a group.
+     *
+     * @param group the group
+     * @return the group size
+     */
+    int getGroupSize(PropertyGroup group);
+
+    /**
+     * Returns the number of properties of a group owned by a player.
+     *
+     * @param playerId the player ID
+     * @param group the group
+     * @return the number of owned properties
+     */
+    int getOwnedInGroup(String playerId, PropertyGroup group);
+
+    /**
+     * Returns the number of properties of a group owned by players other than the given one.
+     *
+     * @param playerId the player ID
+     * @param group the group
+     * @return the number of properties owned by the opponents
+     */
+    int getOpponentOwnedInGroup(String playerId, PropertyGroup group);
+
+    /**
+     * Checks if the current player can build a house on the property at a position
+     * (whole group owned, houses built evenly, enough money).
+     *
+     * @param position the position
+     * @return true if a house can be built
+     */
+    boolean canBuild(int position);
+
+    /**
+     * Creates an independent headless copy of the viewed match, for simulations.
+     * The viewed match is only read.
+     *
+     * @param strategies the strategies of the copied match, by player name
+     * @param random the random generator of the copied match
+     * @return the copy of the match
+     */
+    MatchController fork(Map<String, PlayerStrategy> strategies, RandomGenerator random);
+}
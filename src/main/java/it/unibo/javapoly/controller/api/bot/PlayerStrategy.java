@@ -0,0 +1,80 @@
+package it.unibo.javapoly.controller.api.bot;
+
+import it.unibo.javapoly.controller.api.trade.TradeScore;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+
+/**
+ * Decision logic of a player controlled by the computer.
+ *
+ * <p>
+ * Every decision is taken for the current player of the given view. The
+ * implementations are expected not to allocate, so that matches with bots
+ * can be simulated at full engine speed.
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Value returned by {@link #chooseBuild(GameStateView)} when the player does not build.
+     */
+    int NO_BUILD = -1;
+
+    /**
+     * Decides whether to buy the property the player landed on.
+     *
+     * @param state the match state
+     * @param position the position of the property
+     * @return true to buy the property, false to skip it
+     */
+    boolean shouldBuy(GameStateView state, int position);
+
+    /**
+     * Chooses where to build the next house.
+     * Called repeatedly at the end of the turn until it returns {@link #NO_BUILD}.
+     *
+     * @param state the match state
+     * @return the position of the property to build on, or {@link #NO_BUILD}
+     */
+    int chooseBuild(GameStateView state);
+
+    /**
+     * Decides whether a jailed player pays the fee instead of trying to roll a double.
+     *
+     * @param state the match state
+     * @return true to pay the fee, false to roll
+     */
+    boolean shouldPayJailFee(GameStateView state);
+
+    /**
+     * Chooses the assets to sell when the player cannot pay a debt.
+     * By default the plan suggested by the liquidation planner is accepted.
+     *
+     * @param state the match state
+     * @param suggested the plan suggested by the liquidation planner
+     * @return the plan to execute
+     */
+    default LiquidationPlan chooseLiquidation(final GameStateView state, final LiquidationPlan suggested) {
+        return suggested;
+    }
+
+    /**
+     * Decides if the player accepts a trade offered by another player. Unlike the other
+     * decisions, it is taken for the recipient of the offer, who may not be the current player.
+     * By default the offer is accepted if the evaluator scores it as a gain for the recipient.
+     *
+     * @param state the match state
+     * @param offer the offer received
+     * @param score the score of the offer, valid only during the call
+     * @return true to accept the offer
+     */
+    default boolean acceptTrade(final GameStateView state, final TradeOffer offer, final TradeScore score) {
+        return score.getRecipientGain() > 0;
+    }
+
+    /**
+     * Returns the name of the strategy, shown in the logs.
+     *
+     * @return the strategy name
+     */
+    String getName();
+}
@@ -0,0 +1,40 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command playing the whole turn of a bot through its strategy, see
+ * {@link it.unibo.javapoly.controller.api.MatchController#playBotTurn()}.
+ * The result is the ID of the next current player.
+ */
+public final class BotTurnCommand implements MatchCommand<String> {
+
+    private final String playerId;
+
+    /**
+     * Constructor to create an instance of BotTurnCommand.
+     *
+     * @param playerId the player issuing the command
+     */
+    public BotTurnCommand(final String playerId) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns a string representation of the BotTurnCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "BotTurnCommand[player=" + this.playerId + "]";
+    }
+}
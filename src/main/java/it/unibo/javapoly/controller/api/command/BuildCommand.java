@@ -0,0 +1,51 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command building a house on a property of the player.
+ * The result is whether a house was built.
+ */
+public final class BuildCommand implements MatchCommand<Boolean> {
+
+    private final String playerId;
+    private final int position;
+
+    /**
+     * Constructor to create an instance of BuildCommand.
+     *
+     * @param playerId the player issuing the command
+     * @param position the board position of the property to build on
+     */
+    public BuildCommand(final String playerId, final int position) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+        this.position = position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns the board position of the property to build on.
+     *
+     * @return the position
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Returns a string representation of the BuildCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "BuildCommand[player=" + this.playerId + ", position=" + this.position + "]";
+    }
+}
@@ -0,0 +1,39 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command buying the property the player stands on.
+ * The result is whether the player owns the property afterwards.
+ */
+public final class BuyCommand implements MatchCommand<Boolean> {
+
+    private final String playerId;
+
+    /**
+     * Constructor to create an instance of BuyCommand.
+     *
+     * @param playerId the player issuing the command
+     */
+    public BuyCommand(final String playerId) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns a string representation of the BuyCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "BuyCommand[player=" + this.playerId + "]";
+    }
+}
@@ -0,0 +1,40 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command ending the liquidation of the player paying off a debt it cannot cover,
+ * see {@link it.unibo.javapoly.controller.api.LiquidationObserver#declareBankruptcy}.
+ * The result is the debt left unpaid.
+ */
+public final class DeclareBankruptcyCommand implements MatchCommand<Integer> {
+
+    private final String playerId;
+
+    /**
+     * Constructor to create an instance of DeclareBankruptcyCommand.
+     *
+     * @param playerId the player issuing the command
+     */
+    public DeclareBankruptcyCommand(final String playerId) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns a string representation of the DeclareBankruptcyCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "DeclareBankruptcyCommand[player=" + this.playerId + "]";
+    }
+}
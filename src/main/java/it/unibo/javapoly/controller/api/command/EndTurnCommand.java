@@ -0,0 +1,39 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command ending the turn of the player.
+ * The result is the ID of the next current player.
+ */
+public final class EndTurnCommand implements MatchCommand<String> {
+
+    private final String playerId;
+
+    /**
+     * Constructor to create an instance of EndTurnCommand.
+     *
+     * @param playerId the player issuing the command
+     */
+    public EndTurnCommand(final String playerId) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns a string representation of the EndTurnCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "EndTurnCommand[player=" + this.playerId + "]";
+    }
+}
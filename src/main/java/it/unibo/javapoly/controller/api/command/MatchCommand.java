@@ -0,0 +1,24 @@
+package it.unibo.javapoly.controller.api.command;
+
+/**
+ * Sealed marker interface for the immutable commands issued to a match.
+ *
+ * <p>
+ * Commands are submitted to the {@link it.unibo.javapoly.controller.api.MatchExecutor}
+ * of the match, which applies them one at a time on its writer thread; the GUI,
+ * the bots and the remote clients all drive a match through them.
+ *
+ * @param <R> the type of the result of the command
+ */
+public sealed interface MatchCommand<R>
+        permits RollCommand, BuyCommand, BuildCommand, PayJailFeeCommand, EndTurnCommand, BotTurnCommand,
+        TradeCommand, SellHouseCommand, SellPropertyCommand, DeclareBankruptcyCommand {
+
+    /**
+     * Returns the player issuing the command.
+     * A command is rejected if its player is not the current one.
+     *
+     * @return the player ID
+     */
+    String getPlayerId();
+}
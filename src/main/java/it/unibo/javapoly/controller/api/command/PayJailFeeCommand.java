@@ -0,0 +1,39 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command paying the fee to leave jail.
+ * The result is whether the player is out of jail afterwards.
+ */
+public final class PayJailFeeCommand implements MatchCommand<Boolean> {
+
+    private final String playerId;
+
+    /**
+     * Constructor to create an instance of PayJailFeeCommand.
+     *
+     * @param playerId the player issuing the command
+     */
+    public PayJailFeeCommand(final String playerId) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns a string representation of the PayJailFeeCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "PayJailFeeCommand[player=" + this.playerId + "]";
+    }
+}
@@ -0,0 +1,40 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command throwing the dice and moving the player, see
+ * {@link it.unibo.javapoly.controller.api.MatchController#handleDiceThrow()}.
+ * The result is the position of the player after the throw.
+ */
+public final class RollCommand implements MatchCommand<Integer> {
+
+    private final String playerId;
+
+    /**
+     * Constructor to create an instance of RollCommand.
+     *
+     * @param playerId the player issuing the command
+     */
+    public RollCommand(final String playerId) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns a string representation of the RollCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "RollCommand[player=" + this.playerId + "]";
+    }
+}
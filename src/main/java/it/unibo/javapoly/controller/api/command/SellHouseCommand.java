@@ -0,0 +1,51 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command selling a house of a property of the player paying off a debt.
+ * The result is whether the house was sold.
+ */
+public final class SellHouseCommand implements MatchCommand<Boolean> {
+
+    private final String playerId;
+    private final int position;
+
+    /**
+     * Constructor to create an instance of SellHouseCommand.
+     *
+     * @param playerId the player issuing the command
+     * @param position the board position of the property to sell a house of
+     */
+    public SellHouseCommand(final String playerId, final int position) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+        this.position = position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns the board position of the property to sell a house of.
+     *
+     * @return the position
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Returns a string representation of the SellHouseCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "SellHouseCommand[player=" + this.playerId + ", position=" + this.position + "]";
+    }
+}
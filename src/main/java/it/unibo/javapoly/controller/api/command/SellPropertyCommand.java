@@ -0,0 +1,51 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+/**
+ * Command selling a property of the player paying off a debt.
+ * The result is whether the property was sold.
+ */
+public final class SellPropertyCommand implements MatchCommand<Boolean> {
+
+    private final String playerId;
+    private final int position;
+
+    /**
+     * Constructor to create an instance of SellPropertyCommand.
+     *
+     * @param playerId the player issuing the command
+     * @param position the board position of the property to sell
+     */
+    public SellPropertyCommand(final String playerId, final int position) {
+        this.playerId = Objects.requireNonNull(playerId, "playerId must not be null");
+        this.position = position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.playerId;
+    }
+
+    /**
+     * Returns the board position of the property to sell.
+     *
+     * @return the position
+     */
+    public int getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Returns a string representation of the SellPropertyCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "SellPropertyCommand[player=" + this.playerId + ", position=" + this.position + "]";
+    }
+}
@@ -0,0 +1,52 @@
+package it.unibo.javapoly.controller.api.command;
+
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.trade.TradeStatus;
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+
+/**
+ * Command proposing a trade to another player, see
+ * {@link it.unibo.javapoly.controller.api.trade.TradeController#propose(TradeOffer)}.
+ * The issuer is the proposer of the offer; the result is the status of the offer.
+ */
+public final class TradeCommand implements MatchCommand<TradeStatus> {
+
+    private final TradeOffer offer;
+
+    /**
+     * Constructor to create an instance of TradeCommand.
+     *
+     * @param offer the offer, proposed by the player issuing the command
+     */
+    public TradeCommand(final TradeOffer offer) {
+        this.offer = Objects.requireNonNull(offer, "offer must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId() {
+        return this.offer.getProposerId();
+    }
+
+    /**
+     * Returns the offer proposed.
+     *
+     * @return the offer
+     */
+    public TradeOffer getOffer() {
+        return this.offer;
+    }
+
+    /**
+     * Returns a string representation of the TradeCommand object.
+     *
+     * @return a string representing the object
+     */
+    @Override
+    public String toString() {
+        return "TradeCommand[" + this.offer + "]";
+    }
+}
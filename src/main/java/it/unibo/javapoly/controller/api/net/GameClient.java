@@ -0,0 +1,51 @@
+package it.unibo.javapoly.controller.api.net;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+
+/**
+ * Client of a {@link GameServer}, playing as one player of one match.
+ *
+ * <p>
+ * Requests are pipelined: they can be sent without waiting for the previous
+ * answers, which complete the returned futures in order.
+ */
+public interface GameClient extends Closeable {
+
+    /**
+     * Joins a match of the server.
+     *
+     * @param matchId the ID of the match
+     * @param playerId the player to play as
+     * @return a future completed when the server accepts the player
+     */
+    CompletableFuture<Void> join(String matchId, String playerId);
+
+    /**
+     * Sends a command of the joined player.
+     *
+     * @param <R> the type of the result
+     * @param command the command
+     * @return the future result, completed exceptionally with an {@link IllegalStateException} if rejected
+     */
+    <R> CompletableFuture<R> send(MatchCommand<R> command);
+
+    /**
+     * Sets the listener of the states streamed by the server. It is called on the
+     * thread reading from the server, so it must not block.
+     *
+     * @param listener the listener
+     */
+    void setStateListener(Consumer<MatchSnapshot> listener);
+
+    /**
+     * Returns the last state received from the server.
+     *
+     * @return the last state, or null if none was received yet
+     */
+    MatchSnapshot getLastState();
+}
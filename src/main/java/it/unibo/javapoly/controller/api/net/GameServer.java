@@ -0,0 +1,34 @@
+package it.unibo.javapoly.controller.api.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Server letting remote clients play the matches of a
+ * {@link it.unibo.javapoly.controller.api.MatchRegistry}.
+ *
+ * <p>
+ * A client joins a match as one of its players, then sends the commands of that
+ * player; the server answers every request and streams the state of the match
+ * to all the clients of the match after every change, including the turns of
+ * the bots.
+ */
+public interface GameServer extends Closeable {
+
+    /**
+     * Starts accepting clients.
+     *
+     * @param port the port to listen on, 0 to pick a free one
+     * @return the port the server listens on
+     * @throws IOException if the port cannot be bound
+     * @throws IllegalStateException if the server is already started
+     */
+    int start(int port) throws IOException;
+
+    /**
+     * Returns the number of connected clients.
+     *
+     * @return the number of connections
+     */
+    int getConnectionCount();
+}
@@ -0,0 +1,54 @@
+package it.unibo.javapoly.controller.api.trade;
+
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+
+/**
+ * Controller of the trades between the players of a match.
+ *
+ * <p>
+ * An offer is validated as a whole against the owners of the properties, the houses
+ * of their groups, the balances and the cards held, and executed only if valid: the
+ * properties and the cards change hands, then the cash moves in one transaction of
+ * the ledger. Houses must be sold before trading the properties of their group.
+ */
+public interface TradeController {
+
+    /**
+     * Reason of the postings of the cash of the trades.
+     */
+    String TRADE = "trade";
+
+    /**
+     * Checks if an offer can be executed.
+     *
+     * @param offer the offer
+     * @return {@link TradeStatus#VALID}, or the first reason why it cannot be executed
+     */
+    TradeStatus validate(TradeOffer offer);
+
+    /**
+     * Executes an offer both players agreed on, if valid.
+     *
+     * @param offer the offer
+     * @return {@link TradeStatus#EXECUTED}, or the reason why it was not executed
+     */
+    TradeStatus execute(TradeOffer offer);
+
+    /**
+     * Proposes an offer to its recipient. A bot recipient answers through its strategy and
+     * the offer is executed if accepted; a human recipient has to answer through the view,
+     * which then calls {@link #execute(TradeOffer)}.
+     *
+     * @param offer the offer
+     * @return {@link TradeStatus#EXECUTED} or {@link TradeStatus#DECLINED} for a bot recipient,
+     *         {@link TradeStatus#VALID} for a human one, or the reason why the offer is not valid
+     */
+    TradeStatus propose(TradeOffer offer);
+
+    /**
+     * Returns the evaluator used to score the offers proposed to the bots.
+     *
+     * @return the trade evaluator
+     */
+    TradeEvaluator getEvaluator();
+}
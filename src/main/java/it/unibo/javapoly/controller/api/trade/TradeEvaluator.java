@@ -0,0 +1,27 @@
+package it.unibo.javapoly.controller.api.trade;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+
+/**
+ * Fast valuation of a trade for both of its players, meant to score many
+ * counter-offers per decision of a bot.
+ *
+ * <p>
+ * The rents each property yields for every number of properties of its group held
+ * by its owner are tabulated once, so an evaluation only reads the owners of the
+ * groups the offer touches and does not allocate. The completion of a group is
+ * valued through the rents it unlocks; properties that are not valid in the offer
+ * are valued as if it could be executed. An evaluator is not thread safe.
+ */
+public interface TradeEvaluator {
+
+    /**
+     * Scores an offer from the current state of the match.
+     *
+     * @param state the match state
+     * @param offer the offer
+     * @return the score, valid until the next evaluation
+     */
+    TradeScore evaluate(GameStateView state, TradeOffer offer);
+}
@@ -0,0 +1,40 @@
+package it.unibo.javapoly.controller.api.trade;
+
+/**
+ * Value of a trade for both of its players, computed by a {@link TradeEvaluator}.
+ *
+ * <p>
+ * A score is a view over the fields of the evaluator: it stays valid until the
+ * next evaluation.
+ */
+public interface TradeScore {
+
+    /**
+     * Returns what the proposer gains by the trade: the cash and the property prices
+     * received minus the ones given, plus the change of its expected rent income.
+     *
+     * @return the gain of the proposer, negative if the trade is a loss for it
+     */
+    double getProposerGain();
+
+    /**
+     * Returns what the recipient gains by the trade, see {@link #getProposerGain()}.
+     *
+     * @return the gain of the recipient, negative if the trade is a loss for it
+     */
+    double getRecipientGain();
+
+    /**
+     * Returns the change of the expected rent income of the proposer, part of its gain.
+     *
+     * @return the change of income of the proposer over the horizon of the evaluator
+     */
+    double getProposerIncomeChange();
+
+    /**
+     * Returns the change of the expected rent income of the recipient, part of its gain.
+     *
+     * @return the change of income of the recipient over the horizon of the evaluator
+     */
+    double getRecipientIncomeChange();
+}
@@ -0,0 +1,81 @@
+package it.unibo.javapoly.controller.api.trade;
+
+/**
+ * Outcome of the validation or of the execution of a trade.
+ */
+public enum TradeStatus {
+
+    /**
+     * The trade can be executed; once proposed, the recipient is a human who has to answer.
+     */
+    VALID,
+
+    /**
+     * The trade has been executed.
+     */
+    EXECUTED,
+
+    /**
+     * The recipient declined the trade.
+     */
+    DECLINED,
+
+    /**
+     * The trade exchanges nothing.
+     */
+    EMPTY,
+
+    /**
+     * The proposer and the recipient are the same player.
+     */
+    SAME_PLAYER,
+
+    /**
+     * One of the players is not in the match.
+     */
+    UNKNOWN_PLAYER,
+
+    /**
+     * One of the players is bankrupt.
+     */
+    BANKRUPT_PLAYER,
+
+    /**
+     * One of the positions is not a property.
+     */
+    NOT_A_PROPERTY,
+
+    /**
+     * One of the properties is not owned by the player giving it.
+     */
+    NOT_OWNED,
+
+    /**
+     * One of the properties belongs to a group with houses built on it.
+     */
+    BUILDINGS_IN_GROUP,
+
+    /**
+     * One of the players cannot afford the cash it gives.
+     */
+    INSUFFICIENT_CASH,
+
+    /**
+     * One of the players does not hold the "Get Out Of Jail Free" card it gives.
+     */
+    NO_JAIL_CARD,
+
+    /**
+     * The money of a dice throw is being settled, so no trade can be executed now.
+     */
+    SETTLEMENT_IN_PROGRESS;
+
+    /**
+     * Checks if the trade passed the validation.
+     *
+     * @return true for {@link #VALID}, {@link #EXECUTED} and {@link #DECLINED}
+     */
+    public boolean isValid() {
+        return this == VALID || this == EXECUTED || this == DECLINED;
+    }
+}
@@ -0,0 +1,30 @@
+package it.unibo.javapoly.controller.api.turn;
+
+/**
+ * Money movements of a dice throw, queued while its tiles are resolved and executed
+ * in order at {@link TurnStage#SETTLE}.
+ */
+public interface SettlementQueue {
+
+    /**
+     * Checks if money movements are being queued.
+     *
+     * @return true between the start of a throw and its settlement
+     */
+    boolean isOpen();
+
+    /**
+     * Queues a money movement.
+     *
+     * @param settlement the movement, executed at settlement
+     * @throws IllegalStateException if the queue is not open
+     */
+    void defer(Runnable settlement);
+
+    /**
+     * Returns the number of money movements queued.
+     *
+     * @return the pending settlements
+     */
+    int getPendingCount();
+}
@@ -0,0 +1,16 @@
+package it.unibo.javapoly.controller.api.turn;
+
+/**
+ * Rest of the chain of a stage: the following interceptors, then the stage itself.
+ */
+@FunctionalInterface
+public interface StageChain {
+
+    /**
+     * Executes the rest of the chain.
+     *
+     * @param stage the stage
+     * @param context the throw
+     */
+    void proceed(TurnStage stage, TurnContext context);
+}
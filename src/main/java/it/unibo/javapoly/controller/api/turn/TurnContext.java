@@ -0,0 +1,82 @@
+package it.unibo.javapoly.controller.api.turn;
+
+import it.unibo.javapoly.model.api.Player;
+
+/**
+ * State of the dice throw going through a {@link TurnPipeline}, shared by its stages
+ * and interceptors.
+ *
+ * <p>
+ * A match reuses the same context for all its throws, so interceptors must not
+ * keep it after the stage they intercept.
+ */
+public interface TurnContext {
+
+    /**
+     * Returns the player throwing the dice.
+     *
+     * @return the current player
+     */
+    Player getPlayer();
+
+    /**
+     * Returns the sum of the dice, known after {@link TurnStage#ROLL}.
+     *
+     * @return the dice, 0 before the roll
+     */
+    int getDice();
+
+    /**
+     * Checks if the dice showed a double, known after {@link TurnStage#ROLL}.
+     *
+     * @return true for a double
+     */
+    boolean isDouble();
+
+    /**
+     * Returns the steps the player moves by in {@link TurnStage#MOVE}, the dice unless changed.
+     *
+     * @return the steps
+     */
+    int getSteps();
+
+    /**
+     * Changes the steps the player moves by, for rule variants intercepting {@link TurnStage#MOVE}.
+     *
+     * @param steps the steps
+     */
+    void setSteps(int steps);
+
+    /**
+     * Returns the position of the player before the throw.
+     *
+     * @return the starting position
+     */
+    int getFromPosition();
+
+    /**
+     * Returns the position of the player after the last stage executed.
+     *
+     * @return the current position
+     */
+    int getPosition();
+
+    /**
+     * Returns the number of money movements queued and not settled yet.
+     *
+     * @return the pending settlements
+     */
+    int getPendingSettlements();
+
+    /**
+     * Skips the rule stages not executed yet, e.g. when the player stays in jail.
+     */
+    void stop();
+
+    /**
+     * Checks if the rule stages are skipped.
+     *
+     * @return true if the throw has been stopped
+     */
+    boolean isStopped();
+}
@@ -0,0 +1,24 @@
+package it.unibo.javapoly.controller.api.turn;
+
+/**
+ * Code wrapped around every stage of a {@link TurnPipeline}, for metrics, logging,
+ * journaling or rule variants.
+ *
+ * <p>
+ * An interceptor executes the stage by calling {@link StageChain#proceed}, and can
+ * act before and after it, change the context, or skip the stage by not proceeding.
+ * Interceptors are called on the thread playing the match and should be stateless,
+ * since one instance may serve many matches.
+ */
+@FunctionalInterface
+public interface TurnInterceptor {
+
+    /**
+     * Intercepts a stage.
+     *
+     * @param stage the stage
+     * @param context the throw
+     * @param chain the rest of the chain, to proceed with the stage
+     */
+    void intercept(TurnStage stage, TurnContext context, StageChain chain);
+}
@@ -0,0 +1,37 @@
+package it.unibo.javapoly.controller.api.turn;
+
+import java.util.List;
+
+/**
+ * Explicit sequence of the {@link TurnStage stages} of a dice throw, with pluggable
+ * {@link TurnInterceptor interceptors} wrapped around each stage.
+ *
+ * <p>
+ * Interceptors are called in registration order before a stage and in reverse
+ * order after it; they can be added and removed from any thread, and apply from
+ * the next stage.
+ */
+public interface TurnPipeline {
+
+    /**
+     * Adds an interceptor after the ones already registered.
+     *
+     * @param interceptor the interceptor
+     */
+    void addInterceptor(TurnInterceptor interceptor);
+
+    /**
+     * Removes an interceptor.
+     *
+     * @param interceptor the interceptor
+     * @return true if the interceptor was registered
+     */
+    boolean removeInterceptor(TurnInterceptor interceptor);
+
+    /**
+     * Returns the registered interceptors.
+     *
+     * @return the interceptors, in registration order
+     */
+    List<TurnInterceptor> getInterceptors();
+}
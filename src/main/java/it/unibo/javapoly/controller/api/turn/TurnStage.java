@@ -0,0 +1,67 @@
+package it.unibo.javapoly.controller.api.turn;
+
+import java.util.Locale;
+
+/**
+ * Stages of a dice throw, executed in declaration order by the {@link TurnPipeline}.
+ */
+public enum TurnStage {
+
+    /**
+     * Throw of the dice, jail rules and doubles.
+     */
+    ROLL(true),
+
+    /**
+     * Movement of the token, passing through "Go" included.
+     */
+    MOVE(true),
+
+    /**
+     * Logic of the tile reached: rents, taxes, cards and further moves are decided here,
+     * while the money they move is queued for {@link #SETTLE}.
+     */
+    RESOLVE(true),
+
+    /**
+     * Execution of the queued money movements, in order, liquidations included;
+     * runs even when the throw is stopped, so no movement is lost.
+     */
+    SETTLE(false),
+
+    /**
+     * End of the throw: decides whether the player throws again.
+     */
+    COMMIT(false),
+
+    /**
+     * Hands the updates of the view collected during the throw to the JavaFX thread, in one batch.
+     */
+    PUBLISH(false);
+
+    private final boolean rule;
+
+    TurnStage(final boolean rule) {
+        this.rule = rule;
+    }
+
+    /**
+     * Checks if the stage applies the rules of the game, and is skipped once the
+     * throw is stopped; {@link #SETTLE}, {@link #COMMIT} and {@link #PUBLISH} always run.
+     *
+     * @return true for the stages skipped by {@link TurnContext#stop()}
+     */
+    public boolean isRule() {
+        return this.rule;
+    }
+
+    /**
+     * Returns the name of the stage in metrics and logs.
+     *
+     * @return the lower case name
+     */
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
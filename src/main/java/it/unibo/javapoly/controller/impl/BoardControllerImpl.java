@@ -1,38 +1,53 @@
 package it.unibo.javapoly.controller.impl;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonProperty;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javapoly.controller.api.BoardController;
 import it.unibo.javapoly.controller.api.CardController;
 import it.unibo.javapoly.controller.api.EconomyController;
 import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.api.TileHandler;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.StateHash;
 import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.BoardTopology;
 import it.unibo.javapoly.model.api.board.Tile;
 import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.card.CardDeck;
 import it.unibo.javapoly.model.api.card.CardType;
 import it.unibo.javapoly.model.api.card.GameCard;
 import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.board.tile.GoToJailTile;
 import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.board.tile.StartTile;
 import it.unibo.javapoly.model.impl.board.tile.TaxTile;
-import it.unibo.javapoly.model.impl.card.StationPropertyCard;
-import it.unibo.javapoly.model.impl.card.UtilityPropertyCard;
+import it.unibo.javapoly.model.impl.board.tile.UnexpectedTile;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
 
 /**
  * Implementation of the BoardController interface.
  * Manages player movement on the board, handling "Go" bonuses,
  * tile logic execution, and special movements (to jail, to nearest tile, etc.).
+ *
+ * <p>
+ * The landing logic of every tile is a {@link TileHandler} registered by tile class
+ * and bound to the board positions when the controller is created, so landing on a
+ * tile is a single call through a position-indexed table.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
-public class BoardControllerImpl implements BoardController {
+public final class BoardControllerImpl implements BoardController {
 
     private static final int MAX_DICE = 12;
-    private static final int GO_BONUS = 200;
-    private static final int BOARD_SIZE = 40;
-    private static final int JAIL_POSITION = 10;
+    private static final String TILE_LOGIC_LATENCY = "board.tileLogic";
 
     private static final String JAIL_FREE =
         "Hai usato una carta esci di prigione gratis.";
@@ -46,41 +61,119 @@ public class BoardControllerImpl implements BoardController {
     @JsonIgnore
     private String message;
 
+    @JsonIgnore
+    private final Map<Class<?>, TileHandler<?>> tileHandlers;
+
+    @JsonIgnore
+    private final Landing[] landings;
+
+    @JsonIgnore
+    private final LatencyHistogram tileLogicLatency;
+
     /**
      * Constructs a new BoardControllerImpl.
      *
      * @param board the game board
      * @param propertyController the property controller for handling tile properties
+     * @param economy the economy controller of the match, moving the money of the tiles and the cards
+     */
+    public BoardControllerImpl(
+            final Board board,
+            final PropertyController propertyController,
+            final EconomyController economy) {
+        this(board, propertyController, economy, new Random());
+    }
+
+    /**
+     * Constructs a new BoardControllerImpl whose card deck is shuffled by the given generator.
+     *
+     * @param board the game board
+     * @param propertyController the property controller for handling tile properties
+     * @param economy the economy controller of the match, moving the money of the tiles and the cards
+     * @param random the random generator used to shuffle the card deck
      */
     public BoardControllerImpl(
             final Board board,
-            final PropertyController propertyController) {
+            final PropertyController propertyController,
+            final EconomyController economy,
+            final RandomGenerator random) {
 
         this.board = board;
-        this.bank = new EconomyControllerImpl(propertyController);
+        this.bank = Objects.requireNonNull(economy);
         this.propertyController = propertyController;
-        this.cardController = new CardControllerImpl(this, this.propertyController);
+        this.cardController = new CardControllerImpl(this, this.propertyController, economy, random);
+        this.tileLogicLatency = MetricsRegistry.getInstance().histogram(TILE_LOGIC_LATENCY);
         this.message = "";
+        this.tileHandlers = new HashMap<>();
+        this.landings = new Landing[board.size()];
+        registerDefaultHandlers();
+        bindTiles();
     }
 
     /**
-     * Constructs a new BoardControllerImpl.
+     * Constructs a BoardControllerImpl drawing from a saved card deck, for a restored match.
      *
      * @param board the game board
      * @param propertyController the property controller for handling tile properties
-     * @param cardController the card controller for handling cards
+     * @param economy the economy controller of the match, moving the money of the tiles and the cards
+     * @param deck the saved card deck
      */
-    @JsonCreator
     public BoardControllerImpl(
-            @JsonProperty("board") final Board board,
-            @JsonProperty("propertyController") final PropertyController propertyController,
-            @JsonProperty("cardController") final CardController cardController) {
+            final Board board,
+            final PropertyController propertyController,
+            final EconomyController economy,
+            final CardDeck deck) {
 
         this.board = board;
-        this.bank = new EconomyControllerImpl(propertyController);
+        this.bank = Objects.requireNonNull(economy);
         this.propertyController = propertyController;
-        this.cardController = cardController;
+        this.cardController = new CardControllerImpl(this, this.propertyController, economy, deck);
+        this.tileLogicLatency = MetricsRegistry.getInstance().histogram(TILE_LOGIC_LATENCY);
         this.message = "";
+        this.tileHandlers = new HashMap<>();
+        this.landings = new Landing[board.size()];
+        registerDefaultHandlers();
+        bindTiles();
+    }
+
+    /**
+     * Constructs the copy of a controller for a copied match, which records no metrics.
+     *
+     * @param board the copied board
+     * @param propertyController the property controller of the copied match
+     * @param economy the economy controller of the copied match
+     * @param source the card controller to copy
+     * @param random the random generator used by the copied deck
+     */
+    private BoardControllerImpl(
+            final Board board,
+            final PropertyController propertyController,
+            final EconomyController economy,
+            final CardController source,
+            final RandomGenerator random) {
+
+        this.board = board;
+        this.bank = Objects.requireNonNull(economy);
+        this.propertyController = propertyController;
+        this.cardController = source.fork(this, propertyController, economy, random);
+        this.tileLogicLatency = MetricsRegistry.noop().histogram(TILE_LOGIC_LATENCY);
+        this.message = "";
+        this.tileHandlers = new HashMap<>();
+        this.landings = new Landing[board.size()];
+        registerDefaultHandlers();
+        bindTiles();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardController fork(
+            final Board board,
+            final PropertyController propertyController,
+            final EconomyController economy,
+            final RandomGenerator random) {
+        return new BoardControllerImpl(board, propertyController, economy, this.cardController, random);
     }
 
     /**
@@ -95,7 +188,7 @@ public class BoardControllerImpl implements BoardController {
     public Tile movePlayer(final Player player, final int steps) {
         final int currentPos = player.getCurrentPosition();
         final int newPos =
-            this.board.normalizePosition(currentPos + steps);
+            this.board.getTopology().normalize(currentPos + steps);
 
         if (passedThroughGo(currentPos, newPos)) {
             awardGoBonus(player);
@@ -123,11 +216,12 @@ public class BoardControllerImpl implements BoardController {
             );
         }
 
+        final BoardTopology topology = this.board.getTopology();
         final int currentPos = player.getCurrentPosition();
 
         if (passedThroughGo(currentPos, targetPos)
-                && targetPos + BOARD_SIZE - currentPos < MAX_DICE
-                && targetPos != JAIL_POSITION) {
+                && topology.distance(currentPos, targetPos) < MAX_DICE
+                && targetPos != topology.getJailPosition()) {
 
             awardGoBonus(player);
         }
@@ -150,9 +244,9 @@ public class BoardControllerImpl implements BoardController {
 
         final int currentPos = player.getCurrentPosition();
         final int nearestPos =
-            findNearestTileOfType(currentPos, tileType);
+            this.board.getTopology().nextTileOfType(currentPos, tileType);
 
-        if (nearestPos == -1) {
+        if (nearestPos == BoardTopology.NO_POSITION) {
             throw new IllegalArgumentException(
                 "No tile of type " + tileType + " found"
             );
@@ -169,6 +263,9 @@ public class BoardControllerImpl implements BoardController {
      * Executes the logic associated with the tile the player lands on.
      * This includes actions like paying rent, going to jail, drawing cards, etc.
      *
+     * <p>
+     * The logic is the {@link TileHandler} bound to the position when the board was loaded.
+     *
      * @param player the player whose tile logic is to be executed
      * @param pos the position of the tile
      * @param diceRoll the result of the dice roll that moved the player
@@ -180,103 +277,32 @@ public class BoardControllerImpl implements BoardController {
             final int pos,
             final int diceRoll) {
 
-        final Tile tile = this.board.getTileAt(pos);
+        final long start = this.tileLogicLatency.start();
+        try {
+            final int position = this.board.getTopology().normalize(pos);
+            final Tile tile = this.board.getTileAt(position);
 
-        this.message += tile.getName()
-            + System.lineSeparator()
-            + tile.getDescription()
-            + System.lineSeparator();
+            this.message += tile.getName()
+                + System.lineSeparator()
+                + tile.getDescription()
+                + System.lineSeparator();
 
-        switch (tile.getType()) {
-            case START:
-                awardGoBonus(player);
-                break;
-            case TAX:
-                if (tile instanceof TaxTile) {
-                    final TaxTile tax = (TaxTile) tile;
-                    this.bank.withdrawFromPlayer(
-                        player,
-                        tax.getAmountTax()
-                    );
-                }
-                break;
-
-            case GO_TO_JAIL:
-                if (!this.cardController
-                        .useGetOutOfJailFreeCard(player.getName())) {
-                    return sendPlayerToJail(player);
-                }
-                this.message += JAIL_FREE
-                    + System.lineSeparator();
-                break;
-
-            case UNEXPECTED:
-                final GameCard cardDrawn =
-                    this.cardController.drawCard(player.getName());
-
-                this.message += cardDrawn.getName()
-                    + System.lineSeparator();
-
-                if (CardType.GO_TO_JAIL == cardDrawn.getType()) {
-                    if (!this.cardController
-                            .useGetOutOfJailFreeCard(player.getName())) {
-                        return sendPlayerToJail(player);
-                    }
-
-                    if (passedThroughGo(pos, tile.getPosition())) {
-                        awardGoBonus(player);
-                    }
-
-                    this.message += JAIL_FREE
-                        + System.lineSeparator();
-                    return tile;
-                }
-
-                final int destPos =
-                    this.cardController.executeCardEffect(
-                        player,
-                        cardDrawn,
-                        BOARD_SIZE
-                    );
-
-                return destPos != -1
-                    ? this.board.getTileAt(destPos)
-                    : tile;
-
-            case PROPERTY:
-            case RAILROAD:
-            case UTILITY:
-                if (tile instanceof PropertyTile) {
-                    final PropertyTile prop =
-                        (PropertyTile) tile;
-
-                    if (this.propertyController
-                            .checkPayRent(
-                                player,
-                                prop.getPropertyID())) {
-
-                        this.bank.payRent(
-                            player,
-                            this.propertyController
-                                .getOwnerByProperty(
-                                    prop.getProperty()
-                                ),
-                            prop.getProperty(),
-                            diceRoll
-                        );
-
-                        this.message +=
-                            "Questa non è la tua Proprietà, paga l'affitto"
-                            + System.lineSeparator();
-                    }
-                }
-                break;
-
-            default:
-                break;
+            return this.landings[position].land(player, diceRoll);
+        } finally {
+            this.tileLogicLatency.recordSince(start);
         }
+    }
 
-        return tile;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Tile> void registerTileHandler(
+            final Class<T> tileClass,
+            final TileHandler<? super T> handler) {
+
+        putHandler(Objects.requireNonNull(tileClass), Objects.requireNonNull(handler));
+        bindTiles();
     }
 
     /**
@@ -287,8 +313,12 @@ public class BoardControllerImpl implements BoardController {
      */
     @Override
     public Tile sendPlayerToJail(final Player player) {
+        final int jailPosition = this.board.getTopology().getJailPosition();
+        if (jailPosition == BoardTopology.NO_POSITION) {
+            throw new IllegalStateException("The board has no jail tile");
+        }
         player.setState(new JailedState());
-        return movePlayerToTile(player, JAIL_POSITION);
+        return movePlayerToTile(player, jailPosition);
     }
 
     /**
@@ -305,6 +335,18 @@ public class BoardControllerImpl implements BoardController {
         return tmp;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The card controller is shared with the match, as the board controller is"
+    )
+    public CardController getCardController() {
+        return this.cardController;
+    }
+
     /**
      * Checks if a player has passed through the "Go" position.
      *
@@ -317,7 +359,7 @@ public class BoardControllerImpl implements BoardController {
             final int fromPosition,
             final int toPosition) {
 
-        return toPosition < fromPosition;
+        return this.board.getTopology().passesGo(fromPosition, toPosition);
     }
 
     /**
@@ -328,50 +370,173 @@ public class BoardControllerImpl implements BoardController {
      * @param player the player receiving the bonus
      */
     private void awardGoBonus(final Player player) {
+        final int reward = this.board.getTopology().getGoReward();
+
         this.message +=
-            "Siete passati dal via, ritirate 200"
+            "Siete passati dal via, ritirate " + reward
             + System.lineSeparator();
 
-        this.bank.depositToPlayer(player, GO_BONUS);
+        this.bank.depositToPlayer(player, reward);
     }
 
     /**
-     * Finds the nearest tile of the specified type,
-     * searching clockwise from the given starting position.
+     * Registers the landing logic of the built-in tiles.
+     * Jail and free parking tiles have no logic and fall back to the default handler.
+     */
+    private void registerDefaultHandlers() {
+        putHandler(StartTile.class, (tile, player, diceRoll) -> {
+            awardGoBonus(player);
+            return tile;
+        });
+        putHandler(TaxTile.class, (tile, player, diceRoll) -> {
+            this.bank.withdrawFromPlayer(player, tile.getAmountTax());
+            return tile;
+        });
+        putHandler(GoToJailTile.class, (tile, player, diceRoll) -> landOnGoToJail(tile, player));
+        putHandler(UnexpectedTile.class, this::landOnUnexpected);
+        putHandler(PropertyTile.class, this::landOnProperty);
+    }
+
+    /**
+     * Stores the handler of a class of tiles without rebinding the board.
      *
-     * @param startPos the starting position
-     * @param tileType the type of tile to search for
-     * @return the position of the nearest matching tile,
-     *         or -1 if no such tile exists
+     * @param <T> the type of tile handled
+     * @param tileClass the class of tiles handled
+     * @param handler the landing logic
      */
-    private int findNearestTileOfType(
-            final int startPos,
-            final TileType tileType) {
+    private <T extends Tile> void putHandler(final Class<T> tileClass, final TileHandler<? super T> handler) {
+        this.tileHandlers.put(tileClass, handler);
+    }
+
+    /**
+     * Binds every board position to the handler of its tile.
+     */
+    private void bindTiles() {
+        for (int pos = 0; pos < this.landings.length; pos++) {
+            this.landings[pos] = bind(this.board.getTileAt(pos));
+        }
+    }
+
+    /**
+     * Binds a tile to the most specific handler registered for its class or superclasses.
+     *
+     * @param <T> the type of the tile
+     * @param tile the tile to bind
+     * @return the landing logic of the tile
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Tile> Landing bind(final T tile) {
+        Class<?> type = tile.getClass();
+        while (type != null && !this.tileHandlers.containsKey(type)) {
+            type = type.getSuperclass();
+        }
+        if (type == null) {
+            return (player, diceRoll) -> tile;
+        }
+        // the handler was registered for a superclass of the tile, so the cast is safe
+        final TileHandler<? super T> handler = (TileHandler<? super T>) this.tileHandlers.get(type);
+        return (player, diceRoll) -> handler.onLand(tile, player, diceRoll);
+    }
+
+    /**
+     * Landing logic of the "go to jail" tile.
+     *
+     * <p>
+     * Also used when a "go to jail" card is drawn from an unexpected tile.
+     *
+     * @param tile the tile the player is on
+     * @param player the player
+     * @return the jail tile, or the given tile if a "Get Out Of Jail Free" card was used
+     */
+    private Tile landOnGoToJail(final Tile tile, final Player player) {
+        if (!this.cardController.useGetOutOfJailFreeCard(player.getName())) {
+            return sendPlayerToJail(player);
+        }
+        this.message += JAIL_FREE + System.lineSeparator();
+        return tile;
+    }
 
-        for (int offset = 1; offset < BOARD_SIZE; offset++) {
+    /**
+     * Landing logic of the unexpected tiles: draws a card and executes its effect.
+     *
+     * @param tile the tile
+     * @param player the player
+     * @param diceRoll the dice roll
+     * @return the tile the player ended up on
+     */
+    private Tile landOnUnexpected(final UnexpectedTile tile, final Player player, final int diceRoll) {
+        final GameCard cardDrawn = this.cardController.drawCard(player.getName());
 
-            final int pos =
-                this.board.normalizePosition(startPos + offset);
+        this.message += cardDrawn.getName() + System.lineSeparator();
 
-            final Tile tile = this.board.getTileAt(pos);
+        if (CardType.GO_TO_JAIL == cardDrawn.getType()) {
+            return landOnGoToJail(tile, player);
+        }
 
-            if (tile instanceof PropertyTile pt) {
+        final int destPos = this.cardController.executeCardEffect(player, cardDrawn, diceRoll);
 
-                final var card =
-                    pt.getProperty().getCard();
+        return destPos != -1
+            ? this.board.getTileAt(destPos)
+            : tile;
+    }
 
-                if (tileType == TileType.RAILROAD
-                        && card instanceof StationPropertyCard) {
-                    return pos;
-                }
+    /**
+     * Landing logic of the property tiles: pays the rent if the property belongs to another player.
+     *
+     * @param tile the tile
+     * @param player the player
+     * @param diceRoll the dice roll
+     * @return the tile
+     */
+    private Tile landOnProperty(final PropertyTile tile, final Player player, final int diceRoll) {
+        if (this.propertyController.checkPayRent(player, tile.getPropertyID())) {
+            this.bank.payRent(
+                player,
+                this.propertyController.getOwnerByProperty(tile.getProperty()),
+                tile.getProperty(),
+                diceRoll
+            );
 
-                if (tileType == TileType.UTILITY
-                        && card instanceof UtilityPropertyCard) {
-                    return pos;
-                }
-            }
+            this.message +=
+                "Questa non è la tua Proprietà, paga l'affitto"
+                + System.lineSeparator();
         }
+        return tile;
+    }
 
-        return -1;
+    /**
+     * Landing logic bound to a single board position.
+     */
+    @FunctionalInterface
+    private interface Landing {
+
+        /**
+         * Executes the landing logic.
+         *
+         * @param player the player who landed on the position
+         * @param diceRoll the dice roll
+         * @return the tile the player is on after the logic is executed
+         */
+        Tile land(Player player, int diceRoll);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The state of the controller is the one of its card controller.
+     */
+    @Override
+    @JsonIgnore
+    public long getStateHash() {
+        return this.cardController.getStateHash();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void attachHash(final StateHash hash) {
+        this.cardController.attachHash(hash);
     }
 }
@@ -5,15 +5,19 @@ import java.io.InputStream;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import it.unibo.javapoly.controller.api.BoardController;
 import it.unibo.javapoly.controller.api.CardController;
+import it.unibo.javapoly.controller.api.CardEffect;
 import it.unibo.javapoly.controller.api.EconomyController;
 import it.unibo.javapoly.controller.api.PropertyController;
 import it.unibo.javapoly.model.api.board.Tile;
@@ -28,6 +32,7 @@ import it.unibo.javapoly.model.api.card.payload.MoveRelativePayload;
 import it.unibo.javapoly.model.api.card.payload.MoveToNearestPayload;
 import it.unibo.javapoly.model.api.card.payload.MoveToPayload;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.StateHash;
 import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.impl.card.CardDeckImpl;
 import it.unibo.javapoly.utils.CardLoader;
@@ -35,9 +40,13 @@ import it.unibo.javapoly.utils.CardLoader;
 /**
  * Implementation of the CardController interface.
  * Manages drawing and executing effects of unexpected game cards.
+ *
+ * <p>
+ * The effect of every payload class is a {@link CardEffect} stored in a registry,
+ * so executing a card is a single lookup followed by one call.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
-public class CardControllerImpl implements CardController {
+public final class CardControllerImpl implements CardController {
 
     private static final String BANK_REC = "BANK";
     private static final int VALUE_DEF = -1;
@@ -57,16 +66,36 @@ public class CardControllerImpl implements CardController {
     @JsonIgnore
     private final EconomyController bank;
 
+    @JsonIgnore
+    private final Map<Class<?>, CardEffect<?>> cardEffects;
+
     /**
      * Constructs a new CardControllerImpl.
      *
      * @param boardController the board controller for movement operations
      * @param propertyController the property controller for property-related actions
+     * @param economy the economy controller of the match, moving the money of the cards
      */
     public CardControllerImpl(final BoardController boardController, 
-                              final PropertyController propertyController) {
+                              final PropertyController propertyController,
+                              final EconomyController economy) {
+        this(boardController, propertyController, economy, new Random());
+    }
+
+    /**
+     * Constructs a new CardControllerImpl whose deck is shuffled by the given generator.
+     *
+     * @param boardController the board controller for movement operations
+     * @param propertyController the property controller for property-related actions
+     * @param economy the economy controller of the match, moving the money of the cards
+     * @param random the random generator used to shuffle the deck
+     */
+    public CardControllerImpl(final BoardController boardController,
+                              final PropertyController propertyController,
+                              final EconomyController economy,
+                              final RandomGenerator random) {
         this.boardController = boardController;
-        this.bank = new EconomyControllerImpl(propertyController);
+        this.bank = Objects.requireNonNull(economy);
         this.propertyController = propertyController;
 
         List<GameCard> cardsList = new ArrayList<>();
@@ -76,7 +105,9 @@ public class CardControllerImpl implements CardController {
             LOGGER.severe("Error loading Cards: " + exc.getMessage());
         }
 
-        this.cardDeck = new CardDeckImpl(cardsList);
+        this.cardDeck = new CardDeckImpl(cardsList, random);
+        this.cardEffects = new HashMap<>();
+        registerDefaultEffects();
     }
 
     /**
@@ -84,16 +115,30 @@ public class CardControllerImpl implements CardController {
      *
      * @param boardController the board controller for movement operations
      * @param propertyController the property controller for property-related actions
+     * @param economy the economy controller of the match, moving the money of the cards
      * @param deck the CardDeck with all information
      */
-    @JsonCreator
-    public CardControllerImpl(@JsonProperty("boardController") final BoardController boardController, 
-                              @JsonProperty("propertyController") final PropertyController propertyController,
-                              @JsonProperty("deck") final CardDeck deck) {
+    public CardControllerImpl(final BoardController boardController, 
+                              final PropertyController propertyController,
+                              final EconomyController economy,
+                              final CardDeck deck) {
         this.boardController = boardController;
-        this.bank = new EconomyControllerImpl(propertyController);
+        this.bank = Objects.requireNonNull(economy);
         this.propertyController = propertyController;
         this.cardDeck = deck;
+        this.cardEffects = new HashMap<>();
+        registerDefaultEffects();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CardController fork(final BoardController boardController,
+                               final PropertyController propertyController,
+                               final EconomyController economy,
+                               final RandomGenerator random) {
+        return new CardControllerImpl(boardController, propertyController, economy, this.cardDeck.copy(random));
     }
 
     /**
@@ -109,7 +154,7 @@ public class CardControllerImpl implements CardController {
 
     /**
      * Executes the effect of the drawn card.
-     * Handles different types of card payloads (money, move, etc.).
+     * The effect is the {@link CardEffect} registered for the payload class.
      *
      * @param player the player for whom the card effect is executed
      * @param card the drawn game card
@@ -120,24 +165,15 @@ public class CardControllerImpl implements CardController {
     public int executeCardEffect(final Player player, final GameCard card, 
                                   final int diceRoll) {
         if (card.isKeepUntilUsed()) {
-            return this.VALUE_DEF;
+            return VALUE_DEF;
         }
 
         final CardPayload payload = card.getPayload();
-
-        if (payload instanceof MoneyPayload) {
-            return handleMoneyPayload(player, (MoneyPayload) payload);
-        } else if (payload instanceof MoveToPayload) {
-            return handleMoveToPayload(player, (MoveToPayload) payload, diceRoll);
-        } else if (payload instanceof MoveRelativePayload) {
-            return handleMoveRelativePayload(player, (MoveRelativePayload) payload, diceRoll);
-        } else if (payload instanceof MoveToNearestPayload) {
-            return handleMoveToNearestPayload(player, (MoveToNearestPayload) payload, diceRoll);
-        } else if (payload instanceof BuildingPayload) {
-            return handleMoneyPerBuilding(player, (BuildingPayload) payload);
+        if (payload == null) {
+            return VALUE_DEF;
         }
 
-        return this.VALUE_DEF;
+        return applyEffect(payload, player, diceRoll);
     }
 
     /**
@@ -151,6 +187,103 @@ public class CardControllerImpl implements CardController {
         return this.cardDeck.discardByType(CardType.GET_OUT_OF_JAIL_FREE, playerId);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasGetOutOfJailFreeCard(final String playerId) {
+        return this.cardDeck.isHolding(CardType.GET_OUT_OF_JAIL_FREE, playerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean transferGetOutOfJailFreeCard(final String fromId, final String toId) {
+        return this.cardDeck.transferByType(CardType.GET_OUT_OF_JAIL_FREE, fromId, toId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public int getDrawableCount() {
+        return this.cardDeck.getDrawableCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getDrawableCard(final int index) {
+        return this.cardDeck.getDrawable(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public int getCardCount() {
+        return this.cardDeck.getCardCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getCard(final int index) {
+        return this.cardDeck.getCard(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <P extends CardPayload> void registerCardEffect(final Class<P> payloadClass,
+                                                           final CardEffect<? super P> effect) {
+        this.cardEffects.put(Objects.requireNonNull(payloadClass), Objects.requireNonNull(effect));
+    }
+
+    /**
+     * Registers the effects of the built-in payloads.
+     */
+    private void registerDefaultEffects() {
+        putEffect(MoneyPayload.class, (player, payload, diceRoll) -> handleMoneyPayload(player, payload));
+        putEffect(MoveToPayload.class, this::handleMoveToPayload);
+        putEffect(MoveRelativePayload.class, this::handleMoveRelativePayload);
+        putEffect(MoveToNearestPayload.class, this::handleMoveToNearestPayload);
+        putEffect(BuildingPayload.class, (player, payload, diceRoll) -> handleMoneyPerBuilding(player, payload));
+    }
+
+    /**
+     * Stores the effect of a class of payloads.
+     *
+     * @param <P> the type of payload handled
+     * @param payloadClass the class of payloads handled
+     * @param effect the effect to apply
+     */
+    private <P extends CardPayload> void putEffect(final Class<P> payloadClass, final CardEffect<? super P> effect) {
+        this.cardEffects.put(payloadClass, effect);
+    }
+
+    /**
+     * Applies the effect registered for the class of the payload.
+     *
+     * @param <P> the type of the payload
+     * @param payload the payload of the drawn card
+     * @param player the player affected by the card
+     * @param diceRoll the dice roll value
+     * @return the value returned by the effect, or a default value (-1) if no effect is registered
+     */
+    @SuppressWarnings("unchecked")
+    private <P extends CardPayload> int applyEffect(final P payload, final Player player, final int diceRoll) {
+        // effects are stored by the exact payload class, so the cast is safe
+        final CardEffect<? super P> effect = (CardEffect<? super P>) this.cardEffects.get(payload.getClass());
+        return effect == null ? VALUE_DEF : effect.apply(player, payload, diceRoll);
+    }
+
     /**
      * Handles money-related card effects (pay or receive).
      *
@@ -159,13 +292,13 @@ public class CardControllerImpl implements CardController {
      * @return a default value (-1) after processing the money transaction
      */
     private int handleMoneyPayload(final Player player, final MoneyPayload payload) {
-        if (this.BANK_REC.equals(payload.getReceiverMoney())) {
+        if (BANK_REC.equals(payload.getReceiverMoney())) {
             this.bank.withdrawFromPlayer(player, payload.getAmount());
-            return this.VALUE_DEF;
+            return VALUE_DEF;
         }
 
         this.bank.depositToPlayer(player, payload.getAmount());
-        return this.VALUE_DEF;
+        return VALUE_DEF;
     }
 
     /**
@@ -242,7 +375,7 @@ public class CardControllerImpl implements CardController {
      */
     private List<GameCard> loadCardDeck() throws IOException {
         try {
-            final InputStream is = CardControllerImpl.class.getResourceAsStream(this.PATH_CARD);
+            final InputStream is = CardControllerImpl.class.getResourceAsStream(PATH_CARD);
 
             return CardLoader.loadCardsFromFile(is);
         } catch (final IOException e) {
@@ -250,4 +383,24 @@ public class CardControllerImpl implements CardController {
             throw new IOException(e);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The state of the controller is the one of its card deck.
+     */
+    @Override
+    @JsonIgnore
+    public long getStateHash() {
+        return this.cardDeck.getStateHash();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void attachHash(final StateHash hash) {
+        this.cardDeck.attachHash(hash);
+    }
 }
@@ -1,33 +1,82 @@
 package it.unibo.javapoly.controller.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javapoly.controller.api.EconomyController;
 import it.unibo.javapoly.controller.api.LiquidationObserver;
 import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.api.turn.SettlementQueue;
 import it.unibo.javapoly.model.api.Player;
-import it.unibo.javapoly.model.api.economy.Bank;
+import it.unibo.javapoly.model.api.economy.Ledger;
 import it.unibo.javapoly.model.api.property.Property;
-import it.unibo.javapoly.model.impl.economy.BankImpl;
+import it.unibo.javapoly.model.impl.economy.LedgerImpl;
 import it.unibo.javapoly.utils.ValidationUtils;
+import it.unibo.javapoly.utils.metrics.EventCounter;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+import it.unibo.javapoly.utils.metrics.PhaseProfiler;
+import it.unibo.javapoly.utils.metrics.TurnPhase;
 
 import java.util.Objects;
 
 /**
  * Implementation of the EconomyController interface.
+ *
+ * <p>
+ * Every movement of money is recorded by the {@link Ledger} of the match. While the
+ * {@link SettlementQueue} of the match is open, deposits, withdrawals, rents and
+ * payments are queued as they are, and executed in order when the throw is settled.
  */
 public final class EconomyControllerImpl implements EconomyController {
 
-    private final Bank bank;
+    private static final String RENT = "rent";
+    private static final String PROPERTY_PURCHASE = "propertyPurchase";
+    private static final String HOUSE_PURCHASE = "housePurchase";
+    private static final String HOUSE_SALE = "houseSale";
+    private static final String PROPERTY_SALE = "propertySale";
+    private static final String PAYMENT = "payment";
+
+    private final Ledger ledger;
     private final PropertyController propertyController;
+    private final LatencyHistogram payRentLatency;
+    private final EventCounter rentPaid;
+    private final PhaseProfiler phases;
     private LiquidationObserver liquidationObserver;
+    private SettlementQueue settlements;
 
     /**
-     * Creates an EconomyController with the given list of properties.
+     * Creates an EconomyController with the given list of properties and its own ledger.
      *
      * @param propertyController property controller.
      */
     public EconomyControllerImpl(final PropertyController propertyController) {
-        this.bank = new BankImpl();
+        this(propertyController, new LedgerImpl());
+    }
+
+    /**
+     * Creates an EconomyController recording the movements of money in the given ledger.
+     *
+     * @param propertyController property controller.
+     * @param ledger the ledger of the match.
+     */
+    public EconomyControllerImpl(final PropertyController propertyController, final Ledger ledger) {
+        this(propertyController, ledger, MetricsRegistry.getInstance());
+    }
+
+    /**
+     * Creates an EconomyController recording the movements of money in the given ledger
+     * and its metrics in the given registry.
+     *
+     * @param propertyController property controller.
+     * @param ledger the ledger of the match.
+     * @param metrics the registry of the metrics of the match.
+     */
+    public EconomyControllerImpl(final PropertyController propertyController, final Ledger ledger,
+            final MetricsRegistry metrics) {
+        this.ledger = Objects.requireNonNull(ledger);
         this.propertyController = propertyController;
+        this.payRentLatency = metrics.histogram("economy.payRent");
+        this.rentPaid = metrics.counter("economy.rentPaid");
+        this.phases = PhaseProfiler.forRegistry(metrics);
     }
 
     /**
@@ -35,7 +84,11 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public void depositToPlayer(final Player player, final int amount) {
-        this.bank.deposit(player, amount);
+        if (isDeferring()) {
+            this.settlements.defer(() -> depositToPlayer(player, amount));
+            return;
+        }
+        this.ledger.deposit(player, amount);
     }
 
     /**
@@ -43,7 +96,7 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public boolean afford(final Player player, final int amount) {
-        return this.bank.canAfford(player, amount);
+        return this.ledger.canAfford(player, amount);
     }
 
     /**
@@ -51,8 +104,17 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public void withdrawFromPlayer(final Player player, final int amount) {
-        if (!this.bank.withdraw(player, amount) && this.liquidationObserver != null) {
-            this.liquidationObserver.onInsufficientFunds(player, null, amount);
+        if (isDeferring()) {
+            this.settlements.defer(() -> withdrawFromPlayer(player, amount));
+            return;
+        }
+        final boolean settling = this.phases.enter(TurnPhase.SETTLE);
+        try {
+            if (!this.ledger.withdraw(player, amount) && canLiquidate()) {
+                this.liquidationObserver.onInsufficientFunds(player, null, amount);
+            }
+        } finally {
+            this.phases.exit(settling);
         }
     }
 
@@ -64,13 +126,24 @@ public final class EconomyControllerImpl implements EconomyController {
         if (payee == null) {
             return;
         }
-        final int currentBalance = payer.getBalance();
-        final int rent = this.propertyController.getRent(payer, property.getId(), diceRoll);
-        if (currentBalance >= rent && this.bank.transferFunds(payer, payee, rent)) {
+        if (isDeferring()) {
+            this.settlements.defer(() -> payRent(payer, payee, property, diceRoll));
             return;
         }
-        if (this.liquidationObserver != null) {
-            this.liquidationObserver.onInsufficientFunds(payer, payee, rent);
+        final long start = this.payRentLatency.start();
+        final boolean settling = this.phases.enter(TurnPhase.SETTLE);
+        try {
+            final int rent = this.propertyController.getRent(payer, property.getId(), diceRoll);
+            if (this.ledger.transfer(payer, payee, rent, RENT)) {
+                this.rentPaid.add(rent);
+                return;
+            }
+            if (canLiquidate()) {
+                this.liquidationObserver.onInsufficientFunds(payer, payee, rent);
+            }
+        } finally {
+            this.phases.exit(settling);
+            this.payRentLatency.recordSince(start);
         }
     }
 
@@ -80,8 +153,9 @@ public final class EconomyControllerImpl implements EconomyController {
     @Override
     public boolean purchaseProperty(final Player buyer, final Property property) {
         final int price = property.getPurchasePrice();
-        if (bank.canAfford(buyer, price) && this.propertyController.purchaseProperty(buyer, property.getId())) {
-            this.bank.withdraw(buyer, price);
+        if (this.ledger.canAfford(buyer, price) && this.propertyController.purchaseProperty(buyer, property.getId())) {
+            this.ledger.transfer(buyer, null, price, PROPERTY_PURCHASE);
+            this.ledger.recordAssets(buyer, price, 0);
             return true;
         }
         return false;
@@ -94,9 +168,10 @@ public final class EconomyControllerImpl implements EconomyController {
     public boolean purchaseHouse(final Player owner, final Property property) {
         final int houseCost = this.propertyController.getHouseCost(property);
         ValidationUtils.requirePositive(houseCost, "Is not a land");
-        if (this.bank.canAfford(owner, houseCost)) {
+        if (this.ledger.canAfford(owner, houseCost)) {
             if (this.propertyController.buildHouse(owner, property.getId())) {
-                this.bank.withdraw(owner, houseCost);
+                this.ledger.transfer(owner, null, houseCost, HOUSE_PURCHASE);
+                this.ledger.recordAssets(owner, 0, houseCost);
                 return true;
             }
             throw new IllegalStateException("You don't own all the properties of the same color/house are not homogeneous");
@@ -109,9 +184,11 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public boolean sellHouse(final Player owner, final Property property) {
-        final int price = this.propertyController.getHouseCost(property) / 2;
+        final int houseCost = this.propertyController.getHouseCost(property);
+        final int price = houseCost / 2;
         if (this.propertyController.destroyHouse(owner, property.getId())) {
-            this.bank.deposit(owner, price);
+            this.ledger.recordAssets(owner, 0, -houseCost);
+            this.ledger.transfer(null, owner, price, HOUSE_SALE);
             return true;
         }
         return false;
@@ -129,11 +206,20 @@ public final class EconomyControllerImpl implements EconomyController {
             return false;
         }
         final int price = property.getPurchasePrice() / 2;
+        this.ledger.recordAssets(owner, -property.getPurchasePrice(), -getBuildingValue(property));
         this.propertyController.returnPropertyToBank(property);
-        this.bank.deposit(owner, price);
+        this.ledger.transfer(null, owner, price, PROPERTY_SALE);
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBuildingValue(final Property property) {
+        return property.getBuiltHouses() * Math.max(0, this.propertyController.getHouseCost(property));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -147,10 +233,44 @@ public final class EconomyControllerImpl implements EconomyController {
      */
     @Override
     public void payPlayer(final Player payer, final Player payee, final int amount) {
-        if (payer.getBalance() < amount) {
+        if (isDeferring()) {
+            this.settlements.defer(() -> payPlayer(payer, payee, amount));
             return;
         }
-        this.bank.withdraw(payer, amount);
-        this.bank.deposit(payee, amount);
+        this.ledger.transfer(payer, payee, amount, PAYMENT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSettlementQueue(final SettlementQueue queue) {
+        this.settlements = queue;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The ledger is shared by the controllers of the match"
+    )
+    public Ledger getLedger() {
+        return this.ledger;
+    }
+
+    /**
+     * Checks if a movement not covered goes to liquidation: during an atomic settlement
+     * it is refused instead, and executed again after the settlement.
+     *
+     * @return true if the liquidation observer has to be notified
+     */
+    private boolean canLiquidate() {
+        return this.liquidationObserver != null && !this.ledger.isInTransaction();
+    }
+
+    private boolean isDeferring() {
+        return this.settlements != null && this.settlements.isOpen();
     }
 }
@@ -0,0 +1,87 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.BitSet;
+
+import it.unibo.javapoly.controller.api.ActionType;
+import it.unibo.javapoly.controller.api.LegalActions;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+
+/**
+ * Implementation of {@link LegalActions} following the turn rules of
+ * {@link MatchControllerImpl}.
+ *
+ * <p>
+ * The dice can be thrown until the turn roll is spent, and the turn can be
+ * ended only afterwards. Properties can be bought and houses built once the
+ * player has moved; the jail fee can be paid only before rolling.
+ * A bankrupt player can only roll (to leave the game) or end the turn.
+ */
+public final class LegalActionsImpl implements LegalActions {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int generate(final GameStateView state) {
+        final String current = state.getCurrentPlayerId();
+        final boolean canRoll = state.canRoll();
+        int actions = canRoll ? ActionType.ROLL.mask() : ActionType.END_TURN.mask();
+        if (state.isBankrupt(current)) {
+            return actions;
+        }
+
+        final int position = state.getPosition(current);
+        if (state.hasMoved() && state.isBuyable(position) && state.getBalance(current) >= state.getPrice(position)) {
+            actions |= ActionType.BUY.mask();
+        }
+        if (canRoll && state.isInJail(current)) {
+            actions |= ActionType.PAY_JAIL_FEE.mask();
+        }
+        for (int i = 0; i < state.getBoardSize(); i++) {
+            if (state.hasMoved() && state.canBuild(i)) {
+                actions |= ActionType.BUILD.mask();
+            }
+            if (canSellHouse(state, current, i)) {
+                actions |= ActionType.SELL_HOUSE.mask();
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void buildPositions(final GameStateView state, final BitSet positions) {
+        positions.clear();
+        if (!state.hasMoved() || state.isBankrupt(state.getCurrentPlayerId())) {
+            return;
+        }
+        for (int i = 0; i < state.getBoardSize(); i++) {
+            if (state.canBuild(i)) {
+                positions.set(i);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sellHousePositions(final GameStateView state, final BitSet positions) {
+        positions.clear();
+        final String current = state.getCurrentPlayerId();
+        if (state.isBankrupt(current)) {
+            return;
+        }
+        for (int i = 0; i < state.getBoardSize(); i++) {
+            if (canSellHouse(state, current, i)) {
+                positions.set(i);
+            }
+        }
+    }
+
+    private static boolean canSellHouse(final GameStateView state, final String playerId, final int position) {
+        return state.getHouses(position) > 0 && playerId.equals(state.getOwner(position));
+    }
+}
@@ -1,21 +1,40 @@
 package it.unibo.javapoly.controller.impl;
 
+import java.util.function.Consumer;
+
 import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.LiquidationPlanner;
 import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.impl.BankruptState;
 import it.unibo.javapoly.utils.ValidationUtils;
+import it.unibo.javapoly.utils.jfr.LiquidationEvent;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+import it.unibo.javapoly.utils.metrics.PhaseProfiler;
+import it.unibo.javapoly.utils.metrics.TurnPhase;
+import it.unibo.javapoly.view.impl.FxTasks;
+import it.unibo.javapoly.view.impl.MainViewImpl;
 
 import static it.unibo.javapoly.view.impl.SellAssetViewImpl.CURRENCY;
 
 /**
  * Implementation of LiquidationObserver.
+ *
+ * <p>
+ * It runs on the writer thread of the match: every update of the view is handed
+ * to the JavaFX thread, and the view answers through the commands of the player.
  */
 public class LiquidationObserverImpl implements LiquidationObserver {
     private final MatchController matchController;
+    private final PhaseProfiler phases;
+    private final boolean emittingEvents;
     private String playerName;
     private int currentDebt;
     private String currentCreditorName;
+    private LiquidationEvent event;
 
     /**
      * Creates a new liquidation observer.
@@ -23,7 +42,19 @@ public class LiquidationObserverImpl implements LiquidationObserver {
      * @param matchController the match controller, must not be null.
      */
     public LiquidationObserverImpl(final MatchController matchController) {
+        this(matchController, MetricsRegistry.getInstance());
+    }
+
+    /**
+     * Creates a new liquidation observer instrumented with the given registry.
+     *
+     * @param matchController the match controller, must not be null.
+     * @param metrics the registry of the metrics of the match.
+     */
+    public LiquidationObserverImpl(final MatchController matchController, final MetricsRegistry metrics) {
         this.matchController = ValidationUtils.requireNonNull(matchController, "matchController is null");
+        this.phases = PhaseProfiler.forRegistry(metrics);
+        this.emittingEvents = !metrics.isNoop();
     }
 
     /**
@@ -36,24 +67,135 @@ public class LiquidationObserverImpl implements LiquidationObserver {
         this.playerName = playerNoFunds.getName();
         this.currentDebt = requiredAmount;
         this.currentCreditorName = (payee != null) ? payee.getName() : null;
-        matchController.getMainViewImpl().addLog(
-                playerNoFunds.getName() + " owes " + requiredAmount + CURRENCY + ". Sell your asset!!!");
-        matchController.getMainViewImpl().showLiquidation();
-        matchController.getMainViewImpl().getInfoPanel().showLiquidation(playerNoFunds, this.currentDebt);
-        matchController.getMainViewImpl().getInfoPanel().setLiquidationCallback(this::onLiquidationCompleted);
+        final PlayerStrategy strategy = matchController.getStrategy(this.playerName);
+        final boolean automatic = strategy != null || matchController.getMainViewImpl() == null;
+        if (this.emittingEvents) {
+            this.event = new LiquidationEvent();
+            this.event.begin();
+            this.event.setDebt(this.playerName, this.currentCreditorName, requiredAmount, automatic);
+        }
+        if (automatic) {
+            liquidateAutomatically(playerNoFunds, strategy);
+            return;
+        }
+        final String log = playerNoFunds.getName() + " owes " + requiredAmount + CURRENCY + ". Sell your asset!!!";
+        final String debtor = this.playerName;
+        withView(g -> {
+            g.addLog(log);
+            g.showLiquidation();
+            g.getInfoPanel().showLiquidation(debtor, requiredAmount);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLiquidating(final String playerId) {
+        return this.playerName != null && this.playerName.equals(playerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean sellHouse(final Player player, final Property property) {
+        requireLiquidating(player);
+        if (property.getBuiltHouses() == 0
+                || !matchController.getEconomyController().sellHouse(player, property)) {
+            return false;
+        }
+        final String log = player.getName() + " sold house in " + property.getId() + " for "
+                + matchController.getPropertyController().getHouseCost(property) / 2 + CURRENCY;
+        withView(g -> g.addLog(log));
+        completeIfCovered(player);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean sellProperty(final Player player, final Property property) {
+        requireLiquidating(player);
+        if (!property.playerIsTheOwner(player.getName()) || property.getBuiltHouses() > 0
+                || !matchController.getEconomyController().sellProperty(player, property)) {
+            return false;
+        }
+        final String log = player.getName() + " sold " + property.getId() + " for "
+                + property.getPurchasePrice() / 2 + CURRENCY;
+        withView(g -> g.addLog(log));
+        completeIfCovered(player);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int declareBankruptcy(final Player player) {
+        requireLiquidating(player);
+        final int remainingDebt = Math.max(0, this.currentDebt - player.getBalance());
+        onLiquidationCompleted(remainingDebt == 0, remainingDebt);
+        return remainingDebt;
+    }
+
+    private void requireLiquidating(final Player player) {
+        if (!isLiquidating(player.getName())) {
+            throw new IllegalStateException(player.getName() + " has no debt to pay off");
+        }
+    }
+
+    /**
+     * Completes the liquidation of a player once the balance covers the debt.
+     *
+     * @param player the player with a liquidation in progress.
+     */
+    private void completeIfCovered(final Player player) {
+        if (player.getBalance() >= this.currentDebt) {
+            onLiquidationCompleted(true, 0);
+        }
+    }
+
+    /**
+     * Liquidates the assets of a bot, or of any player in a headless match,
+     * following the plan of the liquidation planner as chosen by the strategy.
+     *
+     * @param player the player who has to raise the money.
+     * @param strategy the strategy of the player, or null to accept the suggested plan.
+     */
+    private void liquidateAutomatically(final Player player, final PlayerStrategy strategy) {
+        final boolean settling = this.phases.enter(TurnPhase.SETTLE);
+        try {
+            final LiquidationPlanner planner = matchController.getLiquidationPlanner();
+            final LiquidationPlan suggested = planner.plan(player, this.currentDebt - player.getBalance());
+            final LiquidationPlan plan = strategy != null
+                    ? strategy.chooseLiquidation(matchController.getStateView(), suggested)
+                    : suggested;
+            planner.execute(player, plan, matchController.getEconomyController());
+            final int remainingDebt = Math.max(0, this.currentDebt - player.getBalance());
+            onLiquidationCompleted(remainingDebt == 0, remainingDebt);
+        } finally {
+            this.phases.exit(settling);
+        }
     }
 
     private void onLiquidationCompleted(final boolean success, final int remainingDebt) {
-        matchController.getMainViewImpl().hideLiquidation();
-                if (success && remainingDebt == 0) {
-                    handleSuccessfulLiquidation();
-                } else {
-                    handleBankruptcy(remainingDebt);
-                }
-                this.playerName = null;
-                this.currentDebt = 0;
-                this.currentCreditorName = null;
-                matchController.getMainViewImpl().refreshAll();
+        withView(MainViewImpl::hideLiquidation);
+        if (success && remainingDebt == 0) {
+            handleSuccessfulLiquidation();
+        } else {
+            handleBankruptcy(remainingDebt);
+        }
+        if (this.event != null) {
+            this.event.setOutcome(remainingDebt, !success || remainingDebt > 0);
+            this.event.commit();
+            this.event = null;
+        }
+        this.playerName = null;
+        this.currentDebt = 0;
+        this.currentCreditorName = null;
+        withView(MainViewImpl::refreshAll);
     }
 
     private void handleSuccessfulLiquidation() {
@@ -63,11 +205,13 @@ public class LiquidationObserverImpl implements LiquidationObserver {
             if (creditor != null) {
                 matchController.getEconomyController()
                         .payPlayer(player, creditor, this.currentDebt);
-                matchController.getMainViewImpl().addLog(
-                        this.playerName + " pay debt to " + currentCreditorName + " of " + this.currentDebt + CURRENCY);
+                final String log = this.playerName + " pay debt to " + currentCreditorName + " of "
+                        + this.currentDebt + CURRENCY;
+                withView(g -> g.addLog(log));
             } else {
                 matchController.getEconomyController().withdrawFromPlayer(player, this.currentDebt);
-                matchController.getMainViewImpl().addLog(this.playerName + " pay debt of " + this.currentDebt + CURRENCY);
+                final String log = this.playerName + " pay debt of " + this.currentDebt + CURRENCY;
+                withView(g -> g.addLog(log));
             }
         }
     }
@@ -77,7 +221,8 @@ public class LiquidationObserverImpl implements LiquidationObserver {
         final Player creditor = getPlayerByName(this.currentCreditorName);
         if (player != null) {
             onBankruptcyDeclared(player, creditor, remainingDebt);
-            matchController.getMainViewImpl().addLog(this.playerName + " is in bankrupt of " + remainingDebt + CURRENCY);
+            final String log = this.playerName + " is in bankrupt of " + remainingDebt + CURRENCY;
+            withView(g -> g.addLog(log));
         }
     }
 
@@ -89,13 +234,26 @@ public class LiquidationObserverImpl implements LiquidationObserver {
         ValidationUtils.requireNonNull(payer, "payer cannot be null");
         if (payee != null && payer.getBalance() > 0) {
             matchController.getEconomyController().payPlayer(payer, payee, payer.getBalance());
-            matchController.getMainViewImpl().addLog(
-                    payer.getName() + " gives remaining " + payer.getBalance() + CURRENCY + " to " + payee.getName());
+            final String log = payer.getName() + " gives remaining " + payer.getBalance() + CURRENCY + " to "
+                    + payee.getName();
+            withView(g -> g.addLog(log));
         } else if (payer.getBalance() > 0) {
             matchController.getEconomyController().withdrawFromPlayer(payer, payer.getBalance());
         }
         payer.setState(BankruptState.getInstance());
-        matchController.getMainViewImpl().refreshAll();
+        withView(MainViewImpl::refreshAll);
+    }
+
+    /**
+     * Runs an action on the main view on the JavaFX thread, if the match has one.
+     *
+     * @param action the action to run.
+     */
+    private void withView(final Consumer<MainViewImpl> action) {
+        final MainViewImpl view = matchController.getMainViewImpl();
+        if (view != null) {
+            FxTasks.runLater(() -> action.accept(view));
+        }
     }
 
     /**
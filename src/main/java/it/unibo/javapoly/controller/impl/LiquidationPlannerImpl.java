@@ -0,0 +1,375 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.EconomyController;
+import it.unibo.javapoly.controller.api.LiquidationPlanner;
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.RentContext;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
+
+/**
+ * Branch-and-bound implementation of {@link LiquidationPlanner}.
+ *
+ * <p>
+ * The rent of a property depends on the other properties of its group (monopoly
+ * multiplier, number of stations or utilities owned), so the search works group
+ * by group:
+ * <ol>
+ * <li>for every group, all the combinations of "keep k houses" / "sell the property"
+ * of its properties are enumerated, with their sale value and the rent value lost;</li>
+ * <li>dominated combinations (raising less money while losing more rent) are dropped;</li>
+ * <li>a depth-first search picks one combination per group, pruning the branches that
+ * cannot raise the amount any more or that already lose more rent than the best plan.</li>
+ * </ol>
+ * Groups have at most four properties, so the whole search visits a few hundred nodes.
+ */
+public final class LiquidationPlannerImpl implements LiquidationPlanner {
+
+    /**
+     * Dice total used to estimate the rent of the utilities (the most likely roll).
+     */
+    private static final int EXPECTED_DICE = 7;
+
+    private final PropertyController propertyController;
+
+    /**
+     * Creates a planner.
+     *
+     * @param propertyController the property controller used to read the holdings
+     */
+    public LiquidationPlannerImpl(final PropertyController propertyController) {
+        this.propertyController = Objects.requireNonNull(propertyController);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LiquidationPlan plan(final Player player, final int amount) {
+        Objects.requireNonNull(player);
+        if (amount <= 0) {
+            return new LiquidationPlan(List.of(), 0, 0, true);
+        }
+
+        final Map<PropertyGroup, List<Property>> byGroup = new EnumMap<>(PropertyGroup.class);
+        for (final Property property : this.propertyController.getOwnedProperties(player.getName())) {
+            byGroup.computeIfAbsent(property.getPropertyGroup(), g -> new ArrayList<>()).add(property);
+        }
+
+        final List<GroupOptions> groups = new ArrayList<>(byGroup.size());
+        for (final Map.Entry<PropertyGroup, List<Property>> entry : byGroup.entrySet()) {
+            final boolean monopoly = this.propertyController.ownsCompleteGroup(player.getName(), entry.getKey());
+            groups.add(buildOptions(entry.getValue(), monopoly, amount));
+        }
+        groups.sort(Comparator.comparingInt(GroupOptions::maxSale).reversed());
+
+        final Search search = new Search(groups, amount);
+        search.run();
+        return search.toPlan();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int execute(final Player player, final LiquidationPlan plan, final EconomyController economy) {
+        final Map<String, Property> owned = new HashMap<>();
+        for (final Property property : this.propertyController.getOwnedProperties(player.getName())) {
+            owned.put(property.getId(), property);
+        }
+        final int before = player.getBalance();
+        for (final LiquidationPlan.Step step : plan.getSteps()) {
+            final Property property = owned.get(step.getProperty().getId());
+            if (property == null) {
+                continue;
+            }
+            for (int i = 0; i < step.getHousesToSell(); i++) {
+                economy.sellHouse(player, property);
+            }
+            if (step.isPropertySold()) {
+                economy.sellProperty(player, property);
+            }
+        }
+        return player.getBalance() - before;
+    }
+
+    /**
+     * Enumerates the non-dominated sale combinations of a group.
+     *
+     * @param properties the properties of the group owned by the player
+     * @param monopoly true if the player currently owns the whole group
+     * @param amount the amount to raise, used to cap the sale values when comparing
+     * @return the options of the group, by increasing rent loss and sale value
+     */
+    private GroupOptions buildOptions(final List<Property> properties, final boolean monopoly, final int amount) {
+        final int size = properties.size();
+        final int[] houses = new int[size];
+        final int[] houseSale = new int[size];
+        final int[] propertySale = new int[size];
+        int combinations = 1;
+        for (int i = 0; i < size; i++) {
+            final Property property = properties.get(i);
+            houses[i] = property.getBuiltHouses();
+            houseSale[i] = houses[i] > 0 ? this.propertyController.getHouseCost(property) / 2 : 0;
+            propertySale[i] = property.getPurchasePrice() / 2;
+            // keep 0..houses houses, or sell the property
+            combinations *= houses[i] + 2;
+        }
+
+        final int[] sale = new int[combinations];
+        final int[] loss = new int[combinations];
+        final int[][] kept = new int[combinations][];
+        final int currentValue = retainedRent(properties, houses, monopoly);
+
+        final int[] digits = new int[size];
+        for (int c = 0; c < combinations; c++) {
+            int value = 0;
+            final int[] keep = new int[size];
+            for (int i = 0; i < size; i++) {
+                final boolean sold = digits[i] == houses[i] + 1;
+                keep[i] = sold ? GroupOptions.SOLD : digits[i];
+                value += (houses[i] - (sold ? 0 : digits[i])) * houseSale[i] + (sold ? propertySale[i] : 0);
+            }
+            sale[c] = value;
+            loss[c] = currentValue - retainedRent(properties, keep, monopoly);
+            kept[c] = keep;
+            increment(digits, houses);
+        }
+
+        final int[] front = paretoFront(sale, loss, amount);
+        final int[] frontSale = new int[front.length];
+        final int[] frontLoss = new int[front.length];
+        final int[][] frontKept = new int[front.length][];
+        for (int i = 0; i < front.length; i++) {
+            frontSale[i] = sale[front[i]];
+            frontLoss[i] = loss[front[i]];
+            frontKept[i] = kept[front[i]];
+        }
+        return new GroupOptions(properties, houses, houseSale, propertySale, frontSale, frontLoss, frontKept);
+    }
+
+    /**
+     * Selects the combinations that raise strictly more money (up to the amount)
+     * than every combination losing less rent.
+     *
+     * @param sale the sale value of every combination
+     * @param loss the rent value lost by every combination
+     * @param amount the amount to raise
+     * @return the indexes of the selected combinations, by increasing loss and sale
+     */
+    private static int[] paretoFront(final int[] sale, final int[] loss, final int amount) {
+        final Integer[] order = new Integer[sale.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> loss[i]).thenComparingInt(i -> -sale[i]));
+
+        final int[] front = new int[order.length];
+        int count = 0;
+        int bestSale = -1;
+        for (final int c : order) {
+            final int capped = Math.min(sale[c], amount);
+            if (capped > bestSale) {
+                bestSale = capped;
+                front[count++] = c;
+            }
+        }
+        return Arrays.copyOf(front, count);
+    }
+
+    /**
+     * Advances a mixed-radix counter, where digit {@code i} ranges over {@code [0, houses[i] + 1]}.
+     *
+     * @param digits the counter
+     * @param houses the houses built on every property
+     */
+    private static void increment(final int[] digits, final int[] houses) {
+        for (int i = 0; i < digits.length; i++) {
+            digits[i]++;
+            if (digits[i] <= houses[i] + 1) {
+                return;
+            }
+            digits[i] = 0;
+        }
+    }
+
+    /**
+     * Computes the rent value of a group after a sale combination.
+     *
+     * @param properties the properties of the group owned by the player
+     * @param keep the houses kept on every property, or {@link GroupOptions#SOLD}
+     * @param monopoly true if the player currently owns the whole group
+     * @return the sum of the rents of the kept properties
+     */
+    private static int retainedRent(final List<Property> properties, final int[] keep, final boolean monopoly) {
+        int owned = 0;
+        for (final int k : keep) {
+            if (k != GroupOptions.SOLD) {
+                owned++;
+            }
+        }
+        final boolean stillMonopoly = monopoly && owned == keep.length;
+
+        int value = 0;
+        for (int i = 0; i < keep.length; i++) {
+            if (keep[i] != GroupOptions.SOLD) {
+                value += rent(properties.get(i), keep[i], stillMonopoly, owned);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Computes the rent of a single property in a hypothetical state.
+     *
+     * @param property the property
+     * @param houses the houses built on it
+     * @param monopoly true if the owner has the whole group
+     * @param owned the number of properties of the group owned
+     * @return the rent
+     */
+    private static int rent(final Property property, final int houses, final boolean monopoly, final int owned) {
+        final AbstractPropertyCard card = property.getCard();
+        return switch (property.getPropertyGroup()) {
+            case RAILROAD -> card.calculateRent(RentContext.forStation(owned));
+            case UTILITY -> card.calculateRent(RentContext.forUtilities(EXPECTED_DICE, owned));
+            default -> card.calculateRent(RentContext.forLand(houses, monopoly));
+        };
+    }
+
+    /**
+     * The non-dominated sale combinations of a group.
+     */
+    private static final class GroupOptions {
+
+        static final int SOLD = -1;
+
+        private final List<Property> properties;
+        private final int[] houses;
+        private final int[] houseSale;
+        private final int[] propertySale;
+        private final int[] sale;
+        private final int[] loss;
+        private final int[][] kept;
+
+        private GroupOptions(final List<Property> properties, final int[] houses, final int[] houseSale,
+                final int[] propertySale, final int[] sale, final int[] loss, final int[][] kept) {
+            this.properties = properties;
+            this.houses = houses;
+            this.houseSale = houseSale;
+            this.propertySale = propertySale;
+            this.sale = sale;
+            this.loss = loss;
+            this.kept = kept;
+        }
+
+        int size() {
+            return this.sale.length;
+        }
+
+        int maxSale() {
+            return this.sale[this.sale.length - 1];
+        }
+
+        /**
+         * Appends the steps of an option to a plan.
+         */
+        void addSteps(final int option, final List<LiquidationPlan.Step> steps) {
+            final int[] keep = this.kept[option];
+            for (int i = 0; i < keep.length; i++) {
+                final boolean sold = keep[i] == SOLD;
+                final int housesSold = sold ? this.houses[i] : this.houses[i] - keep[i];
+                if (sold || housesSold > 0) {
+                    final int value = housesSold * this.houseSale[i] + (sold ? this.propertySale[i] : 0);
+                    steps.add(new LiquidationPlan.Step(this.properties.get(i), housesSold, sold, value));
+                }
+            }
+        }
+    }
+
+    /**
+     * Depth-first search over the options of the groups.
+     */
+    private static final class Search {
+
+        private final List<GroupOptions> groups;
+        private final int amount;
+        private final int[] suffixMaxSale;
+        private final int[] choice;
+        private final int[] bestChoice;
+        private int bestLoss = Integer.MAX_VALUE;
+        private int bestRaised = Integer.MAX_VALUE;
+
+        Search(final List<GroupOptions> groups, final int amount) {
+            this.groups = groups;
+            this.amount = amount;
+            this.suffixMaxSale = new int[groups.size() + 1];
+            for (int g = groups.size() - 1; g >= 0; g--) {
+                this.suffixMaxSale[g] = this.suffixMaxSale[g + 1] + groups.get(g).maxSale();
+            }
+            this.choice = new int[groups.size()];
+            this.bestChoice = new int[groups.size()];
+        }
+
+        void run() {
+            if (this.suffixMaxSale[0] < this.amount) {
+                // nothing covers the amount: sell everything
+                for (int g = 0; g < this.groups.size(); g++) {
+                    this.bestChoice[g] = this.groups.get(g).size() - 1;
+                }
+                this.bestRaised = this.suffixMaxSale[0];
+                return;
+            }
+            visit(0, 0, 0);
+        }
+
+        private void visit(final int group, final int raised, final int loss) {
+            if (raised >= this.amount) {
+                if (loss < this.bestLoss || loss == this.bestLoss && raised < this.bestRaised) {
+                    this.bestLoss = loss;
+                    this.bestRaised = raised;
+                    System.arraycopy(this.choice, 0, this.bestChoice, 0, group);
+                    Arrays.fill(this.bestChoice, group, this.bestChoice.length, 0);
+                }
+                return;
+            }
+            if (group == this.groups.size() || raised + this.suffixMaxSale[group] < this.amount) {
+                return;
+            }
+
+            final GroupOptions options = this.groups.get(group);
+            for (int o = 0; o < options.size(); o++) {
+                final int nextLoss = loss + options.loss[o];
+                if (nextLoss > this.bestLoss) {
+                    // options are sorted by loss: the next ones are worse
+                    break;
+                }
+                this.choice[group] = o;
+                visit(group + 1, raised + options.sale[o], nextLoss);
+            }
+        }
+
+        LiquidationPlan toPlan() {
+            final List<LiquidationPlan.Step> steps = new ArrayList<>();
+            int lost = 0;
+            for (int g = 0; g < this.groups.size(); g++) {
+                final GroupOptions options = this.groups.get(g);
+                options.addSteps(this.bestChoice[g], steps);
+                lost += options.loss[this.bestChoice[g]];
+            }
+            return new LiquidationPlan(steps, this.bestRaised, lost, this.bestRaised >= this.amount);
+        }
+    }
+}
@@ -6,8 +6,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
+import com.fasterxml.jackson.annotation.JacksonInject;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonGetter;
@@ -16,36 +20,93 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.ActionType;
 import it.unibo.javapoly.controller.api.BoardController;
 import it.unibo.javapoly.controller.api.EconomyController;
+import it.unibo.javapoly.controller.api.LegalActions;
 import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.LiquidationPlanner;
 import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchExecutor;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
 import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.trade.TradeController;
+import it.unibo.javapoly.controller.api.turn.TurnContext;
+import it.unibo.javapoly.controller.api.turn.TurnInterceptor;
+import it.unibo.javapoly.controller.api.turn.TurnPipeline;
+import it.unibo.javapoly.controller.api.turn.TurnStage;
+import it.unibo.javapoly.controller.impl.bot.MatchStateView;
+import it.unibo.javapoly.controller.impl.trade.TradeControllerImpl;
+import it.unibo.javapoly.controller.impl.turn.MetricsTurnInterceptor;
+import it.unibo.javapoly.controller.impl.turn.SettlementQueueImpl;
+import it.unibo.javapoly.controller.impl.turn.TurnContextImpl;
+import it.unibo.javapoly.controller.impl.turn.TurnPipelineImpl;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.PlayerState;
+import it.unibo.javapoly.model.api.StateHash;
 import it.unibo.javapoly.model.api.board.Board;
 import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.card.CardDeck;
+import it.unibo.javapoly.model.api.economy.BalanceHistory;
+import it.unibo.javapoly.model.api.economy.Leaderboard;
+import it.unibo.javapoly.model.api.economy.Ledger;
 import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.impl.BankruptState;
 import it.unibo.javapoly.model.impl.DiceImpl;
 import it.unibo.javapoly.model.impl.DiceThrow;
 import it.unibo.javapoly.model.impl.FreeState;
 import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.ZobristHash;
 import it.unibo.javapoly.model.impl.board.BoardImpl;
 import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
 import it.unibo.javapoly.model.impl.board.tile.UnexpectedTile;
+import it.unibo.javapoly.model.impl.economy.BalanceHistoryImpl;
+import it.unibo.javapoly.model.impl.economy.LeaderboardImpl;
+import it.unibo.javapoly.model.impl.economy.LedgerImpl;
+import it.unibo.javapoly.utils.jfr.TurnEvent;
+import it.unibo.javapoly.utils.metrics.EventCounter;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+import it.unibo.javapoly.utils.metrics.PhaseProfiler;
+import it.unibo.javapoly.view.impl.FxTasks;
 import it.unibo.javapoly.view.impl.MainViewImpl;
-import javafx.application.Platform;
 
 /**
  * MatchControllerImpl manages the flow of the game, including turns,
  * movement, and GUI updates.
+ *
+ * <p>
+ * A dice throw runs through the stages of a {@link TurnPipeline}: the money moved
+ * while rolling, moving and resolving the tiles is queued and settled in order at
+ * {@link TurnStage#SETTLE}, and the updates of the view are handed to the JavaFX
+ * thread in one batch at {@link TurnStage#PUBLISH}.
  */
 @JsonIgnoreProperties(value = { "gui", "economyController", "mainView", "" }, ignoreUnknown = true)
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
-public class MatchControllerImpl implements MatchController {
+public final class MatchControllerImpl implements MatchController {
+    /**
+     * ID of the value injected in the JSON creator: the strategies of the bots,
+     * given only when a headless match is restored.
+     */
+    public static final String STRATEGIES = "strategies";
+
     private static final int MAX_DOUBLES = 3;
     private static final int JAIL_EXIT_FEE = 50;
+    private static final int MAX_BOT_BUILDS = 32;
+    private static final long HASH_ENTITY = ZobristHash.entity("match");
+    private static final int HASH_CURRENT_PLAYER = 0;
+    private static final int HASH_ROLLED = 1;
+    private static final int HASH_DOUBLES = 2;
+    private static final int HASH_JAIL_TURNS = 3;
+    private static final String DICE_THROW_LATENCY = "match.diceThrow";
+    private static final String TURNS = "match.turns";
+    private static final TurnInterceptor TURN_METRICS = new MetricsTurnInterceptor();
+    private static final TurnInterceptor SIMULATED_TURN_METRICS =
+            new MetricsTurnInterceptor(MetricsRegistry.noop(), PhaseProfiler.disabled());
+    private static final Consumer<MainViewImpl> REFRESH = MainViewImpl::refreshAll;
 
     private final List<Player> players;
     private final List<Player> playersBankrupt;
@@ -70,6 +131,50 @@ public class MatchControllerImpl implements MatchController {
     private Player currentCreditor;
     @JsonIgnore
     private final LiquidationObserver liquidationObserver;
+    @JsonIgnore
+    private final LiquidationPlanner liquidationPlanner;
+    @JsonIgnore
+    private final Map<String, PlayerStrategy> strategies;
+    @JsonIgnore
+    private final GameStateView stateView;
+    @JsonIgnore
+    private boolean playingBots;
+    @JsonIgnore
+    private final LegalActions legalActions = new LegalActionsImpl();
+    @JsonIgnore
+    private final StateHash stateHash = new ZobristHash();
+    @JsonIgnore
+    private final Map<String, Long> playerHashKeys = new HashMap<>();
+    @JsonIgnore
+    private volatile MatchSnapshot snapshot;
+    @JsonIgnore
+    private final MatchExecutor executor = new MatchExecutorImpl(this, () -> updateGui(REFRESH));
+    @JsonIgnore
+    private final Ledger ledger;
+    @JsonIgnore
+    private final LeaderboardImpl leaderboard;
+    @JsonIgnore
+    private final BalanceHistoryImpl balanceHistory;
+    @JsonIgnore
+    private final TradeController tradeController;
+    @JsonIgnore
+    private final SettlementQueueImpl settlements;
+    @JsonIgnore
+    private final TurnContextImpl turn;
+    @JsonIgnore
+    private final TurnPipelineImpl turnPipeline = new TurnPipelineImpl(this::executeStage);
+    @JsonIgnore
+    private final List<Consumer<MainViewImpl>> guiBatch = new ArrayList<>();
+    @JsonIgnore
+    private boolean batchingGui;
+    @JsonIgnore
+    private final boolean simulated;
+    @JsonIgnore
+    private final LatencyHistogram diceThrowLatency;
+    @JsonIgnore
+    private final EventCounter turnCount;
+    @JsonIgnore
+    private final PhaseProfiler phases;
 
     /**
      * Constructor for MatchControllerImpl.
@@ -81,23 +186,92 @@ public class MatchControllerImpl implements MatchController {
     @JsonIgnoreProperties({ "gui", "economyController" })
     public MatchControllerImpl(final List<Player> allPlayers, final Board gameBoard,
             final Map<String, Property> properties) {
+        this(allPlayers, gameBoard, properties, Map.of());
+    }
+
+    /**
+     * Constructor for a match with a GUI where some players are bots.
+     *
+     * @param allPlayers list of players (already created).
+     * @param gameBoard  the game board implementation.
+     * @param properties the map of properties in the game.
+     * @param strategies the strategies of the bot players, by player name.
+     */
+    public MatchControllerImpl(final List<Player> allPlayers, final Board gameBoard,
+            final Map<String, Property> properties, final Map<String, PlayerStrategy> strategies) {
+        this(allPlayers, gameBoard, new PropertyControllerImpl(properties), strategies, new Random(), true);
+        publishSnapshot();
+    }
+
+    /**
+     * Constructor for a headless match, played without GUI at full speed.
+     * The dice are driven by the given generator, so a seeded generator replays the same match.
+     *
+     * @param allPlayers list of players (already created).
+     * @param gameBoard  the game board implementation.
+     * @param properties the map of properties in the game.
+     * @param strategies the strategies of the bot players, by player name.
+     * @param random     the random generator of the dice.
+     */
+    public MatchControllerImpl(final List<Player> allPlayers, final Board gameBoard,
+            final Map<String, Property> properties, final Map<String, PlayerStrategy> strategies,
+            final RandomGenerator random) {
+        this(allPlayers, gameBoard, new PropertyControllerImpl(properties), strategies, random, false);
+        publishSnapshot();
+    }
+
+    private MatchControllerImpl(final List<Player> allPlayers, final Board gameBoard,
+            final PropertyController propertyController, final Map<String, PlayerStrategy> strategies,
+            final RandomGenerator random, final boolean withGui) {
+        this(allPlayers, gameBoard, propertyController,
+                economy -> new BoardControllerImpl(gameBoard, propertyController, economy, random),
+                strategies, random, withGui, MetricsRegistry.getInstance());
+    }
+
+    private MatchControllerImpl(final List<Player> allPlayers, final Board gameBoard,
+            final PropertyController propertyController,
+            final Function<EconomyController, BoardController> boardControllerFactory,
+            final Map<String, PlayerStrategy> strategies, final RandomGenerator random, final boolean withGui,
+            final MetricsRegistry metrics) {
+        this.simulated = metrics.isNoop();
+        this.diceThrowLatency = metrics.histogram(DICE_THROW_LATENCY);
+        this.turnCount = metrics.counter(TURNS);
+        this.phases = PhaseProfiler.forRegistry(metrics);
+        this.ledger = new LedgerImpl(metrics);
+        this.settlements = new SettlementQueueImpl(this.ledger);
+        this.turn = new TurnContextImpl(this.settlements);
         this.players = List.copyOf(allPlayers);
+        this.leaderboard = new LeaderboardImpl(playerIds(this.players));
+        this.balanceHistory = new BalanceHistoryImpl(playerIds(this.players), this.leaderboard,
+                BalanceHistoryImpl.DEFAULT_CAPACITY);
+        this.strategies = Map.copyOf(strategies);
         this.gameBoard = Objects.requireNonNull(gameBoard);
-        this.liquidationObserver = new LiquidationObserverImpl(this);
-        this.propertyController = new PropertyControllerImpl(properties);
-        this.economyController = new EconomyControllerImpl(propertyController);
+        this.liquidationObserver = new LiquidationObserverImpl(this, metrics);
+        this.propertyController = propertyController;
+        this.liquidationPlanner = new LiquidationPlannerImpl(this.propertyController);
+        this.economyController = new EconomyControllerImpl(propertyController, this.ledger, metrics);
         this.economyController.setLiquidationObserver(this.liquidationObserver);
         this.playersBankrupt = new ArrayList<>();
 
-        this.boardController = new BoardControllerImpl(gameBoard, propertyController);
-        this.diceThrow = new DiceThrow(new DiceImpl(), new DiceImpl());
-        this.gui = new MainViewImpl(this);
+        this.boardController = boardControllerFactory.apply(this.economyController);
+        attachTurnPipeline();
+        this.diceThrow = new DiceThrow(new DiceImpl(random), new DiceImpl(random));
+        this.gui = withGui ? new MainViewImpl(this) : null;
         this.currentPlayerIndex = 0;
         this.consecutiveDoubles = 0;
+        this.stateView = new MatchStateView(this, this.jailTurnCounter, JAIL_EXIT_FEE,
+                this.boardController == null ? null : this.boardController.getCardController());
+        this.tradeController = new TradeControllerImpl(this,
+                this.boardController == null ? null : this.boardController.getCardController(),
+                () -> updateGui(REFRESH));
 
+        attachLeaderboard();
         for (final Player p : this.players) {
             p.addObserver(this);
+            this.ledger.open(p);
         }
+        this.balanceHistory.record();
+        attachStateHash();
     }
 
     /**
@@ -106,45 +280,74 @@ public class MatchControllerImpl implements MatchController {
      * @param players             the list of players.
      * @param gameBoard           the game board.
      * @param propertyController  the property controller.
-     * @param boardController     the board controller.
+     * @param boardController     the saved board controller, of which only the card deck is restored.
      * @param currentPlayerIndex  index of the current player.
      * @param consecutiveDoubles  number of consecutive doubles.
      * @param hasRolled           if player has already rolled.
      * @param jailTurnCounterJson map of players in jail.
      * @param diceThrow           the dice state.
      * @param playersBankrupt     the list of bankrupt players.
+     * @param snapshotVersion     the version of the last published snapshot.
+     * @param balanceHistory      the saved series of the balance history, null to start a new one.
+     * @param strategies          the strategies of the bot players of a headless match,
+     *                            null to restore a match with GUI, see {@link #STRATEGIES}.
      */
     @JsonCreator
     public MatchControllerImpl(
             @JsonProperty("players") final List<Player> players,
             @JsonProperty("gameBoard") final Board gameBoard,
             @JsonProperty("propertyController") final PropertyController propertyController,
-            @JsonProperty("boardController") final BoardController boardController,
+            @JsonProperty("boardController") final SavedBoardController boardController,
             @JsonProperty("currentPlayerIndex") final int currentPlayerIndex,
             @JsonProperty("consecutiveDoubles") final int consecutiveDoubles,
             @JsonProperty("hasRolled") final boolean hasRolled,
             @JsonProperty("jailTurnCounter") final Map<String, Integer> jailTurnCounterJson,
             @JsonProperty("diceThrow") final DiceThrow diceThrow,
-            @JsonProperty("playersBankrupt") final List<Player> playersBankrupt) {
+            @JsonProperty("playersBankrupt") final List<Player> playersBankrupt,
+            @JsonProperty("snapshotVersion") final long snapshotVersion,
+            @JsonProperty("balanceHistory") final Map<String, BalanceHistoryImpl.Series> balanceHistory,
+            @JacksonInject(STRATEGIES) final Map<String, PlayerStrategy> strategies) {
+        final MetricsRegistry metrics = MetricsRegistry.getInstance();
+        this.simulated = false;
+        this.diceThrowLatency = metrics.histogram(DICE_THROW_LATENCY);
+        this.turnCount = metrics.counter(TURNS);
+        this.phases = PhaseProfiler.getInstance();
+        this.ledger = new LedgerImpl(metrics);
+        this.settlements = new SettlementQueueImpl(this.ledger);
+        this.turn = new TurnContextImpl(this.settlements);
         this.players = players != null 
                 ? List.copyOf(players) 
                 : List.of();
+        this.leaderboard = new LeaderboardImpl(playerIds(this.players));
+        this.balanceHistory = new BalanceHistoryImpl(playerIds(this.players), this.leaderboard,
+                BalanceHistoryImpl.DEFAULT_CAPACITY);
+        this.strategies = strategies != null ? Map.copyOf(strategies) : Map.of();
         this.gameBoard = gameBoard != null 
                 ? gameBoard 
                 : new BoardImpl(new ArrayList<>());
         this.propertyController = propertyController != null 
                 ? propertyController
                 : new PropertyControllerImpl(new HashMap<>());
+        this.liquidationPlanner = new LiquidationPlannerImpl(this.propertyController);
         this.liquidationObserver = new LiquidationObserverImpl(this);
-        this.economyController = new EconomyControllerImpl(this.propertyController);
+        this.economyController = new EconomyControllerImpl(this.propertyController, this.ledger);
         this.economyController.setLiquidationObserver(this.liquidationObserver);
-        this.boardController = boardController;
+        if (boardController == null) {
+            this.boardController = null;
+        } else if (boardController.getCardDeck() == null) {
+            this.boardController = new BoardControllerImpl(this.gameBoard, this.propertyController,
+                    this.economyController);
+        } else {
+            this.boardController = new BoardControllerImpl(this.gameBoard, this.propertyController,
+                    this.economyController, boardController.getCardDeck());
+        }
+        attachTurnPipeline();
         this.diceThrow = diceThrow != null
                 ? new DiceThrow(diceThrow.getDice1(), diceThrow.getDice2()) 
                 : new DiceThrow(new DiceImpl(), new DiceImpl());
         this.playersBankrupt = playersBankrupt != null ? new ArrayList<>(playersBankrupt) : new ArrayList<>();
 
-        this.gui = new MainViewImpl(this);
+        this.gui = strategies != null ? null : new MainViewImpl(this);
         this.currentPlayerIndex = currentPlayerIndex;
         this.consecutiveDoubles = consecutiveDoubles;
         this.hasRolled = hasRolled;
@@ -156,13 +359,50 @@ public class MatchControllerImpl implements MatchController {
                         .findFirst()
                         .orElse(null);
                 if (player != null) {
-                    this.jailTurnCounter.put(player, entry.getValue());
+                    putJailTurns(player, entry.getValue());
                 }
             }
         }
+        attachLeaderboard();
         for (final Player p : this.players) {
             p.addObserver(this);
+            this.ledger.open(p);
+        }
+        if (balanceHistory == null) {
+            this.balanceHistory.record();
+        } else {
+            this.balanceHistory.restore(balanceHistory);
         }
+        this.stateView = new MatchStateView(this, this.jailTurnCounter, JAIL_EXIT_FEE,
+                this.boardController == null ? null : this.boardController.getCardController());
+        this.tradeController = new TradeControllerImpl(this,
+                this.boardController == null ? null : this.boardController.getCardController(),
+                () -> updateGui(REFRESH));
+        attachStateHash();
+        this.snapshot = MatchSnapshot.of(snapshotVersion + 1, this.stateView);
+    }
+
+    /**
+     * Returns the version of the last published snapshot, saved so that a restored
+     * match keeps publishing increasing versions.
+     *
+     * @return the snapshot version.
+     */
+    @JsonGetter("snapshotVersion")
+    public long getSnapshotVersionJson() {
+        final MatchSnapshot last = this.snapshot;
+        return last == null ? 0 : last.getVersion();
+    }
+
+    /**
+     * Returns the series of the balance history, saved so that a restored match keeps
+     * the charts of the turns already played.
+     *
+     * @return the series, by player ID.
+     */
+    @JsonGetter("balanceHistory")
+    public Map<String, BalanceHistoryImpl.Series> getBalanceHistoryJson() {
+        return this.balanceHistory.save();
     }
 
     /**
@@ -185,11 +425,13 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void startGame() {
+        publishSnapshot();
         updateGui(g -> {
             g.addLog("Game started");
             g.refreshAll();
             g.addLog("It's " + getCurrentPlayer().getName() + "'s turn");
         });
+        playBotTurnsWithGui();
     }
 
     /**
@@ -198,6 +440,8 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void nextTurn() {
+        this.turnCount.increment();
+        this.balanceHistory.record();
         do {
             this.currentPlayerIndex = (this.currentPlayerIndex + 1) % this.players.size();
         } while (getCurrentPlayer().getState() instanceof BankruptState);
@@ -213,6 +457,218 @@ public class MatchControllerImpl implements MatchController {
         });
 
         checkWinCondition();
+        playBotTurnsWithGui();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void playBotTurn() {
+        final Player bot = getCurrentPlayer();
+        final PlayerStrategy strategy = this.strategies.get(bot.getName());
+        if (strategy == null || isGameOver()) {
+            return;
+        }
+        if (ActionType.PAY_JAIL_FEE.isIn(getLegalActions()) && strategy.shouldPayJailFee(this.stateView)) {
+            payToExitJail();
+        }
+        while (getCurrentPlayer() == bot && !(bot.getState() instanceof BankruptState) && canCurrentPlayerRoll()) {
+            handleDiceThrow();
+            if (getCurrentPlayer() == bot && ActionType.BUY.isIn(getLegalActions())
+                    && strategy.shouldBuy(this.stateView, bot.getCurrentPosition())) {
+                buyCurrentProperty();
+            }
+        }
+        for (int i = 0; i < MAX_BOT_BUILDS && getCurrentPlayer() == bot
+                && !(bot.getState() instanceof BankruptState); i++) {
+            final int position = strategy.chooseBuild(this.stateView);
+            if (position == PlayerStrategy.NO_BUILD || !this.stateView.canBuild(position)) {
+                break;
+            }
+            buildHouseOnProperty(((PropertyTile) this.gameBoard.getTileAt(position)).getProperty());
+        }
+        if (getCurrentPlayer() != bot) {
+            return;
+        }
+        if (bot.getState() instanceof BankruptState) {
+            updatePlayerBankrupt();
+        } else {
+            nextTurn();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchController fork(final Map<String, PlayerStrategy> forkStrategies, final RandomGenerator random) {
+        final Map<String, Player> copies = new HashMap<>();
+        final List<Player> forkPlayers = new ArrayList<>(this.players.size());
+        for (final Player p : this.players) {
+            final Player copy = copyPlayer(p);
+            copies.put(p.getName(), copy);
+            forkPlayers.add(copy);
+        }
+
+        final List<Tile> tiles = new ArrayList<>(this.gameBoard.size());
+        final Map<String, Property> properties = new HashMap<>();
+        final Map<String, Player> owners = new HashMap<>();
+        for (int i = 0; i < this.gameBoard.size(); i++) {
+            final Tile tile = this.gameBoard.getTileAt(i);
+            if (tile instanceof PropertyTile pt) {
+                final PropertyTile copy = new PropertyTile(pt.getPosition(), pt.getName(), pt.getProperty(),
+                        pt.getDescription());
+                final Property property = copy.getProperty();
+                properties.put(property.getId(), property);
+                if (property.isOwnedByPlayer()) {
+                    owners.put(property.getId(), copies.get(property.getIdOwner()));
+                }
+                tiles.add(copy);
+            } else {
+                tiles.add(tile);
+            }
+        }
+
+        final Board board = new BoardImpl(tiles);
+        final PropertyController forkProperties = new PropertyControllerImpl(properties, owners);
+        final MatchControllerImpl fork = new MatchControllerImpl(forkPlayers, board, forkProperties,
+                economy -> this.boardController.fork(board, forkProperties, economy, random),
+                forkStrategies, random, false, MetricsRegistry.noop());
+        fork.currentPlayerIndex = this.currentPlayerIndex;
+        fork.consecutiveDoubles = this.consecutiveDoubles;
+        fork.hasRolled = this.hasRolled;
+        for (final Map.Entry<Player, Integer> entry : this.jailTurnCounter.entrySet()) {
+            fork.putJailTurns(copies.get(entry.getKey().getName()), entry.getValue());
+        }
+        for (final Player p : this.playersBankrupt) {
+            fork.playersBankrupt.add(copies.get(p.getName()));
+        }
+        return fork;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public int getLegalActions() {
+        return this.legalActions.generate(this.stateView);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public long getStateHash() {
+        return this.stateHash.getValue()
+                ^ ZobristHash.key(HASH_ENTITY, HASH_CURRENT_PLAYER, this.currentPlayerIndex)
+                ^ ZobristHash.key(HASH_ENTITY, HASH_ROLLED, this.hasRolled ? 1 : 0)
+                ^ ZobristHash.key(HASH_ENTITY, HASH_DOUBLES, this.consecutiveDoubles);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The executor is the entry point of the commands and is meant to be shared"
+    )
+    @Override
+    @JsonIgnore
+    public MatchExecutor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public MatchSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishSnapshot() {
+        final MatchSnapshot last = this.snapshot;
+        final MatchSnapshot next = MatchSnapshot.of(last == null ? 1 : last.getVersion() + 1, this.stateView);
+        if (!next.hasSameState(last)) {
+            this.snapshot = next;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGameOver() {
+        return this.leaderboard.getActiveCount() <= 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public PlayerStrategy getStrategy(final String playerId) {
+        return this.strategies.get(playerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The state view is read-only and shared with the strategies"
+    )
+    @Override
+    @JsonIgnore
+    public GameStateView getStateView() {
+        return this.stateView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The leaderboard is fed by the ledger of the match and read by the strategies"
+    )
+    @Override
+    @JsonIgnore
+    public Leaderboard getLeaderboard() {
+        return this.leaderboard;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The history is read by the charts of the GUI while the match is played"
+    )
+    @Override
+    @JsonIgnore
+    public BalanceHistory getBalanceHistory() {
+        return this.balanceHistory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Trades are proposed and executed on the state of this match"
+    )
+    @Override
+    @JsonIgnore
+    public TradeController getTradeController() {
+        return this.tradeController;
     }
 
     /**
@@ -220,6 +676,41 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void handleDiceThrow() {
+        final TurnEvent event = this.simulated ? null : new TurnEvent();
+        if (event != null) {
+            event.begin();
+        }
+        final Player player = getCurrentPlayer();
+        final int from = player.getCurrentPosition();
+        final boolean skipped = this.hasRolled || player.getState() instanceof BankruptState;
+        final long start = this.diceThrowLatency.start();
+        final boolean profiled = this.phases.enterTurn();
+        try {
+            throwDice();
+        } finally {
+            this.phases.exit(profiled);
+            this.diceThrowLatency.recordSince(start);
+            if (!skipped && event != null && event.shouldCommit()) {
+                event.set(player.getName(), this.diceThrow.getLastThrow(), this.diceThrow.isDouble(), from,
+                        player.getCurrentPosition());
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The pipeline is exposed to add interceptors to the match"
+    )
+    public TurnPipeline getTurnPipeline() {
+        return this.turnPipeline;
+    }
+
+    private void throwDice() {
         if (this.hasRolled) {
             return;
         }
@@ -231,8 +722,56 @@ public class MatchControllerImpl implements MatchController {
             return;
         }
 
+        this.turn.reset(currentPlayer);
+        this.batchingGui = this.gui != null;
+        this.settlements.open();
+        try {
+            this.turnPipeline.run(this.turn);
+        } finally {
+            if (this.settlements.isOpen()) {
+                this.settlements.settle();
+            }
+            publishGui();
+        }
+    }
+
+    /**
+     * Executes a stage of the current throw, at the end of the chain of its interceptors.
+     *
+     * @param stage the stage
+     * @param context the throw
+     */
+    private void executeStage(final TurnStage stage, final TurnContext context) {
+        switch (stage) {
+            case ROLL -> roll(context);
+            case MOVE -> movePlayer(context.getPlayer(), context.getSteps());
+            case RESOLVE -> {
+                this.onPlayerMoved(context.getPlayer(), context.getFromPosition(), context.getPosition());
+                updateGui(REFRESH);
+            }
+            case SETTLE -> this.settlements.settle();
+            case COMMIT -> {
+                if (context.isDouble() && !context.isStopped() && this.consecutiveDoubles < MAX_DOUBLES) {
+                    this.hasRolled = false;
+                }
+                updateGui(REFRESH);
+            }
+            case PUBLISH -> publishGui();
+            default -> throw new IllegalStateException("Unknown stage " + stage);
+        }
+    }
+
+    /**
+     * Throws the dice and applies the jail and doubles rules, stopping the throw
+     * if the player stays in or goes to jail.
+     *
+     * @param context the throw
+     */
+    private void roll(final TurnContext context) {
+        final Player currentPlayer = context.getPlayer();
         diceThrow.throwAll();
         final boolean isDouble = diceThrow.isDouble();
+        this.turn.setRoll(this.diceThrow.getLastThrow(), isDouble);
 
         if (currentPlayer.getState() instanceof JailedState) {
             final int turns = jailTurnCounter.getOrDefault(currentPlayer, 0);
@@ -240,16 +779,19 @@ public class MatchControllerImpl implements MatchController {
                 updateGui(g -> g.addLog(currentPlayer.getName() + " leaves jail with a DOUBLE ("
                         + this.diceThrow.getLastThrow() + ")!"));
                 currentPlayer.setState(FreeState.getInstance());
-                jailTurnCounter.remove(currentPlayer);
+                removeJailTurns(currentPlayer);
             } else if (turns >= 2) {
-                updateGui(g -> g.addLog(currentPlayer.getName() + " fails the 3rd attempt. Pays €50 and leaves jail!"));
+                updateGui(g -> g.addLog(currentPlayer.getName()
+                        + " fails the 3rd attempt. Pays €50 and leaves jail!"));
                 economyController.withdrawFromPlayer(currentPlayer, JAIL_EXIT_FEE);
                 currentPlayer.setState(FreeState.getInstance());
-                jailTurnCounter.remove(currentPlayer);
+                removeJailTurns(currentPlayer);
             } else {
-                jailTurnCounter.put(currentPlayer, turns + 1);
-                updateGui(g -> g.addLog(currentPlayer.getName() + " remains in jail (Attempt " + (turns + 1) + "/3)"));
+                putJailTurns(currentPlayer, turns + 1);
+                updateGui(g -> g.addLog(currentPlayer.getName() + " remains in jail (Attempt " + (turns + 1)
+                        + "/3)"));
                 this.hasRolled = true;
+                context.stop();
                 return;
             }
         }
@@ -262,17 +804,11 @@ public class MatchControllerImpl implements MatchController {
             if (this.consecutiveDoubles == MAX_DOUBLES) {
                 updateGui(g -> g.addLog("3 doubles in a row! Go to jail."));
                 handlePrison();
-                return;
+                context.stop();
             }
         } else {
             this.consecutiveDoubles = 0;
         }
-
-        this.handleMove(this.diceThrow.getLastThrow());
-        if (isDouble && this.consecutiveDoubles < MAX_DOUBLES) {
-            this.hasRolled = false;
-        }
-        updateGui(MainViewImpl::refreshAll);
     }
 
     /**
@@ -284,12 +820,17 @@ public class MatchControllerImpl implements MatchController {
         final Player currentPlayer = getCurrentPlayer();
         final int oldPos = currentPlayer.getCurrentPosition();
 
-        final int newPos = this.boardController.movePlayer(currentPlayer, steps).getPosition();
-        currentPlayer.setPosition(newPos);
+        final int newPos = movePlayer(currentPlayer, steps);
 
         this.onPlayerMoved(currentPlayer, oldPos, newPos);
 
-        updateGui(MainViewImpl::refreshAll);
+        updateGui(REFRESH);
+    }
+
+    private int movePlayer(final Player player, final int steps) {
+        final int newPos = this.boardController.movePlayer(player, steps).getPosition();
+        player.setPosition(newPos);
+        return newPos;
     }
 
     /**
@@ -354,7 +895,7 @@ public class MatchControllerImpl implements MatchController {
         if (economyController.afford(p, JAIL_EXIT_FEE)) {
             this.economyController.withdrawFromPlayer(p, JAIL_EXIT_FEE);
             p.setState(FreeState.getInstance());
-            jailTurnCounter.remove(p);
+            removeJailTurns(p);
             updateGui(g -> {
                 g.addLog(p.getName() + " pays 50€ and is now free!");
                 g.refreshAll();
@@ -363,7 +904,7 @@ public class MatchControllerImpl implements MatchController {
             this.economyController.withdrawFromPlayer(p, JAIL_EXIT_FEE);
             if (!p.getState().equals(BankruptState.getInstance())) {
                 p.setState(FreeState.getInstance());
-                jailTurnCounter.remove(p);
+                removeJailTurns(p);
                 updateGui(g -> {
                     g.addLog(p.getName() + " pays 50€ and is now free!");
                     g.refreshAll();
@@ -389,6 +930,8 @@ public class MatchControllerImpl implements MatchController {
             }
             final List<Property> ownedProperties = this.propertyController.getOwnedProperties(currentPlayer.getName());
             for (final Property property : ownedProperties) {
+                this.ledger.recordAssets(currentPlayer, -property.getPurchasePrice(),
+                        -this.economyController.getBuildingValue(property));
                 this.propertyController.returnPropertyToBank(property);
             }
             updateGui(g -> {
@@ -454,7 +997,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void onBalanceChanged(final Player player, final int newBalance) {
-        updateGui(MainViewImpl::refreshAll);
+        updateGui(REFRESH);
     }
 
     /**
@@ -466,6 +1009,7 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void onStateChanged(final Player player, final PlayerState oldState, final PlayerState newState) {
+        this.leaderboard.setActive(player.getName(), !(newState instanceof BankruptState));
         updateGui(g -> {
             g.addLog(player.getName() + " is now in state: " + newState.getClass().getSimpleName());
             g.refreshAll();
@@ -566,6 +1110,32 @@ public class MatchControllerImpl implements MatchController {
         return this.propertyController;
     }
 
+    /**
+     * Returns the liquidation planner.
+     *
+     * @return the liquidation planner.
+     */
+    @Override
+    @JsonIgnore
+    public LiquidationPlanner getLiquidationPlanner() {
+        return this.liquidationPlanner;
+    }
+
+    /**
+     * Returns the liquidation observer.
+     *
+     * @return the liquidation observer.
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The sales of the liquidations are applied by the executor of this match"
+    )
+    @Override
+    @JsonIgnore
+    public LiquidationObserver getLiquidationObserver() {
+        return this.liquidationObserver;
+    }
+
     /**
      * Logic for buying the current property.
      */
@@ -645,7 +1215,9 @@ public class MatchControllerImpl implements MatchController {
      */
     @Override
     public void restoreJailTurnCounter(final Map<String, Integer> map, final List<Player> playersList) {
-        this.jailTurnCounter.clear();
+        for (final Player p : List.copyOf(this.jailTurnCounter.keySet())) {
+            removeJailTurns(p);
+        }
         for (final Map.Entry<String, Integer> entry : map.entrySet()) {
             final String ownerId = entry.getKey();
             final Player owner = playersList.stream()
@@ -653,7 +1225,7 @@ public class MatchControllerImpl implements MatchController {
                     .findFirst()
                     .orElse(null);
             if (owner != null) {
-                this.jailTurnCounter.put(owner, entry.getValue());
+                putJailTurns(owner, entry.getValue());
             }
         }
     }
@@ -661,31 +1233,191 @@ public class MatchControllerImpl implements MatchController {
     // #endregion
 
     // #region Private method
+
+    /**
+     * Attaches the players, the properties of the board and the card deck to the state hash.
+     */
+    private void attachStateHash() {
+        for (final Player p : this.players) {
+            p.attachHash(this.stateHash);
+        }
+        for (int i = 0; i < this.gameBoard.size(); i++) {
+            if (this.gameBoard.getTileAt(i) instanceof PropertyTile pt) {
+                pt.getProperty().attachHash(this.stateHash);
+            }
+        }
+        if (this.boardController != null) {
+            this.boardController.attachHash(this.stateHash);
+        }
+    }
+
+    /**
+     * Sets the failed attempts of a jailed player, updating the state hash.
+     *
+     * @param player the jailed player
+     * @param turns the failed attempts to leave jail
+     */
+    private void putJailTurns(final Player player, final int turns) {
+        final Integer old = this.jailTurnCounter.put(player, turns);
+        if (old != null) {
+            this.stateHash.toggle(jailKey(player, old));
+        }
+        this.stateHash.toggle(jailKey(player, turns));
+    }
+
+    /**
+     * Removes the jail counter of a player, updating the state hash.
+     *
+     * @param player the player
+     */
+    private void removeJailTurns(final Player player) {
+        final Integer old = this.jailTurnCounter.remove(player);
+        if (old != null) {
+            this.stateHash.toggle(jailKey(player, old));
+        }
+    }
+
+    /**
+     * Returns the key of the jail turns of a player; the key of the player is hashed
+     * from its name once and cached.
+     */
+    private long jailKey(final Player player, final int turns) {
+        final long playerKey = this.playerHashKeys.computeIfAbsent(player.getName(), ZobristHash::entity);
+        return ZobristHash.key(HASH_ENTITY ^ playerKey, HASH_JAIL_TURNS, turns);
+    }
+
+    private static List<String> playerIds(final List<Player> players) {
+        final List<String> ids = new ArrayList<>(players.size());
+        for (final Player p : players) {
+            ids.add(p.getName());
+        }
+        return ids;
+    }
+
+    /**
+     * Registers the leaderboard with the ledger, before the accounts are opened, and
+     * reports the status and the holdings the players already have, as in a loaded
+     * or forked match.
+     */
+    private void attachLeaderboard() {
+        this.ledger.addListener(this.leaderboard);
+        for (final Player p : this.players) {
+            this.leaderboard.setActive(p.getName(), !(p.getState() instanceof BankruptState));
+            int propertyValue = 0;
+            int buildingValue = 0;
+            for (final Property property : this.propertyController.getOwnedProperties(p.getName())) {
+                propertyValue += property.getPurchasePrice();
+                buildingValue += this.economyController.getBuildingValue(property);
+            }
+            this.ledger.recordAssets(p, propertyValue, buildingValue);
+        }
+    }
+
     /**
      * Checks if only one player remains active and declares the winner.
      */
     private void checkWinCondition() {
-        final List<Player> activePlayers = players.stream()
-                .filter(p -> !(p.getState() instanceof BankruptState))
-                .toList();
-        if (activePlayers.size() == 1) {
-            final Player winner = activePlayers.get(0);
-            updateGui(g -> {
-                g.addLog("🏆 GAME OVER! The winner is " + winner.getName());
-                g.showWinner(winner.getName());
-            });
+        if (!isGameOver()) {
+            return;
+        }
+        if (!this.simulated) {
+            this.phases.matchEnded();
+        }
+        final String winner = this.leaderboard.getPlayerAt(0);
+        if (this.gui == null || !this.leaderboard.isActive(winner)) {
+            return;
+        }
+        updateGui(g -> {
+            g.addLog("🏆 GAME OVER! The winner is " + winner);
+            g.showWinner(winner);
+        });
+    }
+
+    /**
+     * Copies a player for a forked match, without its observers.
+     *
+     * @param player the player to copy.
+     * @return the copy.
+     */
+    private static Player copyPlayer(final Player player) {
+        final Player copy = new PlayerImpl(player.getName(), Math.max(0, player.getBalance()),
+                player.getTokenType(), player.getCustomTokenPath());
+        copy.setPosition(player.getCurrentPosition());
+        copy.setState(player.getState() instanceof JailedState jailed
+                ? new JailedState(jailed.getTurnsInJail())
+                : player.getState());
+        return copy;
+    }
+
+    /**
+     * In a match with a GUI, plays the turns of the bots until a human has to play.
+     * Headless matches are driven by their caller, one {@link #playBotTurn()} at a time.
+     */
+    private void playBotTurnsWithGui() {
+        if (this.gui == null || this.playingBots) {
+            return;
+        }
+        this.playingBots = true;
+        try {
+            while (!isGameOver() && this.strategies.containsKey(getCurrentPlayer().getName())) {
+                playBotTurn();
+            }
+        } finally {
+            this.playingBots = false;
         }
     }
 
     /**
      * Safely updates the GUI using the JavaFX Platform thread.
+     * During a dice throw the update is buffered until {@link TurnStage#PUBLISH}.
      * 
      * @param action the consumer action to perform on the MainView.
      */
     private void updateGui(final Consumer<MainViewImpl> action) {
-        if (this.gui != null) {
-            Platform.runLater(() -> action.accept(this.gui));
+        if (this.gui == null) {
+            return;
+        }
+        if (this.batchingGui) {
+            this.guiBatch.add(action);
+        } else {
+            FxTasks.runLater(() -> action.accept(this.gui));
+        }
+    }
+
+    /**
+     * Stops buffering the updates of the GUI and hands the buffered ones to the JavaFX
+     * thread in a single task, where the view is refreshed once after all of them.
+     */
+    private void publishGui() {
+        this.batchingGui = false;
+        if (this.guiBatch.isEmpty()) {
+            return;
         }
+        final List<Consumer<MainViewImpl>> batch = List.copyOf(this.guiBatch);
+        this.guiBatch.clear();
+        FxTasks.runLater(() -> {
+            boolean refresh = false;
+            for (final Consumer<MainViewImpl> action : batch) {
+                if (action == REFRESH) {
+                    refresh = true;
+                } else {
+                    action.accept(this.gui);
+                }
+            }
+            if (refresh) {
+                this.gui.refreshAll();
+            }
+        });
+    }
+
+    /**
+     * Installs the default interceptors and has the economy controller of the match,
+     * which also moves the money of the board and of the cards, defer it to the
+     * settlement of the throw.
+     */
+    private void attachTurnPipeline() {
+        this.turnPipeline.addInterceptor(this.simulated ? SIMULATED_TURN_METRICS : TURN_METRICS);
+        this.economyController.setSettlementQueue(this.settlements);
     }
 
     /**
@@ -705,11 +1437,33 @@ public class MatchControllerImpl implements MatchController {
                     g.addLog("You are at home (" + prop.getId() + ").");
                 });
             }
-            updateGui(MainViewImpl::refreshAll);
+            updateGui(REFRESH);
         }
 
     }
 
     // #endregion
 
+    /**
+     * The part of a saved board controller a restored match needs: its card deck.
+     * The restored controller uses the board, the properties and the economy of the match.
+     *
+     * @param cardController the saved card controller
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record SavedBoardController(@JsonProperty("cardController") SavedCardController cardController) {
+
+        CardDeck getCardDeck() {
+            return this.cardController == null ? null : this.cardController.cardDeck();
+        }
+    }
+
+    /**
+     * The part of a saved card controller a restored match needs.
+     *
+     * @param cardDeck the saved card deck
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record SavedCardController(@JsonProperty("cardDeck") CardDeck cardDeck) {
+    }
 }
@@ -0,0 +1,356 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.ActionType;
+import it.unibo.javapoly.controller.api.LiquidationObserver;
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchExecutor;
+import it.unibo.javapoly.controller.api.command.BotTurnCommand;
+import it.unibo.javapoly.controller.api.command.BuildCommand;
+import it.unibo.javapoly.controller.api.command.BuyCommand;
+import it.unibo.javapoly.controller.api.command.DeclareBankruptcyCommand;
+import it.unibo.javapoly.controller.api.command.EndTurnCommand;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+import it.unibo.javapoly.controller.api.command.PayJailFeeCommand;
+import it.unibo.javapoly.controller.api.command.RollCommand;
+import it.unibo.javapoly.controller.api.command.SellHouseCommand;
+import it.unibo.javapoly.controller.api.command.SellPropertyCommand;
+import it.unibo.javapoly.controller.api.command.TradeCommand;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.metrics.PhaseProfiler;
+
+/**
+ * Implementation of {@link MatchExecutor}.
+ *
+ * <p>
+ * Submissions are offered to a lock-free multi-producer queue. The first
+ * submission to an idle executor starts a virtual thread that drains the queue
+ * in batches of {@value #BATCH_SIZE} and stops as soon as it is empty, so at
+ * most one writer per match exists at any time and an idle match holds no thread.
+ * While the shared {@link PhaseProfiler} is enabled the writer is a platform
+ * thread instead, since the JVM does not measure the resources of virtual threads.
+ * The counters are written only by the writer and can be read from any thread.
+ * After every command applied, the writer publishes the snapshot of the match,
+ * see {@link MatchController#getSnapshot()}.
+ */
+public final class MatchExecutorImpl implements MatchExecutor {
+
+    private static final int BATCH_SIZE = 64;
+    private static final String WRITER_NAME = "match-writer";
+    private static final PhaseProfiler PHASES = PhaseProfiler.getInstance();
+
+    private final MatchController match;
+    private final Runnable afterBatch;
+    private final Queue<Task<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Task<?>[] batch = new Task<?>[BATCH_SIZE];
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Constructor to create an instance of MatchExecutorImpl.
+     *
+     * @param match the match to drive
+     * @param afterBatch the action run by the writer after each batch, e.g. a refresh of the GUI
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The executor is the single writer of the match it drives"
+    )
+    public MatchExecutorImpl(final MatchController match, final Runnable afterBatch) {
+        this.match = Objects.requireNonNull(match);
+        this.afterBatch = Objects.requireNonNull(afterBatch);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> CompletableFuture<R> submit(final MatchCommand<R> command) {
+        Objects.requireNonNull(command, "command must not be null");
+        return enqueue(m -> {
+            final R result = apply(command);
+            m.publishSnapshot();
+            return result;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> CompletableFuture<R> query(final Function<? super MatchController, ? extends R> query) {
+        Objects.requireNonNull(query, "query must not be null");
+        return enqueue(query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        this.closed = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isShutdown() {
+        return this.closed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getAppliedCount() {
+        return this.applied.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPendingCount() {
+        return this.pending.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getBusyNanos() {
+        return this.busyNanos.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMaxLatencyNanos() {
+        return this.maxLatencyNanos.get();
+    }
+
+    private <R> CompletableFuture<R> enqueue(final Function<? super MatchController, ? extends R> action) {
+        final Task<R> task = new Task<>(action);
+        if (this.closed) {
+            task.future.completeExceptionally(new IllegalStateException("The match has been closed"));
+            return task.future;
+        }
+        this.pending.incrementAndGet();
+        this.queue.offer(task);
+        startWriter();
+        return task.future;
+    }
+
+    /**
+     * Applies the queued tasks until the queue is empty. After releasing the
+     * writer role, the queue is checked again: a task offered in the meantime
+     * found the role taken and relies on this writer to apply it, unless another
+     * writer has taken the role since. The role is released only by the writer
+     * holding it; if a batch fails, the role is released and a new writer is
+     * started for the tasks left in the queue.
+     */
+    private void drain() {
+        boolean held = true;
+        try {
+            while (held) {
+                int size = poll();
+                while (size > 0) {
+                    applyBatch(size);
+                    size = poll();
+                }
+                this.scheduled.set(false);
+                held = !this.queue.isEmpty() && this.scheduled.compareAndSet(false, true);
+            }
+        } finally {
+            if (held) {
+                this.scheduled.set(false);
+                if (!this.queue.isEmpty()) {
+                    startWriter();
+                }
+            }
+        }
+    }
+
+    private void startWriter() {
+        if (this.scheduled.compareAndSet(false, true)) {
+            final Thread.Builder writer = PHASES.isEnabled()
+                    ? Thread.ofPlatform().daemon().name(WRITER_NAME)
+                    : Thread.ofVirtual().name(WRITER_NAME);
+            writer.start(this::drain);
+        }
+    }
+
+    /**
+     * Applies a batch of tasks. A task never throws, see {@link Task#run(MatchController)}, so
+     * every task of the batch is applied; the pending count is released even if the action
+     * run after the batch fails, so that the match can still be passivated.
+     */
+    private void applyBatch(final int size) {
+        final long start = System.nanoTime();
+        long maxLatency = 0;
+        try {
+            for (int i = 0; i < size; i++) {
+                final Task<?> task = this.batch[i];
+                this.batch[i] = null;
+                task.run(this.match);
+                maxLatency = Math.max(maxLatency, System.nanoTime() - task.submitted);
+            }
+            this.afterBatch.run();
+        } finally {
+            this.pending.addAndGet(-size);
+            this.applied.addAndGet(size);
+            this.busyNanos.addAndGet(System.nanoTime() - start);
+            if (maxLatency > this.maxLatencyNanos.get()) {
+                this.maxLatencyNanos.set(maxLatency);
+            }
+        }
+    }
+
+    private int poll() {
+        int size = 0;
+        while (size < BATCH_SIZE) {
+            final Task<?> task = this.queue.poll();
+            if (task == null) {
+                break;
+            }
+            this.batch[size++] = task;
+        }
+        return size;
+    }
+
+    /**
+     * Applies a command to the match, checking that its issuer is the current
+     * player and that the action is legal.
+     *
+     * @param <R> the type of the result
+     * @param command the command
+     * @return the result of the command
+     * @throws IllegalStateException if the command is not legal
+     */
+    @SuppressWarnings("unchecked")
+    private <R> R apply(final MatchCommand<R> command) {
+        final Player player = this.match.getCurrentPlayer();
+        if (!player.getName().equals(command.getPlayerId())) {
+            throw new IllegalStateException(command + " rejected: it is the turn of " + player.getName());
+        }
+        final Object result = switch (command) {
+            case RollCommand roll -> {
+                require(ActionType.ROLL, roll);
+                this.match.handleDiceThrow();
+                yield player.getCurrentPosition();
+            }
+            case BuyCommand buy -> {
+                require(ActionType.BUY, buy);
+                this.match.buyCurrentProperty();
+                yield player.getName().equals(this.match.getStateView().getOwner(player.getCurrentPosition()));
+            }
+            case BuildCommand build -> {
+                require(ActionType.BUILD, build);
+                final Tile tile = this.match.getBoard().getTileAt(build.getPosition());
+                if (!(tile instanceof PropertyTile propertyTile)
+                        || !this.match.getStateView().canBuild(build.getPosition())) {
+                    throw new IllegalStateException(build + " rejected: cannot build on this tile");
+                }
+                final Property property = propertyTile.getProperty();
+                final int houses = property.getBuiltHouses();
+                this.match.buildHouseOnProperty(property);
+                yield property.getBuiltHouses() > houses;
+            }
+            case PayJailFeeCommand pay -> {
+                require(ActionType.PAY_JAIL_FEE, pay);
+                this.match.payToExitJail();
+                yield !(player.getState() instanceof JailedState);
+            }
+            case EndTurnCommand end -> {
+                require(ActionType.END_TURN, end);
+                this.match.nextTurn();
+                yield this.match.getCurrentPlayer().getName();
+            }
+            case BotTurnCommand bot -> {
+                if (this.match.getStrategy(bot.getPlayerId()) == null) {
+                    throw new IllegalStateException(bot + " rejected: the player is not a bot");
+                }
+                this.match.playBotTurn();
+                yield this.match.getCurrentPlayer().getName();
+            }
+            case TradeCommand trade -> this.match.getTradeController().propose(trade.getOffer());
+            case SellHouseCommand sell ->
+                requireLiquidating(sell).sellHouse(player, propertyAt(sell.getPosition(), sell));
+            case SellPropertyCommand sell ->
+                requireLiquidating(sell).sellProperty(player, propertyAt(sell.getPosition(), sell));
+            case DeclareBankruptcyCommand bankruptcy -> requireLiquidating(bankruptcy).declareBankruptcy(player);
+        };
+        return (R) result;
+    }
+
+    private LiquidationObserver requireLiquidating(final MatchCommand<?> command) {
+        final LiquidationObserver liquidation = this.match.getLiquidationObserver();
+        if (!liquidation.isLiquidating(command.getPlayerId())) {
+            throw new IllegalStateException(command + " rejected: the player has no debt to pay off");
+        }
+        return liquidation;
+    }
+
+    private Property propertyAt(final int position, final MatchCommand<?> command) {
+        if (position < 0 || position >= this.match.getBoard().size()
+                || !(this.match.getBoard().getTileAt(position) instanceof PropertyTile propertyTile)) {
+            throw new IllegalStateException(command + " rejected: not a property");
+        }
+        return propertyTile.getProperty();
+    }
+
+    private void require(final ActionType action, final MatchCommand<?> command) {
+        if (!action.isIn(this.match.getLegalActions())) {
+            throw new IllegalStateException(command + " rejected: " + action + " is not legal now");
+        }
+    }
+
+    /**
+     * Queued submission with its future result.
+     *
+     * @param <R> the type of the result
+     */
+    private static final class Task<R> {
+
+        private final Function<? super MatchController, ? extends R> action;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private final long submitted = System.nanoTime();
+
+        private Task(final Function<? super MatchController, ? extends R> action) {
+            this.action = action;
+        }
+
+        /**
+         * Applies the action and completes the future. Errors, e.g. an {@link AssertionError}
+         * or a {@link StackOverflowError} thrown by a command, complete the future as well,
+         * so that they do not stop the writer in the middle of a batch.
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        private void run(final MatchController match) {
+            try {
+                this.future.complete(this.action.apply(match));
+            } catch (final Throwable e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchHandle;
+import it.unibo.javapoly.controller.api.MatchRegistry;
+import it.unibo.javapoly.controller.api.MatchSessionStore;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.MatchUsage;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Implementation of {@link MatchRegistry} backed by a {@link MatchSessionStore}.
+ * Creation reserves a slot before loading the board, so the capacity is never exceeded.
+ */
+public final class MatchRegistryImpl implements MatchRegistry {
+
+    /**
+     * Default maximum number of hosted matches.
+     */
+    public static final int DEFAULT_MAX_MATCHES = 16_384;
+
+    /**
+     * Default maximum number of pending commands of a match.
+     */
+    public static final int DEFAULT_MAX_PENDING = 256;
+
+    private static final String UNKNOWN_MATCH = "Unknown match ";
+    private static final MatchUsage IDLE = new MatchUsage(0, 0, 0, 0);
+
+    private final MatchSessionStore sessions;
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final HeadlessMatchRunner factory = new HeadlessMatchRunner();
+    private final int maxMatches;
+    private final int maxPending;
+
+    /**
+     * Creates a registry with the default limits.
+     */
+    public MatchRegistryImpl() {
+        this(DEFAULT_MAX_MATCHES, DEFAULT_MAX_PENDING);
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param maxMatches the maximum number of hosted matches
+     * @param maxPending the maximum number of pending commands of a match
+     */
+    public MatchRegistryImpl(final int maxMatches, final int maxPending) {
+        this(maxMatches, maxPending, new MatchSessionStoreImpl());
+    }
+
+    /**
+     * Creates a registry keeping its matches in a session store, which may passivate the idle ones.
+     *
+     * @param maxMatches the maximum number of hosted matches, resident or passivated
+     * @param maxPending the maximum number of pending commands of a match
+     * @param sessions the store of the matches
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The store is owned by the registry and can be inspected by its creator"
+    )
+    public MatchRegistryImpl(final int maxMatches, final int maxPending, final MatchSessionStore sessions) {
+        this.sessions = Objects.requireNonNull(sessions);
+        this.maxMatches = ValidationUtils.requirePositive(maxMatches, "maxMatches must be positive");
+        this.maxPending = ValidationUtils.requirePositive(maxPending, "maxPending must be positive");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String create(final List<String> playerNames, final Map<String, PlayerStrategy> bots,
+            final RandomGenerator random) throws IOException {
+        if (this.reserved.incrementAndGet() > this.maxMatches) {
+            this.reserved.decrementAndGet();
+            throw new IllegalStateException("The registry is full: " + this.maxMatches + " matches");
+        }
+        try {
+            final MatchController match = this.factory.createMatch(playerNames, bots, random);
+            final String matchId = "match-" + this.nextId.incrementAndGet();
+            this.sessions.put(matchId, match);
+            return matchId;
+        } catch (final IOException | RuntimeException e) {
+            this.reserved.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MatchHandle> find(final String matchId) {
+        return this.sessions.access(matchId, match -> new Handle(matchId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> CompletableFuture<R> submit(final String matchId, final MatchCommand<R> command) {
+        return this.sessions.<CompletableFuture<R>>access(matchId, match ->
+                match.getExecutor().getPendingCount() >= this.maxPending
+                        ? CompletableFuture.failedFuture(new RejectedExecutionException(matchId + " is overloaded"))
+                        : match.getExecutor().submit(command))
+                .orElseGet(() -> CompletableFuture.failedFuture(
+                        new RejectedExecutionException(UNKNOWN_MATCH + matchId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean close(final String matchId) {
+        if (!this.sessions.remove(matchId)) {
+            return false;
+        }
+        this.reserved.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getMatchIds() {
+        return this.sessions.getMatchIds();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.sessions.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MatchUsage> getUsage(final String matchId) {
+        final Optional<MatchUsage> usage = this.sessions.peek(matchId).map(match -> MatchUsage.of(match.getExecutor()));
+        return usage.isPresent() || !this.sessions.contains(matchId) ? usage : Optional.of(IDLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchUsage getTotalUsage() {
+        MatchUsage total = IDLE;
+        for (final String matchId : this.sessions.getMatchIds()) {
+            final Optional<MatchController> match = this.sessions.peek(matchId);
+            if (match.isPresent()) {
+                total = total.plus(MatchUsage.of(match.get().getExecutor()));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Handle looking the match up in the registry at every call.
+     */
+    private final class Handle implements MatchHandle {
+
+        private final String matchId;
+
+        private Handle(final String matchId) {
+            this.matchId = matchId;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getMatchId() {
+            return this.matchId;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <R> CompletableFuture<R> submit(final MatchCommand<R> command) {
+            return MatchRegistryImpl.this.submit(this.matchId, command);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <R> CompletableFuture<R> query(final Function<? super MatchController, ? extends R> query) {
+            return MatchRegistryImpl.this.sessions.<CompletableFuture<R>>access(this.matchId,
+                    match -> match.getExecutor().query(query))
+                    .orElseGet(() -> CompletableFuture.failedFuture(
+                            new RejectedExecutionException(UNKNOWN_MATCH + this.matchId)));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Optional<MatchSnapshot> getSnapshot() {
+            return MatchRegistryImpl.this.sessions.access(this.matchId, MatchController::getSnapshot);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchSessionStore;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.utils.JsonUtils;
+import it.unibo.javapoly.utils.MatchControllerDeserializer;
+import it.unibo.javapoly.utils.ValidationUtils;
+import it.unibo.javapoly.utils.jfr.PersistenceEvent;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+
+/**
+ * Implementation of {@link MatchSessionStore} passivating the matches to gzipped JSON files.
+ *
+ * <p>
+ * The resident matches are kept in a map ordered by access, so the least recently
+ * used and the idle ones come first. Every access may trigger a sweep of the idle
+ * matches, at most {@value #SWEEPS_PER_TTL} times per time to live, and evicts the
+ * least recently used matches over the resident limit; {@link #passivateIdle()} can
+ * also be scheduled by the caller. The strategies of the bots are not serialized:
+ * they stay in memory and are given back to the rehydrated match, whose dice get a
+ * new random generator.
+ */
+public final class MatchSessionStoreImpl implements MatchSessionStore {
+
+    /**
+     * Default time after which an idle match is passivated.
+     */
+    public static final Duration DEFAULT_IDLE_TTL = Duration.ofMinutes(10);
+
+    /**
+     * Default maximum number of resident matches.
+     */
+    public static final int DEFAULT_MAX_RESIDENT = 1024;
+
+    private static final Logger LOGGER = Logger.getLogger(MatchSessionStoreImpl.class.getName());
+    private static final int SWEEPS_PER_TTL = 4;
+    private static final String EXTENSION = ".json.gz";
+    private static final String TEMPORARY = ".tmp";
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.getInstance().histogram("match.save");
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Session> resident = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR,
+            true);
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final ObjectMapper mapper = JsonUtils.getInstance().mapper()
+            .disable(SerializationFeature.INDENT_OUTPUT);
+    private final Path directory;
+    private final long idleNanos;
+    private final int maxResident;
+
+    /**
+     * Creates a store keeping all the matches resident.
+     */
+    public MatchSessionStoreImpl() {
+        this.directory = null;
+        this.idleNanos = Long.MAX_VALUE;
+        this.maxResident = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates a store passivating the matches to a directory.
+     *
+     * @param directory the directory of the passivated matches, created if missing
+     * @param idleTtl the time after which an idle match is passivated
+     * @param maxResident the maximum number of resident matches
+     * @throws IOException if the directory cannot be created
+     */
+    public MatchSessionStoreImpl(final Path directory, final Duration idleTtl, final int maxResident)
+            throws IOException {
+        this.directory = Files.createDirectories(Objects.requireNonNull(directory));
+        if (idleTtl.isNegative()) {
+            throw new IllegalArgumentException("idleTtl must not be negative");
+        }
+        this.idleNanos = idleTtl.toNanos();
+        this.maxResident = ValidationUtils.requirePositive(maxResident, "maxResident must be positive");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(final String matchId, final MatchController match) {
+        final Session session = new Session(matchId, match);
+        if (this.sessions.putIfAbsent(matchId, session) != null) {
+            throw new IllegalArgumentException(matchId + " is already stored");
+        }
+        synchronized (this.resident) {
+            this.resident.put(matchId, session);
+        }
+        enforceLimits();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <R> Optional<R> access(final String matchId, final Function<? super MatchController, ? extends R> action) {
+        final Session session = this.sessions.get(matchId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        final R result;
+        session.lock.lock();
+        try {
+            if (session.removed) {
+                return Optional.empty();
+            }
+            if (session.match == null) {
+                rehydrate(session);
+            }
+            session.lastAccess = System.nanoTime();
+            synchronized (this.resident) {
+                this.resident.put(matchId, session);
+            }
+            result = action.apply(session.match);
+        } finally {
+            session.lock.unlock();
+        }
+        enforceLimits();
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MatchController> peek(final String matchId) {
+        final Session session = this.sessions.get(matchId);
+        return session == null ? Optional.empty() : Optional.ofNullable(session.match);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(final String matchId) {
+        final Session session = this.sessions.remove(matchId);
+        if (session == null) {
+            return false;
+        }
+        session.lock.lock();
+        try {
+            session.removed = true;
+            if (session.match != null) {
+                session.match.getExecutor().shutdown();
+                session.match = null;
+                synchronized (this.resident) {
+                    this.resident.remove(matchId, session);
+                }
+            } else {
+                Files.deleteIfExists(file(matchId));
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to delete the passivated " + matchId, e);
+        } finally {
+            session.lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int passivateIdle() {
+        if (this.directory == null) {
+            return 0;
+        }
+        final List<Session> candidates;
+        synchronized (this.resident) {
+            candidates = new ArrayList<>(this.resident.values());
+        }
+        final long now = System.nanoTime();
+        int passivated = 0;
+        for (final Session session : candidates) {
+            if (now - session.lastAccess < this.idleNanos) {
+                break;
+            }
+            if (passivate(session, this.idleNanos)) {
+                passivated++;
+            }
+        }
+        return passivated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(final String matchId) {
+        return this.sessions.containsKey(matchId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isResident(final String matchId) {
+        return peek(matchId).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getMatchIds() {
+        return Set.copyOf(this.sessions.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.sessions.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getResidentCount() {
+        synchronized (this.resident) {
+            return this.resident.size();
+        }
+    }
+
+    /**
+     * Sweeps the idle matches if the last sweep is old enough, then passivates
+     * the least recently used matches over the resident limit.
+     */
+    private void enforceLimits() {
+        if (this.directory == null) {
+            return;
+        }
+        final long now = System.nanoTime();
+        final long last = this.lastSweep.get();
+        if (now - last >= this.idleNanos / SWEEPS_PER_TTL && this.lastSweep.compareAndSet(last, now)) {
+            passivateIdle();
+        }
+        final List<Session> candidates;
+        int excess;
+        synchronized (this.resident) {
+            excess = this.resident.size() - this.maxResident;
+            if (excess <= 0) {
+                return;
+            }
+            candidates = new ArrayList<>(this.resident.values());
+        }
+        for (int i = 0; i < candidates.size() && excess > 0; i++) {
+            if (passivate(candidates.get(i), 0)) {
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * Writes a match to disk and releases it, unless it is in use, has pending
+     * commands or was accessed too recently.
+     *
+     * @param session the session of the match
+     * @param minIdleNanos the minimum time since the last access
+     * @return true if the match has been passivated
+     */
+    private boolean passivate(final Session session, final long minIdleNanos) {
+        if (!session.lock.tryLock()) {
+            return false;
+        }
+        try {
+            final MatchController match = session.match;
+            if (match == null || session.removed || System.nanoTime() - session.lastAccess < minIdleNanos
+                    || match.getExecutor().getPendingCount() > 0) {
+                return false;
+            }
+            final Path file = file(session.matchId);
+            final Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY);
+            final PersistenceEvent event = new PersistenceEvent();
+            event.begin();
+            event.setOperation(PersistenceEvent.SAVE, file.toString());
+            final long start = SAVE_LATENCY.start();
+            try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(temporary))) {
+                this.mapper.writeValue(output, match);
+                event.succeeded();
+            } finally {
+                SAVE_LATENCY.recordSince(start);
+                event.commit();
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            match.getExecutor().shutdown();
+            session.match = null;
+            synchronized (this.resident) {
+                this.resident.remove(session.matchId, session);
+            }
+            return true;
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to passivate " + session.matchId + ", it stays resident", e);
+            return false;
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    private void rehydrate(final Session session) {
+        final Path file = file(session.matchId);
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            session.match = MatchControllerDeserializer.deserializeHeadless(input, session.strategies);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to rehydrate " + session.matchId, e);
+        }
+        try {
+            Files.delete(file);
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, "Failed to delete the passivated " + session.matchId, e);
+        }
+    }
+
+    private Path file(final String matchId) {
+        return this.directory.resolve(matchId + EXTENSION);
+    }
+
+    /**
+     * Stored match, resident when {@code match} is not null. The fields are
+     * written holding the lock; the match is volatile to be peeked without it.
+     */
+    private static final class Session {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final String matchId;
+        private final Map<String, PlayerStrategy> strategies = new HashMap<>();
+        private volatile MatchController match;
+        private volatile long lastAccess = System.nanoTime();
+        private boolean removed;
+
+        private Session(final String matchId, final MatchController match) {
+            this.matchId = Objects.requireNonNull(matchId);
+            this.match = Objects.requireNonNull(match);
+            for (final Player player : match.getPlayers()) {
+                final PlayerStrategy strategy = match.getStrategy(player.getName());
+                if (strategy != null) {
+                    this.strategies.put(player.getName(), strategy);
+                }
+            }
+        }
+    }
+}
@@ -72,17 +72,33 @@ public class PropertyControllerImpl implements PropertyController {
     @Override
     public int getRent(final Player payer, final String propertyId, final int diceRoll) {
         final Property property = properties.get(propertyId);
-        final String ownerId = propertyOwners.get(propertyId).getName();
+        final Player owner = propertyOwners.get(propertyId);
+        final String ownerId = owner.getName();
 
         if (property == null || ownerId == null || ownerId.equals(payer.getName())) {
             return 0;
         }
 
-        final RentContext context = createRentContext(payer, diceRoll, property);
+        final RentContext context = createRentContext(owner, diceRoll, property);
 
         return property.getRent(context);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRent(final String propertyId, final int diceRoll) {
+        final Property property = properties.get(propertyId);
+        final Player owner = propertyOwners.get(propertyId);
+
+        if (property == null || owner == null) {
+            return 0;
+        }
+
+        return property.getRent(createRentContext(owner, diceRoll, property));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -140,6 +156,23 @@ public class PropertyControllerImpl implements PropertyController {
         this.propertyOwners.remove(property.getId());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean transferProperty(final Player from, final Player to, final String propertyId) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        final Property property = this.properties.get(propertyId);
+        if (property == null || !property.playerIsTheOwner(from.getName()) || property.getBuiltHouses() > 0) {
+            return false;
+        }
+        property.clearOwner();
+        property.assignOwner(to.getName());
+        this.propertyOwners.put(propertyId, to);
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -178,16 +211,11 @@ public class PropertyControllerImpl implements PropertyController {
         return this.propertyOwners.get(property.getId());
     }
 
-    //#region Private Method
-
     /**
-     * Checks if a player owns all properties in a group (monopoly).
-     *
-     * @param playerId the player
-     * @param group the property group to check
-     * @return true if the player owns all properties in the group
+     * {@inheritDoc}
      */
-    private boolean ownsCompleteGroup(final String playerId, final PropertyGroup group) {
+    @Override
+    public boolean ownsCompleteGroup(final String playerId, final PropertyGroup group) {
         final List<Property> groupProperties = getPropertiesInGroup(group);
 
         for (final Property property : groupProperties) {
@@ -199,6 +227,8 @@ public class PropertyControllerImpl implements PropertyController {
         return !groupProperties.isEmpty();
     }
 
+    //#region Private Method
+
     /**
      * Gets all properties belonging to a specific group.
      *
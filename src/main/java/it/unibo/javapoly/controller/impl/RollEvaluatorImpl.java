@@ -0,0 +1,331 @@
+package it.unibo.javapoly.controller.impl;
+
+import java.util.Arrays;
+
+import it.unibo.javapoly.controller.api.RollEvaluator;
+import it.unibo.javapoly.controller.api.RollForecast;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.model.api.board.BoardTopology;
+import it.unibo.javapoly.model.api.card.CardType;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.card.payload.CardPayload;
+import it.unibo.javapoly.model.api.card.payload.MoveRelativePayload;
+import it.unibo.javapoly.model.api.card.payload.MoveToNearestPayload;
+import it.unibo.javapoly.model.api.card.payload.MoveToPayload;
+
+/**
+ * Implementation of {@link RollEvaluator} following the turn rules of
+ * {@link MatchControllerImpl} and the movement rules of {@link BoardControllerImpl}.
+ *
+ * <p>
+ * The turn is explored depth first: each outcome of the dice moves the player,
+ * resolves the tile (rent, "go to jail", cards) and, after a double, explores
+ * the next roll from the tile reached. Every drawn card is assumed to be drawn
+ * from the current composition of the deck, and a card leading to another
+ * unexpected tile draws again at most {@value #MAX_CARD_CHAIN} times in a row.
+ */
+public final class RollEvaluatorImpl implements RollEvaluator {
+
+    private static final int DIE_FACES = 6;
+    private static final double OUTCOME_WEIGHT = 1.0 / (DIE_FACES * DIE_FACES);
+    private static final int MAX_DOUBLES = 3;
+    private static final int LAST_JAIL_ATTEMPT = 2;
+    private static final int MAX_DICE = 2 * DIE_FACES;
+    private static final int MAX_CARD_CHAIN = 2;
+    private static final int NO_REROLL = 0;
+
+    private Forecast[] forecasts = new Forecast[0];
+
+    private GameStateView state;
+    private BoardTopology topology;
+    private Forecast forecast;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RollForecast evaluate(final GameStateView gameState, final int playerIndex) {
+        if (this.forecasts.length < gameState.getPlayerCount()) {
+            this.forecasts = Arrays.copyOf(this.forecasts, gameState.getPlayerCount());
+        }
+        if (this.forecasts[playerIndex] == null) {
+            this.forecasts[playerIndex] = new Forecast();
+        }
+        this.state = gameState;
+        this.topology = gameState.getTopology();
+        this.forecast = this.forecasts[playerIndex];
+
+        final String playerId = gameState.getPlayerId(playerIndex);
+        this.forecast.reset(playerId, gameState.getBoardSize());
+        if (!gameState.isBankrupt(playerId)) {
+            final int position = gameState.getPosition(playerId);
+            if (gameState.isInJail(playerId)) {
+                rollFromJail(position, gameState.getJailAttempts(playerId));
+            } else {
+                final int doubles = playerId.equals(gameState.getCurrentPlayerId())
+                        ? gameState.getConsecutiveDoubles()
+                        : 0;
+                roll(position, doubles, 1.0);
+            }
+        }
+
+        final RollForecast result = this.forecast;
+        this.state = null;
+        this.topology = null;
+        this.forecast = null;
+        return result;
+    }
+
+    /**
+     * Explores the roll of a jailed player: a double frees the player and grants
+     * another roll, the last failed attempt makes the player pay and move.
+     *
+     * @param position the jail position
+     * @param attempts the failed attempts to leave jail
+     */
+    private void rollFromJail(final int position, final int attempts) {
+        for (int first = 1; first <= DIE_FACES; first++) {
+            for (int second = 1; second <= DIE_FACES; second++) {
+                final int total = first + second;
+                if (first == second) {
+                    move(position, total, OUTCOME_WEIGHT, 1);
+                } else if (attempts >= LAST_JAIL_ATTEMPT) {
+                    move(position, total, OUTCOME_WEIGHT, NO_REROLL);
+                } else {
+                    this.forecast.jail += OUTCOME_WEIGHT;
+                }
+            }
+        }
+    }
+
+    /**
+     * Explores a roll of a free player.
+     *
+     * @param position the position of the player
+     * @param doubles the doubles already rolled in the turn
+     * @param weight the probability of reaching this roll
+     */
+    private void roll(final int position, final int doubles, final double weight) {
+        final double outcome = weight * OUTCOME_WEIGHT;
+        for (int first = 1; first <= DIE_FACES; first++) {
+            for (int second = 1; second <= DIE_FACES; second++) {
+                if (first != second) {
+                    move(position, first + second, outcome, NO_REROLL);
+                } else if (doubles + 1 == MAX_DOUBLES) {
+                    sendToJail(outcome);
+                } else {
+                    move(position, first + second, outcome, doubles + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the player forward by the dice total and resolves the tile reached.
+     *
+     * @param from the starting position
+     * @param total the dice total
+     * @param weight the probability of the move
+     * @param reroll the doubles rolled if the player rolls again afterwards, {@value #NO_REROLL} otherwise
+     */
+    private void move(final int from, final int total, final double weight, final int reroll) {
+        final int to = this.topology.normalize(from + total);
+        if (this.topology.passesGo(from, to)) {
+            this.forecast.goIncome += weight * this.topology.getGoReward();
+        }
+        land(to, total, weight, 0, reroll);
+    }
+
+    /**
+     * Resolves the tile the player stopped on.
+     *
+     * @param position the position of the tile
+     * @param total the dice total, used for the rent of the utilities
+     * @param weight the probability of stopping on the tile
+     * @param chain the cards already drawn in this move
+     * @param reroll the doubles rolled if the player rolls again afterwards, {@value #NO_REROLL} otherwise
+     */
+    private void land(final int position, final int total, final double weight, final int chain, final int reroll) {
+        switch (this.state.getTileType(position)) {
+            case GO_TO_JAIL -> goToJail(position, weight, reroll);
+            case UNEXPECTED -> {
+                final int cards = this.state.getDrawableCardCount();
+                if (cards == 0 || chain >= MAX_CARD_CHAIN) {
+                    stop(position, weight, reroll);
+                } else {
+                    for (int i = 0; i < cards; i++) {
+                        drawCard(this.state.getDrawableCard(i), position, total, weight / cards, chain, reroll);
+                    }
+                }
+            }
+            default -> {
+                final String owner = this.state.getOwner(position);
+                if (owner != null && !owner.equals(this.forecast.playerId)) {
+                    final double rent = weight * this.state.getRent(position, total);
+                    this.forecast.rent += rent;
+                    this.forecast.rentAt[position] += rent;
+                }
+                stop(position, weight, reroll);
+            }
+        }
+    }
+
+    /**
+     * Applies a drawn card, as {@link CardControllerImpl} does.
+     *
+     * @param card the card
+     * @param position the position of the unexpected tile
+     * @param total the dice total
+     * @param weight the probability of drawing the card
+     * @param chain the cards already drawn in this move
+     * @param reroll the doubles rolled if the player rolls again afterwards, {@value #NO_REROLL} otherwise
+     */
+    private void drawCard(final GameCard card, final int position, final int total, final double weight,
+            final int chain, final int reroll) {
+        if (card.getType() == CardType.GO_TO_JAIL) {
+            goToJail(position, weight, reroll);
+            return;
+        }
+        final CardPayload payload = card.isKeepUntilUsed() ? null : card.getPayload();
+        final int target;
+        if (payload instanceof MoveToPayload moveTo) {
+            target = moveTo.getTargetPosition();
+            if (this.topology.passesGo(position, target) && this.topology.distance(position, target) < MAX_DICE
+                    && target != this.topology.getJailPosition()) {
+                this.forecast.goIncome += weight * this.topology.getGoReward();
+            }
+        } else if (payload instanceof MoveRelativePayload moveRelative) {
+            target = this.topology.normalize(position + moveRelative.getDelta());
+            collectGo(position, target, weight);
+        } else if (payload instanceof MoveToNearestPayload moveToNearest) {
+            target = this.topology.nextTileOfType(position, moveToNearest.getCategory());
+            collectGo(position, target, weight);
+        } else {
+            target = BoardTopology.NO_POSITION;
+        }
+
+        if (target == BoardTopology.NO_POSITION) {
+            stop(position, weight, reroll);
+        } else {
+            land(target, total, weight, chain + 1, reroll);
+        }
+    }
+
+    private void collectGo(final int from, final int to, final double weight) {
+        if (to != BoardTopology.NO_POSITION && this.topology.passesGo(from, to)) {
+            this.forecast.goIncome += weight * this.topology.getGoReward();
+        }
+    }
+
+    /**
+     * Resolves a "go to jail" tile or card: a "Get Out Of Jail Free" card keeps the player on the tile.
+     *
+     * @param position the position of the player
+     * @param weight the probability of the event
+     * @param reroll the doubles rolled if the player rolls again afterwards, {@value #NO_REROLL} otherwise
+     */
+    private void goToJail(final int position, final double weight, final int reroll) {
+        if (this.state.hasGetOutOfJailFreeCard(this.forecast.playerId)) {
+            stop(position, weight, reroll);
+        } else {
+            sendToJail(weight);
+        }
+    }
+
+    private void sendToJail(final double weight) {
+        this.forecast.jail += weight;
+        final int jail = this.topology.getJailPosition();
+        if (jail != BoardTopology.NO_POSITION) {
+            this.forecast.landing[jail] += weight;
+        }
+    }
+
+    /**
+     * Records the stop of the player on a tile and explores the next roll after a double.
+     *
+     * @param position the position of the tile
+     * @param weight the probability of the stop
+     * @param reroll the doubles rolled if the player rolls again afterwards, {@value #NO_REROLL} otherwise
+     */
+    private void stop(final int position, final double weight, final int reroll) {
+        this.forecast.landing[position] += weight;
+        if (reroll != NO_REROLL) {
+            roll(position, reroll, weight);
+        }
+    }
+
+    /**
+     * Reusable forecast of a player.
+     */
+    private static final class Forecast implements RollForecast {
+
+        private String playerId;
+        private double rent;
+        private double goIncome;
+        private double jail;
+        private double[] landing = new double[0];
+        private double[] rentAt = new double[0];
+
+        private void reset(final String player, final int boardSize) {
+            this.playerId = player;
+            this.rent = 0;
+            this.goIncome = 0;
+            this.jail = 0;
+            if (this.landing.length != boardSize) {
+                this.landing = new double[boardSize];
+                this.rentAt = new double[boardSize];
+            } else {
+                Arrays.fill(this.landing, 0);
+                Arrays.fill(this.rentAt, 0);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getPlayerId() {
+            return this.playerId;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getExpectedRent() {
+            return this.rent;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getExpectedGoIncome() {
+            return this.goIncome;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getJailProbability() {
+            return this.jail;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getLandingProbability(final int position) {
+            return this.landing[position];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public double getExpectedRent(final int position) {
+            return this.rentAt[position];
+        }
+    }
+}
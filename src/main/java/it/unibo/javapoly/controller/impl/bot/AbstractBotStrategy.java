@@ -0,0 +1,54 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+
+/**
+ * Base class of the heuristic bots, with the helpers shared by their decisions.
+ */
+abstract class AbstractBotStrategy implements PlayerStrategy {
+
+    /**
+     * Finds where to build the next house within a budget.
+     * Properties with fewer houses come first, then the cheaper houses.
+     *
+     * @param state the match state
+     * @param budget the money the bot is willing to spend
+     * @return the position to build on, or {@link #NO_BUILD}
+     */
+    protected static int cheapestBuild(final GameStateView state, final int budget) {
+        int best = NO_BUILD;
+        for (int position = 0; position < state.getBoardSize(); position++) {
+            if (state.canBuild(position) && state.getHouseCost(position) <= budget
+                    && (best == NO_BUILD || isBetterBuild(state, position, best))) {
+                best = position;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the balance of the current player.
+     *
+     * @param state the match state
+     * @return the balance
+     */
+    protected static int balance(final GameStateView state) {
+        return state.getBalance(state.getCurrentPlayerId());
+    }
+
+    private static boolean isBetterBuild(final GameStateView state, final int position, final int best) {
+        final int houses = state.getHouses(position);
+        final int bestHouses = state.getHouses(best);
+        return houses < bestHouses
+            || houses == bestHouses && state.getHouseCost(position) < state.getHouseCost(best);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,33 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+
+/**
+ * Bot that buys and builds whenever it can afford it, and never waits in jail.
+ */
+public final class AggressiveBot extends AbstractBotStrategy {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameStateView state, final int position) {
+        return balance(state) >= state.getPrice(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseBuild(final GameStateView state) {
+        return cheapestBuild(state, balance(state));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayJailFee(final GameStateView state) {
+        return balance(state) >= state.getJailFee();
+    }
+}
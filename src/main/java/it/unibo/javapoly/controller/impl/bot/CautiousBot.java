@@ -0,0 +1,69 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import it.unibo.javapoly.controller.api.RollEvaluator;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.impl.RollEvaluatorImpl;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Bot that always keeps a cash reserve, on top of the rent it expects to pay
+ * in its next roll, builds only with twice the reserve in hand and prefers to
+ * roll for a double in jail.
+ */
+public final class CautiousBot extends AbstractBotStrategy {
+
+    private static final int DEFAULT_RESERVE = 300;
+
+    private final int reserve;
+    private final RollEvaluator evaluator = new RollEvaluatorImpl();
+
+    /**
+     * Creates a cautious bot with the default reserve.
+     */
+    public CautiousBot() {
+        this(DEFAULT_RESERVE);
+    }
+
+    /**
+     * Creates a cautious bot.
+     *
+     * @param reserve the money the bot never spends on purchases
+     */
+    public CautiousBot(final int reserve) {
+        this.reserve = ValidationUtils.requireNonNegative(reserve, "reserve must be non negative");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameStateView state, final int position) {
+        return balance(state) - state.getPrice(position) >= this.reserve + expectedRent(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseBuild(final GameStateView state) {
+        return cheapestBuild(state, balance(state) - 2 * this.reserve);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayJailFee(final GameStateView state) {
+        return false;
+    }
+
+    private int expectedRent(final GameStateView state) {
+        final String current = state.getCurrentPlayerId();
+        for (int i = 0; i < state.getPlayerCount(); i++) {
+            if (current.equals(state.getPlayerId(i))) {
+                return (int) Math.ceil(this.evaluator.evaluate(state, i).getExpectedRent());
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,60 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+
+/**
+ * Bot that aims at complete groups: it buys the properties of groups that
+ * can still be completed, blocks the opponents' groups and leaves jail early
+ * while there are properties left to collect.
+ */
+public final class CollectorBot extends AbstractBotStrategy {
+
+    private static final int RESERVE = 100;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameStateView state, final int position) {
+        final String me = state.getCurrentPlayerId();
+        final PropertyGroup group = state.getGroup(position);
+        final int spare = balance(state) - state.getPrice(position);
+        if (group == null || spare < 0) {
+            return false;
+        }
+        final int opponents = state.getOpponentOwnedInGroup(me, group);
+        final boolean completable = opponents == 0;
+        final boolean blocking = opponents == state.getGroupSize(group) - 1;
+        return (completable || blocking) && spare >= RESERVE || spare >= 2 * RESERVE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseBuild(final GameStateView state) {
+        return cheapestBuild(state, balance(state) - RESERVE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayJailFee(final GameStateView state) {
+        if (balance(state) - state.getJailFee() < RESERVE) {
+            return false;
+        }
+        int buyable = 0;
+        int properties = 0;
+        for (int position = 0; position < state.getBoardSize(); position++) {
+            if (state.isProperty(position)) {
+                properties++;
+                if (state.isBuyable(position)) {
+                    buyable++;
+                }
+            }
+        }
+        return 2 * buyable > properties;
+    }
+}
@@ -0,0 +1,142 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+
+/**
+ * Text protocol between the game and an external bot process, in the style of
+ * the UCI protocol of chess engines: one command per line, words separated by spaces.
+ *
+ * <p>
+ * Game to bot:
+ * <ul>
+ *   <li>{@code jpi}: handshake, answered by optional {@code id name <name>} lines and {@code jpiok};</li>
+ *   <li>{@code isready}: answered by {@code readyok} once the previous commands are processed;</li>
+ *   <li>{@code newgame}: a new match starts, the next {@code board} describes it;</li>
+ *   <li>{@code board <n> <type>:<price>:<houseCost>:<group>...}: the tiles, {@code -} for no group;</li>
+ *   <li>{@code position me <i> players <n> <position>:<balance>:<flags>... tiles <n> <owner>:<houses>...}:
+ *       the state, sent only when it changed; players are referred to by their index in turn order,
+ *       {@code me} is the player to move and the flags are those of {@link MatchSnapshot};</li>
+ *   <li>{@code go <id> buy <position> movetime <ms>}, {@code go <id> build movetime <ms>},
+ *       {@code go <id> jail <fee> movetime <ms>}, {@code go <id> liquidate <raised> movetime <ms>}:
+ *       a decision to take within the move time;</li>
+ *   <li>{@code quit}.</li>
+ * </ul>
+ * Bot to game: {@code decision <id> <answer>}, where the answer is {@code yes} or {@code no} to buy,
+ * a position or {@code none} to build, {@code pay} or {@code roll} in jail, {@code accept} or
+ * {@code defer} to liquidate. Lines starting with {@code info} are ignored, as are decisions
+ * with an outdated ID.
+ */
+final class EngineProtocol {
+
+    static final String HELLO = "jpi";
+    static final String HELLO_OK = "jpiok";
+    static final String ID_NAME = "id name ";
+    static final String IS_READY = "isready";
+    static final String READY_OK = "readyok";
+    static final String NEW_GAME = "newgame";
+    static final String BOARD = "board";
+    static final String POSITION = "position";
+    static final String GO = "go";
+    static final String DECISION = "decision";
+    static final String QUIT = "quit";
+    static final String MOVE_TIME = "movetime";
+
+    static final String BUY = "buy";
+    static final String BUILD = "build";
+    static final String JAIL = "jail";
+    static final String LIQUIDATE = "liquidate";
+
+    static final String YES = "yes";
+    static final String NO = "no";
+    static final String NONE = "none";
+    static final String PAY = "pay";
+    static final String ROLL = "roll";
+    static final String ACCEPT = "accept";
+    static final String DEFER = "defer";
+
+    static final char FIELD = ':';
+    static final String NO_GROUP = "-";
+
+    private EngineProtocol() {
+    }
+
+    /**
+     * Formats the {@code board} command.
+     *
+     * @param state the match state
+     * @return the command line
+     */
+    static String board(final GameStateView state) {
+        final StringBuilder line = new StringBuilder(BOARD).append(' ').append(state.getBoardSize());
+        for (int tile = 0; tile < state.getBoardSize(); tile++) {
+            final PropertyGroup group = state.isProperty(tile) ? state.getGroup(tile) : null;
+            line.append(' ').append(state.getTileType(tile))
+                    .append(FIELD).append(state.getPrice(tile))
+                    .append(FIELD).append(state.getHouseCost(tile))
+                    .append(FIELD).append(group == null ? NO_GROUP : group.name());
+        }
+        return line.toString();
+    }
+
+    /**
+     * Formats the {@code position} command.
+     *
+     * @param state the match state
+     * @return the command line
+     */
+    static String position(final GameStateView state) {
+        final MatchSnapshot snapshot = MatchSnapshot.of(0, state);
+        final StringBuilder line = new StringBuilder(POSITION)
+                .append(" me ").append(snapshot.getCurrentPlayerIndex())
+                .append(" players ").append(snapshot.getPlayerCount());
+        for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+            line.append(' ').append(snapshot.getPosition(i))
+                    .append(FIELD).append(snapshot.getBalance(i))
+                    .append(FIELD).append(snapshot.getFlags(i));
+        }
+        line.append(" tiles ").append(snapshot.getTileCount());
+        for (int tile = 0; tile < snapshot.getTileCount(); tile++) {
+            line.append(' ').append(snapshot.getOwnerIndex(tile)).append(FIELD).append(snapshot.getHouses(tile));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Formats a {@code go} command.
+     *
+     * @param id the ID of the request
+     * @param request the decision and its arguments
+     * @param moveTimeMillis the time to answer
+     * @return the command line
+     */
+    static String go(final int id, final String request, final long moveTimeMillis) {
+        return GO + ' ' + id + ' ' + request + ' ' + MOVE_TIME + ' ' + moveTimeMillis;
+    }
+
+    /**
+     * Formats the request of a liquidation.
+     *
+     * @param suggested the plan suggested by the liquidation planner
+     * @return the request
+     */
+    static String liquidate(final LiquidationPlan suggested) {
+        return LIQUIDATE + ' ' + suggested.getRaised();
+    }
+
+    /**
+     * Extracts the answer of a {@code decision} line.
+     *
+     * @param line the line read from the bot
+     * @param id the ID of the awaited decision
+     * @return the answer, or null if the line is not the awaited decision
+     */
+    static String answer(final String line, final int id) {
+        final String[] words = line.trim().split(" +", 3);
+        return words.length == 3 && DECISION.equals(words[0]) && words[1].equals(Integer.toString(id))
+                ? words[2].trim()
+                : null;
+    }
+}
@@ -0,0 +1,347 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+
+/**
+ * Strategy delegating the decisions to an external bot process, through the
+ * line protocol described in {@link EngineProtocol}.
+ *
+ * <p>
+ * The process is started once and plays any number of matches, see {@link #newGame()}.
+ * The match never touches the pipes: the lines of the requests are queued to a
+ * virtual thread writing them to the process and flushing once the queue is empty,
+ * while another one reads the answers into a queue, so the match never blocks on
+ * the process for longer than the move time. Both queues are bounded: a request
+ * not fitting in the output queue is not sent, and the oldest lines are dropped
+ * from a full input queue, as they can only be stale answers. The position is
+ * sent again whenever its line differs from the last one sent. A decision not
+ * taken in time, malformed or illegal, not sent, or asked to a dead process, is
+ * taken by the fallback strategy instead and counted as a timeout. Unlike the
+ * built-in bots, this strategy allocates the lines exchanged with the process.
+ */
+public final class ExternalEngineBot implements PlayerStrategy, Closeable {
+
+    /**
+     * Default time given to the process for each decision.
+     */
+    public static final Duration DEFAULT_MOVE_TIME = Duration.ofMillis(100);
+
+    private static final Logger LOGGER = Logger.getLogger(ExternalEngineBot.class.getName());
+    private static final Duration STARTUP_TIME = Duration.ofSeconds(10);
+    private static final Duration QUIT_TIME = Duration.ofSeconds(1);
+    private static final int OUTPUT_CAPACITY = 64;
+    private static final int INPUT_CAPACITY = 1024;
+
+    private final Process process;
+    private final BufferedWriter output;
+    private final BlockingQueue<String> outbox = new ArrayBlockingQueue<>(OUTPUT_CAPACITY);
+    private final BlockingQueue<String> input = new ArrayBlockingQueue<>(INPUT_CAPACITY);
+    private final Thread writer;
+    private final PlayerStrategy fallback;
+    private final long moveTimeMillis;
+    private final String name;
+    private volatile boolean alive = true;
+    private boolean boardSent;
+    private String lastPosition;
+    private int nextId;
+    private int timeouts;
+
+    /**
+     * Starts an external bot and completes the handshake.
+     *
+     * @param command the command line of the bot process
+     * @param moveTime the time given to the process for each decision
+     * @param fallback the strategy taking the decisions the process does not take in time
+     * @throws IOException if the process cannot be started or does not complete the handshake
+     */
+    public ExternalEngineBot(final List<String> command, final Duration moveTime, final PlayerStrategy fallback)
+            throws IOException {
+        this.fallback = Objects.requireNonNull(fallback);
+        this.moveTimeMillis = Math.max(1, moveTime.toMillis());
+        this.process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        this.output = new BufferedWriter(
+                new OutputStreamWriter(this.process.getOutputStream(), StandardCharsets.UTF_8));
+        Thread.ofVirtual().name("engine-reader").start(this::read);
+        this.writer = Thread.ofVirtual().name("engine-writer").start(this::write);
+        String engineName = String.join(" ", command);
+        try {
+            send(EngineProtocol.HELLO);
+            String line = await(STARTUP_TIME);
+            while (line != null && !EngineProtocol.HELLO_OK.equals(line)) {
+                if (line.startsWith(EngineProtocol.ID_NAME)) {
+                    engineName = line.substring(EngineProtocol.ID_NAME.length()).trim();
+                }
+                line = await(STARTUP_TIME);
+            }
+            if (line == null) {
+                throw new IOException("The bot did not complete the handshake: " + engineName);
+            }
+        } catch (final IOException e) {
+            this.process.destroyForcibly();
+            throw e;
+        }
+        this.name = engineName;
+    }
+
+    /**
+     * Starts a new match and waits until the process is ready for it.
+     *
+     * @throws IOException if the process does not answer
+     */
+    public void newGame() throws IOException {
+        this.boardSent = false;
+        this.lastPosition = null;
+        send(EngineProtocol.NEW_GAME);
+        send(EngineProtocol.IS_READY);
+        String line = await(STARTUP_TIME);
+        while (line != null && !EngineProtocol.READY_OK.equals(line)) {
+            line = await(STARTUP_TIME);
+        }
+        if (line == null) {
+            throw new IOException(this.name + " is not ready");
+        }
+    }
+
+    /**
+     * Returns the number of decisions taken by the fallback strategy.
+     *
+     * @return the number of timeouts
+     */
+    public int getTimeoutCount() {
+        return this.timeouts;
+    }
+
+    /**
+     * Checks if the process is running.
+     *
+     * @return true if the process is alive
+     */
+    public boolean isAlive() {
+        return this.alive && this.process.isAlive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameStateView state, final int position) {
+        final String answer = ask(state, EngineProtocol.BUY + ' ' + position);
+        if (EngineProtocol.YES.equals(answer) || EngineProtocol.NO.equals(answer)) {
+            return EngineProtocol.YES.equals(answer);
+        }
+        return fallback(answer).shouldBuy(state, position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseBuild(final GameStateView state) {
+        final String answer = ask(state, EngineProtocol.BUILD);
+        if (EngineProtocol.NONE.equals(answer)) {
+            return NO_BUILD;
+        }
+        final int position = parsePosition(answer);
+        if (position != NO_BUILD && state.canBuild(position)) {
+            return position;
+        }
+        return fallback(answer).chooseBuild(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayJailFee(final GameStateView state) {
+        final String answer = ask(state, EngineProtocol.JAIL + ' ' + state.getJailFee());
+        if (EngineProtocol.PAY.equals(answer) || EngineProtocol.ROLL.equals(answer)) {
+            return EngineProtocol.PAY.equals(answer);
+        }
+        return fallback(answer).shouldPayJailFee(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The process can accept the suggested plan or defer to the fallback strategy.
+     */
+    @Override
+    public LiquidationPlan chooseLiquidation(final GameStateView state, final LiquidationPlan suggested) {
+        final String answer = ask(state, EngineProtocol.liquidate(suggested));
+        if (EngineProtocol.ACCEPT.equals(answer)) {
+            return suggested;
+        }
+        if (!EngineProtocol.DEFER.equals(answer)) {
+            fallback(answer);
+        }
+        return this.fallback.chooseLiquidation(state, suggested);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Asks the process to quit, and kills it if it does not.
+     */
+    @Override
+    public void close() {
+        try {
+            send(EngineProtocol.QUIT);
+            if (!this.process.waitFor(QUIT_TIME.toMillis(), TimeUnit.MILLISECONDS)) {
+                this.process.destroyForcibly();
+            }
+        } catch (final IOException e) {
+            this.process.destroyForcibly();
+        } catch (final InterruptedException e) {
+            this.process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        this.alive = false;
+        this.writer.interrupt();
+    }
+
+    /**
+     * Sends the board and the position if needed, then a request, and waits for its answer.
+     *
+     * @param state the match state
+     * @param request the decision and its arguments
+     * @return the answer, or null if the process did not answer in time
+     */
+    private String ask(final GameStateView state, final String request) {
+        if (!this.alive) {
+            return null;
+        }
+        final int id = ++this.nextId;
+        try {
+            if (!this.boardSent) {
+                send(EngineProtocol.board(state));
+                this.boardSent = true;
+            }
+            final String position = EngineProtocol.position(state);
+            if (!position.equals(this.lastPosition)) {
+                this.lastPosition = null;
+                send(position);
+                this.lastPosition = position;
+            }
+            send(EngineProtocol.go(id, request, this.moveTimeMillis));
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.moveTimeMillis);
+            String line = this.input.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            while (line != null) {
+                final String answer = EngineProtocol.answer(line, id);
+                if (answer != null) {
+                    return answer;
+                }
+                line = this.input.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Could not send a request to " + this.name, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Counts a decision the process did not take and returns the strategy taking it.
+     *
+     * @param answer the answer of the process, null if it did not answer
+     * @return the fallback strategy
+     */
+    private PlayerStrategy fallback(final String answer) {
+        this.timeouts++;
+        if (answer != null) {
+            LOGGER.log(Level.FINE, "Illegal answer from {0}: {1}", new Object[] {this.name, answer});
+        }
+        return this.fallback;
+    }
+
+    private static int parsePosition(final String answer) {
+        if (answer == null) {
+            return NO_BUILD;
+        }
+        try {
+            return Integer.parseInt(answer);
+        } catch (final NumberFormatException e) {
+            return NO_BUILD;
+        }
+    }
+
+    /**
+     * Queues a line to the writer thread.
+     *
+     * @param line the line
+     * @throws IOException if the process is not reading its input fast enough
+     */
+    private void send(final String line) throws IOException {
+        if (!this.outbox.offer(line)) {
+            throw new IOException(this.name + " is not reading its input");
+        }
+    }
+
+    private String await(final Duration timeout) throws IOException {
+        try {
+            return this.input.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + this.name, e);
+        }
+    }
+
+    private void write() {
+        try {
+            while (this.alive) {
+                this.output.write(this.outbox.take());
+                this.output.newLine();
+                if (this.outbox.isEmpty()) {
+                    this.output.flush();
+                }
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Lost the connection with " + this.name, e);
+            this.alive = false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void read() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(this.process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                while (!this.input.offer(line)) {
+                    this.input.poll();
+                }
+                line = reader.readLine();
+            }
+        } catch (final IOException e) {
+            LOGGER.log(Level.FINE, "Bot output closed", e);
+        } finally {
+            this.alive = false;
+        }
+    }
+}
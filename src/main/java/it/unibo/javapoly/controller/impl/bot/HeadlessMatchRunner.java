@@ -0,0 +1,193 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.MatchControllerImpl;
+import it.unibo.javapoly.controller.impl.MenuControllerImpl;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.board.BoardImpl;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.BoardLoader;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Plays matches between bots without GUI, at full engine speed.
+ *
+ * <p>
+ * Run as a program, it plays a series between an external bot and the built-in ones:
+ * {@code HeadlessMatchRunner <games> <moveTimeMillis> <command...>}, see {@link ExternalEngineBot}.
+ */
+public final class HeadlessMatchRunner {
+
+    /**
+     * Default maximum number of turns of a match.
+     */
+    public static final int DEFAULT_MAX_TURNS = 2000;
+
+    private static final Logger LOGGER = Logger.getLogger(HeadlessMatchRunner.class.getName());
+    private static final int PROGRAM_ARGS = 3;
+
+    private final int maxTurns;
+
+    /**
+     * Creates a runner with the default turn limit.
+     */
+    public HeadlessMatchRunner() {
+        this(DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param maxTurns the maximum number of turns after which a match is stopped.
+     */
+    public HeadlessMatchRunner(final int maxTurns) {
+        this.maxTurns = ValidationUtils.requirePositive(maxTurns, "maxTurns must be positive");
+    }
+
+    /**
+     * Creates a headless match on the standard board, with a bot in every seat.
+     *
+     * @param bots the strategy of each player, by player name, in turn order.
+     * @param random the random generator of the dice.
+     * @return the new match.
+     * @throws IOException if the board cannot be loaded.
+     */
+    public MatchController createMatch(final Map<String, PlayerStrategy> bots, final RandomGenerator random)
+            throws IOException {
+        ValidationUtils.requireNonNull(bots, "bots cannot be null");
+        return createMatch(List.copyOf(bots.keySet()), bots, random);
+    }
+
+    /**
+     * Creates a headless match on the standard board, where the players without
+     * strategy are driven by commands submitted to the executor of the match.
+     *
+     * @param playerNames the names of the players, in turn order.
+     * @param bots the strategy of the players driven by a bot, by player name.
+     * @param random the random generator of the dice.
+     * @return the new match.
+     * @throws IOException if the board cannot be loaded.
+     */
+    public MatchController createMatch(final List<String> playerNames, final Map<String, PlayerStrategy> bots,
+            final RandomGenerator random) throws IOException {
+        ValidationUtils.requireNonNull(playerNames, "playerNames cannot be null");
+        ValidationUtils.requireNonNull(bots, "bots cannot be null");
+        final BoardImpl board;
+        try (InputStream is = MatchControllerImpl.class.getResourceAsStream(MenuControllerImpl.PATH_BOARD_JSON)) {
+            board = BoardLoader.loadBoardFromJson(is);
+        }
+        final Map<String, Property> properties = new HashMap<>();
+        for (int i = 0; i < board.size(); i++) {
+            if (board.getTileAt(i) instanceof PropertyTile propertyTile) {
+                properties.put(propertyTile.getProperty().getId(), propertyTile.getProperty());
+            }
+        }
+        final List<Player> players = new ArrayList<>();
+        final TokenType[] tokens = TokenType.values();
+        for (final String name : playerNames) {
+            players.add(new PlayerImpl(name, tokens[players.size() % tokens.length]));
+        }
+        return new MatchControllerImpl(players, board, properties, bots, random);
+    }
+
+    /**
+     * Plays a match until it is over or the turn limit is reached.
+     *
+     * @param match the match, where every player must be a bot.
+     * @return the number of turns played.
+     * @throws IllegalStateException if a player without strategy has to play.
+     */
+    public int play(final MatchController match) {
+        int turns = 0;
+        while (!match.isGameOver() && turns < this.maxTurns) {
+            if (match.getStrategy(match.getCurrentPlayer().getName()) == null) {
+                throw new IllegalStateException(match.getCurrentPlayer().getName() + " is not a bot");
+            }
+            match.playBotTurn();
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Plays a series of matches between the same strategies; the dice of the i-th match
+     * are seeded with {@code seed + i}. External bots are told when each match starts,
+     * and the ledger of each match is audited when it ends.
+     *
+     * @param bots the strategy of each player, by player name, in turn order.
+     * @param games the number of matches.
+     * @param seed the seed of the dice of the first match.
+     * @return the number of matches won by each player, by name; the matches stopped
+     *     at the turn limit are won by nobody.
+     * @throws IOException if the board cannot be loaded or an external bot does not answer.
+     */
+    public Map<String, Integer> playSeries(final Map<String, PlayerStrategy> bots, final int games, final long seed)
+            throws IOException {
+        ValidationUtils.requirePositive(games, "games must be positive");
+        final Map<String, Integer> wins = new LinkedHashMap<>();
+        bots.keySet().forEach(name -> wins.put(name, 0));
+        for (int game = 0; game < games; game++) {
+            for (final PlayerStrategy bot : bots.values()) {
+                if (bot instanceof ExternalEngineBot engine) {
+                    engine.newGame();
+                }
+            }
+            final MatchController match = createMatch(bots, new SplittableRandom(seed + game));
+            play(match);
+            if (!match.getEconomyController().getLedger().audit(match.getPlayers())) {
+                LOGGER.log(Level.WARNING, "Money not conserved in the match with seed {0}", seed + game);
+            }
+            if (match.isGameOver()) {
+                for (final Player player : match.getPlayers()) {
+                    if (!match.getStateView().isBankrupt(player.getName())) {
+                        wins.merge(player.getName(), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Plays a series between an external bot and the built-in cautious and aggressive bots.
+     *
+     * @param args the number of matches, the move time of the external bot in milliseconds
+     *     and the command line of its process.
+     * @throws IOException if the external bot cannot be started or does not answer.
+     */
+    public static void main(final String... args) throws IOException {
+        if (args.length < PROGRAM_ARGS) {
+            throw new IllegalArgumentException("Usage: HeadlessMatchRunner <games> <moveTimeMillis> <command...>");
+        }
+        final int games = Integer.parseInt(args[0]);
+        final Duration moveTime = Duration.ofMillis(Long.parseLong(args[1]));
+        final List<String> command = Arrays.asList(args).subList(2, args.length);
+        try (ExternalEngineBot engine = new ExternalEngineBot(command, moveTime, new CautiousBot())) {
+            final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+            bots.put(engine.getName(), engine);
+            bots.put("cautious", new CautiousBot());
+            bots.put("aggressive", new AggressiveBot());
+            final Map<String, Integer> wins = new HeadlessMatchRunner().playSeries(bots, games, 0);
+            LOGGER.log(Level.INFO, "Wins after {0} matches: {1}, timeouts of {2}: {3}",
+                    new Object[] {games, wins, engine.getName(), engine.getTimeoutCount()});
+        }
+    }
+}
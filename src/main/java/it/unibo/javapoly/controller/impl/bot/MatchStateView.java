@@ -0,0 +1,456 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.controller.api.CardController;
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.BoardTopology;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.card.LandPropertyCard;
+
+/**
+ * {@link GameStateView} backed by a live match.
+ *
+ * <p>
+ * The properties of the board and the positions of every group are indexed once,
+ * so the queries only read arrays and the model objects.
+ */
+public final class MatchStateView implements GameStateView {
+
+    private static final int MAX_HOUSES = 5;
+
+    private final MatchController match;
+    private final Map<Player, Integer> jailTurns;
+    private final Player[] players;
+    private final Property[] properties;
+    private final int[] houseCosts;
+    private final Map<PropertyGroup, int[]> groupPositions = new EnumMap<>(PropertyGroup.class);
+    private final int jailFee;
+    private final BoardTopology topology;
+    private final TileType[] tileTypes;
+    private final CardController cards;
+
+    /**
+     * Creates a view of a match.
+     *
+     * @param match the match controller
+     * @param jailTurns the live map of the failed jail attempts of each player
+     * @param jailFee the fee to pay to leave the jail
+     * @param cards the card controller of the match, may be null if the match has no cards
+     */
+    public MatchStateView(final MatchController match, final Map<Player, Integer> jailTurns, final int jailFee,
+            final CardController cards) {
+        this.match = Objects.requireNonNull(match);
+        this.jailTurns = Objects.requireNonNull(jailTurns);
+        this.jailFee = jailFee;
+        this.cards = cards;
+        this.players = match.getPlayers().toArray(new Player[0]);
+
+        final Board board = match.getBoard();
+        this.topology = board.getTopology();
+        this.properties = new Property[board.size()];
+        this.houseCosts = new int[board.size()];
+        this.tileTypes = new TileType[board.size()];
+        final Map<PropertyGroup, Integer> groupSizes = new EnumMap<>(PropertyGroup.class);
+        for (int i = 0; i < board.size(); i++) {
+            final Tile tile = board.getTileAt(i);
+            this.tileTypes[i] = tile.getType();
+            if (tile instanceof PropertyTile pt) {
+                final Property property = pt.getProperty();
+                this.properties[i] = property;
+                this.houseCosts[i] = property.getCard() instanceof LandPropertyCard land ? land.getHouseCost() : 0;
+                groupSizes.merge(property.getPropertyGroup(), 1, Integer::sum);
+            }
+        }
+        for (final Map.Entry<PropertyGroup, Integer> entry : groupSizes.entrySet()) {
+            final int[] positions = new int[entry.getValue()];
+            int next = 0;
+            for (int i = 0; i < this.properties.length; i++) {
+                if (this.properties[i] != null && this.properties[i].getPropertyGroup() == entry.getKey()) {
+                    positions[next++] = i;
+                }
+            }
+            this.groupPositions.put(entry.getKey(), positions);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCurrentPlayerId() {
+        return this.match.getCurrentPlayer().getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPlayerCount() {
+        return this.players.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId(final int index) {
+        return this.players[index].getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActivePlayerCount() {
+        return this.match.getLeaderboard().getActiveCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBankrupt(final String playerId) {
+        final Player player = find(playerId);
+        return player != null && player.getState() instanceof BankruptState;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRoll() {
+        return this.match.canCurrentPlayerRoll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasMoved() {
+        return !this.match.canCurrentPlayerRoll() || this.match.getConsecutiveDoubles() > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getStateHash() {
+        return this.match.getStateHash();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getConsecutiveDoubles() {
+        return this.match.getConsecutiveDoubles();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBalance(final String playerId) {
+        final Player player = find(playerId);
+        return player == null ? 0 : player.getBalance();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNetWorth(final String playerId) {
+        return this.match.getLeaderboard().getNetWorth(playerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalNetWorth() {
+        return this.match.getLeaderboard().getTotalNetWorth();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPosition(final String playerId) {
+        final Player player = find(playerId);
+        return player == null ? 0 : player.getCurrentPosition();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInJail(final String playerId) {
+        final Player player = find(playerId);
+        return player != null && player.getState() instanceof JailedState;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getJailAttempts(final String playerId) {
+        final Player player = find(playerId);
+        final Integer attempts = player == null ? null : this.jailTurns.get(player);
+        return attempts == null ? 0 : attempts;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getJailFee() {
+        return this.jailFee;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBoardSize() {
+        return this.properties.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardTopology getTopology() {
+        return this.topology;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TileType getTileType(final int position) {
+        return this.tileTypes[position];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRent(final int position, final int diceTotal) {
+        final Property property = property(position);
+        return property == null || !property.isOwnedByPlayer()
+                ? 0
+                : this.match.getPropertyController().getRent(property.getId(), diceTotal);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDrawableCardCount() {
+        return this.cards == null ? 0 : this.cards.getDrawableCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getDrawableCard(final int index) {
+        if (this.cards == null) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.cards.getDrawableCard(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCardCount() {
+        return this.cards == null ? 0 : this.cards.getCardCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getCard(final int index) {
+        if (this.cards == null) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.cards.getCard(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasGetOutOfJailFreeCard(final String playerId) {
+        return this.cards != null && this.cards.hasGetOutOfJailFreeCard(playerId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isProperty(final int position) {
+        return property(position) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBuyable(final int position) {
+        final Property property = property(position);
+        return property != null && !property.isOwnedByPlayer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPrice(final int position) {
+        final Property property = property(position);
+        return property == null ? 0 : property.getPurchasePrice();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PropertyGroup getGroup(final int position) {
+        final Property property = property(position);
+        return property == null ? null : property.getPropertyGroup();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getOwner(final int position) {
+        final Property property = property(position);
+        return property == null || !property.isOwnedByPlayer() ? null : property.getIdOwner();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHouses(final int position) {
+        final Property property = property(position);
+        return property == null ? 0 : property.getBuiltHouses();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHouseCost(final int position) {
+        return position >= 0 && position < this.houseCosts.length ? this.houseCosts[position] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGroupSize(final PropertyGroup group) {
+        final int[] positions = this.groupPositions.get(group);
+        return positions == null ? 0 : positions.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOwnedInGroup(final String playerId, final PropertyGroup group) {
+        final int[] positions = this.groupPositions.get(group);
+        if (positions == null) {
+            return 0;
+        }
+        int count = 0;
+        for (final int position : positions) {
+            if (this.properties[position].playerIsTheOwner(playerId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOpponentOwnedInGroup(final String playerId, final PropertyGroup group) {
+        final int[] positions = this.groupPositions.get(group);
+        if (positions == null) {
+            return 0;
+        }
+        int count = 0;
+        for (final int position : positions) {
+            final Property property = this.properties[position];
+            if (property.isOwnedByPlayer() && !property.playerIsTheOwner(playerId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canBuild(final int position) {
+        final Property property = property(position);
+        final int cost = getHouseCost(position);
+        if (property == null || cost <= 0 || property.getBuiltHouses() >= MAX_HOUSES) {
+            return false;
+        }
+        final Player current = this.match.getCurrentPlayer();
+        if (current.getBalance() < cost || !property.playerIsTheOwner(current.getName())) {
+            return false;
+        }
+        for (final int other : this.groupPositions.get(property.getPropertyGroup())) {
+            final Property member = this.properties[other];
+            if (!member.playerIsTheOwner(current.getName()) || member.getBuiltHouses() < property.getBuiltHouses()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchController fork(final Map<String, PlayerStrategy> strategies, final RandomGenerator random) {
+        return this.match.fork(strategies, random);
+    }
+
+    private Property property(final int position) {
+        return position >= 0 && position < this.properties.length ? this.properties[position] : null;
+    }
+
+    private Player find(final String playerId) {
+        for (final Player player : this.players) {
+            if (player.getName().equals(playerId)) {
+                return player;
+            }
+        }
+        return null;
+    }
+}
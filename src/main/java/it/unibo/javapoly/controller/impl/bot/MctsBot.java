@@ -0,0 +1,512 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import it.unibo.javapoly.controller.api.LegalActions;
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.LegalActionsImpl;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Search-based bot: every decision is taken by Monte Carlo tree search over
+ * continuations of the match.
+ *
+ * <p>
+ * The root of the tree holds the options of the decision and is explored with
+ * UCB1. A playout copies a {@link SimulatedMatch} read from the match once per
+ * decision, applies the option, ends the turn and plays the following turns with
+ * a fast rollout policy; its reward is the share of the total net worth owned by
+ * the bot. The tables of the board that never change are read once per board and
+ * shared by all the playouts, so a copy only clones the arrays of the mutable
+ * state. Playouts run on a pool of worker threads until the time budget of the
+ * decision expires. The statistics of recurring decisions are kept between turns
+ * and seed the next search of the same decision.
+ *
+ * <p>
+ * A liquidation is searched over the plan suggested by the planner and the plans
+ * that also raise a cash reserve of one or two multiples of {@value #BALANCE_BUCKET}
+ * on top of it; every candidate covers the debt.
+ *
+ * <p>
+ * A bot must be used by one match at a time, and closed to release its workers.
+ */
+public final class MctsBot implements PlayerStrategy, AutoCloseable {
+
+    /**
+     * Default time budget of a decision, in milliseconds.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /**
+     * Default number of turns played by a playout after the decision.
+     */
+    public static final int DEFAULT_HORIZON = 40;
+
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int MEMORY_SIZE = 1024;
+    private static final int PRIOR_VISITS = 16;
+    private static final int BALANCE_BUCKET = 100;
+    private static final int MAX_BUCKET = 1023;
+    private static final int KEY_BASE = 64;
+    private static final int LIQUIDATION_RESERVES = 2;
+
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final long budgetNanos;
+    private final int horizon;
+    private final PlayerStrategy rolloutPolicy;
+    private final LegalActions legalActions = new LegalActionsImpl();
+    private final Map<Long, Root> memory = new LinkedHashMap<>(MEMORY_SIZE, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, Root> eldest) {
+            return size() > MEMORY_SIZE;
+        }
+    };
+    private final LongAdder totalPlayouts = new LongAdder();
+    private long lastPlayouts;
+    private SimulationTables tables;
+
+    /**
+     * Creates a bot with the default budget and horizon, one worker per processor
+     * and {@link CollectorBot} as rollout policy.
+     */
+    public MctsBot() {
+        this(DEFAULT_BUDGET_MILLIS, Runtime.getRuntime().availableProcessors(), DEFAULT_HORIZON, new CollectorBot());
+    }
+
+    /**
+     * Creates a bot.
+     *
+     * @param budgetMillis the time budget of a decision, in milliseconds
+     * @param workerCount the number of worker threads running the playouts
+     * @param horizon the number of turns played by a playout after the decision
+     * @param rolloutPolicy the strategy of every player during the playouts; it is
+     *                      shared by the workers, so it must be stateless
+     */
+    public MctsBot(final long budgetMillis, final int workerCount, final int horizon,
+            final PlayerStrategy rolloutPolicy) {
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.workerCount = ValidationUtils.requirePositive(workerCount, "workerCount must be positive");
+        this.horizon = ValidationUtils.requireNonNegative(horizon, "horizon must be non negative");
+        this.rolloutPolicy = ValidationUtils.requireNonNull(rolloutPolicy, "rolloutPolicy cannot be null");
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            final Thread thread = new Thread(r, "mcts-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameStateView state, final int position) {
+        final String me = state.getCurrentPlayerId();
+        if (!state.isBuyable(position) || state.getBalance(me) < state.getPrice(position)) {
+            return false;
+        }
+        return search(state, Decision.BUY, position, null, null) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseBuild(final GameStateView state) {
+        final BitSet positions = new BitSet(state.getBoardSize());
+        this.legalActions.buildPositions(state, positions);
+        if (positions.isEmpty()) {
+            return NO_BUILD;
+        }
+        final int[] builds = positions.stream().toArray();
+        final int option = search(state, Decision.BUILD, NO_BUILD, builds, null);
+        return option == 0 ? NO_BUILD : builds[option - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayJailFee(final GameStateView state) {
+        final String me = state.getCurrentPlayerId();
+        if (!state.isInJail(me) || state.getBalance(me) < state.getJailFee()) {
+            return false;
+        }
+        return search(state, Decision.JAIL, state.getPosition(me), null, null) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A plan that does not cover the debt sells everything, so it is returned as is.
+     */
+    @Override
+    public LiquidationPlan chooseLiquidation(final GameStateView state, final LiquidationPlan suggested) {
+        if (suggested.isEmpty() || !suggested.isCovering()) {
+            return suggested;
+        }
+        final List<LiquidationPlan> plans = liquidationCandidates(state, suggested);
+        if (plans.size() == 1) {
+            return suggested;
+        }
+        return plans.get(search(state, Decision.LIQUIDATE, NO_BUILD, null, plans));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "MctsBot";
+    }
+
+    /**
+     * Returns the number of playouts of the last decision.
+     *
+     * @return the playouts of the last decision
+     */
+    public long getLastPlayouts() {
+        return this.lastPlayouts;
+    }
+
+    /**
+     * Returns the number of playouts since the bot was created.
+     *
+     * @return the total playouts
+     */
+    public long getTotalPlayouts() {
+        return this.totalPlayouts.sum();
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+
+    /**
+     * Runs the search of a decision.
+     *
+     * @param state the match state
+     * @param decision the kind of decision
+     * @param position the position the decision refers to
+     * @param builds the candidate positions of a build decision, null otherwise
+     * @param plans the candidate plans of a liquidation, the suggested one first, null otherwise
+     * @return the index of the chosen option
+     */
+    private int search(final GameStateView state, final Decision decision, final int position, final int[] builds,
+            final List<LiquidationPlan> plans) {
+        final String me = plans == null ? state.getCurrentPlayerId() : debtor(plans.get(0));
+        final int options = builds != null ? builds.length + 1 : plans != null ? plans.size() : 2;
+        final Long key = builds == null && plans == null ? key(state, decision, position) : null;
+        final Root root = new Root(options);
+        if (key != null && this.memory.containsKey(key)) {
+            root.seed(this.memory.get(key));
+        }
+        final int prior = root.getTotal();
+        final SimulatedMatch start = new SimulatedMatch(tablesOf(state), state);
+
+        final long deadline = System.nanoTime() + this.budgetNanos;
+        final List<Callable<Void>> tasks = new ArrayList<>(this.workerCount);
+        for (int i = 0; i < this.workerCount; i++) {
+            tasks.add(() -> {
+                while (System.nanoTime() < deadline) {
+                    final int option = root.select();
+                    root.update(option, playout(start, decision, option, builds, plans, me));
+                    this.totalPlayouts.increment();
+                }
+                return null;
+            });
+        }
+        try {
+            for (final Future<Void> future : this.workers.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Playout failed", e.getCause());
+        }
+
+        this.lastPlayouts = root.getTotal() - prior;
+        if (key != null) {
+            this.memory.put(key, root);
+        }
+        return root.getTotal() == 0 ? fallback(state, decision, position, builds) : root.best();
+    }
+
+    /**
+     * Plays a simulated continuation of the match after choosing an option.
+     *
+     * @param start the state of the match at the decision, shared by the workers and never played
+     * @return the share of the total net worth owned by the bot at the end of the playout
+     */
+    private double playout(final SimulatedMatch start, final Decision decision, final int option,
+            final int[] builds, final List<LiquidationPlan> plans, final String me) {
+        final boolean mayBuild = decision != Decision.LIQUIDATE && (decision != Decision.BUILD || option != 0);
+        final FirstTurn first = new FirstTurn(this.rolloutPolicy, mayBuild);
+        final PlayerStrategy[] seats = new PlayerStrategy[start.getPlayerCount()];
+        for (int i = 0; i < seats.length; i++) {
+            seats[i] = start.getPlayerId(i).equals(me) ? first : this.rolloutPolicy;
+        }
+
+        final SimulatedMatch sim = start.copy(seats, ThreadLocalRandom.current());
+        switch (decision) {
+            case BUY -> {
+                if (option == 1) {
+                    sim.buyCurrentProperty();
+                }
+            }
+            case JAIL -> {
+                if (option == 1) {
+                    sim.payToExitJail();
+                }
+            }
+            case BUILD -> {
+                if (option > 0) {
+                    sim.buildHouse(builds[option - 1]);
+                }
+            }
+            // the simulation does not know the debt: the money raised by the suggested plan
+            // covers the shortfall, so it is paid by every option alike
+            case LIQUIDATE -> sim.liquidate(me, plans.get(option), plans.get(0).getRaised());
+        }
+        sim.playBotTurn();
+        first.release();
+        for (int turn = 0; turn < this.horizon && !sim.isGameOver(); turn++) {
+            sim.playBotTurn();
+        }
+        return netWorthShare(sim, me);
+    }
+
+    /**
+     * Returns the tables of the board of a match, read again when the board changes.
+     */
+    private SimulationTables tablesOf(final GameStateView state) {
+        if (this.tables == null || !this.tables.isFor(state.getTopology())) {
+            this.tables = new SimulationTables(state);
+        }
+        return this.tables;
+    }
+
+    /**
+     * Decision taken by the rollout policy when the search had no time to run a playout.
+     */
+    private int fallback(final GameStateView state, final Decision decision, final int position, final int[] builds) {
+        return switch (decision) {
+            case BUY -> this.rolloutPolicy.shouldBuy(state, position) ? 1 : 0;
+            case JAIL -> this.rolloutPolicy.shouldPayJailFee(state) ? 1 : 0;
+            case BUILD -> {
+                final int choice = this.rolloutPolicy.chooseBuild(state);
+                for (int i = 0; i < builds.length; i++) {
+                    if (builds[i] == choice) {
+                        yield i + 1;
+                    }
+                }
+                yield 0;
+            }
+            case LIQUIDATE -> 0;
+        };
+    }
+
+    /**
+     * Computes the candidate plans of a liquidation on a fork of the match: the
+     * suggested plan, then the distinct covering plans raising a larger reserve.
+     */
+    private static List<LiquidationPlan> liquidationCandidates(final GameStateView state,
+            final LiquidationPlan suggested) {
+        final MatchController sim = state.fork(Map.of(), ThreadLocalRandom.current());
+        final Player debtor = findPlayer(sim, debtor(suggested));
+        final List<LiquidationPlan> plans = new ArrayList<>(LIQUIDATION_RESERVES + 1);
+        final Set<String> seen = new HashSet<>();
+        plans.add(suggested);
+        seen.add(suggested.getSteps().toString());
+        for (int i = 1; i <= LIQUIDATION_RESERVES; i++) {
+            final LiquidationPlan plan = sim.getLiquidationPlanner()
+                    .plan(debtor, suggested.getRaised() + i * BALANCE_BUCKET);
+            if (plan.isCovering() && seen.add(plan.getSteps().toString())) {
+                plans.add(plan);
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * Returns the player who has to execute a non-empty plan, that is the owner of its properties.
+     */
+    private static String debtor(final LiquidationPlan plan) {
+        return plan.getSteps().get(0).getProperty().getIdOwner();
+    }
+
+    private static Player findPlayer(final MatchController match, final String playerId) {
+        return match.getPlayers().stream()
+                .filter(p -> p.getName().equals(playerId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown player " + playerId));
+    }
+
+    /**
+     * Builds the key identifying a recurring decision: kind, position, ownership
+     * of the group and balance rounded to {@value #BALANCE_BUCKET}.
+     */
+    private static long key(final GameStateView state, final Decision decision, final int position) {
+        final String me = state.getCurrentPlayerId();
+        final PropertyGroup group = state.getGroup(position);
+        final int owned = group == null ? 0 : state.getOwnedInGroup(me, group);
+        final int opponents = group == null ? 0 : state.getOpponentOwnedInGroup(me, group);
+        final int bucket = Math.min(MAX_BUCKET, Math.max(0, state.getBalance(me) / BALANCE_BUCKET));
+        long key = decision.ordinal();
+        key = key * KEY_BASE + position;
+        key = key * KEY_BASE + owned;
+        key = key * KEY_BASE + opponents;
+        key = key * KEY_BASE + state.getJailAttempts(me);
+        return key * (MAX_BUCKET + 1) + bucket;
+    }
+
+    /**
+     * Returns the share of the total net worth (cash, properties and houses at
+     * their cost) owned by a player, read from a view of the match.
+     */
+    private static double netWorthShare(final GameStateView state, final String playerId) {
+        final long total = state.getTotalNetWorth();
+        return total <= 0 ? 0 : (double) state.getNetWorth(playerId) / total;
+    }
+
+    /**
+     * Kinds of decision searched by the bot.
+     */
+    private enum Decision {
+        BUY, JAIL, BUILD, LIQUIDATE
+    }
+
+    /**
+     * Root of the search tree: visits and rewards of every option.
+     * A visit is counted when the option is selected, so that the concurrent
+     * workers spread over the options (virtual loss).
+     */
+    private static final class Root {
+
+        private final int[] visits;
+        private final double[] rewards;
+        private int total;
+
+        Root(final int options) {
+            this.visits = new int[options];
+            this.rewards = new double[options];
+        }
+
+        synchronized void seed(final Root previous) {
+            final double scale = Math.min(1.0, (double) PRIOR_VISITS / Math.max(1, previous.total));
+            for (int i = 0; i < this.visits.length && i < previous.visits.length; i++) {
+                this.visits[i] = (int) Math.round(previous.visits[i] * scale);
+                this.rewards[i] = previous.visits[i] == 0
+                    ? 0 : previous.rewards[i] / previous.visits[i] * this.visits[i];
+                this.total += this.visits[i];
+            }
+        }
+
+        synchronized int select() {
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < this.visits.length; i++) {
+                if (this.visits[i] == 0) {
+                    best = i;
+                    break;
+                }
+                final double score = this.rewards[i] / this.visits[i]
+                    + EXPLORATION * Math.sqrt(Math.log(this.total) / this.visits[i]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            this.visits[best]++;
+            this.total++;
+            return best;
+        }
+
+        synchronized void update(final int option, final double reward) {
+            this.rewards[option] += reward;
+        }
+
+        synchronized int best() {
+            int best = 0;
+            for (int i = 1; i < this.visits.length; i++) {
+                if (this.visits[i] > this.visits[best]
+                        || this.visits[i] == this.visits[best]
+                        && this.rewards[i] > this.rewards[best]) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        synchronized int getTotal() {
+            return this.total;
+        }
+    }
+
+    /**
+     * Strategy of the bot during a playout: it keeps the decision just applied
+     * for the rest of the current turn, then follows the rollout policy.
+     */
+    private static final class FirstTurn implements PlayerStrategy {
+
+        private final PlayerStrategy policy;
+        private final boolean mayBuild;
+        private boolean active = true;
+
+        FirstTurn(final PlayerStrategy policy, final boolean mayBuild) {
+            this.policy = policy;
+            this.mayBuild = mayBuild;
+        }
+
+        void release() {
+            this.active = false;
+        }
+
+        @Override
+        public boolean shouldBuy(final GameStateView state, final int position) {
+            return this.policy.shouldBuy(state, position);
+        }
+
+        @Override
+        public int chooseBuild(final GameStateView state) {
+            return this.active && !this.mayBuild ? NO_BUILD : this.policy.chooseBuild(state);
+        }
+
+        @Override
+        public boolean shouldPayJailFee(final GameStateView state) {
+            return !this.active && this.policy.shouldPayJailFee(state);
+        }
+
+        @Override
+        public String getName() {
+            return this.policy.getName();
+        }
+    }
+}
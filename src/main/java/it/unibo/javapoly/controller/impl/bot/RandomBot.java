@@ -0,0 +1,48 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+
+/**
+ * Bot that takes every affordable decision by tossing a coin.
+ * Useful as a baseline when comparing the other strategies.
+ */
+public final class RandomBot extends AbstractBotStrategy {
+
+    private final RandomGenerator random;
+
+    /**
+     * Creates a random bot.
+     *
+     * @param random the random generator used for the decisions
+     */
+    public RandomBot(final RandomGenerator random) {
+        this.random = Objects.requireNonNull(random);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldBuy(final GameStateView state, final int position) {
+        return balance(state) >= state.getPrice(position) && this.random.nextBoolean();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int chooseBuild(final GameStateView state) {
+        return this.random.nextBoolean() ? cheapestBuild(state, balance(state)) : NO_BUILD;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shouldPayJailFee(final GameStateView state) {
+        return balance(state) >= state.getJailFee() && this.random.nextBoolean();
+    }
+}
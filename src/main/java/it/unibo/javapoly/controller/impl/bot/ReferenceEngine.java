@@ -0,0 +1,175 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reference external bot, speaking the protocol of {@link EngineProtocol} on
+ * its standard input and output. It keeps a cash reserve like the cautious bot,
+ * and shows the minimal state a third-party bot has to track.
+ *
+ * <p>
+ * Usage: {@code java -cp <classpath> it.unibo.javapoly.controller.impl.bot.ReferenceEngine [delayMillis [reserve]]},
+ * where the optional delay is waited before every decision, to test the time control,
+ * and the optional reserve replaces the default one of 150.
+ */
+public final class ReferenceEngine {
+
+    private static final String NAME = "ReferenceEngine";
+    private static final String FIELD = String.valueOf(EngineProtocol.FIELD);
+    private static final int RESERVE = 150;
+    private static final int MAX_HOUSES = 5;
+    private static final int GO_DECISION = 2;
+    private static final int GO_ARGUMENT = 3;
+    private static final int PRICE_FIELD = 1;
+    private static final int HOUSE_COST_FIELD = 2;
+    private static final int GROUP_FIELD = 3;
+    private static final int BALANCE_FIELD = 1;
+
+    private final Writer output;
+    private final long delayMillis;
+    private final int reserve;
+    private int[] prices = new int[0];
+    private int[] houseCosts = new int[0];
+    private String[] groups = new String[0];
+    private int me;
+    private int[] balances = new int[0];
+    private int[] owners = new int[0];
+    private int[] houses = new int[0];
+
+    private ReferenceEngine(final Writer output, final long delayMillis, final int reserve) {
+        this.output = output;
+        this.delayMillis = delayMillis;
+        this.reserve = reserve;
+    }
+
+    /**
+     * Runs the bot until {@code quit} or the end of the input.
+     *
+     * @param args the optional delay before every decision, in milliseconds, and the optional reserve
+     * @throws IOException if the standard streams fail
+     * @throws InterruptedException if interrupted while delaying a decision
+     */
+    public static void main(final String... args) throws IOException, InterruptedException {
+        final BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        final Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        final ReferenceEngine engine = new ReferenceEngine(output, args.length > 0 ? Long.parseLong(args[0]) : 0,
+                args.length > 1 ? Integer.parseInt(args[1]) : RESERVE);
+        String line = input.readLine();
+        while (line != null && !EngineProtocol.QUIT.equals(line.trim())) {
+            engine.handle(line.trim().split(" +"));
+            line = input.readLine();
+        }
+    }
+
+    private void handle(final String... words) throws IOException, InterruptedException {
+        switch (words[0]) {
+            case EngineProtocol.HELLO -> {
+                write(EngineProtocol.ID_NAME + NAME);
+                write(EngineProtocol.HELLO_OK);
+            }
+            case EngineProtocol.IS_READY -> write(EngineProtocol.READY_OK);
+            case EngineProtocol.BOARD -> readBoard(words);
+            case EngineProtocol.POSITION -> readPosition(words);
+            case EngineProtocol.GO -> {
+                if (this.delayMillis > 0) {
+                    Thread.sleep(this.delayMillis);
+                }
+                write(EngineProtocol.DECISION + ' ' + words[1] + ' ' + decide(words));
+            }
+            default -> {
+                // newgame and unknown commands need no answer
+            }
+        }
+    }
+
+    private String decide(final String... go) {
+        final int balance = this.balances[this.me];
+        return switch (go[GO_DECISION]) {
+            case EngineProtocol.BUY -> balance - this.prices[Integer.parseInt(go[GO_ARGUMENT])] >= this.reserve
+                    ? EngineProtocol.YES
+                    : EngineProtocol.NO;
+            case EngineProtocol.BUILD -> chooseBuild(balance);
+            case EngineProtocol.JAIL -> balance - Integer.parseInt(go[GO_ARGUMENT]) >= this.reserve
+                    ? EngineProtocol.PAY
+                    : EngineProtocol.ROLL;
+            default -> EngineProtocol.ACCEPT;
+        };
+    }
+
+    private String chooseBuild(final int balance) {
+        int best = -1;
+        for (int tile = 0; tile < this.owners.length; tile++) {
+            if (this.owners[tile] == this.me && this.houseCosts[tile] > 0 && this.houses[tile] < MAX_HOUSES
+                    && balance - this.houseCosts[tile] >= this.reserve && ownsGroupEvenly(tile)
+                    && (best < 0 || this.houses[tile] < this.houses[best])) {
+                best = tile;
+            }
+        }
+        return best < 0 ? EngineProtocol.NONE : Integer.toString(best);
+    }
+
+    private boolean ownsGroupEvenly(final int tile) {
+        for (int other = 0; other < this.owners.length; other++) {
+            if (this.groups[tile].equals(this.groups[other])
+                    && (this.owners[other] != this.me || this.houses[other] < this.houses[tile])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads {@code board <n> <tile>...}.
+     *
+     * @param words the words of the command
+     */
+    private void readBoard(final String... words) {
+        final int tiles = Integer.parseInt(words[1]);
+        this.prices = new int[tiles];
+        this.houseCosts = new int[tiles];
+        this.groups = new String[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            final String[] fields = words[2 + tile].split(FIELD);
+            this.prices[tile] = Integer.parseInt(fields[PRICE_FIELD]);
+            this.houseCosts[tile] = Integer.parseInt(fields[HOUSE_COST_FIELD]);
+            this.groups[tile] = fields[GROUP_FIELD];
+        }
+    }
+
+    /**
+     * Reads {@code position me <i> players <n> <player>... tiles <n> <tile>...}.
+     *
+     * @param words the words of the command
+     */
+    private void readPosition(final String... words) {
+        int word = 2;
+        this.me = Integer.parseInt(words[word]);
+        word += 2;
+        final int players = Integer.parseInt(words[word++]);
+        this.balances = new int[players];
+        for (int i = 0; i < players; i++) {
+            this.balances[i] = Integer.parseInt(words[word++].split(FIELD)[BALANCE_FIELD]);
+        }
+        word++;
+        final int tiles = Integer.parseInt(words[word++]);
+        this.owners = new int[tiles];
+        this.houses = new int[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            final String[] fields = words[word++].split(FIELD);
+            this.owners[tile] = Integer.parseInt(fields[0]);
+            this.houses[tile] = Integer.parseInt(fields[1]);
+        }
+    }
+
+    private void write(final String line) throws IOException {
+        this.output.write(line);
+        this.output.write(System.lineSeparator());
+        this.output.flush();
+    }
+}
@@ -0,0 +1,997 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.board.BoardTopology;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+
+/**
+ * Lean copy of a match played by the playouts of {@link MctsBot}.
+ *
+ * <p>
+ * A fork of the match copies every player, property and controller of the match
+ * on every playout. This state keeps only what changes during a match in arrays
+ * (cash, position and jail state of every player, owner and houses of every tile,
+ * piles of the deck) and reads everything else from the {@link SimulationTables}
+ * of the board, which are shared by every copy: a copy clones a few small arrays.
+ *
+ * <p>
+ * The turns follow the rules of the match controller with the default logic of
+ * the tiles and of the cards, and money moves immediately instead of being
+ * settled at the end of the throw. Two things differ on purpose:
+ * <ul>
+ * <li>a player who cannot pay sells houses, from the most built property, then
+ * the cheapest properties, instead of following the liquidation planner;</li>
+ * <li>the draw pile is shuffled by every copy, because the view does not expose
+ * its order.</li>
+ * </ul>
+ *
+ * <p>
+ * The state is also the {@link GameStateView} given to the strategies of the
+ * players, so that the rollout policies take their decisions on it.
+ */
+final class SimulatedMatch implements GameStateView {
+
+    private static final int FREE = 0;
+    private static final int JAILED = 1;
+    private static final int BANKRUPT = 2;
+    private static final int DIE_FACES = 6;
+    private static final int MAX_DOUBLES = 3;
+    private static final int MAX_JAIL_ATTEMPTS = 2;
+    private static final int MAX_BOT_BUILDS = 32;
+    private static final int MAX_DICE = 12;
+    private static final int NO_CARD = -1;
+    private static final int NOT_FOUND = -1;
+
+    private final SimulationTables tables;
+    private final String[] ids;
+    private final PlayerStrategy[] strategies;
+    private final RandomGenerator random;
+    private final int[] balances;
+    private final int[] positions;
+    private final int[] states;
+    private final int[] jailAttempts;
+    private final int[] owners;
+    private final int[] houses;
+    private final int[] drawPile;
+    private final int[] discardPile;
+    private final int[] holders;
+    private int drawCount;
+    private int discardCount;
+    private int current;
+    private int consecutiveDoubles;
+    private boolean hasRolled;
+    private int activeCount;
+
+    /**
+     * Reads the state of a match from its view. The state is meant to be copied,
+     * and has no strategy nor random generator to play.
+     *
+     * @param tables the tables of the board of the match
+     * @param state the view of the match
+     */
+    SimulatedMatch(final SimulationTables tables, final GameStateView state) {
+        this.tables = Objects.requireNonNull(tables);
+        this.strategies = null;
+        this.random = null;
+        final int players = state.getPlayerCount();
+        this.ids = new String[players];
+        this.balances = new int[players];
+        this.positions = new int[players];
+        this.states = new int[players];
+        this.jailAttempts = new int[players];
+        for (int p = 0; p < players; p++) {
+            final String id = state.getPlayerId(p);
+            this.ids[p] = id;
+            this.balances[p] = state.getBalance(id);
+            this.positions[p] = state.getPosition(id);
+            this.states[p] = state.isBankrupt(id) ? BANKRUPT : state.isInJail(id) ? JAILED : FREE;
+            this.jailAttempts[p] = state.getJailAttempts(id);
+            if (this.states[p] != BANKRUPT) {
+                this.activeCount++;
+            }
+        }
+        this.current = Math.max(0, indexOf(state.getCurrentPlayerId()));
+        this.consecutiveDoubles = state.getConsecutiveDoubles();
+        this.hasRolled = !state.canRoll();
+
+        final int size = tables.getBoardSize();
+        this.owners = new int[size];
+        this.houses = new int[size];
+        Arrays.fill(this.owners, SimulationTables.NO_OWNER);
+        for (final int position : tables.getProperties()) {
+            final String owner = state.getOwner(position);
+            this.owners[position] = owner == null ? SimulationTables.NO_OWNER : indexOf(owner);
+            this.houses[position] = state.getHouses(position);
+        }
+
+        final int cards = tables.getCardCount();
+        this.drawPile = new int[cards];
+        this.discardPile = new int[cards];
+        this.holders = new int[cards];
+        Arrays.fill(this.holders, NO_CARD);
+        final boolean[] drawable = new boolean[cards];
+        for (int i = 0; i < state.getDrawableCardCount(); i++) {
+            final int card = tables.indexOf(state.getDrawableCard(i));
+            if (card != NO_CARD) {
+                drawable[card] = true;
+                this.drawPile[this.drawCount++] = card;
+            }
+        }
+        // the view only tells who holds a "Get Out Of Jail Free" card: any card of that type not drawable will do
+        for (int p = 0; p < players; p++) {
+            if (state.hasGetOutOfJailFreeCard(this.ids[p])) {
+                for (int card = 0; card < cards; card++) {
+                    if (!drawable[card] && this.holders[card] == NO_CARD && tables.isGetOutOfJailFree(card)) {
+                        this.holders[card] = p;
+                        break;
+                    }
+                }
+            }
+        }
+        for (int card = 0; card < cards; card++) {
+            if (!drawable[card] && this.holders[card] == NO_CARD) {
+                this.discardPile[this.discardCount++] = card;
+            }
+        }
+    }
+
+    private SimulatedMatch(final SimulatedMatch other, final PlayerStrategy[] strategies,
+            final RandomGenerator random) {
+        this.tables = other.tables;
+        this.ids = other.ids;
+        this.strategies = strategies;
+        this.random = random;
+        this.balances = other.balances.clone();
+        this.positions = other.positions.clone();
+        this.states = other.states.clone();
+        this.jailAttempts = other.jailAttempts.clone();
+        this.owners = other.owners.clone();
+        this.houses = other.houses.clone();
+        this.drawPile = other.drawPile.clone();
+        this.discardPile = other.discardPile.clone();
+        this.holders = other.holders.clone();
+        this.drawCount = other.drawCount;
+        this.discardCount = other.discardCount;
+        this.current = other.current;
+        this.consecutiveDoubles = other.consecutiveDoubles;
+        this.hasRolled = other.hasRolled;
+        this.activeCount = other.activeCount;
+        shuffleDrawPile();
+    }
+
+    /**
+     * Creates an independent copy of the state, ready to be played.
+     * The draw pile of the copy is shuffled.
+     *
+     * @param seats the strategy of every player, in turn order
+     * @param rng the random generator of the dice and of the shuffles
+     * @return the copy
+     */
+    SimulatedMatch copy(final PlayerStrategy[] seats, final RandomGenerator rng) {
+        if (seats.length != this.ids.length) {
+            throw new IllegalArgumentException("One strategy per player is required");
+        }
+        return new SimulatedMatch(this, seats, Objects.requireNonNull(rng));
+    }
+
+    /**
+     * Checks if at most one player is not bankrupt.
+     *
+     * @return true if the match is over
+     */
+    boolean isGameOver() {
+        return this.activeCount <= 1;
+    }
+
+    /**
+     * Plays the turn of the current player with its strategy, as
+     * {@link MatchController#playBotTurn()} does, and passes the turn.
+     */
+    void playBotTurn() {
+        final int bot = this.current;
+        final PlayerStrategy strategy = this.strategies[bot];
+        if (isGameOver()) {
+            return;
+        }
+        if (!this.hasRolled && this.states[bot] == JAILED && strategy.shouldPayJailFee(this)) {
+            payToExitJail();
+        }
+        while (this.current == bot && this.states[bot] != BANKRUPT && !this.hasRolled) {
+            throwDice();
+            if (this.current == bot && isBuyLegal() && strategy.shouldBuy(this, this.positions[bot])) {
+                buyCurrentProperty();
+            }
+        }
+        for (int i = 0; i < MAX_BOT_BUILDS && this.current == bot && this.states[bot] != BANKRUPT; i++) {
+            final int position = strategy.chooseBuild(this);
+            if (position == PlayerStrategy.NO_BUILD || !canBuild(position)) {
+                break;
+            }
+            buildHouse(position);
+        }
+        if (this.current == bot) {
+            nextTurn();
+        }
+    }
+
+    /**
+     * Buys the property the current player is on, if it belongs to the bank and the player can afford it.
+     */
+    void buyCurrentProperty() {
+        final int position = this.positions[this.current];
+        if (isBuyable(position) && this.balances[this.current] >= this.tables.getPrice(position)) {
+            this.balances[this.current] -= this.tables.getPrice(position);
+            this.owners[position] = this.current;
+        }
+    }
+
+    /**
+     * Builds a house for the current player, if the rules allow it.
+     *
+     * @param position the position of the land
+     */
+    void buildHouse(final int position) {
+        if (canBuild(position)) {
+            this.balances[this.current] -= this.tables.getHouseCost(position);
+            this.houses[position]++;
+        }
+    }
+
+    /**
+     * Pays the fee to leave the jail, selling assets if needed.
+     */
+    void payToExitJail() {
+        final int player = this.current;
+        if (this.states[player] != JAILED) {
+            return;
+        }
+        pay(player, SimulationTables.NO_OWNER, this.tables.getJailFee());
+        if (this.states[player] != BANKRUPT) {
+            leaveJail(player);
+        }
+    }
+
+    /**
+     * Executes a liquidation plan of a player, then pays the part of the debt it covers.
+     *
+     * @param playerId the player who has to execute the plan
+     * @param plan the plan
+     * @param shortfall the debt to pay after the plan, capped to the balance
+     */
+    void liquidate(final String playerId, final LiquidationPlan plan, final int shortfall) {
+        final int player = indexOf(playerId);
+        if (player == NOT_FOUND) {
+            return;
+        }
+        for (final LiquidationPlan.Step step : plan.getSteps()) {
+            final int position = this.tables.getPosition(step.getProperty().getId());
+            if (position == BoardTopology.NO_POSITION || this.owners[position] != player) {
+                continue;
+            }
+            for (int i = 0; i < step.getHousesToSell() && this.houses[position] > 0; i++) {
+                sellHouse(player, position);
+            }
+            if (step.isPropertySold()) {
+                sellProperty(player, position);
+            }
+        }
+        pay(player, SimulationTables.NO_OWNER, Math.min(this.balances[player], shortfall));
+    }
+
+    /**
+     * Throws the dice for the current player and applies the jail, doubles, movement
+     * and tile rules of a throw.
+     */
+    private void throwDice() {
+        if (this.hasRolled) {
+            return;
+        }
+        final int player = this.current;
+        final int first = this.random.nextInt(DIE_FACES) + 1;
+        final int second = this.random.nextInt(DIE_FACES) + 1;
+        final int dice = first + second;
+        final boolean isDouble = first == second;
+
+        if (this.states[player] == JAILED) {
+            if (isDouble) {
+                leaveJail(player);
+            } else if (this.jailAttempts[player] >= MAX_JAIL_ATTEMPTS) {
+                pay(player, SimulationTables.NO_OWNER, this.tables.getJailFee());
+                if (this.states[player] == BANKRUPT) {
+                    this.hasRolled = true;
+                    return;
+                }
+                leaveJail(player);
+            } else {
+                this.jailAttempts[player]++;
+                this.hasRolled = true;
+                return;
+            }
+        }
+
+        this.hasRolled = true;
+        if (isDouble) {
+            this.consecutiveDoubles++;
+            if (this.consecutiveDoubles == MAX_DOUBLES) {
+                sendToJail(player);
+                return;
+            }
+        } else {
+            this.consecutiveDoubles = 0;
+        }
+
+        moveBy(player, dice);
+        land(player, this.positions[player], dice);
+        if (isDouble && this.consecutiveDoubles < MAX_DOUBLES) {
+            this.hasRolled = false;
+        }
+    }
+
+    /**
+     * Runs the logic of the tile a player landed on.
+     */
+    private void land(final int player, final int position, final int dice) {
+        switch (this.tables.getKind(position)) {
+            case SimulationTables.START -> this.balances[player] += this.tables.getGoReward();
+            case SimulationTables.TAX -> pay(player, SimulationTables.NO_OWNER, this.tables.getTax(position));
+            case SimulationTables.GO_TO_JAIL -> goToJail(player);
+            case SimulationTables.UNEXPECTED -> drawCard(player, dice);
+            case SimulationTables.LAND, SimulationTables.STATION, SimulationTables.UTILITY -> {
+                final int owner = this.owners[position];
+                if (owner != SimulationTables.NO_OWNER && owner != player) {
+                    pay(player, owner, rent(position, dice));
+                }
+            }
+            default -> {
+                // jail and free parking have no logic
+            }
+        }
+    }
+
+    /**
+     * Draws a card for a player and applies its effect.
+     */
+    private void drawCard(final int player, final int dice) {
+        if (this.drawCount == 0) {
+            System.arraycopy(this.discardPile, 0, this.drawPile, 0, this.discardCount);
+            this.drawCount = this.discardCount;
+            this.discardCount = 0;
+            shuffleDrawPile();
+        }
+        if (this.drawCount == 0) {
+            return;
+        }
+        final int card = this.drawPile[--this.drawCount];
+        final int effect = this.tables.getCardEffect(card);
+        if (effect == SimulationTables.CARD_KEEP) {
+            this.holders[card] = player;
+        } else {
+            this.discardPile[this.discardCount++] = card;
+        }
+
+        final int from = this.positions[player];
+        switch (effect) {
+            case SimulationTables.CARD_JAIL -> goToJail(player);
+            case SimulationTables.CARD_PAY ->
+                pay(player, SimulationTables.NO_OWNER, this.tables.getCardArgument(card));
+            case SimulationTables.CARD_RECEIVE -> this.balances[player] += this.tables.getCardArgument(card);
+            case SimulationTables.CARD_MOVE_TO -> {
+                final int target = this.tables.getCardArgument(card);
+                final BoardTopology topology = this.tables.getTopology();
+                if (topology.passesGo(from, target) && topology.distance(from, target) < MAX_DICE
+                        && target != this.tables.getJailPosition()) {
+                    this.balances[player] += this.tables.getGoReward();
+                }
+                this.positions[player] = target;
+                land(player, target, dice);
+            }
+            case SimulationTables.CARD_MOVE_BY -> {
+                moveBy(player, this.tables.getCardArgument(card));
+                land(player, this.positions[player], dice);
+            }
+            case SimulationTables.CARD_NEAREST -> {
+                final BoardTopology topology = this.tables.getTopology();
+                final int target = topology.nextTileOfType(from, this.tables.getCardCategory(card));
+                if (target != BoardTopology.NO_POSITION) {
+                    if (topology.passesGo(from, target)) {
+                        this.balances[player] += this.tables.getGoReward();
+                    }
+                    this.positions[player] = target;
+                    land(player, target, dice);
+                }
+            }
+            case SimulationTables.CARD_REPAIRS -> pay(player, SimulationTables.NO_OWNER, repairs(player, card));
+            default -> {
+                // kept cards and cards without effect
+            }
+        }
+    }
+
+    /**
+     * Computes what a player pays for a repairs card: an amount per house, or per hotel.
+     */
+    private int repairs(final int player, final int card) {
+        int amount = 0;
+        for (final int position : this.tables.getProperties()) {
+            if (this.owners[position] == player && this.houses[position] > 0) {
+                amount += this.houses[position] == SimulationTables.MAX_HOUSES
+                        ? this.tables.getCardHotelArgument(card)
+                        : this.houses[position] * this.tables.getCardArgument(card);
+            }
+        }
+        return amount;
+    }
+
+    /**
+     * Moves a player by a number of steps, awarding the "Go" reward if it is passed.
+     */
+    private void moveBy(final int player, final int steps) {
+        final BoardTopology topology = this.tables.getTopology();
+        final int from = this.positions[player];
+        final int to = topology.normalize(from + steps);
+        if (topology.passesGo(from, to)) {
+            this.balances[player] += this.tables.getGoReward();
+        }
+        this.positions[player] = to;
+    }
+
+    /**
+     * Sends a player to jail, unless a "Get Out Of Jail Free" card is held.
+     */
+    private void goToJail(final int player) {
+        for (int card = 0; card < this.holders.length; card++) {
+            if (this.holders[card] == player && this.tables.isGetOutOfJailFree(card)) {
+                this.holders[card] = NO_CARD;
+                this.discardPile[this.discardCount++] = card;
+                return;
+            }
+        }
+        sendToJail(player);
+    }
+
+    private void sendToJail(final int player) {
+        this.states[player] = JAILED;
+        this.jailAttempts[player] = 0;
+        this.positions[player] = this.tables.getJailPosition();
+    }
+
+    private void leaveJail(final int player) {
+        this.states[player] = FREE;
+        this.jailAttempts[player] = 0;
+    }
+
+    /**
+     * Moves money from a player to another one or to the bank. A player who cannot
+     * pay sells assets; if they do not cover the amount, the player gives what is
+     * left to the creditor and goes bankrupt.
+     *
+     * @param payer the paying player
+     * @param payee the receiving player, or {@link SimulationTables#NO_OWNER} for the bank
+     * @param amount the amount
+     */
+    private void pay(final int payer, final int payee, final int amount) {
+        if (amount <= 0 || this.states[payer] == BANKRUPT) {
+            return;
+        }
+        if (this.balances[payer] < amount) {
+            raise(payer, amount - this.balances[payer]);
+        }
+        final int paid = Math.min(amount, this.balances[payer]);
+        this.balances[payer] -= paid;
+        if (payee != SimulationTables.NO_OWNER) {
+            this.balances[payee] += paid;
+        }
+        if (paid < amount) {
+            goBankrupt(payer);
+        }
+    }
+
+    /**
+     * Sells the assets of a player until an amount is raised: one house at a time
+     * from the most built property, so that the groups stay even, then the
+     * cheapest properties.
+     */
+    private void raise(final int player, final int amount) {
+        final int target = this.balances[player] + amount;
+        while (this.balances[player] < target) {
+            int best = NOT_FOUND;
+            for (final int position : this.tables.getProperties()) {
+                if (this.owners[position] == player && this.houses[position] > 0
+                        && (best == NOT_FOUND || this.houses[position] > this.houses[best])) {
+                    best = position;
+                }
+            }
+            if (best == NOT_FOUND) {
+                break;
+            }
+            sellHouse(player, best);
+        }
+        while (this.balances[player] < target) {
+            int cheapest = NOT_FOUND;
+            for (final int position : this.tables.getProperties()) {
+                if (this.owners[position] == player
+                        && (cheapest == NOT_FOUND || this.tables.getPrice(position) < this.tables.getPrice(cheapest))) {
+                    cheapest = position;
+                }
+            }
+            if (cheapest == NOT_FOUND) {
+                break;
+            }
+            sellProperty(player, cheapest);
+        }
+    }
+
+    private void sellHouse(final int player, final int position) {
+        this.houses[position]--;
+        this.balances[player] += this.tables.getHouseCost(position) / 2;
+    }
+
+    private void sellProperty(final int player, final int position) {
+        this.owners[position] = SimulationTables.NO_OWNER;
+        this.houses[position] = 0;
+        this.balances[player] += this.tables.getPrice(position) / 2;
+    }
+
+    /**
+     * Declares a player bankrupt, returning the properties to the bank.
+     */
+    private void goBankrupt(final int player) {
+        this.states[player] = BANKRUPT;
+        this.balances[player] = 0;
+        this.activeCount--;
+        for (final int position : this.tables.getProperties()) {
+            if (this.owners[position] == player) {
+                this.owners[position] = SimulationTables.NO_OWNER;
+                this.houses[position] = 0;
+            }
+        }
+    }
+
+    /**
+     * Passes the turn to the next player who is not bankrupt.
+     */
+    private void nextTurn() {
+        if (this.activeCount == 0) {
+            return;
+        }
+        do {
+            this.current = (this.current + 1) % this.ids.length;
+        } while (this.states[this.current] == BANKRUPT);
+        this.hasRolled = false;
+        this.consecutiveDoubles = 0;
+    }
+
+    private boolean isBuyLegal() {
+        final int position = this.positions[this.current];
+        return hasMoved() && isBuyable(position) && this.balances[this.current] >= this.tables.getPrice(position);
+    }
+
+    /**
+     * Computes the rent of an owned property, as the property controller does.
+     */
+    private int rent(final int position, final int dice) {
+        final int owner = this.owners[position];
+        final int[] members = this.tables.getGroupMembers(position);
+        return switch (this.tables.getKind(position)) {
+            case SimulationTables.LAND -> {
+                boolean monopoly = true;
+                for (final int member : members) {
+                    if (this.owners[member] != SimulationTables.NO_OWNER && this.owners[member] != owner) {
+                        monopoly = false;
+                        break;
+                    }
+                }
+                yield this.tables.getLandRent(position, this.houses[position], monopoly);
+            }
+            case SimulationTables.STATION -> this.tables.getGroupRent(position, ownedAmong(owner, members));
+            case SimulationTables.UTILITY -> dice * this.tables.getGroupRent(position, ownedAmong(owner, members));
+            default -> 0;
+        };
+    }
+
+    private int ownedAmong(final int player, final int[] members) {
+        int count = 0;
+        for (final int member : members) {
+            if (this.owners[member] == player) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int netWorth(final int player) {
+        int worth = this.balances[player];
+        for (final int position : this.tables.getProperties()) {
+            if (this.owners[position] == player) {
+                worth += this.tables.getPrice(position) + this.houses[position] * this.tables.getHouseCost(position);
+            }
+        }
+        return worth;
+    }
+
+    private void shuffleDrawPile() {
+        for (int i = this.drawCount - 1; i > 0; i--) {
+            final int j = this.random.nextInt(i + 1);
+            final int tmp = this.drawPile[i];
+            this.drawPile[i] = this.drawPile[j];
+            this.drawPile[j] = tmp;
+        }
+    }
+
+    private int indexOf(final String playerId) {
+        for (int p = 0; p < this.ids.length; p++) {
+            if (this.ids[p].equals(playerId)) {
+                return p;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCurrentPlayerId() {
+        return this.ids[this.current];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPlayerCount() {
+        return this.ids.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerId(final int index) {
+        return this.ids[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActivePlayerCount() {
+        return this.activeCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBankrupt(final String playerId) {
+        final int player = indexOf(playerId);
+        return player != NOT_FOUND && this.states[player] == BANKRUPT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canRoll() {
+        return !this.hasRolled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasMoved() {
+        return this.hasRolled || this.consecutiveDoubles > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getConsecutiveDoubles() {
+        return this.consecutiveDoubles;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The simulation keeps no incremental hash: the value is computed from the arrays.
+     */
+    @Override
+    public long getStateHash() {
+        long hash = Arrays.hashCode(this.balances);
+        hash = hash * 31 + Arrays.hashCode(this.positions);
+        hash = hash * 31 + Arrays.hashCode(this.states);
+        hash = hash * 31 + Arrays.hashCode(this.jailAttempts);
+        hash = hash * 31 + Arrays.hashCode(this.owners);
+        hash = hash * 31 + Arrays.hashCode(this.houses);
+        hash = hash * 31 + Arrays.hashCode(this.holders);
+        hash = hash * 31 + this.current;
+        hash = hash * 31 + this.consecutiveDoubles;
+        return hash * 31 + (this.hasRolled ? 1 : 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBalance(final String playerId) {
+        final int player = indexOf(playerId);
+        return player == NOT_FOUND ? 0 : this.balances[player];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNetWorth(final String playerId) {
+        final int player = indexOf(playerId);
+        return player == NOT_FOUND ? 0 : netWorth(player);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalNetWorth() {
+        long total = 0;
+        for (int p = 0; p < this.ids.length; p++) {
+            total += netWorth(p);
+        }
+        return total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPosition(final String playerId) {
+        final int player = indexOf(playerId);
+        return player == NOT_FOUND ? 0 : this.positions[player];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInJail(final String playerId) {
+        final int player = indexOf(playerId);
+        return player != NOT_FOUND && this.states[player] == JAILED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getJailAttempts(final String playerId) {
+        final int player = indexOf(playerId);
+        return player == NOT_FOUND ? 0 : this.jailAttempts[player];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getJailFee() {
+        return this.tables.getJailFee();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBoardSize() {
+        return this.tables.getBoardSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardTopology getTopology() {
+        return this.tables.getTopology();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TileType getTileType(final int position) {
+        return this.tables.getTileType(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRent(final int position, final int diceTotal) {
+        return isProperty(position) && this.owners[position] != SimulationTables.NO_OWNER
+                ? rent(position, diceTotal)
+                : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDrawableCardCount() {
+        return this.drawCount > 0 ? this.drawCount : this.discardCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getDrawableCard(final int index) {
+        Objects.checkIndex(index, getDrawableCardCount());
+        return this.tables.getCard(this.drawCount > 0 ? this.drawPile[index] : this.discardPile[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCardCount() {
+        return this.tables.getCardCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getCard(final int index) {
+        return this.tables.getCard(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasGetOutOfJailFreeCard(final String playerId) {
+        final int player = indexOf(playerId);
+        for (int card = 0; card < this.holders.length && player != NOT_FOUND; card++) {
+            if (this.holders[card] == player && this.tables.isGetOutOfJailFree(card)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isProperty(final int position) {
+        return this.tables.isProperty(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBuyable(final int position) {
+        return isProperty(position) && this.owners[position] == SimulationTables.NO_OWNER;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPrice(final int position) {
+        return isProperty(position) ? this.tables.getPrice(position) : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PropertyGroup getGroup(final int position) {
+        return isProperty(position) ? this.tables.getGroup(position) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getOwner(final int position) {
+        return isProperty(position) && this.owners[position] != SimulationTables.NO_OWNER
+                ? this.ids[this.owners[position]]
+                : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHouses(final int position) {
+        return isProperty(position) ? this.houses[position] : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getHouseCost(final int position) {
+        return this.tables.getHouseCost(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGroupSize(final PropertyGroup group) {
+        final int[] members = this.tables.getGroupPositions(group);
+        return members == null ? 0 : members.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOwnedInGroup(final String playerId, final PropertyGroup group) {
+        final int[] members = this.tables.getGroupPositions(group);
+        final int player = indexOf(playerId);
+        return members == null || player == NOT_FOUND ? 0 : ownedAmong(player, members);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOpponentOwnedInGroup(final String playerId, final PropertyGroup group) {
+        final int[] members = this.tables.getGroupPositions(group);
+        if (members == null) {
+            return 0;
+        }
+        final int player = indexOf(playerId);
+        int count = 0;
+        for (final int member : members) {
+            if (this.owners[member] != SimulationTables.NO_OWNER && this.owners[member] != player) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean canBuild(final int position) {
+        final int cost = getHouseCost(position);
+        if (!isProperty(position) || cost <= 0 || this.houses[position] >= SimulationTables.MAX_HOUSES) {
+            return false;
+        }
+        if (this.balances[this.current] < cost || this.owners[position] != this.current) {
+            return false;
+        }
+        for (final int member : this.tables.getGroupMembers(position)) {
+            if (this.owners[member] != this.current || this.houses[member] < this.houses[position]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A simulated match is not backed by a match controller, so it cannot be forked.
+     */
+    @Override
+    public MatchController fork(final Map<String, PlayerStrategy> forkStrategies, final RandomGenerator rng) {
+        throw new UnsupportedOperationException("A simulated match cannot be forked");
+    }
+}
@@ -0,0 +1,430 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.model.api.RentContext;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.BoardTopology;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.card.CardType;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.card.payload.BuildingPayload;
+import it.unibo.javapoly.model.api.card.payload.CardPayload;
+import it.unibo.javapoly.model.api.card.payload.MoneyPayload;
+import it.unibo.javapoly.model.api.card.payload.MoveRelativePayload;
+import it.unibo.javapoly.model.api.card.payload.MoveToNearestPayload;
+import it.unibo.javapoly.model.api.card.payload.MoveToPayload;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.board.tile.GoToJailTile;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.board.tile.StartTile;
+import it.unibo.javapoly.model.impl.board.tile.TaxTile;
+import it.unibo.javapoly.model.impl.board.tile.UnexpectedTile;
+import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
+import it.unibo.javapoly.model.impl.card.LandPropertyCard;
+
+/**
+ * Tables of a board that do not change during a match, shared by every
+ * {@link SimulatedMatch} played on it.
+ *
+ * <p>
+ * The tables hold what a forked match would copy on every playout although it
+ * never changes: the kind and tax of every tile, the price, house cost and group
+ * of every property, its rents for every number of houses or of properties owned
+ * in the group, and the effects of the cards of the deck reduced to an opcode and
+ * its arguments. They are read from a fork of the match once, and never written
+ * afterwards, so the playouts of every worker share them.
+ */
+final class SimulationTables {
+
+    /** Owner of the properties of the bank. */
+    static final int NO_OWNER = -1;
+    /** Highest number of houses, the hotel. */
+    static final int MAX_HOUSES = 5;
+
+    /** Tile without logic: jail, free parking. */
+    static final int PLAIN = 0;
+    /** "Go" tile, awarding the reward again when landed on. */
+    static final int START = 1;
+    /** Tax tile. */
+    static final int TAX = 2;
+    /** "Go to jail" tile. */
+    static final int GO_TO_JAIL = 3;
+    /** Unexpected tile, drawing a card. */
+    static final int UNEXPECTED = 4;
+    /** Land property, rented by houses and monopoly. */
+    static final int LAND = 5;
+    /** Station, rented by the stations owned. */
+    static final int STATION = 6;
+    /** Utility, rented by the dice and the utilities owned. */
+    static final int UTILITY = 7;
+
+    /** Card without effect. */
+    static final int CARD_NONE = 0;
+    /** Card sending the player to jail. */
+    static final int CARD_JAIL = 1;
+    /** Card kept by the player until used. */
+    static final int CARD_KEEP = 2;
+    /** Card paying an amount to the bank. */
+    static final int CARD_PAY = 3;
+    /** Card receiving an amount from the bank. */
+    static final int CARD_RECEIVE = 4;
+    /** Card moving the player to a position. */
+    static final int CARD_MOVE_TO = 5;
+    /** Card moving the player by a number of steps. */
+    static final int CARD_MOVE_BY = 6;
+    /** Card moving the player to the nearest tile of a type. */
+    static final int CARD_NEAREST = 7;
+    /** Card paying the bank for every house and hotel owned. */
+    static final int CARD_REPAIRS = 8;
+
+    private static final String BANK = "BANK";
+    private static final int MONOPOLY_ROW = MAX_HOUSES + 1;
+
+    private final BoardTopology topology;
+    private final int goReward;
+    private final int jailPosition;
+    private final int jailFee;
+    private final TileType[] tileTypes;
+    private final int[] kinds;
+    private final int[] taxes;
+    private final int[] prices;
+    private final int[] houseCosts;
+    private final PropertyGroup[] groups;
+    private final int[][] groupMembers;
+    private final int[][] rents;
+    private final int[] properties;
+    private final Map<PropertyGroup, int[]> groupPositions = new EnumMap<>(PropertyGroup.class);
+    private final Map<String, Integer> positionById = new HashMap<>();
+    private final GameCard[] cards;
+    private final Map<GameCard, Integer> cardIndex = new IdentityHashMap<>();
+    private final int[] cardEffects;
+    private final int[] cardArguments;
+    private final int[] cardHotelArguments;
+    private final TileType[] cardCategories;
+    private final boolean[] jailFreeCards;
+
+    /**
+     * Reads the tables of the board of a match.
+     *
+     * @param state the view of the match; its board is read from a fork, its cards from the view
+     */
+    SimulationTables(final GameStateView state) {
+        this.topology = state.getTopology();
+        this.goReward = this.topology.getGoReward();
+        this.jailPosition = this.topology.getJailPosition();
+        this.jailFee = state.getJailFee();
+
+        final Board board = state.fork(Map.of(), ThreadLocalRandom.current()).getBoard();
+        final int size = board.size();
+        this.tileTypes = new TileType[size];
+        this.kinds = new int[size];
+        this.taxes = new int[size];
+        this.prices = new int[size];
+        this.houseCosts = new int[size];
+        this.groups = new PropertyGroup[size];
+        this.groupMembers = new int[size][];
+        this.rents = new int[size][];
+        final Map<PropertyGroup, Integer> groupSizes = new EnumMap<>(PropertyGroup.class);
+        int propertyCount = 0;
+        for (int i = 0; i < size; i++) {
+            final Tile tile = board.getTileAt(i);
+            this.tileTypes[i] = tile.getType();
+            this.kinds[i] = kindOf(tile);
+            if (tile instanceof TaxTile tax) {
+                this.taxes[i] = tax.getAmountTax();
+            } else if (tile instanceof PropertyTile pt) {
+                final Property property = pt.getProperty();
+                this.prices[i] = property.getPurchasePrice();
+                this.houseCosts[i] = property.getCard() instanceof LandPropertyCard land ? land.getHouseCost() : 0;
+                this.groups[i] = property.getPropertyGroup();
+                this.positionById.put(property.getId(), i);
+                groupSizes.merge(property.getPropertyGroup(), 1, Integer::sum);
+                propertyCount++;
+            }
+        }
+
+        this.properties = new int[propertyCount];
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (this.groups[i] != null) {
+                this.properties[next++] = i;
+            }
+        }
+        for (final Map.Entry<PropertyGroup, Integer> entry : groupSizes.entrySet()) {
+            final int[] positions = new int[entry.getValue()];
+            int member = 0;
+            for (final int position : this.properties) {
+                if (this.groups[position] == entry.getKey()) {
+                    positions[member++] = position;
+                }
+            }
+            this.groupPositions.put(entry.getKey(), positions);
+        }
+        for (final int position : this.properties) {
+            this.groupMembers[position] = this.groupPositions.get(this.groups[position]);
+            final PropertyTile tile = (PropertyTile) board.getTileAt(position);
+            this.rents[position] = rentsOf(tile.getProperty().getCard(), this.kinds[position],
+                    this.groupMembers[position].length);
+        }
+
+        final int cardCount = state.getCardCount();
+        this.cards = new GameCard[cardCount];
+        this.cardEffects = new int[cardCount];
+        this.cardArguments = new int[cardCount];
+        this.cardHotelArguments = new int[cardCount];
+        this.cardCategories = new TileType[cardCount];
+        this.jailFreeCards = new boolean[cardCount];
+        for (int i = 0; i < cardCount; i++) {
+            final GameCard card = state.getCard(i);
+            this.cards[i] = card;
+            this.cardIndex.put(card, i);
+            this.jailFreeCards[i] = card.getType() == CardType.GET_OUT_OF_JAIL_FREE;
+            readEffect(i, card);
+        }
+    }
+
+    /**
+     * Checks if the tables were read from a board.
+     *
+     * @param boardTopology the topology of the board
+     * @return true if the tables belong to the board
+     */
+    boolean isFor(final BoardTopology boardTopology) {
+        return this.topology == boardTopology;
+    }
+
+    BoardTopology getTopology() {
+        return this.topology;
+    }
+
+    int getBoardSize() {
+        return this.kinds.length;
+    }
+
+    int getGoReward() {
+        return this.goReward;
+    }
+
+    int getJailPosition() {
+        return this.jailPosition;
+    }
+
+    int getJailFee() {
+        return this.jailFee;
+    }
+
+    TileType getTileType(final int position) {
+        return this.tileTypes[position];
+    }
+
+    int getKind(final int position) {
+        return this.kinds[position];
+    }
+
+    int getTax(final int position) {
+        return this.taxes[position];
+    }
+
+    boolean isProperty(final int position) {
+        return position >= 0 && position < this.groups.length && this.groups[position] != null;
+    }
+
+    /**
+     * Returns the positions of the properties, in board order.
+     *
+     * @return the positions, shared: not to be modified
+     */
+    int[] getProperties() {
+        return this.properties;
+    }
+
+    int getPrice(final int position) {
+        return this.prices[position];
+    }
+
+    int getHouseCost(final int position) {
+        return position >= 0 && position < this.houseCosts.length ? this.houseCosts[position] : 0;
+    }
+
+    PropertyGroup getGroup(final int position) {
+        return this.groups[position];
+    }
+
+    /**
+     * Returns the positions of the properties of the group of a property.
+     *
+     * @param position the position of the property
+     * @return the positions, shared: not to be modified
+     */
+    int[] getGroupMembers(final int position) {
+        return this.groupMembers[position];
+    }
+
+    /**
+     * Returns the positions of the properties of a group.
+     *
+     * @param group the group
+     * @return the positions, shared: not to be modified; null if the board has no such group
+     */
+    int[] getGroupPositions(final PropertyGroup group) {
+        return this.groupPositions.get(group);
+    }
+
+    /**
+     * Returns the position of a property.
+     *
+     * @param propertyId the property ID
+     * @return the position, or {@link BoardTopology#NO_POSITION} if the board has no such property
+     */
+    int getPosition(final String propertyId) {
+        return this.positionById.getOrDefault(propertyId, BoardTopology.NO_POSITION);
+    }
+
+    /**
+     * Returns the rent of a land.
+     *
+     * @param position the position of the land
+     * @param houses the houses built on it
+     * @param monopoly true if no other player owns a land of its group
+     * @return the rent
+     */
+    int getLandRent(final int position, final int houses, final boolean monopoly) {
+        return this.rents[position][monopoly ? MONOPOLY_ROW + houses : houses];
+    }
+
+    /**
+     * Returns the rent of a station, or the multiplier of the dice of a utility.
+     *
+     * @param position the position of the property
+     * @param owned the properties of the group owned by the owner, at least one
+     * @return the rent or the multiplier
+     */
+    int getGroupRent(final int position, final int owned) {
+        return this.rents[position][owned];
+    }
+
+    int getCardCount() {
+        return this.cards.length;
+    }
+
+    GameCard getCard(final int index) {
+        return this.cards[index];
+    }
+
+    /**
+     * Returns the index of a card of the deck.
+     *
+     * @param card the card
+     * @return the index, or -1 if the card is not in the deck
+     */
+    int indexOf(final GameCard card) {
+        return this.cardIndex.getOrDefault(card, -1);
+    }
+
+    int getCardEffect(final int card) {
+        return this.cardEffects[card];
+    }
+
+    /**
+     * Returns the argument of the effect of a card: the amount, the target
+     * position, the steps, or the amount per house.
+     *
+     * @param card the index of the card
+     * @return the argument
+     */
+    int getCardArgument(final int card) {
+        return this.cardArguments[card];
+    }
+
+    int getCardHotelArgument(final int card) {
+        return this.cardHotelArguments[card];
+    }
+
+    TileType getCardCategory(final int card) {
+        return this.cardCategories[card];
+    }
+
+    boolean isGetOutOfJailFree(final int card) {
+        return this.jailFreeCards[card];
+    }
+
+    private static int kindOf(final Tile tile) {
+        if (tile instanceof StartTile) {
+            return START;
+        } else if (tile instanceof TaxTile) {
+            return TAX;
+        } else if (tile instanceof GoToJailTile) {
+            return GO_TO_JAIL;
+        } else if (tile instanceof UnexpectedTile) {
+            return UNEXPECTED;
+        } else if (tile instanceof PropertyTile pt) {
+            return switch (pt.getProperty().getPropertyGroup()) {
+                case RAILROAD -> STATION;
+                case UTILITY -> UTILITY;
+                default -> LAND;
+            };
+        }
+        return PLAIN;
+    }
+
+    /**
+     * Computes the rents of a property with its card, as the property controller does.
+     * A land has one row for every number of houses, then the same row with the monopoly;
+     * a station or a utility has one entry for every number of properties of the group owned.
+     */
+    private static int[] rentsOf(final AbstractPropertyCard card, final int kind, final int groupSize) {
+        if (kind == LAND) {
+            final int[] row = new int[2 * MONOPOLY_ROW];
+            for (int houses = 0; houses <= MAX_HOUSES; houses++) {
+                row[houses] = card.calculateRent(RentContext.forLand(houses, false));
+                row[MONOPOLY_ROW + houses] = card.calculateRent(RentContext.forLand(houses, true));
+            }
+            return row;
+        }
+        final int[] row = new int[groupSize + 1];
+        for (int owned = 1; owned <= groupSize; owned++) {
+            row[owned] = kind == STATION
+                    ? card.calculateRent(RentContext.forStation(owned))
+                    : card.calculateRent(RentContext.forUtilities(1, owned));
+        }
+        return row;
+    }
+
+    /**
+     * Reduces the effect of a card to an opcode, following the default effects of the card controller.
+     */
+    private void readEffect(final int index, final GameCard card) {
+        final CardPayload payload = card.getPayload();
+        if (card.getType() == CardType.GO_TO_JAIL) {
+            this.cardEffects[index] = CARD_JAIL;
+        } else if (card.isKeepUntilUsed()) {
+            this.cardEffects[index] = CARD_KEEP;
+        } else if (payload instanceof MoneyPayload money) {
+            this.cardEffects[index] = BANK.equals(money.getReceiverMoney()) ? CARD_PAY : CARD_RECEIVE;
+            this.cardArguments[index] = money.getAmount();
+        } else if (payload instanceof MoveToPayload move) {
+            this.cardEffects[index] = CARD_MOVE_TO;
+            this.cardArguments[index] = move.getTargetPosition();
+        } else if (payload instanceof MoveRelativePayload move) {
+            this.cardEffects[index] = CARD_MOVE_BY;
+            this.cardArguments[index] = move.getDelta();
+        } else if (payload instanceof MoveToNearestPayload move) {
+            this.cardEffects[index] = CARD_NEAREST;
+            this.cardCategories[index] = move.getCategory();
+        } else if (payload instanceof BuildingPayload building) {
+            this.cardEffects[index] = CARD_REPAIRS;
+            this.cardArguments[index] = building.getMoltiplierHouse();
+            this.cardHotelArguments[index] = building.getMoltiplierHotel();
+        } else {
+            this.cardEffects[index] = CARD_NONE;
+        }
+    }
+}
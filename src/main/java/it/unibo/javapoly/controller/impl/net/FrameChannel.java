@@ -0,0 +1,123 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Length-prefixed frames over a socket, see {@link Protocol}.
+ *
+ * <p>
+ * Frames are read by a single thread into a reused buffer. Frames can be
+ * written by any thread: writes are serialized by a lock (not a monitor, so a
+ * blocked virtual thread does not pin its carrier) and encoded into a reused buffer.
+ * A frame longer than {@link Protocol#MAX_FRAME} is refused before anything is sent,
+ * so the stream stays usable.
+ */
+final class FrameChannel implements Closeable {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final OutputStream out;
+    private final ByteBuffer input = ByteBuffer.allocate(Protocol.MAX_FRAME);
+    private final ByteBuffer output = ByteBuffer.allocate(Protocol.HEADER + Protocol.MAX_FRAME);
+    private final Lock writeLock = new ReentrantLock();
+
+    /**
+     * Constructor to create an instance of FrameChannel.
+     *
+     * @param socket the connected socket
+     * @throws IOException if the streams of the socket cannot be opened
+     */
+    FrameChannel(final Socket socket) throws IOException {
+        this.socket = socket;
+        this.socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new BufferedOutputStream(socket.getOutputStream());
+    }
+
+    /**
+     * Reads the next frame.
+     *
+     * @return the frame buffer, positioned at the opcode and valid until the next read,
+     *     or null at the end of the stream
+     * @throws IOException if the frame cannot be read or is too long
+     */
+    ByteBuffer read() throws IOException {
+        final int length;
+        try {
+            length = this.in.readInt();
+        } catch (final EOFException e) {
+            return null;
+        }
+        if (length <= 0 || length > Protocol.MAX_FRAME) {
+            throw new IOException("Invalid frame length " + length);
+        }
+        this.in.readFully(this.input.array(), 0, length);
+        return this.input.clear().limit(length);
+    }
+
+    /**
+     * Encodes and sends a frame.
+     *
+     * @param opcode the opcode
+     * @param body the writer of the body of the frame
+     * @throws IOException if the frame is too long or cannot be sent
+     */
+    void write(final byte opcode, final Consumer<ByteBuffer> body) throws IOException {
+        this.writeLock.lock();
+        try {
+            this.output.clear().position(Protocol.HEADER);
+            this.output.put(opcode);
+            try {
+                body.accept(this.output);
+            } catch (final BufferOverflowException e) {
+                throw new IOException("Frame longer than " + Protocol.MAX_FRAME + " bytes", e);
+            }
+            this.output.putInt(0, this.output.position() - Protocol.HEADER);
+            this.out.write(this.output.array(), 0, this.output.position());
+            this.out.flush();
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sends an already encoded frame.
+     *
+     * @param frame the frame, length included
+     * @throws IOException if the frame is too long or cannot be sent
+     */
+    void write(final byte[] frame) throws IOException {
+        if (frame.length - Protocol.HEADER > Protocol.MAX_FRAME) {
+            throw new IOException("Frame longer than " + Protocol.MAX_FRAME + " bytes");
+        }
+        this.writeLock.lock();
+        try {
+            this.out.write(frame);
+            this.out.flush();
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Closes the socket.
+     *
+     * @throws IOException if the socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+    }
+}
@@ -0,0 +1,160 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+import it.unibo.javapoly.controller.api.net.GameClient;
+
+/**
+ * Implementation of {@link GameClient} over a socket, with a virtual thread reading the answers
+ * and applying the deltas of the state to the last snapshot received.
+ */
+public final class GameClientImpl implements GameClient {
+
+    private static final Logger LOGGER = Logger.getLogger(GameClientImpl.class.getName());
+
+    private final FrameChannel channel;
+    private final Map<Integer, CompletableFuture<Object>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger nextRequest = new AtomicInteger();
+    private volatile Consumer<MatchSnapshot> stateListener = state -> { };
+    private volatile MatchSnapshot lastState;
+    private volatile String playerId;
+
+    /**
+     * Connects to a server.
+     *
+     * @param host the host of the server
+     * @param port the port of the server
+     * @throws IOException if the connection fails
+     */
+    public GameClientImpl(final String host, final int port) throws IOException {
+        this.channel = new FrameChannel(new Socket(host, port));
+        Thread.ofVirtual().name("client-reader").start(this::readAnswers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> join(final String matchId, final String player) {
+        Objects.requireNonNull(matchId, "matchId must not be null");
+        Objects.requireNonNull(player, "player must not be null");
+        return request(Protocol.JOIN, buffer -> {
+            Protocol.writeString(buffer, matchId);
+            Protocol.writeString(buffer, player);
+        }).thenRun(() -> this.playerId = player);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<R> send(final MatchCommand<R> command) {
+        if (!command.getPlayerId().equals(this.playerId)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException(command + " rejected: the client plays as " + this.playerId));
+        }
+        final byte opcode = Protocol.opcode(command);
+        return request(opcode, buffer -> Protocol.writeCommand(buffer, command)).thenApply(result -> (R) result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setStateListener(final Consumer<MatchSnapshot> listener) {
+        this.stateListener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MatchSnapshot getLastState() {
+        return this.lastState;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private CompletableFuture<Object> request(final byte opcode, final Consumer<ByteBuffer> body) {
+        final int requestId = this.nextRequest.incrementAndGet();
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        this.pending.put(requestId, future);
+        try {
+            this.channel.write(opcode, buffer -> body.accept(buffer.putInt(requestId)));
+        } catch (final IOException e) {
+            this.pending.remove(requestId);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void readAnswers() {
+        IOException failure = new IOException("Connection closed");
+        try {
+            ByteBuffer frame = this.channel.read();
+            while (frame != null) {
+                handle(frame);
+                frame = this.channel.read();
+            }
+        } catch (final IOException e) {
+            failure = e;
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            failure = new IOException("Malformed frame", e);
+            LOGGER.log(Level.WARNING, "Malformed frame from the server", e);
+        }
+        for (final CompletableFuture<Object> future : this.pending.values()) {
+            future.completeExceptionally(failure);
+        }
+        this.pending.clear();
+    }
+
+    private void update(final MatchSnapshot state) {
+        if (state != null) {
+            this.lastState = state;
+            this.stateListener.accept(state);
+        }
+    }
+
+    private void handle(final ByteBuffer frame) {
+        final byte opcode = frame.get();
+        switch (opcode) {
+            case Protocol.RESULT -> {
+                final CompletableFuture<Object> future = this.pending.remove(frame.getInt());
+                final Object value = Protocol.readValue(frame);
+                if (future != null) {
+                    future.complete(value);
+                }
+            }
+            case Protocol.ERROR -> {
+                final CompletableFuture<Object> future = this.pending.remove(frame.getInt());
+                final String message = Protocol.readString(frame);
+                if (future != null) {
+                    future.completeExceptionally(new IllegalStateException(message));
+                }
+            }
+            case Protocol.KEYFRAME -> update(SnapshotCodec.readKeyframe(frame));
+            case Protocol.DELTA -> update(SnapshotCodec.readDelta(frame, this.lastState));
+            default -> throw new IllegalArgumentException("Unknown opcode " + opcode);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.MatchHandle;
+import it.unibo.javapoly.controller.api.MatchRegistry;
+import it.unibo.javapoly.controller.api.command.BotTurnCommand;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+import it.unibo.javapoly.controller.api.net.GameServer;
+
+/**
+ * Implementation of {@link GameServer} with a virtual thread per connection.
+ *
+ * <p>
+ * The thread of a connection only decodes the requests and submits them to
+ * the executor of the match, so apart from joining it never waits for the match;
+ * the answers are sent when the commands complete. The answers are queued and written
+ * by a sender thread of the connection, so a client that stops reading never blocks the
+ * writer of the match. A connection has at most {@value #MAX_IN_FLIGHT} requests not
+ * answered yet: beyond that its thread stops reading, and the client is slowed down by
+ * TCP flow control. After every change the state of the match
+ * is published to its clients as a delta, see {@link SnapshotFeed}. The feed of a
+ * match exists only while the match has subscribers and is still hosted.
+ * When the turn passes to a bot, the server plays it.
+ */
+public final class GameServerImpl implements GameServer {
+
+    private static final Logger LOGGER = Logger.getLogger(GameServerImpl.class.getName());
+    private static final int MAX_IN_FLIGHT = 1024;
+
+    private final MatchRegistry registry;
+    private final InetAddress address;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final Map<String, SnapshotFeed> feeds = new ConcurrentHashMap<>();
+    private ServerSocket serverSocket;
+
+    /**
+     * Creates a server listening on all the interfaces.
+     *
+     * @param registry the matches to serve
+     */
+    public GameServerImpl(final MatchRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * Creates a server.
+     *
+     * @param registry the matches to serve
+     * @param address the address to listen on, null for all the interfaces
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The registry is shared with the code creating the matches"
+    )
+    public GameServerImpl(final MatchRegistry registry, final InetAddress address) {
+        this.registry = Objects.requireNonNull(registry);
+        this.address = address;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int start(final int port) throws IOException {
+        if (this.serverSocket != null) {
+            throw new IllegalStateException("The server is already started");
+        }
+        this.serverSocket = new ServerSocket(port, 0, this.address);
+        final ServerSocket socket = this.serverSocket;
+        Thread.ofVirtual().name("server-accept").start(() -> accept(socket));
+        return socket.getLocalPort();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getConnectionCount() {
+        return this.connections.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.serverSocket != null) {
+            this.serverSocket.close();
+        }
+        for (final Connection connection : this.connections) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Returns the number of matches with a feed, that is with subscribers.
+     *
+     * @return the number of feeds
+     */
+    int getFeedCount() {
+        return this.feeds.size();
+    }
+
+    private void accept(final ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                final Socket client = socket.accept();
+                final Connection connection = new Connection(new FrameChannel(client));
+                this.connections.add(connection);
+                Thread.ofVirtual().name("server-connection").start(connection::serve);
+            } catch (final SocketException e) {
+                LOGGER.log(Level.FINE, "Server socket closed", e);
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to accept a client", e);
+            }
+        }
+    }
+
+    /**
+     * Sends the current state of a match to all its clients, once the commands already submitted are applied.
+     *
+     * @param match the match
+     */
+    private void publishState(final MatchHandle match) {
+        final SnapshotFeed feed = this.feeds.get(match.getMatchId());
+        if (feed == null) {
+            return;
+        }
+        match.query(m -> {
+            feed.publish(m.getSnapshot());
+            return null;
+        });
+    }
+
+    /**
+     * Subscribes a connection to the feed of a match, creating the feed if needed.
+     *
+     * @param matchId the ID of the match
+     * @param sink the receiver of the frames
+     * @return the handle to unsubscribe, which removes the feed with its last subscriber
+     */
+    private Runnable subscribe(final String matchId, final SnapshotFeed.Sink sink) {
+        final Runnable[] unsubscribe = new Runnable[1];
+        this.feeds.compute(matchId, (k, feed) -> {
+            final SnapshotFeed subscribed = feed == null ? new SnapshotFeed() : feed;
+            unsubscribe[0] = subscribed.subscribe(sink);
+            return subscribed;
+        });
+        return () -> this.feeds.computeIfPresent(matchId, (k, feed) -> {
+            unsubscribe[0].run();
+            return feed.getSubscriberCount() == 0 ? null : feed;
+        });
+    }
+
+    /**
+     * Plays the turns of the bots until a remote player has to play.
+     *
+     * @param match the match
+     */
+    private void playBots(final MatchHandle match) {
+        match
+                .query(m -> m.isGameOver() || m.getStrategy(m.getCurrentPlayer().getName()) == null
+                        ? null
+                        : m.getCurrentPlayer().getName())
+                .thenAccept(bot -> {
+                    if (bot != null) {
+                        match.submit(new BotTurnCommand(bot)).thenRun(() -> {
+                            publishState(match);
+                            playBots(match);
+                        });
+                    }
+                });
+    }
+
+    /**
+     * Connection of a client, joined to at most one match as one player.
+     */
+    private final class Connection {
+
+        private final FrameChannel channel;
+        private final BlockingQueue<Runnable> outbox = new ArrayBlockingQueue<>(MAX_IN_FLIGHT);
+        private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private String matchId;
+        private String playerId;
+        private Runnable unsubscribe;
+
+        private Connection(final FrameChannel channel) {
+            this.channel = channel;
+        }
+
+        private void serve() {
+            try {
+                ByteBuffer frame = this.channel.read();
+                while (frame != null) {
+                    handle(frame);
+                    frame = this.channel.read();
+                }
+            } catch (final IOException | BufferUnderflowException | IllegalArgumentException e) {
+                LOGGER.log(Level.FINE, "Client disconnected", e);
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Handles a request, which is answered exactly once, waiting first until
+         * fewer than {@value #MAX_IN_FLIGHT} requests of the connection are unanswered.
+         */
+        private void handle(final ByteBuffer frame) {
+            this.inFlight.acquireUninterruptibly();
+            final byte opcode = frame.get();
+            final int requestId = frame.getInt();
+            if (opcode == Protocol.JOIN) {
+                join(requestId, Protocol.readString(frame), Protocol.readString(frame));
+                return;
+            }
+            if (this.matchId == null) {
+                sendError(requestId, "Join a match first");
+                return;
+            }
+            final MatchCommand<?> command = Protocol.readCommand(opcode, frame, this.playerId);
+            if (command == null) {
+                throw new IllegalArgumentException("Unknown opcode " + opcode);
+            }
+            final String match = this.matchId;
+            GameServerImpl.this.registry.submit(match, command).whenComplete((result, error) -> {
+                if (error == null) {
+                    sendResult(requestId, result);
+                } else {
+                    sendError(requestId, error.getMessage());
+                }
+                GameServerImpl.this.registry.find(match).ifPresentOrElse(m -> {
+                    if (error == null) {
+                        publishState(m);
+                        playBots(m);
+                    }
+                }, () -> GameServerImpl.this.feeds.remove(match));
+            });
+        }
+
+        private void join(final int requestId, final String match, final String player) {
+            final MatchHandle handle = GameServerImpl.this.registry.find(match).orElse(null);
+            if (this.matchId != null) {
+                sendError(requestId, "Already joined " + this.matchId);
+            } else if (handle == null) {
+                sendError(requestId, "Unknown match " + match);
+            } else if (!isRemotePlayer(handle, player)) {
+                sendError(requestId, player + " is not a remote player of " + match);
+            } else {
+                this.matchId = match;
+                this.playerId = player;
+                this.unsubscribe = subscribe(match, this.channel::write);
+                sendResult(requestId, null);
+                publishState(handle);
+                playBots(handle);
+            }
+        }
+
+        /**
+         * Checks on the executor of the match that a player is not played by a bot. The only
+         * request that waits for the match, so that the requests following a join see it.
+         */
+        private boolean isRemotePlayer(final MatchHandle match, final String player) {
+            try {
+                return match.query(m -> m.getPlayers().stream().anyMatch(p -> p.getName().equals(player))
+                        && m.getStrategy(player) == null).join();
+            } catch (final CompletionException | CancellationException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Queues the answer of a request; never blocks, so it can be called by the writer of the match.
+         */
+        private void sendResult(final int requestId, final Object result) {
+            post(() -> writeResult(requestId, result));
+        }
+
+        /**
+         * Queues the error of a request; never blocks, so it can be called by the writer of the match.
+         */
+        private void sendError(final int requestId, final String message) {
+            post(() -> writeError(requestId, message));
+        }
+
+        /**
+         * Queues a write for the sender thread of the connection, starting it if idle.
+         * Every queued answer holds a permit of the unanswered requests, so the queue
+         * is never full; the connection is closed if it is anyway.
+         */
+        private void post(final Runnable write) {
+            if (!this.outbox.offer(write)) {
+                LOGGER.warning("Answers queue of a connection full, closing it");
+                close();
+                return;
+            }
+            if (this.sending.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("server-sender").start(this::drainOutbox);
+            }
+        }
+
+        private void drainOutbox() {
+            do {
+                Runnable write = this.outbox.poll();
+                while (write != null) {
+                    try {
+                        write.run();
+                    } finally {
+                        this.inFlight.release();
+                    }
+                    write = this.outbox.poll();
+                }
+                this.sending.set(false);
+            } while (!this.outbox.isEmpty() && this.sending.compareAndSet(false, true));
+        }
+
+        private void writeResult(final int requestId, final Object result) {
+            try {
+                this.channel.write(Protocol.RESULT, buffer -> Protocol.writeValue(buffer.putInt(requestId), result));
+            } catch (final IOException e) {
+                writeError(requestId, "Result not sent: " + e.getMessage());
+            }
+        }
+
+        private void writeError(final int requestId, final String message) {
+            try {
+                this.channel.write(Protocol.ERROR, buffer -> Protocol.writeString(buffer.putInt(requestId),
+                        Objects.requireNonNullElse(message, "Rejected")));
+            } catch (final IOException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (GameServerImpl.this.connections.remove(this)) {
+                if (this.unsubscribe != null) {
+                    this.unsubscribe.run();
+                }
+                try {
+                    this.channel.close();
+                } catch (final IOException e) {
+                    LOGGER.log(Level.FINE, "Failed to close a connection", e);
+                }
+            }
+        }
+    }
+}
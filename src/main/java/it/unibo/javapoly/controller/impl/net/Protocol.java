@@ -0,0 +1,164 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import it.unibo.javapoly.controller.api.command.BuildCommand;
+import it.unibo.javapoly.controller.api.command.BuyCommand;
+import it.unibo.javapoly.controller.api.command.EndTurnCommand;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+import it.unibo.javapoly.controller.api.command.PayJailFeeCommand;
+import it.unibo.javapoly.controller.api.command.RollCommand;
+
+/**
+ * Binary protocol between {@link GameServerImpl} and {@link GameClientImpl}.
+ *
+ * <p>
+ * Every frame is a big-endian int with the length of the rest of the frame,
+ * an opcode byte and the body of the opcode. Requests carry an int request ID,
+ * echoed by their answer; the player of a command is not sent, since it is the
+ * player the connection joined as. Strings are a short length followed by UTF-8 bytes.
+ * <pre>
+ * JOIN      requestId matchId playerId
+ * ROLL, BUY, PAY_JAIL_FEE, END_TURN  requestId
+ * BUILD     requestId position
+ * RESULT    requestId tag value      (tag: NULL, INT, BOOLEAN, STRING)
+ * ERROR     requestId message
+ * KEYFRAME  snapshot                 (see SnapshotCodec)
+ * DELTA     changes from the previous snapshot of the connection
+ * </pre>
+ */
+final class Protocol {
+
+    /** Maximum length of a frame, opcode included. */
+    static final int MAX_FRAME = 1 << 16;
+    /** Length of the frame length prefix. */
+    static final int HEADER = Integer.BYTES;
+
+    static final byte JOIN = 1;
+    static final byte ROLL = 2;
+    static final byte BUY = 3;
+    static final byte BUILD = 4;
+    static final byte PAY_JAIL_FEE = 5;
+    static final byte END_TURN = 6;
+    static final byte RESULT = 64;
+    static final byte ERROR = 65;
+    static final byte KEYFRAME = 66;
+    static final byte DELTA = 67;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_INT = 1;
+    private static final byte TAG_BOOLEAN = 2;
+    private static final byte TAG_STRING = 3;
+
+    private Protocol() {
+    }
+
+    /**
+     * Returns the opcode of a command.
+     *
+     * @param command the command
+     * @return the opcode
+     * @throws IllegalArgumentException if the command cannot be sent by a client
+     */
+    static byte opcode(final MatchCommand<?> command) {
+        return switch (command) {
+            case RollCommand roll -> ROLL;
+            case BuyCommand buy -> BUY;
+            case BuildCommand build -> BUILD;
+            case PayJailFeeCommand pay -> PAY_JAIL_FEE;
+            case EndTurnCommand end -> END_TURN;
+            default -> throw new IllegalArgumentException(command + " cannot be sent by a client");
+        };
+    }
+
+    /**
+     * Writes the body of a command after its request ID.
+     *
+     * @param buffer the frame buffer
+     * @param command the command
+     */
+    static void writeCommand(final ByteBuffer buffer, final MatchCommand<?> command) {
+        if (command instanceof BuildCommand build) {
+            buffer.putInt(build.getPosition());
+        }
+    }
+
+    /**
+     * Reads the body of a command.
+     *
+     * @param opcode the opcode of the command
+     * @param buffer the frame buffer, positioned after the request ID
+     * @param playerId the player of the connection
+     * @return the command, or null if the opcode is not a command
+     */
+    static MatchCommand<?> readCommand(final byte opcode, final ByteBuffer buffer, final String playerId) {
+        return switch (opcode) {
+            case ROLL -> new RollCommand(playerId);
+            case BUY -> new BuyCommand(playerId);
+            case BUILD -> new BuildCommand(playerId, buffer.getInt());
+            case PAY_JAIL_FEE -> new PayJailFeeCommand(playerId);
+            case END_TURN -> new EndTurnCommand(playerId);
+            default -> null;
+        };
+    }
+
+    /**
+     * Writes the result of a command.
+     *
+     * @param buffer the frame buffer
+     * @param value the result: null, an Integer, a Boolean or a String
+     */
+    static void writeValue(final ByteBuffer buffer, final Object value) {
+        switch (value) {
+            case null -> buffer.put(TAG_NULL);
+            case Integer i -> buffer.put(TAG_INT).putInt(i);
+            case Boolean b -> buffer.put(TAG_BOOLEAN).put((byte) (b ? 1 : 0));
+            default -> writeString(buffer.put(TAG_STRING), value.toString());
+        }
+    }
+
+    /**
+     * Reads the result of a command.
+     *
+     * @param buffer the frame buffer
+     * @return the result
+     */
+    static Object readValue(final ByteBuffer buffer) {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_INT -> buffer.getInt();
+            case TAG_BOOLEAN -> buffer.get() != 0;
+            case TAG_STRING -> readString(buffer);
+            default -> throw new IllegalArgumentException("Unknown value tag " + tag);
+        };
+    }
+
+    /**
+     * Writes a string.
+     *
+     * @param buffer the frame buffer
+     * @param value the string
+     */
+    static void writeString(final ByteBuffer buffer, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @param buffer the frame buffer
+     * @return the string
+     * @throws BufferUnderflowException if the frame is truncated
+     */
+    static String readString(final ByteBuffer buffer) {
+        final int length = Short.toUnsignedInt(buffer.getShort());
+        final String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,242 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+
+/**
+ * Binary encoding of {@link MatchSnapshot}s, as keyframes or as deltas.
+ *
+ * <p>
+ * A keyframe holds the whole snapshot. A delta holds the version it applies to,
+ * the new version and hash, then only the changed fields, each as a kind byte,
+ * the index of the player or tile and the new value, until an {@code END} byte.
+ * Integers are varints (balances as zigzag differences), so a typical turn,
+ * where a player moves and pays a rent, takes a few tens of bytes.
+ */
+final class SnapshotCodec {
+
+    private static final byte END = 0;
+    private static final byte CURRENT = 1;
+    private static final byte POSITION = 2;
+    private static final byte BALANCE = 3;
+    private static final byte FLAGS = 4;
+    private static final byte OWNER = 5;
+    private static final byte HOUSES = 6;
+
+    private static final int VARINT_BYTES = 5;
+    private static final int VARLONG_BYTES = 10;
+    private static final int VARINT_SHIFT = 7;
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_MORE = 0x80;
+    private static final int UTF8_MAX_BYTES = 3;
+    private static final int ENTRY_BYTES = 1 + 2 * VARINT_BYTES;
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * Encodes a whole keyframe frame, length included.
+     *
+     * @param opcode the opcode of the frame
+     * @param snapshot the snapshot
+     * @return the frame
+     */
+    static byte[] keyframe(final byte opcode, final MatchSnapshot snapshot) {
+        int bound = Protocol.HEADER + 1 + VARLONG_BYTES + Long.BYTES + 3 * VARINT_BYTES;
+        for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+            bound += Short.BYTES + UTF8_MAX_BYTES * snapshot.getPlayerId(i).length() + 3 * VARINT_BYTES + 1;
+        }
+        bound += 2 * VARINT_BYTES * snapshot.getTileCount();
+        final ByteBuffer buffer = ByteBuffer.allocate(bound).position(Protocol.HEADER).put(opcode);
+        putVarLong(buffer, snapshot.getVersion());
+        buffer.putLong(snapshot.getStateHash());
+        putVarInt(buffer, snapshot.getCurrentPlayerIndex());
+        putVarInt(buffer, snapshot.getPlayerCount());
+        for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+            Protocol.writeString(buffer, snapshot.getPlayerId(i));
+            putVarInt(buffer, snapshot.getPosition(i));
+            putVarInt(buffer, zigzag(snapshot.getBalance(i)));
+            buffer.put((byte) snapshot.getFlags(i));
+        }
+        putVarInt(buffer, snapshot.getTileCount());
+        for (int tile = 0; tile < snapshot.getTileCount(); tile++) {
+            putVarInt(buffer, snapshot.getOwnerIndex(tile) + 1);
+            putVarInt(buffer, snapshot.getHouses(tile));
+        }
+        return toFrame(buffer);
+    }
+
+    /**
+     * Decodes the body of a keyframe.
+     *
+     * @param buffer the frame, positioned after the opcode
+     * @return the snapshot
+     */
+    static MatchSnapshot readKeyframe(final ByteBuffer buffer) {
+        final long version = getVarLong(buffer);
+        final long hash = buffer.getLong();
+        final int current = getVarInt(buffer);
+        final int players = getVarInt(buffer);
+        final String[] ids = new String[players];
+        final int[] positions = new int[players];
+        final int[] balances = new int[players];
+        final int[] flags = new int[players];
+        for (int i = 0; i < players; i++) {
+            ids[i] = Protocol.readString(buffer);
+            positions[i] = getVarInt(buffer);
+            balances[i] = unzigzag(getVarInt(buffer));
+            flags[i] = buffer.get();
+        }
+        final int tiles = getVarInt(buffer);
+        final int[] owners = new int[tiles];
+        final int[] houses = new int[tiles];
+        for (int tile = 0; tile < tiles; tile++) {
+            owners[tile] = getVarInt(buffer) - 1;
+            houses[tile] = getVarInt(buffer);
+        }
+        return new MatchSnapshot(version, hash, current, ids, positions, balances, flags, owners, houses);
+    }
+
+    /**
+     * Encodes a whole delta frame, length included. The two snapshots must have the same players and tiles.
+     *
+     * @param opcode the opcode of the frame
+     * @param base the snapshot the receiver has
+     * @param next the snapshot to send
+     * @return the frame
+     */
+    static byte[] delta(final byte opcode, final MatchSnapshot base, final MatchSnapshot next) {
+        final int bound = Protocol.HEADER + 1 + 2 * VARLONG_BYTES + Long.BYTES + 1
+                + ENTRY_BYTES * (1 + 3 * next.getPlayerCount() + 2 * next.getTileCount());
+        final ByteBuffer buffer = ByteBuffer.allocate(bound).position(Protocol.HEADER).put(opcode);
+        putVarLong(buffer, base.getVersion());
+        putVarLong(buffer, next.getVersion());
+        buffer.putLong(next.getStateHash());
+        if (base.getCurrentPlayerIndex() != next.getCurrentPlayerIndex()) {
+            buffer.put(CURRENT);
+            putVarInt(buffer, next.getCurrentPlayerIndex());
+        }
+        for (int i = 0; i < next.getPlayerCount(); i++) {
+            putEntry(buffer, POSITION, i, base.getPosition(i), next.getPosition(i), false);
+            putEntry(buffer, BALANCE, i, base.getBalance(i), next.getBalance(i), true);
+            putEntry(buffer, FLAGS, i, base.getFlags(i), next.getFlags(i), false);
+        }
+        for (int tile = 0; tile < next.getTileCount(); tile++) {
+            putEntry(buffer, OWNER, tile, base.getOwnerIndex(tile) + 1, next.getOwnerIndex(tile) + 1, false);
+            putEntry(buffer, HOUSES, tile, base.getHouses(tile), next.getHouses(tile), false);
+        }
+        buffer.put(END);
+        return toFrame(buffer);
+    }
+
+    /**
+     * Decodes the body of a delta and applies it.
+     *
+     * @param buffer the frame, positioned after the opcode
+     * @param base the snapshot of the receiver, may be null
+     * @return the new snapshot, or null if the delta does not apply to the base
+     */
+    static MatchSnapshot readDelta(final ByteBuffer buffer, final MatchSnapshot base) {
+        final long baseVersion = getVarLong(buffer);
+        if (base == null || base.getVersion() != baseVersion) {
+            return null;
+        }
+        final long version = getVarLong(buffer);
+        final long hash = buffer.getLong();
+        final int players = base.getPlayerCount();
+        final String[] ids = new String[players];
+        final int[] positions = new int[players];
+        final int[] balances = new int[players];
+        final int[] flags = new int[players];
+        for (int i = 0; i < players; i++) {
+            ids[i] = base.getPlayerId(i);
+            positions[i] = base.getPosition(i);
+            balances[i] = base.getBalance(i);
+            flags[i] = base.getFlags(i);
+        }
+        final int[] owners = new int[base.getTileCount()];
+        final int[] houses = new int[base.getTileCount()];
+        for (int tile = 0; tile < owners.length; tile++) {
+            owners[tile] = base.getOwnerIndex(tile);
+            houses[tile] = base.getHouses(tile);
+        }
+        int current = base.getCurrentPlayerIndex();
+        byte kind = buffer.get();
+        while (kind != END) {
+            if (kind == CURRENT) {
+                current = getVarInt(buffer);
+            } else {
+                final int index = getVarInt(buffer);
+                final int value = getVarInt(buffer);
+                switch (kind) {
+                    case POSITION -> positions[index] = value;
+                    case BALANCE -> balances[index] += unzigzag(value);
+                    case FLAGS -> flags[index] = value;
+                    case OWNER -> owners[index] = value - 1;
+                    case HOUSES -> houses[index] = value;
+                    default -> throw new IllegalArgumentException("Unknown delta field " + kind);
+                }
+            }
+            kind = buffer.get();
+        }
+        return new MatchSnapshot(version, hash, current, ids, positions, balances, flags, owners, houses);
+    }
+
+    private static void putEntry(final ByteBuffer buffer, final byte kind, final int index, final int before,
+            final int after, final boolean difference) {
+        if (before != after) {
+            buffer.put(kind);
+            putVarInt(buffer, index);
+            putVarInt(buffer, difference ? zigzag(after - before) : after);
+        }
+    }
+
+    private static byte[] toFrame(final ByteBuffer buffer) {
+        buffer.putInt(0, buffer.position() - Protocol.HEADER);
+        final byte[] frame = new byte[buffer.position()];
+        buffer.get(0, frame);
+        return frame;
+    }
+
+    private static int zigzag(final int value) {
+        return value << 1 ^ value >> (Integer.SIZE - 1);
+    }
+
+    private static int unzigzag(final int value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    private static void putVarInt(final ByteBuffer buffer, final int value) {
+        putVarLong(buffer, Integer.toUnsignedLong(value));
+    }
+
+    private static void putVarLong(final ByteBuffer buffer, final long value) {
+        long rest = value;
+        while ((rest & ~VARINT_MASK) != 0) {
+            buffer.put((byte) (rest & VARINT_MASK | VARINT_MORE));
+            rest >>>= VARINT_SHIFT;
+        }
+        buffer.put((byte) rest);
+    }
+
+    private static int getVarInt(final ByteBuffer buffer) {
+        return (int) getVarLong(buffer);
+    }
+
+    private static long getVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b = buffer.get();
+        while ((b & VARINT_MORE) != 0) {
+            value |= (long) (b & VARINT_MASK) << shift;
+            shift += VARINT_SHIFT;
+            if (shift >= Long.SIZE) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+            b = buffer.get();
+        }
+        return value | (long) b << shift;
+    }
+}
@@ -0,0 +1,168 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+
+/**
+ * Stream of the snapshots of a match to its subscribers.
+ *
+ * <p>
+ * The writer of the match publishes its snapshot after every command; snapshots
+ * already published (unchanged states keep their version) are ignored. Every {@value #KEYFRAME_INTERVAL} versions the
+ * snapshot is sent as a keyframe, otherwise as a delta from the previous one,
+ * encoded once and shared by all the subscribers that are up to date.
+ * Each subscriber is sent its snapshots by its own virtual thread and only
+ * keeps the latest one: a slow subscriber skips the intermediate snapshots
+ * and receives a single delta from the last one it got.
+ */
+final class SnapshotFeed {
+
+    /**
+     * Number of versions between two keyframes.
+     */
+    static final int KEYFRAME_INTERVAL = 64;
+
+    private static final Logger LOGGER = Logger.getLogger(SnapshotFeed.class.getName());
+
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private volatile Published published;
+
+    /**
+     * Receiver of the encoded frames of a subscriber.
+     */
+    @FunctionalInterface
+    interface Sink {
+
+        /**
+         * Sends a frame, blocking until it is written.
+         *
+         * @param frame the frame, length included
+         * @throws IOException if the frame cannot be sent
+         */
+        void send(byte[] frame) throws IOException;
+    }
+
+    /**
+     * Publishes a snapshot of the match, unless it is not newer than the last one.
+     * Must be called by the writer of the match only.
+     *
+     * @param snapshot the snapshot, see {@link it.unibo.javapoly.controller.api.MatchController#getSnapshot()}
+     */
+    void publish(final MatchSnapshot snapshot) {
+        final Published last = this.published;
+        if (snapshot == null || last != null && last.snapshot.getVersion() >= snapshot.getVersion()) {
+            return;
+        }
+        final boolean keyframe = last == null || snapshot.getVersion() % KEYFRAME_INTERVAL == 0;
+        final byte[] frame = keyframe
+                ? SnapshotCodec.keyframe(Protocol.KEYFRAME, snapshot)
+                : SnapshotCodec.delta(Protocol.DELTA, last.snapshot, snapshot);
+        this.published = new Published(last == null ? null : last.snapshot, snapshot, frame, keyframe);
+        for (final Subscriber subscriber : this.subscribers) {
+            subscriber.offer(snapshot);
+        }
+    }
+
+    /**
+     * Adds a subscriber, which first receives the last published snapshot as a keyframe.
+     *
+     * @param sink the receiver of the frames
+     * @return the handle to unsubscribe
+     */
+    Runnable subscribe(final Sink sink) {
+        final Subscriber subscriber = new Subscriber(sink);
+        this.subscribers.add(subscriber);
+        final Published last = this.published;
+        if (last != null) {
+            subscriber.offer(last.snapshot);
+        }
+        return () -> this.subscribers.remove(subscriber);
+    }
+
+    /**
+     * Returns the number of subscribers.
+     *
+     * @return the number of subscribers
+     */
+    int getSubscriberCount() {
+        return this.subscribers.size();
+    }
+
+    private byte[] frameFor(final MatchSnapshot sent, final MatchSnapshot next) {
+        final Published last = this.published;
+        if (last.snapshot == next && (last.keyframe || last.previous == sent)) {
+            return last.frame;
+        }
+        return sent == null
+                ? SnapshotCodec.keyframe(Protocol.KEYFRAME, next)
+                : SnapshotCodec.delta(Protocol.DELTA, sent, next);
+    }
+
+    /**
+     * Last published snapshot with its shared frame.
+     */
+    private static final class Published {
+
+        private final MatchSnapshot previous;
+        private final MatchSnapshot snapshot;
+        private final byte[] frame;
+        private final boolean keyframe;
+
+        private Published(final MatchSnapshot previous, final MatchSnapshot snapshot, final byte[] frame,
+                final boolean keyframe) {
+            this.previous = previous;
+            this.snapshot = snapshot;
+            this.frame = frame;
+            this.keyframe = keyframe;
+        }
+    }
+
+    /**
+     * Subscriber keeping only the latest snapshot to send.
+     */
+    private final class Subscriber {
+
+        private final Sink sink;
+        private final AtomicReference<MatchSnapshot> latest = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private MatchSnapshot sent;
+
+        private Subscriber(final Sink sink) {
+            this.sink = sink;
+        }
+
+        private void offer(final MatchSnapshot snapshot) {
+            this.latest.accumulateAndGet(snapshot,
+                    (current, offered) -> current == null || offered.getVersion() > current.getVersion()
+                            ? offered
+                            : current);
+            if (this.sending.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("snapshot-sender").start(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    MatchSnapshot next = this.latest.get();
+                    while (next != this.sent) {
+                        this.sink.send(frameFor(this.sent, next));
+                        this.sent = next;
+                        next = this.latest.get();
+                    }
+                    this.sending.set(false);
+                } while (this.latest.get() != this.sent && this.sending.compareAndSet(false, true));
+            } catch (final IOException e) {
+                LOGGER.log(Level.FINE, "Subscriber disconnected", e);
+                SnapshotFeed.this.subscribers.remove(this);
+            }
+        }
+    }
+}
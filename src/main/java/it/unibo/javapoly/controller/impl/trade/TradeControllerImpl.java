@@ -0,0 +1,221 @@
+package it.unibo.javapoly.controller.impl.trade;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.CardController;
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.trade.TradeController;
+import it.unibo.javapoly.controller.api.trade.TradeEvaluator;
+import it.unibo.javapoly.controller.api.trade.TradeStatus;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Implementation of {@link TradeController}.
+ *
+ * <p>
+ * The whole offer is validated before anything changes hands, and is then executed
+ * inside one ledger settlement: if any part of it fails, the settlement is rolled
+ * back and the properties and the card already handed over are given back, so an
+ * executed trade never stops halfway. The purchase prices of the traded properties
+ * are reported to the ledger as assets moving between the players, which keeps the
+ * leaderboard up to date.
+ *
+ * <p>
+ * The evaluator tabulates the rents of the whole board, so it is created on the first
+ * evaluation: the forks of a match, which seldom trade, never pay for it.
+ */
+public final class TradeControllerImpl implements TradeController {
+
+    private final MatchController match;
+    private final CardController cards;
+    private final Runnable afterTrade;
+    private TradeEvaluator evaluator;
+
+    /**
+     * Creates the trade controller of a match.
+     *
+     * @param match the match
+     * @param cards the card controller holding the "Get Out Of Jail Free" cards, null if the match has none
+     * @param afterTrade the action run after every executed trade, e.g. a refresh of the GUI
+     */
+    public TradeControllerImpl(final MatchController match, final CardController cards, final Runnable afterTrade) {
+        this.match = Objects.requireNonNull(match);
+        this.cards = cards;
+        this.afterTrade = Objects.requireNonNull(afterTrade);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TradeStatus validate(final TradeOffer offer) {
+        if (offer.isEmpty()) {
+            return TradeStatus.EMPTY;
+        }
+        if (offer.getProposerId().equals(offer.getRecipientId())) {
+            return TradeStatus.SAME_PLAYER;
+        }
+        final Player proposer = findPlayer(offer.getProposerId());
+        final Player recipient = findPlayer(offer.getRecipientId());
+        if (proposer == null || recipient == null) {
+            return TradeStatus.UNKNOWN_PLAYER;
+        }
+        if (proposer.getState() instanceof BankruptState || recipient.getState() instanceof BankruptState) {
+            return TradeStatus.BANKRUPT_PLAYER;
+        }
+        if (this.match.getEconomyController().getLedger().isInTransaction()) {
+            return TradeStatus.SETTLEMENT_IN_PROGRESS;
+        }
+        final TradeStatus offered = validateSide(proposer, offer.getOffered());
+        return offered == TradeStatus.VALID ? validateSide(recipient, offer.getRequested()) : offered;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TradeStatus execute(final TradeOffer offer) {
+        final TradeStatus status = validate(offer);
+        if (status != TradeStatus.VALID) {
+            return status;
+        }
+        final Player proposer = findPlayer(offer.getProposerId());
+        final Player recipient = findPlayer(offer.getRecipientId());
+        final Ledger ledger = this.match.getEconomyController().getLedger();
+        final Deque<Runnable> undo = new ArrayDeque<>();
+        ledger.begin();
+        try {
+            give(proposer, recipient, offer.getOffered(), undo);
+            give(recipient, proposer, offer.getRequested(), undo);
+            if (offer.getOffered().getCash() > 0) {
+                ledger.transfer(proposer, recipient, offer.getOffered().getCash(), TRADE);
+            }
+            if (offer.getRequested().getCash() > 0) {
+                ledger.transfer(recipient, proposer, offer.getRequested().getCash(), TRADE);
+            }
+            if (ledger.isRejected()) {
+                throw new IllegalStateException("The cash of the validated trade is not covered");
+            }
+            ledger.commit();
+        } catch (final RuntimeException e) {
+            if (ledger.isInTransaction()) {
+                ledger.rollback();
+            }
+            while (!undo.isEmpty()) {
+                undo.pop().run();
+            }
+            throw e;
+        }
+        this.afterTrade.run();
+        return TradeStatus.EXECUTED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TradeStatus propose(final TradeOffer offer) {
+        final TradeStatus status = validate(offer);
+        if (status != TradeStatus.VALID) {
+            return status;
+        }
+        final PlayerStrategy strategy = this.match.getStrategy(offer.getRecipientId());
+        if (strategy == null) {
+            return TradeStatus.VALID;
+        }
+        final GameStateView state = this.match.getStateView();
+        return strategy.acceptTrade(state, offer, getEvaluator().evaluate(state, offer))
+                ? execute(offer)
+                : TradeStatus.DECLINED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TradeEvaluator getEvaluator() {
+        if (this.evaluator == null) {
+            this.evaluator = new TradeEvaluatorImpl(this.match.getBoard(), TradeEvaluatorImpl.DEFAULT_HORIZON);
+        }
+        return this.evaluator;
+    }
+
+    private TradeStatus validateSide(final Player giver, final TradeOffer.Side side) {
+        final Board board = this.match.getBoard();
+        for (int i = 0; i < side.getPropertyCount(); i++) {
+            final int position = side.getPosition(i);
+            if (position < 0 || position >= board.size() || !(board.getTileAt(position) instanceof PropertyTile)) {
+                return TradeStatus.NOT_A_PROPERTY;
+            }
+            final Property property = ((PropertyTile) board.getTileAt(position)).getProperty();
+            if (!property.playerIsTheOwner(giver.getName())) {
+                return TradeStatus.NOT_OWNED;
+            }
+            if (hasBuildingsInGroup(giver, property)) {
+                return TradeStatus.BUILDINGS_IN_GROUP;
+            }
+        }
+        if (side.getCash() > giver.getBalance()) {
+            return TradeStatus.INSUFFICIENT_CASH;
+        }
+        if (side.hasJailCard() && (this.cards == null || !this.cards.hasGetOutOfJailFreeCard(giver.getName()))) {
+            return TradeStatus.NO_JAIL_CARD;
+        }
+        return TradeStatus.VALID;
+    }
+
+    private boolean hasBuildingsInGroup(final Player owner, final Property property) {
+        for (final Property other : this.match.getPropertyController().getOwnedProperties(owner.getName())) {
+            if (other.getPropertyGroup() == property.getPropertyGroup() && other.getBuiltHouses() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hands the properties and the card of a side over, reporting the properties to the ledger
+     * and pushing on the undo stack the action giving each of them back.
+     */
+    private void give(final Player giver, final Player receiver, final TradeOffer.Side side,
+            final Deque<Runnable> undo) {
+        final Ledger ledger = this.match.getEconomyController().getLedger();
+        final Board board = this.match.getBoard();
+        final PropertyController properties = this.match.getPropertyController();
+        for (int i = 0; i < side.getPropertyCount(); i++) {
+            final Property property = ((PropertyTile) board.getTileAt(side.getPosition(i))).getProperty();
+            if (!properties.transferProperty(giver, receiver, property.getId())) {
+                throw new IllegalStateException("Failed to transfer the validated property " + property.getId());
+            }
+            undo.push(() -> properties.transferProperty(receiver, giver, property.getId()));
+            ledger.recordAssets(giver, -property.getPurchasePrice(), 0);
+            ledger.recordAssets(receiver, property.getPurchasePrice(), 0);
+        }
+        if (side.hasJailCard()) {
+            if (!this.cards.transferGetOutOfJailFreeCard(giver.getName(), receiver.getName())) {
+                throw new IllegalStateException("Failed to transfer the validated card of " + giver.getName());
+            }
+            undo.push(() -> this.cards.transferGetOutOfJailFreeCard(receiver.getName(), giver.getName()));
+        }
+    }
+
+    private Player findPlayer(final String playerId) {
+        for (final Player player : this.match.getPlayers()) {
+            if (player.getName().equals(playerId)) {
+                return player;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,245 @@
+package it.unibo.javapoly.controller.impl.trade;
+
+import java.util.Objects;
+
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.trade.TradeEvaluator;
+import it.unibo.javapoly.controller.api.trade.TradeScore;
+import it.unibo.javapoly.model.api.RentContext;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Implementation of {@link TradeEvaluator}.
+ *
+ * <p>
+ * The gain of a player is the cash and the purchase prices it receives minus the ones
+ * it gives, a "Get Out Of Jail Free" card being worth the jail fee, plus the change of
+ * the rent it expects from its opponents over a horizon of turns. Every opponent turn
+ * is assumed to land on each tile with the same probability, and a complete group of
+ * lands is valued halfway between its base rent and the rent with
+ * {@value #BUILD_HOUSES} houses, as the houses it allows are not built yet.
+ */
+public final class TradeEvaluatorImpl implements TradeEvaluator {
+
+    /**
+     * Default number of turns of each opponent over which the rents are expected.
+     */
+    public static final int DEFAULT_HORIZON = 30;
+
+    private static final int AVERAGE_DICE = 7;
+    private static final int BUILD_HOUSES = 3;
+    private static final double BUILD_WEIGHT = 0.5;
+    private static final int NO_GROUP = -1;
+
+    private final int[] prices;
+    private final int[] groups;
+    private final double[][] rents;
+    private final int[][] groupPositions;
+    private final int[] touched;
+    private final double landing;
+    private final int horizon;
+    private final Score score = new Score();
+    private int evaluation;
+
+    /**
+     * Creates an evaluator for the properties of a board.
+     *
+     * @param board the board of the match
+     * @param horizon the number of turns of each opponent over which the rents are expected
+     */
+    public TradeEvaluatorImpl(final Board board, final int horizon) {
+        Objects.requireNonNull(board);
+        this.horizon = horizon;
+        this.landing = board.size() == 0 ? 0 : 1.0 / board.size();
+        this.prices = new int[board.size()];
+        this.groups = new int[board.size()];
+        this.rents = new double[board.size()][];
+        final int[] groupSizes = new int[PropertyGroup.values().length];
+        for (int i = 0; i < board.size(); i++) {
+            final Tile tile = board.getTileAt(i);
+            if (tile instanceof PropertyTile pt) {
+                this.groups[i] = pt.getProperty().getPropertyGroup().ordinal();
+                groupSizes[this.groups[i]]++;
+            } else {
+                this.groups[i] = NO_GROUP;
+            }
+        }
+        this.groupPositions = new int[groupSizes.length][];
+        for (int group = 0; group < groupSizes.length; group++) {
+            this.groupPositions[group] = new int[groupSizes[group]];
+            groupSizes[group] = 0;
+        }
+        for (int i = 0; i < board.size(); i++) {
+            if (this.groups[i] != NO_GROUP) {
+                final Property property = ((PropertyTile) board.getTileAt(i)).getProperty();
+                final int[] positions = this.groupPositions[this.groups[i]];
+                positions[groupSizes[this.groups[i]]++] = i;
+                this.prices[i] = property.getPurchasePrice();
+                this.rents[i] = tabulateRents(property, positions.length);
+            }
+        }
+        this.touched = new int[groupSizes.length];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TradeScore evaluate(final GameStateView state, final TradeOffer offer) {
+        final TradeOffer.Side offered = offer.getOffered();
+        final TradeOffer.Side requested = offer.getRequested();
+
+        double material = requested.getCash() - offered.getCash();
+        material += requested.hasJailCard() ? state.getJailFee() : 0;
+        material -= offered.hasJailCard() ? state.getJailFee() : 0;
+        for (int i = 0; i < requested.getPropertyCount(); i++) {
+            material += price(requested.getPosition(i));
+        }
+        for (int i = 0; i < offered.getPropertyCount(); i++) {
+            material -= price(offered.getPosition(i));
+        }
+
+        this.evaluation++;
+        this.score.proposerIncome = 0;
+        this.score.recipientIncome = 0;
+        touchGroups(state, offer, offered);
+        touchGroups(state, offer, requested);
+        final double turns = this.landing * this.horizon * Math.max(0, state.getActivePlayerCount() - 1);
+        this.score.proposerIncome *= turns;
+        this.score.recipientIncome *= turns;
+        this.score.proposerGain = material + this.score.proposerIncome;
+        this.score.recipientGain = -material + this.score.recipientIncome;
+        return this.score;
+    }
+
+    private int price(final int position) {
+        return position >= 0 && position < this.prices.length ? this.prices[position] : 0;
+    }
+
+    /**
+     * Adds the change of income of both players in the groups of the properties of a side
+     * not evaluated yet.
+     */
+    private void touchGroups(final GameStateView state, final TradeOffer offer, final TradeOffer.Side side) {
+        for (int i = 0; i < side.getPropertyCount(); i++) {
+            final int position = side.getPosition(i);
+            if (position >= 0 && position < this.groups.length && this.groups[position] != NO_GROUP
+                    && this.touched[this.groups[position]] != this.evaluation) {
+                this.touched[this.groups[position]] = this.evaluation;
+                evaluateGroup(state, offer, this.groupPositions[this.groups[position]]);
+            }
+        }
+    }
+
+    /**
+     * Adds the change of the rent per opponent turn of both players in a group.
+     */
+    private void evaluateGroup(final GameStateView state, final TradeOffer offer, final int... positions) {
+        final String proposer = offer.getProposerId();
+        final String recipient = offer.getRecipientId();
+        int proposerBefore = 0;
+        int proposerAfter = 0;
+        int recipientBefore = 0;
+        int recipientAfter = 0;
+        for (final int position : positions) {
+            final String owner = state.getOwner(position);
+            final String next = ownerAfter(offer, position, owner);
+            proposerBefore += proposer.equals(owner) ? 1 : 0;
+            recipientBefore += recipient.equals(owner) ? 1 : 0;
+            proposerAfter += proposer.equals(next) ? 1 : 0;
+            recipientAfter += recipient.equals(next) ? 1 : 0;
+        }
+        for (final int position : positions) {
+            final String owner = state.getOwner(position);
+            final String next = ownerAfter(offer, position, owner);
+            final double[] rent = this.rents[position];
+            if (proposer.equals(owner)) {
+                this.score.proposerIncome -= rent[proposerBefore];
+            } else if (recipient.equals(owner)) {
+                this.score.recipientIncome -= rent[recipientBefore];
+            }
+            if (proposer.equals(next)) {
+                this.score.proposerIncome += rent[proposerAfter];
+            } else if (recipient.equals(next)) {
+                this.score.recipientIncome += rent[recipientAfter];
+            }
+        }
+    }
+
+    private static String ownerAfter(final TradeOffer offer, final int position, final String owner) {
+        if (offer.getOffered().contains(position)) {
+            return offer.getRecipientId();
+        }
+        if (offer.getRequested().contains(position)) {
+            return offer.getProposerId();
+        }
+        return owner;
+    }
+
+    /**
+     * Computes the rent of a property for every number of properties of its group held by its owner.
+     *
+     * @param property the property
+     * @param groupSize the number of properties of its group
+     * @return the rents, indexed by the number of properties held, 0 for none
+     */
+    private static double[] tabulateRents(final Property property, final int groupSize) {
+        final double[] rents = new double[groupSize + 1];
+        for (int held = 1; held <= groupSize; held++) {
+            rents[held] = switch (property.getPropertyGroup()) {
+                case UTILITY -> property.getRent(RentContext.forUtilities(AVERAGE_DICE, held));
+                case RAILROAD -> property.getRent(RentContext.forStation(held));
+                default -> {
+                    if (held < groupSize) {
+                        yield property.getRent(RentContext.forLand(0, false));
+                    }
+                    final int base = property.getRent(RentContext.forLand(0, true));
+                    yield base + BUILD_WEIGHT * (property.getRent(RentContext.forLand(BUILD_HOUSES, true)) - base);
+                }
+            };
+        }
+        return rents;
+    }
+
+    /**
+     * Score reused by every evaluation.
+     */
+    private static final class Score implements TradeScore {
+
+        private double proposerGain;
+        private double recipientGain;
+        private double proposerIncome;
+        private double recipientIncome;
+
+        @Override
+        public double getProposerGain() {
+            return this.proposerGain;
+        }
+
+        @Override
+        public double getRecipientGain() {
+            return this.recipientGain;
+        }
+
+        @Override
+        public double getProposerIncomeChange() {
+            return this.proposerIncome;
+        }
+
+        @Override
+        public double getRecipientIncomeChange() {
+            return this.recipientIncome;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT, "TradeScore[proposer=%.1f, recipient=%.1f]",
+                    this.proposerGain, this.recipientGain);
+        }
+    }
+}
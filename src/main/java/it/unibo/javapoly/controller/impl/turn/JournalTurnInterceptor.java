@@ -0,0 +1,70 @@
+package it.unibo.javapoly.controller.impl.turn;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import it.unibo.javapoly.controller.api.turn.StageChain;
+import it.unibo.javapoly.controller.api.turn.TurnContext;
+import it.unibo.javapoly.controller.api.turn.TurnInterceptor;
+import it.unibo.javapoly.controller.api.turn.TurnStage;
+import it.unibo.javapoly.utils.ValidationUtils;
+
+/**
+ * Interceptor keeping the description of the last throws committed, e.g. for a
+ * replay log or a bug report.
+ */
+public final class JournalTurnInterceptor implements TurnInterceptor {
+
+    /**
+     * Default number of throws kept.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Deque<String> entries = new ArrayDeque<>();
+    private final int capacity;
+
+    /**
+     * Creates a journal of the last {@value #DEFAULT_CAPACITY} throws.
+     */
+    public JournalTurnInterceptor() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a journal of the last throws.
+     *
+     * @param capacity the number of throws kept
+     */
+    public JournalTurnInterceptor(final int capacity) {
+        ValidationUtils.requirePositive(capacity, "capacity must be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void intercept(final TurnStage stage, final TurnContext context, final StageChain chain) {
+        chain.proceed(stage, context);
+        if (stage == TurnStage.COMMIT) {
+            record(context.toString());
+        }
+    }
+
+    /**
+     * Returns the throws committed, the oldest first.
+     *
+     * @return the entries of the journal
+     */
+    public synchronized List<String> getEntries() {
+        return List.copyOf(this.entries);
+    }
+
+    private synchronized void record(final String entry) {
+        if (this.entries.size() == this.capacity) {
+            this.entries.removeFirst();
+        }
+        this.entries.addLast(entry);
+    }
+}
@@ -0,0 +1,29 @@
+package it.unibo.javapoly.controller.impl.turn;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import it.unibo.javapoly.controller.api.turn.StageChain;
+import it.unibo.javapoly.controller.api.turn.TurnContext;
+import it.unibo.javapoly.controller.api.turn.TurnInterceptor;
+import it.unibo.javapoly.controller.api.turn.TurnStage;
+
+/**
+ * Interceptor logging every stage executed, at level {@code FINE}.
+ */
+public final class LoggingTurnInterceptor implements TurnInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(LoggingTurnInterceptor.class.getName());
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void intercept(final TurnStage stage, final TurnContext context, final StageChain chain) {
+        chain.proceed(stage, context);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "{0}: {1}, {2} settlements pending",
+                    new Object[] {stage, context, context.getPendingSettlements()});
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package it.unibo.javapoly.controller.impl.turn;
+
+import it.unibo.javapoly.controller.api.turn.StageChain;
+import it.unibo.javapoly.controller.api.turn.TurnContext;
+import it.unibo.javapoly.controller.api.turn.TurnInterceptor;
+import it.unibo.javapoly.controller.api.turn.TurnStage;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+import it.unibo.javapoly.utils.metrics.PhaseProfiler;
+import it.unibo.javapoly.utils.metrics.TurnPhase;
+
+/**
+ * Interceptor recording the latency of every stage in the histograms {@code turn.<stage>},
+ * and accounting the rule stages as {@link TurnPhase phases} of the {@link PhaseProfiler}.
+ */
+public final class MetricsTurnInterceptor implements TurnInterceptor {
+
+    private static final String PREFIX = "turn.";
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[TurnStage.values().length];
+    private final TurnPhase[] phases = new TurnPhase[TurnStage.values().length];
+    private final PhaseProfiler profiler;
+
+    /**
+     * Creates an interceptor recording in the shared registry and profiler.
+     */
+    public MetricsTurnInterceptor() {
+        this(MetricsRegistry.getInstance(), PhaseProfiler.getInstance());
+    }
+
+    /**
+     * Creates an interceptor recording in the given registry and profiler.
+     *
+     * @param registry the registry of the histograms
+     * @param profiler the profiler of the phases
+     */
+    public MetricsTurnInterceptor(final MetricsRegistry registry, final PhaseProfiler profiler) {
+        this.profiler = profiler;
+        for (final TurnStage stage : TurnStage.values()) {
+            this.latencies[stage.ordinal()] = registry.histogram(PREFIX + stage);
+        }
+        this.phases[TurnStage.ROLL.ordinal()] = TurnPhase.ROLL;
+        this.phases[TurnStage.MOVE.ordinal()] = TurnPhase.MOVE;
+        this.phases[TurnStage.RESOLVE.ordinal()] = TurnPhase.RESOLVE;
+        this.phases[TurnStage.SETTLE.ordinal()] = TurnPhase.SETTLE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void intercept(final TurnStage stage, final TurnContext context, final StageChain chain) {
+        final LatencyHistogram latency = this.latencies[stage.ordinal()];
+        final TurnPhase phase = this.phases[stage.ordinal()];
+        final long start = latency.start();
+        final boolean entered = phase != null && this.profiler.enter(phase);
+        try {
+            chain.proceed(stage, context);
+        } finally {
+            this.profiler.exit(entered);
+            latency.recordSince(start);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package it.unibo.javapoly.controller.impl.turn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.turn.SettlementQueue;
+import it.unibo.javapoly.model.api.economy.Ledger;
+
+/**
+ * Implementation of {@link SettlementQueue}, reused by all the throws of a match.
+ *
+ * <p>
+ * With a {@link Ledger}, the queued movements are settled as one atomic transaction,
+ * so every player sees a single change of balance. If a movement is not covered, the
+ * ones before it are committed and the rest are executed one by one, as they would
+ * have been without the queue, leaving the shortfall to the liquidation.
+ */
+public final class SettlementQueueImpl implements SettlementQueue {
+
+    private final List<Runnable> pending = new ArrayList<>();
+    private final Ledger ledger;
+    private boolean open;
+
+    /**
+     * Creates a queue executing the movements one by one.
+     */
+    public SettlementQueueImpl() {
+        this.ledger = null;
+    }
+
+    /**
+     * Creates a queue settling the movements atomically in a ledger.
+     *
+     * @param ledger the ledger of the match
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The ledger is shared by the controllers of the match"
+    )
+    public SettlementQueueImpl(final Ledger ledger) {
+        this.ledger = Objects.requireNonNull(ledger);
+    }
+
+    /**
+     * Starts queueing the money movements of a throw.
+     */
+    public void open() {
+        this.open = true;
+    }
+
+    /**
+     * Closes the queue and executes the queued movements in order. Movements requested
+     * while settling, e.g. by a liquidation, are executed immediately.
+     */
+    public void settle() {
+        this.open = false;
+        try {
+            int next = 0;
+            if (this.ledger != null && !this.pending.isEmpty()) {
+                boolean rejected = false;
+                this.ledger.begin();
+                try {
+                    while (next < this.pending.size() && !rejected) {
+                        this.pending.get(next++).run();
+                        rejected = this.ledger.isRejected();
+                    }
+                } finally {
+                    this.ledger.commit();
+                }
+                if (rejected) {
+                    next--;
+                }
+            }
+            for (int i = next; i < this.pending.size(); i++) {
+                this.pending.get(i).run();
+            }
+        } finally {
+            this.pending.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+        return this.open;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void defer(final Runnable settlement) {
+        if (!this.open) {
+            throw new IllegalStateException("The settlement queue is not open");
+        }
+        this.pending.add(Objects.requireNonNull(settlement));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+}
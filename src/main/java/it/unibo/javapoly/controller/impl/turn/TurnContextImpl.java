@@ -0,0 +1,157 @@
+package it.unibo.javapoly.controller.impl.turn;
+
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.controller.api.turn.SettlementQueue;
+import it.unibo.javapoly.controller.api.turn.TurnContext;
+import it.unibo.javapoly.model.api.Player;
+
+/**
+ * Implementation of {@link TurnContext}, reset at the start of every throw.
+ */
+public final class TurnContextImpl implements TurnContext {
+
+    private final SettlementQueue settlements;
+    private Player player;
+    private int dice;
+    private boolean doubleThrow;
+    private int steps;
+    private int fromPosition;
+    private boolean stopped;
+
+    /**
+     * Creates the context of the throws of a match.
+     *
+     * @param settlements the settlement queue of the match
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP2",
+        justification = "The queue is shared with the match, which drains it"
+    )
+    public TurnContextImpl(final SettlementQueue settlements) {
+        this.settlements = Objects.requireNonNull(settlements);
+    }
+
+    /**
+     * Starts a new throw.
+     *
+     * @param current the player throwing the dice
+     */
+    public void reset(final Player current) {
+        this.player = Objects.requireNonNull(current);
+        this.dice = 0;
+        this.doubleThrow = false;
+        this.steps = 0;
+        this.fromPosition = current.getCurrentPosition();
+        this.stopped = false;
+    }
+
+    /**
+     * Records the result of the dice, which are also the steps of the move.
+     *
+     * @param value the sum of the dice
+     * @param isDouble true for a double
+     */
+    public void setRoll(final int value, final boolean isDouble) {
+        this.dice = value;
+        this.doubleThrow = isDouble;
+        this.steps = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "Stages and interceptors act on the player of the match"
+    )
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDice() {
+        return this.dice;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDouble() {
+        return this.doubleThrow;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSteps(final int steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getFromPosition() {
+        return this.fromPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPosition() {
+        return this.player == null ? this.fromPosition : this.player.getCurrentPosition();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPendingSettlements() {
+        return this.settlements.getPendingCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.stopped = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStopped() {
+        return this.stopped;
+    }
+
+    /**
+     * Returns a description of the throw, for logs and journals.
+     *
+     * @return the player, the dice and the move
+     */
+    @Override
+    public String toString() {
+        return (this.player == null ? "nobody" : this.player.getName()) + " threw " + this.dice
+                + (this.doubleThrow ? " (double)" : "") + ", " + this.fromPosition + " -> " + getPosition()
+                + (this.stopped ? ", stopped" : "");
+    }
+}
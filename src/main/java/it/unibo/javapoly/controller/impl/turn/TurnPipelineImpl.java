@@ -0,0 +1,87 @@
+package it.unibo.javapoly.controller.impl.turn;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import it.unibo.javapoly.controller.api.turn.StageChain;
+import it.unibo.javapoly.controller.api.turn.TurnContext;
+import it.unibo.javapoly.controller.api.turn.TurnInterceptor;
+import it.unibo.javapoly.controller.api.turn.TurnPipeline;
+import it.unibo.javapoly.controller.api.turn.TurnStage;
+
+/**
+ * Implementation of {@link TurnPipeline}.
+ *
+ * <p>
+ * The chain of the interceptors is linked again only when they change, so running
+ * a stage allocates nothing and costs one call per interceptor.
+ */
+public final class TurnPipelineImpl implements TurnPipeline {
+
+    private static final TurnStage[] STAGES = TurnStage.values();
+
+    private final StageChain stages;
+    private final List<TurnInterceptor> interceptors = new CopyOnWriteArrayList<>();
+    private volatile StageChain head;
+
+    /**
+     * Creates a pipeline without interceptors.
+     *
+     * @param stages the code of the stages, at the end of every chain
+     */
+    public TurnPipelineImpl(final StageChain stages) {
+        this.stages = Objects.requireNonNull(stages);
+        this.head = stages;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addInterceptor(final TurnInterceptor interceptor) {
+        this.interceptors.add(Objects.requireNonNull(interceptor));
+        link();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized boolean removeInterceptor(final TurnInterceptor interceptor) {
+        final boolean removed = this.interceptors.remove(interceptor);
+        link();
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TurnInterceptor> getInterceptors() {
+        return List.copyOf(this.interceptors);
+    }
+
+    /**
+     * Runs the stages of a throw in order, skipping the rule stages once the throw is stopped.
+     *
+     * @param context the throw
+     */
+    public void run(final TurnContext context) {
+        for (final TurnStage stage : STAGES) {
+            if (!stage.isRule() || !context.isStopped()) {
+                this.head.proceed(stage, context);
+            }
+        }
+    }
+
+    private void link() {
+        StageChain chain = this.stages;
+        for (int i = this.interceptors.size() - 1; i >= 0; i--) {
+            final TurnInterceptor interceptor = this.interceptors.get(i);
+            final StageChain next = chain;
+            chain = (stage, context) -> interceptor.intercept(stage, context, next);
+        }
+        this.head = chain;
+    }
+}
@@ -0,0 +1,23 @@
+package it.unibo.javapoly.model.api;
+
+/**
+ * Part of the game state contributing to a {@link StateHash}.
+ */
+public interface HashedComponent {
+
+    /**
+     * Returns the contribution of this component to the state hash.
+     *
+     * @return the Zobrist hash of the component
+     */
+    long getStateHash();
+
+    /**
+     * Adds this component to a state hash: its contribution is toggled into the
+     * hash now, and every later change of the component updates the hash in O(1).
+     * A component can be attached to a single hash.
+     *
+     * @param hash the state hash
+     */
+    void attachHash(StateHash hash);
+}
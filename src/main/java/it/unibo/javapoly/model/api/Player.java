@@ -36,7 +36,7 @@ import it.unibo.javapoly.model.impl.PlayerImpl;
  * @see PlayerObserver
  */
 @JsonDeserialize(as = PlayerImpl.class)
-public interface Player {
+public interface Player extends HashedComponent {
 
     /**
      * Executes the player's turn by delegating the logic to the current
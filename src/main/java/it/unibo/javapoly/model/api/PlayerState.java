@@ -2,6 +2,7 @@ package it.unibo.javapoly.model.api;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import it.unibo.javapoly.model.impl.BankruptState;
 import it.unibo.javapoly.model.impl.FreeState;
 import it.unibo.javapoly.model.impl.JailedState;
 
@@ -32,7 +33,8 @@ import it.unibo.javapoly.model.impl.JailedState;
 )
 @JsonSubTypes({
         @JsonSubTypes.Type(value = JailedState.class, name = "JailedState"),
-        @JsonSubTypes.Type(value = FreeState.class, name = "FreeState")
+        @JsonSubTypes.Type(value = FreeState.class, name = "FreeState"),
+        @JsonSubTypes.Type(value = BankruptState.class, name = "BankruptState")
 })
 public interface PlayerState {
 
@@ -71,4 +73,13 @@ public interface PlayerState {
      */
     boolean canMove();
 
+    /**
+     * Returns the key of the state in the state hash of a player: the same for all
+     * the instances of a state class, and precomputed so that hashing a player never
+     * reads a string.
+     *
+     * @return the 64-bit key of the state.
+     */
+    long getHashKey();
+
 }
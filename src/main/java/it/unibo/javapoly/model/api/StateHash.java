@@ -0,0 +1,27 @@
+package it.unibo.javapoly.model.api;
+
+/**
+ * Incrementally updated 64-bit hash of a game state.
+ *
+ * <p>
+ * Every {@link HashedComponent} attached to the hash XORs its own contribution
+ * into it, and forwards the difference each time it changes, so the hash of the
+ * whole state is always up to date without reading or serializing the state.
+ */
+public interface StateHash {
+
+    /**
+     * Returns the current value of the hash.
+     *
+     * @return the hash value
+     */
+    long getValue();
+
+    /**
+     * Flips the given bits of the hash.
+     * Toggling the same bits twice restores the previous value.
+     *
+     * @param bits the bits to flip
+     */
+    void toggle(long bits);
+}
@@ -32,4 +32,11 @@ public interface Board {
      */
     int normalizePosition(int position);
 
+    /**
+     * Returns the precomputed topology of the board, built when the board is loaded.
+     *
+     * @return the board topology
+     */
+    BoardTopology getTopology();
+
 }
@@ -0,0 +1,94 @@
+package it.unibo.javapoly.model.api.board;
+
+/**
+ * Precomputed, read-only index of the board layout.
+ *
+ * <p>
+ * The topology is built once when the board is loaded and answers every
+ * movement question (wrapping, nearest tile of a type, passing "Go", jail
+ * position) in constant time, whatever the number of tiles on the board.
+ */
+public interface BoardTopology {
+
+    /**
+     * Value returned when a requested position does not exist on the board.
+     */
+    int NO_POSITION = -1;
+
+    /**
+     * Returns the number of tiles on the board.
+     *
+     * @return the board size
+     */
+    int size();
+
+    /**
+     * Normalizes a position so that it wraps around the board size.
+     *
+     * @param position the raw position (may be negative or beyond the board size)
+     * @return the normalized position within board bounds
+     */
+    int normalize(int position);
+
+    /**
+     * Returns the effective type of the tile at the given position.
+     *
+     * <p>
+     * Unlike {@link Tile#getType()}, property tiles are classified by their group,
+     * so stations and utilities are reported as {@link TileType#RAILROAD} and
+     * {@link TileType#UTILITY}.
+     *
+     * @param position the tile position
+     * @return the effective tile type
+     */
+    TileType getTileType(int position);
+
+    /**
+     * Returns the position of the nearest tile of the given type,
+     * searching clockwise and starting from the tile after {@code position}.
+     *
+     * @param position the starting position
+     * @param type the tile type to search for
+     * @return the position of the nearest tile of that type, or {@link #NO_POSITION} if none exists
+     */
+    int nextTileOfType(int position, TileType type);
+
+    /**
+     * Returns the position of the "Go" tile.
+     *
+     * @return the "Go" position ({@code 0} if the board has no start tile)
+     */
+    int getGoPosition();
+
+    /**
+     * Returns the reward collected when a player passes through "Go".
+     *
+     * @return the pass reward
+     */
+    int getGoReward();
+
+    /**
+     * Returns the position of the jail tile.
+     *
+     * @return the jail position, or {@link #NO_POSITION} if the board has no jail
+     */
+    int getJailPosition();
+
+    /**
+     * Returns the number of clockwise steps needed to go from one position to another.
+     *
+     * @param fromPosition the starting position
+     * @param toPosition the destination position
+     * @return the clockwise distance, in {@code [0, size)}
+     */
+    int distance(int fromPosition, int toPosition);
+
+    /**
+     * Checks if moving clockwise from one position to another passes through (or lands on) "Go".
+     *
+     * @param fromPosition the starting position
+     * @param toPosition the destination position
+     * @return true if the movement passes through "Go", false otherwise
+     */
+    boolean passesGo(int fromPosition, int toPosition);
+}
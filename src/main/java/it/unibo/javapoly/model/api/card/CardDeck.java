@@ -1,6 +1,9 @@
 package it.unibo.javapoly.model.api.card;
 
+import java.util.random.RandomGenerator;
+
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import it.unibo.javapoly.model.api.HashedComponent;
 import it.unibo.javapoly.model.impl.card.CardDeckImpl;
 
 /**
@@ -8,7 +11,7 @@ import it.unibo.javapoly.model.impl.card.CardDeckImpl;
  * Provides operations to draw, discard, shuffle cards, and check if the deck is empty.
  */
 @JsonDeserialize(as = CardDeckImpl.class)
-public interface CardDeck {
+public interface CardDeck extends HashedComponent {
 
     /**
      * Draws a card from the deck for the specified player.
@@ -48,4 +51,67 @@ public interface CardDeck {
      */
     boolean discardByType(CardType type, String playerID);
 
+    /**
+     * Checks if a player holds a card of the given type.
+     *
+     * @param type the type of card
+     * @param playerID the player id
+     * @return {@code true} if the player holds at least one card of that type
+     */
+    boolean isHolding(CardType type, String playerID);
+
+    /**
+     * Gives a held card of the given type to another player.
+     *
+     * @param type the type of card
+     * @param fromID the player holding the card
+     * @param toID the player receiving the card
+     * @return {@code true} if the card has been given, {@code false} if {@code fromID} does not hold one
+     */
+    boolean transferByType(CardType type, String fromID, String toID);
+
+    /**
+     * Returns the number of cards the next draw can return: the cards of the draw pile,
+     * or the ones of the discard pile if the draw pile is empty and has to be recycled.
+     *
+     * @return the number of drawable cards
+     */
+    int getDrawableCount();
+
+    /**
+     * Returns one of the cards the next draw can return, see {@link #getDrawableCount()}.
+     * The index does not say anything about the order of the pile.
+     *
+     * @param index the index of the card, between 0 and {@link #getDrawableCount()} excluded
+     * @return the card
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    GameCard getDrawable(int index);
+
+    /**
+     * Returns the number of cards of the deck, wherever they are: in a pile or held by a player.
+     *
+     * @return the number of cards
+     */
+    int getCardCount();
+
+    /**
+     * Returns one of the cards of the deck, see {@link #getCardCount()}.
+     * The index is stable for the life of the deck and says nothing about the piles.
+     *
+     * @param index the index of the card, between 0 and {@link #getCardCount()} excluded
+     * @return the card
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    GameCard getCard(int index);
+
+    /**
+     * Returns an independent copy of the deck, with the same piles and held cards.
+     * The cards themselves are immutable and are shared with the copy, which
+     * belongs to a simulated match and records no metrics.
+     *
+     * @param random the random generator used by the copy to shuffle
+     * @return the copy of the deck
+     */
+    CardDeck copy(RandomGenerator random);
 }
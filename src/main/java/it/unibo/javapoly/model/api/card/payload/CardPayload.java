@@ -4,7 +4,7 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 /**
- * Marker interface for typed payloads associated with cards.
+ * Sealed marker interface for typed payloads associated with cards.
  * Concrete implementations contain the fields useful for that card type.
  */
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
@@ -15,4 +15,5 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
     @JsonSubTypes.Type(value = MoveToNearestPayload.class, name = "PayLoadMoveToNearest"),
     @JsonSubTypes.Type(value = BuildingPayload.class, name = "PayloadBuilding")
 })
-public interface CardPayload { }
+public sealed interface CardPayload
+        permits MoneyPayload, MoveRelativePayload, MoveToPayload, MoveToNearestPayload, BuildingPayload { }
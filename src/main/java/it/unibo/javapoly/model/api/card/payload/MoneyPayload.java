@@ -54,6 +54,7 @@ public final class MoneyPayload implements CardPayload {
      * 
      * @return the receiver
      */
+    @JsonProperty("receiver")
     public String getReceiverMoney() {
         return this.receiver;
     }
@@ -0,0 +1,58 @@
+package it.unibo.javapoly.model.api.economy;
+
+/**
+ * History of the balance and of the net worth of every player, sampled after every
+ * turn, for the charts of the GUI, the commentary and the analysis of a match.
+ *
+ * <p>
+ * Each series has a fixed capacity: once full, it keeps every second sample and from
+ * then on samples every second turn, so it always covers the whole match. All the
+ * series of a history share the same {@linkplain #getStride() stride}. The history
+ * is written by the thread playing the match and can be read from any thread.
+ */
+public interface BalanceHistory {
+
+    /**
+     * Samples the balance and the net worth of every player.
+     */
+    void record();
+
+    /**
+     * Returns the number of samples recorded since the creation of the history.
+     *
+     * @return the number of recorded turns
+     */
+    long getRecordedCount();
+
+    /**
+     * Returns the number of turns each stored sample stands for.
+     *
+     * @return the stride, 1 until the series are full for the first time
+     */
+    int getStride();
+
+    /**
+     * Returns the maximum number of samples stored for each series.
+     *
+     * @return the capacity
+     */
+    int getCapacity();
+
+    /**
+     * Copies the stored balances of a player, the oldest first.
+     *
+     * @param playerId the player ID
+     * @param target the array receiving the samples, as long as the capacity at least
+     * @return the number of samples copied, 0 for an unknown player
+     */
+    int copyBalances(String playerId, int[] target);
+
+    /**
+     * Copies the stored net worths of a player, the oldest first.
+     *
+     * @param playerId the player ID
+     * @param target the array receiving the samples, as long as the capacity at least
+     * @return the number of samples copied, 0 for an unknown player
+     */
+    int copyNetWorths(String playerId, int[] target);
+}
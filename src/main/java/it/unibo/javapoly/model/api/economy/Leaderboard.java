@@ -0,0 +1,108 @@
+package it.unibo.javapoly.model.api.economy;
+
+import java.util.List;
+
+/**
+ * Standings of a match, fed by the {@link Ledger}: the cash, property value, building
+ * value and active status of every player are updated at each posting, and the players
+ * are kept sorted, so every query costs constant time.
+ *
+ * <p>
+ * The net worth of a player is its cash plus its properties at their purchase price and
+ * its buildings at their cost. Active players rank before bankrupt ones, then by net
+ * worth, and ties keep the order of the seats.
+ */
+public interface Leaderboard {
+
+    /**
+     * Returns the number of players in the standings.
+     *
+     * @return the number of players
+     */
+    int size();
+
+    /**
+     * Returns the cash of a player.
+     *
+     * @param playerId the player ID
+     * @return the cash, 0 for an unknown player
+     */
+    int getCash(String playerId);
+
+    /**
+     * Returns the value of the properties of a player, at their purchase price.
+     *
+     * @param playerId the player ID
+     * @return the property value, 0 for an unknown player
+     */
+    int getPropertyValue(String playerId);
+
+    /**
+     * Returns the value of the buildings of a player, at their cost.
+     *
+     * @param playerId the player ID
+     * @return the building value, 0 for an unknown player
+     */
+    int getBuildingValue(String playerId);
+
+    /**
+     * Returns the net worth of a player.
+     *
+     * @param playerId the player ID
+     * @return the net worth, 0 for an unknown player
+     */
+    int getNetWorth(String playerId);
+
+    /**
+     * Returns the net worth of all the players.
+     *
+     * @return the sum of the net worths
+     */
+    long getTotalNetWorth();
+
+    /**
+     * Checks if a player is still in the game.
+     *
+     * @param playerId the player ID
+     * @return true if the player is not bankrupt, false for an unknown player
+     */
+    boolean isActive(String playerId);
+
+    /**
+     * Marks a player as in the game or bankrupt.
+     *
+     * @param playerId the player ID
+     * @param active false if the player is bankrupt
+     */
+    void setActive(String playerId, boolean active);
+
+    /**
+     * Returns the number of players still in the game.
+     *
+     * @return the number of active players
+     */
+    int getActiveCount();
+
+    /**
+     * Returns the position of a player in the standings.
+     *
+     * @param playerId the player ID
+     * @return the rank, 0 for the leader, or -1 for an unknown player
+     */
+    int getRank(String playerId);
+
+    /**
+     * Returns the player at a position of the standings.
+     *
+     * @param rank the rank, between 0 and {@link #size()} excluded
+     * @return the player ID
+     */
+    String getPlayerAt(int rank);
+
+    /**
+     * Returns the standings.
+     *
+     * @return the player IDs, the leader first
+     */
+    List<String> getStandings();
+}
@@ -0,0 +1,143 @@
+package it.unibo.javapoly.model.api.economy;
+
+import java.util.Collection;
+import java.util.List;
+
+import it.unibo.javapoly.model.api.Player;
+
+/**
+ * Bank recording every movement of money as a double-entry {@link Posting} in an
+ * append-only history, shared by all the controllers of a match.
+ *
+ * <p>
+ * Several movements can be settled atomically: between {@link #begin()} and
+ * {@link #commit()} each movement is checked against the balances the previous
+ * ones would leave, and refused if not covered, but the balances change only at
+ * commit, once per player, with a single notification to its observers, or are
+ * discarded by {@link #rollback()}. The changes of holdings reported during a
+ * settlement are held back until it ends as well.
+ * The account of a player is opened the first time the player is seen, with the
+ * balance it has then. The {@link LedgerListener}s are notified of every posting
+ * and of the changes of holdings reported through {@link #recordAssets}.
+ */
+public interface Ledger extends Bank {
+
+    /**
+     * Reason of the postings opening the accounts.
+     */
+    String OPENING = "opening";
+
+    /**
+     * Opens the account of a player, with its current balance as coming from the bank.
+     * Does nothing if the account is already open.
+     *
+     * @param player the player
+     */
+    void open(Player player);
+
+    /**
+     * Moves money between two accounts.
+     *
+     * @param payer the player paying, null for the bank
+     * @param payee the player paid, null for the bank
+     * @param amount the amount, not negative
+     * @param reason the reason recorded in the posting
+     * @return true if the payer could afford the amount, false if nothing was moved
+     */
+    boolean transfer(Player payer, Player payee, int amount, String reason);
+
+    /**
+     * Reports a change of the properties or buildings of a player. No money moves and
+     * nothing is recorded in the history, but the listeners are notified, at commit if
+     * a settlement is in progress.
+     *
+     * @param owner the player
+     * @param propertyDelta the change of the value of its properties, at their purchase price
+     * @param buildingDelta the change of the value of its buildings, at their cost
+     */
+    void recordAssets(Player owner, int propertyDelta, int buildingDelta);
+
+    /**
+     * Registers a listener notified of the postings recorded from now on.
+     *
+     * @param listener the listener
+     */
+    void addListener(LedgerListener listener);
+
+    /**
+     * Starts an atomic settlement.
+     *
+     * @throws IllegalStateException if a settlement is already in progress
+     */
+    void begin();
+
+    /**
+     * Checks if an atomic settlement is in progress.
+     *
+     * @return true between {@link #begin()} and {@link #commit()} or {@link #rollback()}
+     */
+    boolean isInTransaction();
+
+    /**
+     * Checks if a movement of the settlement in progress has been refused.
+     *
+     * @return true if a payer could not afford a movement since {@link #begin()}
+     */
+    boolean isRejected();
+
+    /**
+     * Applies the movements accepted since {@link #begin()} and records them as one transaction.
+     *
+     * @throws IllegalStateException if no settlement is in progress
+     */
+    void commit();
+
+    /**
+     * Discards the movements and the changes of holdings reported since {@link #begin()},
+     * leaving the balances and the history untouched.
+     *
+     * @throws IllegalStateException if no settlement is in progress
+     */
+    void rollback();
+
+    /**
+     * Returns the number of postings recorded.
+     *
+     * @return the size of the history
+     */
+    int getPostingCount();
+
+    /**
+     * Returns a posting of the history.
+     *
+     * @param index the index of the posting, the oldest is 0
+     * @return the posting
+     */
+    Posting getPosting(int index);
+
+    /**
+     * Returns the postings debiting or crediting an account, the oldest first.
+     *
+     * @param account the name of the player, null for the bank
+     * @return the postings of the account
+     */
+    List<Posting> getHistory(String account);
+
+    /**
+     * Returns the balance of an account according to its postings.
+     *
+     * @param account the name of the player, null for the bank
+     * @return the balance, 0 for an unknown account; the bank is negative by the money it issued
+     */
+    long getBalance(String account);
+
+    /**
+     * Checks that no money has been created or destroyed outside the ledger: the balance
+     * of every player matches its account, and all the accounts sum to zero.
+     * Costs one read per account, so it can audit every simulated match.
+     *
+     * @param players the players of the match
+     * @return true if the money is conserved
+     */
+    boolean audit(Collection<? extends Player> players);
+}
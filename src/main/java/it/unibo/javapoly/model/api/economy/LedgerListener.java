@@ -0,0 +1,28 @@
+package it.unibo.javapoly.model.api.economy;
+
+/**
+ * Listener notified by a {@link Ledger} of every posting it records and of every
+ * change of the holdings of a player, so that aggregates can be kept up to date
+ * without walking the board.
+ */
+public interface LedgerListener {
+
+    /**
+     * Called after a posting has been recorded, including the postings opening the accounts.
+     *
+     * @param payer the name of the player debited, null for the bank
+     * @param payee the name of the player credited, null for the bank
+     * @param amount the amount
+     * @param reason the reason of the posting
+     */
+    void onPosting(String payer, String payee, int amount, String reason);
+
+    /**
+     * Called when the properties or the buildings of a player change value.
+     *
+     * @param owner the name of the player
+     * @param propertyDelta the change of the value of its properties, at their purchase price
+     * @param buildingDelta the change of the value of its buildings, at their cost
+     */
+    void onAssetsChanged(String owner, int propertyDelta, int buildingDelta);
+}
@@ -0,0 +1,171 @@
+package it.unibo.javapoly.model.api.economy;
+
+import java.util.List;
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.model.api.property.Property;
+
+/**
+ * Immutable set of sales that a player should make to raise a given amount of money.
+ *
+ * <p>
+ * Each {@link Step} refers to a single property: the houses to sell on it and
+ * whether the property itself is sold afterwards.
+ */
+public final class LiquidationPlan {
+
+    private final List<Step> steps;
+    private final int raised;
+    private final int rentLost;
+    private final boolean covering;
+
+    /**
+     * Creates a plan.
+     *
+     * @param steps the sales of the plan
+     * @param raised the money raised by the plan
+     * @param rentLost the rent value lost by the plan
+     * @param covering true if the plan raises the requested amount
+     */
+    public LiquidationPlan(final List<Step> steps, final int raised, final int rentLost, final boolean covering) {
+        this.steps = List.copyOf(steps);
+        this.raised = raised;
+        this.rentLost = rentLost;
+        this.covering = covering;
+    }
+
+    /**
+     * Returns the sales of the plan.
+     *
+     * @return an unmodifiable list of steps
+     */
+    public List<Step> getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Returns the money raised by the plan.
+     *
+     * @return the raised amount
+     */
+    public int getRaised() {
+        return this.raised;
+    }
+
+    /**
+     * Returns the rent value the player gives up by following the plan.
+     *
+     * @return the lost rent value
+     */
+    public int getRentLost() {
+        return this.rentLost;
+    }
+
+    /**
+     * Checks if the plan raises the requested amount.
+     * A plan that does not cover the amount sells everything the player has.
+     *
+     * @return true if the requested amount is covered, false otherwise
+     */
+    public boolean isCovering() {
+        return this.covering;
+    }
+
+    /**
+     * Checks if the plan has nothing to sell.
+     *
+     * @return true if the plan has no steps
+     */
+    public boolean isEmpty() {
+        return this.steps.isEmpty();
+    }
+
+    /**
+     * Returns a string representation of the plan.
+     *
+     * @return a string representing the plan
+     */
+    @Override
+    public String toString() {
+        return "LiquidationPlan[steps=" + this.steps + ", raised=" + this.raised
+            + ", rentLost=" + this.rentLost + ", covering=" + this.covering + "]";
+    }
+
+    /**
+     * A single sale of a plan.
+     */
+    public static final class Step {
+
+        private final Property property;
+        private final int housesToSell;
+        private final boolean propertySold;
+        private final int value;
+
+        /**
+         * Creates a step.
+         *
+         * @param property the property involved
+         * @param housesToSell the number of houses to sell on the property
+         * @param propertySold true if the property is sold after its houses
+         * @param value the money raised by the step
+         */
+        public Step(final Property property, final int housesToSell, final boolean propertySold, final int value) {
+            this.property = Objects.requireNonNull(property);
+            this.housesToSell = housesToSell;
+            this.propertySold = propertySold;
+            this.value = value;
+        }
+
+        /**
+         * Returns the property involved.
+         *
+         * @return the property
+         */
+        @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "Property is intentionally shared and mutable in game model"
+        )
+        public Property getProperty() {
+            return this.property;
+        }
+
+        /**
+         * Returns the number of houses to sell on the property.
+         *
+         * @return the number of houses
+         */
+        public int getHousesToSell() {
+            return this.housesToSell;
+        }
+
+        /**
+         * Checks if the property itself is sold.
+         *
+         * @return true if the property is sold
+         */
+        public boolean isPropertySold() {
+            return this.propertySold;
+        }
+
+        /**
+         * Returns the money raised by the step.
+         *
+         * @return the raised amount
+         */
+        public int getValue() {
+            return this.value;
+        }
+
+        /**
+         * Returns a string representation of the step.
+         *
+         * @return a string representing the step
+         */
+        @Override
+        public String toString() {
+            return "Step[property=" + this.property.getId() + ", houses=" + this.housesToSell
+                + ", sold=" + this.propertySold + ", value=" + this.value + "]";
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package it.unibo.javapoly.model.api.economy;
+
+import java.util.Objects;
+
+/**
+ * Immutable entry of a {@link Ledger}: an amount of money moved from one account to another.
+ *
+ * <p>
+ * Every posting debits its payer and credits its payee by the same amount, so the
+ * accounts of a ledger always sum to zero. The bank is the account named {@code null}.
+ */
+public final class Posting {
+
+    private final long transaction;
+    private final String payer;
+    private final String payee;
+    private final int amount;
+    private final String reason;
+
+    /**
+     * Creates a posting.
+     *
+     * @param transaction the transaction the posting belongs to
+     * @param payer the name of the player paying, null for the bank
+     * @param payee the name of the player paid, null for the bank
+     * @param amount the amount moved
+     * @param reason the reason of the movement, e.g. {@code rent}
+     */
+    public Posting(final long transaction, final String payer, final String payee, final int amount,
+            final String reason) {
+        this.transaction = transaction;
+        this.payer = payer;
+        this.payee = payee;
+        this.amount = amount;
+        this.reason = Objects.requireNonNull(reason);
+    }
+
+    /**
+     * Returns the transaction the posting belongs to; the postings of a transaction
+     * were applied together.
+     *
+     * @return the transaction number, starting from 1
+     */
+    public long getTransaction() {
+        return this.transaction;
+    }
+
+    /**
+     * Returns the account debited.
+     *
+     * @return the name of the player paying, null for the bank
+     */
+    public String getPayer() {
+        return this.payer;
+    }
+
+    /**
+     * Returns the account credited.
+     *
+     * @return the name of the player paid, null for the bank
+     */
+    public String getPayee() {
+        return this.payee;
+    }
+
+    /**
+     * Returns the amount moved.
+     *
+     * @return the amount
+     */
+    public int getAmount() {
+        return this.amount;
+    }
+
+    /**
+     * Returns the reason of the movement.
+     *
+     * @return the reason
+     */
+    public String getReason() {
+        return this.reason;
+    }
+
+    /**
+     * Checks if the posting debits or credits an account.
+     *
+     * @param account the name of the player, null for the bank
+     * @return true if the account is the payer or the payee
+     */
+    public boolean involves(final String account) {
+        return Objects.equals(account, this.payer) || Objects.equals(account, this.payee);
+    }
+
+    /**
+     * Returns a string representation of the posting.
+     *
+     * @return a string representing the posting
+     */
+    @Override
+    public String toString() {
+        return "Posting[" + this.transaction + ": " + (this.payer == null ? "bank" : this.payer) + " -> "
+            + (this.payee == null ? "bank" : this.payee) + ", " + this.amount + ", " + this.reason + "]";
+    }
+}
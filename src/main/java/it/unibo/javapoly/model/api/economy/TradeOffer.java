@@ -0,0 +1,263 @@
+package it.unibo.javapoly.model.api.economy;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable offer of a trade between two players: what the proposer gives and what
+ * it asks in exchange, each made of properties, cash and "Get Out Of Jail Free" cards.
+ *
+ * <p>
+ * The properties are identified by their board position, as in the state view of
+ * the bots, and are kept in primitive arrays so that the many counter-offers a bot
+ * evaluates cost no boxing.
+ */
+public final class TradeOffer {
+
+    private final String proposerId;
+    private final String recipientId;
+    private final Side offered;
+    private final Side requested;
+
+    /**
+     * Creates an offer.
+     *
+     * @param proposerId the player proposing the trade
+     * @param recipientId the player receiving the offer
+     * @param offered what the proposer gives
+     * @param requested what the proposer asks in exchange
+     */
+    public TradeOffer(final String proposerId, final String recipientId, final Side offered, final Side requested) {
+        this.proposerId = Objects.requireNonNull(proposerId);
+        this.recipientId = Objects.requireNonNull(recipientId);
+        this.offered = Objects.requireNonNull(offered);
+        this.requested = Objects.requireNonNull(requested);
+    }
+
+    /**
+     * Returns the player proposing the trade.
+     *
+     * @return the proposer ID
+     */
+    public String getProposerId() {
+        return this.proposerId;
+    }
+
+    /**
+     * Returns the player receiving the offer.
+     *
+     * @return the recipient ID
+     */
+    public String getRecipientId() {
+        return this.recipientId;
+    }
+
+    /**
+     * Returns what the proposer gives.
+     *
+     * @return the offered side
+     */
+    public Side getOffered() {
+        return this.offered;
+    }
+
+    /**
+     * Returns what the proposer asks in exchange.
+     *
+     * @return the requested side
+     */
+    public Side getRequested() {
+        return this.requested;
+    }
+
+    /**
+     * Returns the counter-offer exchanging the same assets, proposed by the recipient.
+     *
+     * @return the reversed offer
+     */
+    public TradeOffer reversed() {
+        return new TradeOffer(this.recipientId, this.proposerId, this.requested, this.offered);
+    }
+
+    /**
+     * Checks if the offer exchanges nothing.
+     *
+     * @return true if both sides are empty
+     */
+    public boolean isEmpty() {
+        return this.offered.isEmpty() && this.requested.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof TradeOffer other && this.proposerId.equals(other.proposerId)
+                && this.recipientId.equals(other.recipientId) && this.offered.equals(other.offered)
+                && this.requested.equals(other.requested);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.proposerId, this.recipientId, this.offered, this.requested);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "TradeOffer[" + this.proposerId + " gives " + this.offered + ", " + this.recipientId
+                + " gives " + this.requested + "]";
+    }
+
+    /**
+     * Assets given by one of the players of a trade.
+     */
+    public static final class Side {
+
+        /**
+         * Side giving nothing.
+         */
+        public static final Side NOTHING = new Side(new int[0], 0, false);
+
+        private final int[] positions;
+        private final int cash;
+        private final boolean jailCard;
+
+        /**
+         * Creates a side.
+         *
+         * @param positions the board positions of the properties given, without repetitions
+         * @param cash the cash given, not negative
+         * @param jailCard true if a "Get Out Of Jail Free" card is given
+         * @throws IllegalArgumentException if the cash is negative or a position is repeated
+         */
+        public Side(final int[] positions, final int cash, final boolean jailCard) {
+            if (cash < 0) {
+                throw new IllegalArgumentException("The cash of a trade cannot be negative: " + cash);
+            }
+            this.positions = positions.clone();
+            for (int i = 0; i < this.positions.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (this.positions[i] == this.positions[j]) {
+                        throw new IllegalArgumentException("Property repeated in a trade: " + this.positions[i]);
+                    }
+                }
+            }
+            this.cash = cash;
+            this.jailCard = jailCard;
+        }
+
+        /**
+         * Creates a side giving only properties.
+         *
+         * @param positions the board positions of the properties given
+         * @return the side
+         */
+        public static Side properties(final int... positions) {
+            return new Side(positions, 0, false);
+        }
+
+        /**
+         * Creates a side giving only cash.
+         *
+         * @param cash the cash given
+         * @return the side
+         */
+        public static Side cash(final int cash) {
+            return new Side(new int[0], cash, false);
+        }
+
+        /**
+         * Returns the number of properties given.
+         *
+         * @return the number of properties
+         */
+        public int getPropertyCount() {
+            return this.positions.length;
+        }
+
+        /**
+         * Returns the position of a property given.
+         *
+         * @param index the index of the property, between 0 and {@link #getPropertyCount()} excluded
+         * @return the board position
+         */
+        public int getPosition(final int index) {
+            return this.positions[index];
+        }
+
+        /**
+         * Checks if a property is given.
+         *
+         * @param position the board position of the property
+         * @return true if the property is part of this side
+         */
+        public boolean contains(final int position) {
+            for (final int given : this.positions) {
+                if (given == position) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the cash given.
+         *
+         * @return the cash
+         */
+        public int getCash() {
+            return this.cash;
+        }
+
+        /**
+         * Checks if a "Get Out Of Jail Free" card is given.
+         *
+         * @return true if the card is given
+         */
+        public boolean hasJailCard() {
+            return this.jailCard;
+        }
+
+        /**
+         * Checks if the side gives nothing.
+         *
+         * @return true if no property, cash or card is given
+         */
+        public boolean isEmpty() {
+            return this.positions.length == 0 && this.cash == 0 && !this.jailCard;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Side other && Arrays.equals(this.positions, other.positions)
+                    && this.cash == other.cash && this.jailCard == other.jailCard;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(this.positions), this.cash, this.jailCard);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "properties " + Arrays.toString(this.positions) + ", cash " + this.cash
+                    + (this.jailCard ? ", jail card" : "");
+        }
+    }
+}
@@ -3,6 +3,7 @@ package it.unibo.javapoly.model.api.property;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
+import it.unibo.javapoly.model.api.HashedComponent;
 import it.unibo.javapoly.model.api.RentContext;
 import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
 import it.unibo.javapoly.model.impl.property.PropertyImpl;
@@ -19,7 +20,7 @@ import it.unibo.javapoly.model.impl.property.PropertyImpl;
 @JsonSubTypes({
     @JsonSubTypes.Type(value = PropertyImpl.class, name = "PROPERTYIMPL")
 })
-public interface Property {
+public interface Property extends HashedComponent {
 
     /**
      * Unique identifier for the property.
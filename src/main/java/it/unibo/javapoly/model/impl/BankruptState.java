@@ -1,5 +1,8 @@
 package it.unibo.javapoly.model.impl;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonTypeName;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.PlayerState;
 
@@ -12,8 +15,15 @@ import it.unibo.javapoly.model.api.PlayerState;
  * 
  * @see PlayerState
  */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+@JsonTypeName("BankruptState")
 public final class BankruptState implements PlayerState {
 
+    /**
+     * The key of the state in the state hash of a player.
+     */
+    private static final long HASH_KEY = ZobristHash.entity(BankruptState.class.getName());
+
     /**
      * The single instance of the BankruptState.
      */
@@ -57,4 +67,13 @@ public final class BankruptState implements PlayerState {
     public boolean canMove() {
         return false;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public long getHashKey() {
+        return HASH_KEY;
+    }
 }
@@ -1,6 +1,7 @@
 package it.unibo.javapoly.model.impl;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import it.unibo.javapoly.model.api.Dice;
 
@@ -11,7 +12,23 @@ public final class DiceImpl implements Dice {
     private static final int NUM_FACE = 6;
 
     private int randResult;
-    private final Random rand = new Random();
+    private final RandomGenerator rand;
+
+    /**
+     * Creates a die backed by a new random generator.
+     */
+    public DiceImpl() {
+        this(new Random());
+    }
+
+    /**
+     * Creates a die backed by the given random generator, so that matches can be replayed from a seed.
+     *
+     * @param rand the random generator.
+     */
+    public DiceImpl(final RandomGenerator rand) {
+        this.rand = rand;
+    }
 
     /**
      * {@inheritDoc}
@@ -1,6 +1,7 @@
 package it.unibo.javapoly.model.impl;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.PlayerState;
@@ -19,6 +20,11 @@ import it.unibo.javapoly.utils.ValidationUtils;
 @JsonTypeName("FreeState")
 public final class FreeState implements PlayerState {
 
+    /**
+     * The key of the state in the state hash of a player.
+     */
+    private static final long HASH_KEY = ZobristHash.entity(FreeState.class.getName());
+
     /**
      * The single instance of the FreeState class.
      */
@@ -66,4 +72,13 @@ public final class FreeState implements PlayerState {
     public boolean canMove() {
         return true;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public long getHashKey() {
+        return HASH_KEY;
+    }
 }
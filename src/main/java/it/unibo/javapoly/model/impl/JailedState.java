@@ -1,6 +1,7 @@
 package it.unibo.javapoly.model.impl;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.PlayerState;
@@ -19,6 +20,11 @@ import it.unibo.javapoly.utils.ValidationUtils;
 @JsonTypeName("JailedState")
 public final class JailedState implements PlayerState {
 
+    /**
+     * The key of the state in the state hash of a player.
+     */
+    private static final long HASH_KEY = ZobristHash.entity(JailedState.class.getName());
+
     /**
      * The maximum number of turns a player must stay in jail before being
      * automatically released.
@@ -110,4 +116,13 @@ public final class JailedState implements PlayerState {
     public int getTurnsInJail() {
         return this.turnsInJail;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public long getHashKey() {
+        return HASH_KEY;
+    }
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.PlayerObserver;
 import it.unibo.javapoly.model.api.PlayerState;
+import it.unibo.javapoly.model.api.StateHash;
 import it.unibo.javapoly.model.api.Token;
 import it.unibo.javapoly.model.api.TokenType;
 import it.unibo.javapoly.utils.ValidationUtils;
@@ -50,6 +51,11 @@ import it.unibo.javapoly.utils.ValidationUtils;
 public class PlayerImpl implements Player {
 
     private static final int DEFAULT_STARTING_BALANCE = 1500;
+    private static final int BALANCE_BUCKET = 10;
+    private static final int HASH_POSITION = 0;
+    private static final int HASH_BALANCE = 1;
+    private static final int HASH_STATE = 2;
+    private static final int HASH_JAIL_TURNS = 3;
 
     private final String name;
     private int balance;
@@ -61,6 +67,12 @@ public class PlayerImpl implements Player {
     private String customTokenPath;
     @JsonIgnore
     private final List<PlayerObserver> observers = new ArrayList<>();
+    @JsonIgnore
+    private final long hashEntity;
+    @JsonIgnore
+    private long stateHash;
+    @JsonIgnore
+    private StateHash hashSink;
 
     /**
      * Constructs a new {@link PlayerImpl} with a specified name and token type.
@@ -161,6 +173,8 @@ public class PlayerImpl implements Player {
         this.currentState = FreeState.getInstance();
         this.currentPosition = 0;
         this.customTokenPath = customTokenPath;
+        this.hashEntity = ZobristHash.entity(name);
+        this.stateHash = computeHash();
     }
 
     /**
@@ -170,6 +184,7 @@ public class PlayerImpl implements Player {
     public void playTurn(final int potentialDestination, final boolean isDouble) {
         ValidationUtils.requireNonNegative(potentialDestination, "Potential destination cannot be negative");
         this.currentState.playTurn(this, potentialDestination, isDouble);
+        rehash();
     }
 
     /**
@@ -181,6 +196,7 @@ public class PlayerImpl implements Player {
 
         final int oldPos = this.currentPosition;
         this.currentPosition = newPosition;
+        rehash();
 
         notifyMoved(oldPos, this.currentPosition);
     }
@@ -193,6 +209,7 @@ public class PlayerImpl implements Player {
         ValidationUtils.requireNonNegative(amount, "You cannot pay a negative amount");
         if (this.balance >= amount) {
             this.balance -= amount;
+            rehash();
             notifyBalanceChanged(this.balance);
             return true;
         }
@@ -207,6 +224,7 @@ public class PlayerImpl implements Player {
         ValidationUtils.requireNonNegative(amount, "You cannot receive a negative amount");
 
         this.balance += amount;
+        rehash();
         notifyBalanceChanged(this.balance);
     }
 
@@ -342,6 +360,7 @@ public class PlayerImpl implements Player {
     public void setState(final PlayerState state) {
         final PlayerState oldState = this.currentState;
         this.currentState = ValidationUtils.requireNonNull(state, "State cannot be null");
+        rehash();
         if (!oldState.getClass().equals(state.getClass())) {
             notifyStateChanged(oldState, state);
         }
@@ -353,6 +372,51 @@ public class PlayerImpl implements Player {
     @Override
     public void setPosition(final int position) {
         this.currentPosition = position;
+        rehash();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash covers the position, the balance in buckets of {@value #BALANCE_BUCKET}
+     * and the state, with the turns spent in jail.
+     */
+    @Override
+    @JsonIgnore
+    public long getStateHash() {
+        return this.hashSink == null ? computeHash() : this.stateHash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void attachHash(final StateHash hash) {
+        this.hashSink = ValidationUtils.requireNonNull(hash, "Hash cannot be null");
+        this.stateHash = computeHash();
+        hash.toggle(this.stateHash);
+    }
+
+    /**
+     * Recomputes the hash of the player and forwards the difference to the attached state hash.
+     */
+    private void rehash() {
+        final long hash = computeHash();
+        if (this.hashSink != null) {
+            this.hashSink.toggle(this.stateHash ^ hash);
+        }
+        this.stateHash = hash;
+    }
+
+    private long computeHash() {
+        long hash = ZobristHash.key(this.hashEntity, HASH_POSITION, this.currentPosition)
+                ^ ZobristHash.key(this.hashEntity, HASH_BALANCE, Math.floorDiv(this.balance, BALANCE_BUCKET))
+                ^ ZobristHash.key(this.hashEntity, HASH_STATE, this.currentState.getHashKey());
+        if (this.currentState instanceof JailedState jailed) {
+            hash ^= ZobristHash.key(this.hashEntity, HASH_JAIL_TURNS, jailed.getTurnsInJail());
+        }
+        return hash;
     }
 
     /**
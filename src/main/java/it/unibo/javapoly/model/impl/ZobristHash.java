@@ -0,0 +1,78 @@
+package it.unibo.javapoly.model.impl;
+
+import it.unibo.javapoly.model.api.StateHash;
+
+/**
+ * Zobrist implementation of {@link StateHash}.
+ *
+ * <p>
+ * Instead of tables of random numbers, the key of a feature is obtained by
+ * mixing its coordinates (entity, feature, value) with the SplitMix64 finalizer,
+ * so boards, players and decks of any size are hashed without preallocated tables
+ * and the keys are the same on every JVM.
+ */
+public final class ZobristHash implements StateHash {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_2 = 0x94d049bb133111ebL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long value;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getValue() {
+        return this.value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toggle(final long bits) {
+        this.value ^= bits;
+    }
+
+    /**
+     * Returns the Zobrist key of a feature of an entity having a given value.
+     *
+     * @param entity the entity key, see {@link #entity(String)}
+     * @param feature the feature of the entity
+     * @param featureValue the value of the feature
+     * @return the 64-bit key
+     */
+    public static long key(final long entity, final int feature, final long featureValue) {
+        return mix(mix(mix(entity) + feature * GOLDEN_GAMMA) + featureValue * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Returns the key identifying an entity (a player, a property, a card) by its ID.
+     *
+     * @param id the ID of the entity, may be null
+     * @return the 64-bit entity key, 0 for null
+     */
+    public static long entity(final String id) {
+        if (id == null) {
+            return 0;
+        }
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < id.length(); i++) {
+            hash = (hash ^ id.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(final long seed) {
+        long z = seed;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
@@ -5,9 +5,12 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.board.BoardTopology;
 import it.unibo.javapoly.model.api.board.Tile;
 
 /**
@@ -17,6 +20,8 @@ import it.unibo.javapoly.model.api.board.Tile;
 public final class BoardImpl implements Board {
 
     private final List<Tile> tiles;
+    @JsonIgnore
+    private final BoardTopology topology;
 
     /**
      * Creates a board with the given tiles.
@@ -26,6 +31,7 @@ public final class BoardImpl implements Board {
     @JsonCreator
     public BoardImpl(@JsonProperty("tiles") final List<Tile> tiles) {
         this.tiles = new ArrayList<>(tiles);
+        this.topology = new BoardTopologyImpl(this.tiles);
     }
 
     /**
@@ -49,7 +55,19 @@ public final class BoardImpl implements Board {
      */
     @Override
     public int normalizePosition(final int position) {
-        final int size = size();
-        return ((position % size) + size) % size;
+        return this.topology.normalize(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "The topology is immutable and meant to be shared"
+    )
+    public BoardTopology getTopology() {
+        return this.topology;
     }
 }
@@ -0,0 +1,215 @@
+package it.unibo.javapoly.model.impl.board;
+
+import java.util.List;
+
+import it.unibo.javapoly.model.api.board.BoardTopology;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.board.tile.GoToJailTile;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.board.tile.StartTile;
+
+/**
+ * Table-driven implementation of {@link BoardTopology}.
+ *
+ * <p>
+ * All the lookup tables are filled once in the constructor:
+ * <ul>
+ * <li>the effective type of every tile;</li>
+ * <li>for every tile type and every position, the next tile of that type;</li>
+ * <li>for every position, its clockwise distance from "Go" (the pass-Go table).</li>
+ * </ul>
+ * Every query is then a couple of array reads.
+ */
+public final class BoardTopologyImpl implements BoardTopology {
+
+    private static final int DEFAULT_GO_REWARD = 200;
+    private static final TileType[] TYPES = TileType.values();
+
+    private final int size;
+    private final TileType[] tileTypes;
+    private final int[][] nextOfType;
+    private final int[] goOffset;
+    private final int goPosition;
+    private final int goReward;
+    private final int jailPosition;
+
+    /**
+     * Builds the topology of the given tiles.
+     *
+     * @param tiles the tiles composing the board, indexed by position
+     */
+    public BoardTopologyImpl(final List<Tile> tiles) {
+        this.size = tiles.size();
+        this.tileTypes = new TileType[this.size];
+        this.nextOfType = new int[TYPES.length][this.size];
+        this.goOffset = new int[this.size];
+
+        int start = NO_POSITION;
+        int reward = DEFAULT_GO_REWARD;
+        int jail = NO_POSITION;
+        int jailFromGoToJail = NO_POSITION;
+
+        for (int pos = 0; pos < this.size; pos++) {
+            final Tile tile = tiles.get(pos);
+            this.tileTypes[pos] = classify(tile);
+
+            if (start == NO_POSITION && tile instanceof StartTile st) {
+                start = pos;
+                reward = st.getPassReward();
+            } else if (jail == NO_POSITION && this.tileTypes[pos] == TileType.JAIL) {
+                jail = pos;
+            } else if (jailFromGoToJail == NO_POSITION && tile instanceof GoToJailTile gtj) {
+                jailFromGoToJail = gtj.getJailPosition();
+            }
+        }
+
+        this.goPosition = start == NO_POSITION ? 0 : start;
+        this.goReward = reward;
+        this.jailPosition = jail != NO_POSITION || this.size == 0 ? jail : normalizeOrNone(jailFromGoToJail);
+
+        for (int pos = 0; pos < this.size; pos++) {
+            this.goOffset[pos] = distance(this.goPosition, pos);
+        }
+
+        for (final TileType type : TYPES) {
+            fillNextOfType(this.nextOfType[type.ordinal()], type);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int normalize(final int position) {
+        if (position >= 0 && position < this.size) {
+            return position;
+        }
+        if (position >= this.size && position < 2 * this.size) {
+            return position - this.size;
+        }
+        return Math.floorMod(position, this.size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TileType getTileType(final int position) {
+        return this.tileTypes[normalize(position)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextTileOfType(final int position, final TileType type) {
+        if (this.size == 0) {
+            return NO_POSITION;
+        }
+        return this.nextOfType[type.ordinal()][normalize(position)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGoPosition() {
+        return this.goPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getGoReward() {
+        return this.goReward;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getJailPosition() {
+        return this.jailPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int distance(final int fromPosition, final int toPosition) {
+        final int diff = normalize(toPosition) - normalize(fromPosition);
+        return diff >= 0 ? diff : diff + this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean passesGo(final int fromPosition, final int toPosition) {
+        return this.goOffset[normalize(toPosition)] < this.goOffset[normalize(fromPosition)];
+    }
+
+    /**
+     * Returns the effective type of a tile, splitting property tiles by group.
+     *
+     * @param tile the tile to classify
+     * @return the effective tile type
+     */
+    private static TileType classify(final Tile tile) {
+        if (tile instanceof PropertyTile pt) {
+            final PropertyGroup group = pt.getPropertyColor();
+            if (group == PropertyGroup.RAILROAD) {
+                return TileType.RAILROAD;
+            }
+            if (group == PropertyGroup.UTILITY) {
+                return TileType.UTILITY;
+            }
+            return TileType.PROPERTY;
+        }
+        return tile.getType();
+    }
+
+    /**
+     * Fills the next-of-type table of a single type.
+     *
+     * <p>
+     * The board is walked backwards twice, so that the positions after the last
+     * tile of the type wrap around to the first one.
+     *
+     * @param table the table to fill
+     * @param type the tile type
+     */
+    private void fillNextOfType(final int[] table, final TileType type) {
+        int next = NO_POSITION;
+        for (int i = 2 * this.size - 1; i >= 0; i--) {
+            final int pos = i % this.size;
+            if (i < this.size) {
+                table[pos] = next == pos ? NO_POSITION : next;
+            }
+            if (this.tileTypes[pos] == type) {
+                next = pos;
+            }
+        }
+    }
+
+    /**
+     * Normalizes a position read from the tile data, keeping the "none" marker.
+     *
+     * @param position the position to normalize
+     * @return the normalized position, or {@link #NO_POSITION}
+     */
+    private int normalizeOrNone(final int position) {
+        return position == NO_POSITION ? NO_POSITION : normalize(position);
+    }
+}
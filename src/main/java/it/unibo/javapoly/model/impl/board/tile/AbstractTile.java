@@ -8,8 +8,11 @@ import it.unibo.javapoly.model.api.board.TileType;
  * 
  * <p>
  * This class provides common state and behavior for all tile implementations.
+ * The hierarchy is sealed: the landing logic of each permitted tile is registered
+ * in the board controller.
  */
-public abstract class AbstractTile implements Tile {
+public abstract sealed class AbstractTile implements Tile
+        permits StartTile, PropertyTile, TaxTile, JailTile, FreeParkingTile, GoToJailTile, UnexpectedTile {
 
     private final int position;
     private final TileType type;
@@ -16,7 +16,7 @@ import it.unibo.javapoly.model.impl.property.PropertyImpl;
  * Represents a tile associated with a station/utility/land property.
  */
 @JsonRootName("PropertyTile")
-public class PropertyTile extends AbstractTile {
+public final class PropertyTile extends AbstractTile {
 
     private final Property property;
 
@@ -1,18 +1,25 @@
 package it.unibo.javapoly.model.impl.card;
 
+import it.unibo.javapoly.model.api.StateHash;
 import it.unibo.javapoly.model.api.card.CardDeck;
 import it.unibo.javapoly.model.api.card.CardType;
 import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.impl.ZobristHash;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
 
-import java.util.Deque;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -22,42 +29,111 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 /**
  * Implementation of the CardDeck interface, representing a deck of game cards.
  * It allows drawing, discarding, shuffling, and checking if the deck is empty.
+ *
+ * <p>
+ * The piles are arrays of indexes into the list of all the cards, with the top
+ * of each pile at the end of the array: drawing, discarding and recycling never
+ * allocate, and the shuffle is an in-place Fisher–Yates pass driven by the
+ * injected {@link RandomGenerator}. The cards held by the players are indexed by
+ * player and {@link CardType}, so looking for a "Get Out Of Jail Free" card is a
+ * couple of map reads.
+ *
+ * <p>
+ * The state hash covers the order of both piles and the holder of every held
+ * card. Drawing, holding and discarding update it in O(1), a shuffle rehashes
+ * the draw pile.
  */
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class CardDeckImpl implements CardDeck {
 
-    private final Deque<GameCard> drawPile;
-    private final Deque<GameCard> discardPile;
-    private final Map<GameCard, String> heldCards;
+    private static final int NO_INDEX = -1;
+    private static final long HASH_ENTITY = ZobristHash.entity("deck");
+    private static final int HASH_DRAW = 0;
+    private static final int HASH_DISCARD = 1;
+    private static final int HASH_HELD = 2;
+    private static final int SLOT_SHIFT = 32;
+    private static final String DRAW_LATENCY = "cards.draw";
+
     private final List<GameCard> cards;
 
     @JsonIgnore
-    private final Random random;
+    private final Map<String, Integer> indexById;
+
+    @JsonIgnore
+    private final int[] drawPile;
+
+    @JsonIgnore
+    private int drawCount;
+
+    @JsonIgnore
+    private final int[] discardPile;
+
+    @JsonIgnore
+    private int discardCount;
+
+    @JsonIgnore
+    private final String[] holders;
+
+    @JsonIgnore
+    private final Map<String, EnumMap<CardType, Deque<GameCard>>> heldCards;
+
+    @JsonIgnore
+    private final RandomGenerator random;
+
+    @JsonIgnore
+    private long stateHash;
+
+    @JsonIgnore
+    private StateHash hashSink;
+
+    @JsonIgnore
+    private final LatencyHistogram drawLatency;
 
     /**
      * Constructs a new CardDeckImpl with the provided list of cards.
-     * The cards are added to the discard pile, because the first time 
-     * we draw cards, the cards will be shuffled. 
+     * The cards are added to the discard pile, because the first time
+     * we draw cards, the cards will be shuffled.
      * (This is because we cannot call @Override methods in the constructor)
-     * 
+     *
      * @param cards the list of cards to initialize the deck with
      */
     public CardDeckImpl(final List<GameCard> cards) {
-        this.drawPile = new ArrayDeque<>();
-        this.discardPile = new ArrayDeque<>(cards);
+        this(cards, new Random());
+    }
+
+    /**
+     * Constructs a new CardDeckImpl with the provided list of cards,
+     * shuffled by the given random generator.
+     * The cards are added to the discard pile, so they are shuffled on the first draw.
+     *
+     * @param cards the list of cards to initialize the deck with
+     * @param random the random generator used to shuffle the deck
+     */
+    public CardDeckImpl(final List<GameCard> cards, final RandomGenerator random) {
+        this.cards = new ArrayList<>(cards != null ? cards : List.of());
+        this.random = Objects.requireNonNull(random);
+        this.indexById = new HashMap<>();
+        this.drawPile = new int[this.cards.size()];
+        this.discardPile = new int[this.cards.size()];
+        this.holders = new String[this.cards.size()];
         this.heldCards = new HashMap<>();
-        random = new Random();
-        this.cards = new ArrayList<>(cards);
+        this.drawLatency = MetricsRegistry.getInstance().histogram(DRAW_LATENCY);
+
+        for (int i = 0; i < this.cards.size(); i++) {
+            this.indexById.putIfAbsent(this.cards.get(i).getId(), i);
+            this.discardPile[this.discardCount++] = i;
+        }
+        this.stateHash = computeHash();
     }
 
     /**
      * Constructs a new CardDeckImpl with the provided list of cards.
-     * The cards are added to the discard pile, because the first time 
-     * we draw cards, the cards will be shuffled. 
+     * The cards are added to the discard pile, because the first time
+     * we draw cards, the cards will be shuffled.
      * (This is because we cannot call @Override methods in the constructor)
-     * 
+     *
      * @param cards the list of cards to initialize the deck with
-     * @param drawPile the list of cards to be drawed 
+     * @param drawPile the list of cards to be drawed
      * @param discardPile the list of cards that are already drawed
      * @param heldCards the list of cards that a player is keeping for later
      */
@@ -66,52 +142,97 @@ public class CardDeckImpl implements CardDeck {
                         @JsonProperty("drawPile") final Deque<GameCard> drawPile,
                         @JsonProperty("discardPile") final Deque<GameCard> discardPile,
                         @JsonProperty("heldCards") final Map<String, String> heldCards) {
-        this.drawPile = new ArrayDeque<>(drawPile != null ? drawPile : new ArrayDeque<>());
-        this.discardPile = new ArrayDeque<>(discardPile != null ? discardPile : new ArrayDeque<>());
-        this.cards = new ArrayList<>(cards != null ? cards : new ArrayList<>());
-        this.random = new Random();
-        this.heldCards = new HashMap<>();
+        this(cards, new Random());
+        this.discardCount = 0;
 
-        if (heldCards != null && cards != null) {
+        if (drawPile != null) {
+            this.drawCount = fillPile(this.drawPile, drawPile);
+        }
+        if (discardPile != null) {
+            this.discardCount = fillPile(this.discardPile, discardPile);
+        }
+        if (heldCards != null) {
             for (final Map.Entry<String, String> entry : heldCards.entrySet()) {
-                final String cardId = entry.getKey();
-                final String playerId = entry.getValue();
-
-                GameCard card = null;
-                for (final GameCard c : cards) {
-                    if (c.getId().equals(cardId)) {
-                        card = c;
-                        break;
-                    }
+                final int index = indexOf(entry.getKey());
+                if (index != NO_INDEX) {
+                    hold(index, entry.getValue());
                 }
+            }
+        }
+        this.stateHash = computeHash();
+    }
 
-                if (card != null) {
-                    this.heldCards.put(card, playerId);
-                }
+    /**
+     * Copy constructor, used by {@link #copy(RandomGenerator)}.
+     *
+     * @param other the deck to copy
+     * @param random the random generator of the copy
+     */
+    private CardDeckImpl(final CardDeckImpl other, final RandomGenerator random) {
+        this.cards = other.cards;
+        this.indexById = other.indexById;
+        this.random = Objects.requireNonNull(random);
+        this.drawPile = other.drawPile.clone();
+        this.drawCount = other.drawCount;
+        this.discardPile = other.discardPile.clone();
+        this.discardCount = other.discardCount;
+        this.holders = other.holders.clone();
+        this.stateHash = other.stateHash;
+        this.drawLatency = MetricsRegistry.noop().histogram(DRAW_LATENCY);
+        this.heldCards = new HashMap<>();
+        for (final Map.Entry<String, EnumMap<CardType, Deque<GameCard>>> entry : other.heldCards.entrySet()) {
+            final EnumMap<CardType, Deque<GameCard>> byType = new EnumMap<>(CardType.class);
+            for (final Map.Entry<CardType, Deque<GameCard>> held : entry.getValue().entrySet()) {
+                byType.put(held.getKey(), new ArrayDeque<>(held.getValue()));
             }
+            this.heldCards.put(entry.getKey(), byType);
         }
     }
 
     //#region Getter
     /**
-     * Getter to serialize: trasform Map<GameCard String>.
-     * 
+     * Getter to serialize: trasform the held cards index into Map<String String>.
+     *
      * <p>
      * This method is used by the library Jackson to serialize
-     * the map of GameCard - ownderID
-     * 
+     * the map of cardID - ownderID
+     *
      * @return the map Map<String String>
      */
     @SuppressWarnings("PMD.UnusedPrivateMethod")
     @JsonProperty("heldCards")
     private Map<String, String> getHeldCardsJson() {
         final Map<String, String> result = new HashMap<>();
-        for (final Map.Entry<GameCard, String> entry : heldCards.entrySet()) {
-            result.put(entry.getKey().getId(), entry.getValue());
+        for (int i = 0; i < this.holders.length; i++) {
+            if (this.holders[i] != null) {
+                result.put(this.cards.get(i).getId(), this.holders[i]);
+            }
         }
         return result;
     }
 
+    /**
+     * Getter to serialize the draw pile, from the top card to the bottom one.
+     *
+     * @return the cards of the draw pile
+     */
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    @JsonProperty("drawPile")
+    private List<GameCard> getDrawPileJson() {
+        return pileToList(this.drawPile, this.drawCount);
+    }
+
+    /**
+     * Getter to serialize the discard pile, from the top card to the bottom one.
+     *
+     * @return the cards of the discard pile
+     */
+    @SuppressWarnings("PMD.UnusedPrivateMethod")
+    @JsonProperty("discardPile")
+    private List<GameCard> getDiscardPileJson() {
+        return pileToList(this.discardPile, this.discardCount);
+    }
+
     /**
      * Returns a copy of the list containing all the cards in the deck.
      * This includes both the cards in the draw pile and discard pile.
@@ -126,22 +247,37 @@ public class CardDeckImpl implements CardDeck {
     /**
      * Draws a card from the draw pile for the given player.
      * If the draw pile is empty, the discard pile is recycled.
-     * 
+     *
      * @param playerId the ID of the player drawing the card
      * @return the drawn GameCard
+     * @throws NoSuchElementException if there are no cards left to draw
      */
     @Override
     public GameCard draw(final String playerId) {
-        if (drawPile.isEmpty()) {
+        final long start = this.drawLatency.start();
+        try {
+            return drawCard(playerId);
+        } finally {
+            this.drawLatency.recordSince(start);
+        }
+    }
+
+    private GameCard drawCard(final String playerId) {
+        if (this.drawCount == 0) {
             recycleDiscard();
         }
+        if (this.drawCount == 0) {
+            throw new NoSuchElementException("The deck is empty");
+        }
 
-        final GameCard card = drawPile.removeFirst();
+        final int index = this.drawPile[--this.drawCount];
+        final GameCard card = this.cards.get(index);
+        toggle(slotKey(HASH_DRAW, this.drawCount, index));
 
         if (card.isKeepUntilUsed()) {
-            heldCards.put(card, playerId);
+            hold(index, playerId);
         } else {
-            discardPile.addFirst(card);
+            pushDiscard(index);
         }
 
         return card;
@@ -149,13 +285,22 @@ public class CardDeckImpl implements CardDeck {
 
     /**
      * Discards the given card, removing it from the held cards and adding it to the discard pile.
-     * 
+     * Cards that are not held by a player are already in one of the piles and are ignored.
+     *
      * @param card the card to discard
      */
     @Override
     public void discard(final GameCard card) {
-        heldCards.remove(card);
-        discardPile.addFirst(card);
+        final int index = indexOf(card.getId());
+        if (index == NO_INDEX || this.holders[index] == null) {
+            return;
+        }
+
+        final Deque<GameCard> held = heldOf(this.holders[index], card.getType(), false);
+        if (held != null) {
+            held.remove(card);
+        }
+        release(index);
     }
 
     /**
@@ -163,58 +308,125 @@ public class CardDeckImpl implements CardDeck {
      */
     @Override
     public boolean discardByType(final CardType type, final String playerID) {
+        final Deque<GameCard> held = heldOf(playerID, type, false);
+        if (held == null || held.isEmpty()) {
+            return false;
+        }
+
+        release(indexOf(held.removeFirst().getId()));
+        return true;
+    }
 
-        final GameCard card = playerHeldsCardType(type, playerID);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isHolding(final CardType type, final String playerID) {
+        final Deque<GameCard> held = heldOf(playerID, type, false);
+        return held != null && !held.isEmpty();
+    }
 
-        if (Objects.isNull(card)) {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean transferByType(final CardType type, final String fromID, final String toID) {
+        Objects.requireNonNull(toID);
+        final Deque<GameCard> held = heldOf(fromID, type, false);
+        if (held == null || held.isEmpty()) {
             return false;
         }
-
-        discard(card);
+        final int index = indexOf(held.removeFirst().getId());
+        toggle(heldKey(index, fromID));
+        this.holders[index] = null;
+        hold(index, toID);
         return true;
     }
 
     /**
-     * Shuffles the cards in the draw pile.
-     * The deck is shuffled using a random generator.
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public int getDrawableCount() {
+        return this.drawCount > 0 ? this.drawCount : this.discardCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getDrawable(final int index) {
+        Objects.checkIndex(index, getDrawableCount());
+        return this.cards.get(this.drawCount > 0 ? this.drawPile[index] : this.discardPile[index]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public int getCardCount() {
+        return this.cards.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GameCard getCard(final int index) {
+        return this.cards.get(index);
+    }
+
+    /**
+     * Shuffles the cards in the draw pile in place (Fisher–Yates).
+     * The deck is shuffled using the injected random generator, then rehashed.
      */
     @Override
     public void shuffle() {
-        final List<GameCard> temp = new ArrayList<>(drawPile);
-        Collections.shuffle(temp, random);
-        drawPile.clear();
-        drawPile.addAll(temp);
+        for (int i = this.drawCount - 1; i > 0; i--) {
+            final int j = this.random.nextInt(i + 1);
+            final int tmp = this.drawPile[i];
+            this.drawPile[i] = this.drawPile[j];
+            this.drawPile[j] = tmp;
+        }
+        toggle(this.stateHash ^ computeHash());
     }
 
     /**
      * Checks if both the draw pile and discard pile are empty.
-     * 
+     *
      * @return true if both piles are empty, false otherwise
      */
     @Override
     public boolean isEmpty() {
-        return drawPile.isEmpty() && discardPile.isEmpty();
+        return this.drawCount == 0 && this.discardCount == 0;
     }
 
     /**
-     * Checks if a player holds a card of a specific type among the cards they possess.
-     * 
-     * <p>
-     * This method search in the map {@code heldCards} the card by the playerID.
-     * if any of the cards match the specified type, he will also check if he is the owner
-     *
-     * @param type the type of card being searched
-     * @param playerID the ID of the player
-     * @return the card found that matches the specified type and player ID, or {@code null} otherwise
+     * {@inheritDoc}
      */
-    private GameCard playerHeldsCardType(final CardType type, final String playerID) {
-        for (final Map.Entry<GameCard, String> entry : this.heldCards.entrySet()) {
-            if (entry.getValue().equals(playerID) && entry.getKey().getType() == type) {
-                return entry.getKey();
-            }
-        }
+    @Override
+    public CardDeck copy(final RandomGenerator random) {
+        return new CardDeckImpl(this, random);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @JsonIgnore
+    public long getStateHash() {
+        return this.stateHash;
+    }
 
-        return null;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void attachHash(final StateHash hash) {
+        this.hashSink = Objects.requireNonNull(hash);
+        hash.toggle(this.stateHash);
     }
 
     /**
@@ -222,9 +434,152 @@ public class CardDeckImpl implements CardDeck {
      * The cards are added back to the draw pile and the deck is shuffled again.
      */
     private void recycleDiscard() {
-        while (!discardPile.isEmpty()) {
-            drawPile.addLast(discardPile.removeFirst());
-        }
+        System.arraycopy(this.discardPile, 0, this.drawPile, this.drawCount, this.discardCount);
+        this.drawCount += this.discardCount;
+        this.discardCount = 0;
         shuffle();
     }
+
+    /**
+     * Marks a card as held by a player.
+     *
+     * @param index the index of the card
+     * @param playerId the ID of the player
+     */
+    private void hold(final int index, final String playerId) {
+        final GameCard card = this.cards.get(index);
+        this.holders[index] = playerId;
+        heldOf(playerId, card.getType(), true).addLast(card);
+        toggle(heldKey(index, playerId));
+    }
+
+    /**
+     * Moves a held card on top of the discard pile.
+     *
+     * @param index the index of the card
+     */
+    private void release(final int index) {
+        toggle(heldKey(index, this.holders[index]));
+        this.holders[index] = null;
+        pushDiscard(index);
+    }
+
+    /**
+     * Puts a card on top of the discard pile.
+     *
+     * @param index the index of the card
+     */
+    private void pushDiscard(final int index) {
+        toggle(slotKey(HASH_DISCARD, this.discardCount, index));
+        this.discardPile[this.discardCount++] = index;
+    }
+
+    /**
+     * Flips bits of the hash of the deck and of the attached state hash.
+     *
+     * @param bits the bits to flip
+     */
+    private void toggle(final long bits) {
+        this.stateHash ^= bits;
+        if (this.hashSink != null) {
+            this.hashSink.toggle(bits);
+        }
+    }
+
+    /**
+     * Computes the hash of the whole deck from scratch.
+     *
+     * @return the hash of the deck
+     */
+    private long computeHash() {
+        long hash = 0;
+        for (int i = 0; i < this.drawCount; i++) {
+            hash ^= slotKey(HASH_DRAW, i, this.drawPile[i]);
+        }
+        for (int i = 0; i < this.discardCount; i++) {
+            hash ^= slotKey(HASH_DISCARD, i, this.discardPile[i]);
+        }
+        for (int i = 0; i < this.holders.length; i++) {
+            if (this.holders[i] != null) {
+                hash ^= heldKey(i, this.holders[i]);
+            }
+        }
+        return hash;
+    }
+
+    private static long slotKey(final int pile, final int slot, final int index) {
+        return ZobristHash.key(HASH_ENTITY, pile, ((long) slot << SLOT_SHIFT) | index);
+    }
+
+    private static long heldKey(final int index, final String playerId) {
+        return ZobristHash.key(HASH_ENTITY ^ ZobristHash.entity(playerId), HASH_HELD, index);
+    }
+
+    /**
+     * Returns the queue of the cards of a type held by a player.
+     *
+     * @param playerId the ID of the player
+     * @param type the type of the cards
+     * @param create whether to create the queue if it does not exist
+     * @return the queue, or {@code null} if it does not exist and {@code create} is false
+     */
+    private Deque<GameCard> heldOf(final String playerId, final CardType type, final boolean create) {
+        EnumMap<CardType, Deque<GameCard>> byType = this.heldCards.get(playerId);
+        if (byType == null) {
+            if (!create) {
+                return null;
+            }
+            byType = new EnumMap<>(CardType.class);
+            this.heldCards.put(playerId, byType);
+        }
+        return create ? byType.computeIfAbsent(type, t -> new ArrayDeque<>()) : byType.get(type);
+    }
+
+    /**
+     * Returns the index of a card given its ID.
+     *
+     * @param cardId the ID of the card
+     * @return the index of the card, or {@link #NO_INDEX} if it is not in the deck
+     */
+    private int indexOf(final String cardId) {
+        final Integer index = this.indexById.get(cardId);
+        return index == null ? NO_INDEX : index;
+    }
+
+    /**
+     * Fills a pile with the indexes of the given cards, listed from the top to the bottom.
+     *
+     * @param pile the pile to fill
+     * @param pileCards the cards of the pile
+     * @return the number of cards put in the pile
+     */
+    private int fillPile(final int[] pile, final Collection<GameCard> pileCards) {
+        final int[] indexes = new int[pileCards.size()];
+        int count = 0;
+        for (final GameCard card : pileCards) {
+            final int index = indexOf(card.getId());
+            if (index != NO_INDEX && count < pile.length) {
+                indexes[count++] = index;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            pile[i] = indexes[count - 1 - i];
+        }
+        return count;
+    }
+
+    /**
+     * Lists the cards of a pile from the top to the bottom.
+     *
+     * @param pile the pile
+     * @param count the number of cards in the pile
+     * @return the cards of the pile
+     */
+    private List<GameCard> pileToList(final int[] pile, final int count) {
+        final List<GameCard> result = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            result.add(this.cards.get(pile[i]));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,165 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import it.unibo.javapoly.model.api.economy.BalanceHistory;
+import it.unibo.javapoly.model.api.economy.Leaderboard;
+import it.unibo.javapoly.utils.IntRingBuffer;
+
+/**
+ * Implementation of the BalanceHistory interface, sampling the {@link Leaderboard}
+ * into downsampling {@link IntRingBuffer}s: a sample costs 8 bytes per player and
+ * no allocation, and a series never grows beyond its capacity.
+ *
+ * <p>
+ * Recording and copying are synchronized, as the GUI reads the history while the
+ * match is played by its executor; a turn takes the uncontended lock once. The series
+ * are saved with the match through {@link #save()} and {@link #restore(Map)}.
+ */
+public final class BalanceHistoryImpl implements BalanceHistory {
+
+    /**
+     * Default number of samples stored for each series.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Leaderboard leaderboard;
+    private final String[] ids;
+    private final IntRingBuffer[] balances;
+    private final IntRingBuffer[] netWorths;
+    private final Map<String, Integer> seats = new HashMap<>();
+    private final int capacity;
+
+    /**
+     * Creates an empty history.
+     *
+     * @param playerIds the IDs of the players, in seat order
+     * @param leaderboard the standings of the match, where the samples are read
+     * @param capacity the number of samples stored for each series, even and at least 2
+     */
+    public BalanceHistoryImpl(final List<String> playerIds, final Leaderboard leaderboard, final int capacity) {
+        this.leaderboard = Objects.requireNonNull(leaderboard);
+        this.capacity = capacity;
+        this.ids = playerIds.toArray(new String[0]);
+        this.balances = new IntRingBuffer[this.ids.length];
+        this.netWorths = new IntRingBuffer[this.ids.length];
+        for (int seat = 0; seat < this.ids.length; seat++) {
+            this.seats.put(this.ids[seat], seat);
+            this.balances[seat] = new IntRingBuffer(capacity, true);
+            this.netWorths[seat] = new IntRingBuffer(capacity, true);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void record() {
+        for (int seat = 0; seat < this.ids.length; seat++) {
+            this.balances[seat].add(this.leaderboard.getCash(this.ids[seat]));
+            this.netWorths[seat].add(this.leaderboard.getNetWorth(this.ids[seat]));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized long getRecordedCount() {
+        return this.ids.length == 0 ? 0 : this.balances[0].getOfferedCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int getStride() {
+        return this.ids.length == 0 ? 1 : this.balances[0].getStride();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int copyBalances(final String playerId, final int[] target) {
+        final Integer seat = this.seats.get(playerId);
+        return seat == null ? 0 : this.balances[seat].copyTo(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int copyNetWorths(final String playerId, final int[] target) {
+        final Integer seat = this.seats.get(playerId);
+        return seat == null ? 0 : this.netWorths[seat].copyTo(target);
+    }
+
+    /**
+     * Returns a copy of the series of every player, to save the history with the match.
+     *
+     * @return the series, by player ID in seat order
+     */
+    public synchronized Map<String, Series> save() {
+        final Map<String, Series> saved = new LinkedHashMap<>();
+        for (int seat = 0; seat < this.ids.length; seat++) {
+            saved.put(this.ids[seat], new Series(this.balances[seat].copy(), this.netWorths[seat].copy()));
+        }
+        return saved;
+    }
+
+    /**
+     * Replaces the series of every player with the saved ones, to restore the history of a saved match.
+     *
+     * @param saved the series returned by {@link #save()}
+     * @throws IllegalArgumentException if a player is missing, or a series has another capacity or stride
+     */
+    public synchronized void restore(final Map<String, Series> saved) {
+        final IntRingBuffer[] restoredBalances = new IntRingBuffer[this.ids.length];
+        final IntRingBuffer[] restoredNetWorths = new IntRingBuffer[this.ids.length];
+        for (int seat = 0; seat < this.ids.length; seat++) {
+            final Series series = saved.get(this.ids[seat]);
+            if (series == null || series.balances() == null || series.netWorths() == null) {
+                throw new IllegalArgumentException("No saved series for " + this.ids[seat]);
+            }
+            restoredBalances[seat] = checked(series.balances(), restoredBalances[0]);
+            restoredNetWorths[seat] = checked(series.netWorths(), restoredBalances[0]);
+        }
+        for (int seat = 0; seat < this.ids.length; seat++) {
+            this.balances[seat] = restoredBalances[seat];
+            this.netWorths[seat] = restoredNetWorths[seat];
+        }
+    }
+
+    private IntRingBuffer checked(final IntRingBuffer series, final IntRingBuffer first) {
+        if (series.capacity() != this.capacity || first != null && (series.getStride() != first.getStride()
+                || series.getOfferedCount() != first.getOfferedCount())) {
+            throw new IllegalArgumentException("The saved series do not match the history");
+        }
+        return series.copy();
+    }
+
+    /**
+     * The two series of a player, as saved with the match.
+     *
+     * @param balances the balances of the player
+     * @param netWorths the net worths of the player
+     */
+    public record Series(@JsonProperty("balances") IntRingBuffer balances,
+            @JsonProperty("netWorths") IntRingBuffer netWorths) {
+    }
+}
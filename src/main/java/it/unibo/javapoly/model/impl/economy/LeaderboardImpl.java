@@ -0,0 +1,273 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import it.unibo.javapoly.model.api.economy.Leaderboard;
+import it.unibo.javapoly.model.api.economy.LedgerListener;
+
+/**
+ * Implementation of the Leaderboard interface, registered as a listener of the ledger.
+ *
+ * <p>
+ * The figures of each player are kept in arrays indexed by seat, and the standings in
+ * an array of seats with its inverse. A change moves only the player involved, by
+ * swapping it with its neighbours until the order is restored, which costs a single
+ * comparison when the ranks do not change.
+ */
+public final class LeaderboardImpl implements Leaderboard, LedgerListener {
+
+    private static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> seats = new HashMap<>();
+    private final String[] ids;
+    private final int[] cash;
+    private final int[] propertyValues;
+    private final int[] buildingValues;
+    private final boolean[] active;
+    private final int[] order;
+    private final int[] ranks;
+    private int activeCount;
+    private long totalNetWorth;
+
+    /**
+     * Creates the standings of a match, where every player is active and owns nothing.
+     *
+     * @param playerIds the IDs of the players, in seat order
+     */
+    public LeaderboardImpl(final List<String> playerIds) {
+        this.ids = playerIds.toArray(new String[0]);
+        this.cash = new int[this.ids.length];
+        this.propertyValues = new int[this.ids.length];
+        this.buildingValues = new int[this.ids.length];
+        this.active = new boolean[this.ids.length];
+        this.order = new int[this.ids.length];
+        this.ranks = new int[this.ids.length];
+        for (int seat = 0; seat < this.ids.length; seat++) {
+            if (this.seats.putIfAbsent(Objects.requireNonNull(this.ids[seat]), seat) != null) {
+                throw new IllegalArgumentException("Duplicate player " + this.ids[seat]);
+            }
+            this.order[seat] = seat;
+            this.ranks[seat] = seat;
+        }
+        Arrays.fill(this.active, true);
+        this.activeCount = this.ids.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPosting(final String payer, final String payee, final int amount, final String reason) {
+        final int from = seat(payer);
+        if (from != UNKNOWN) {
+            this.cash[from] -= amount;
+            this.totalNetWorth -= amount;
+            reposition(from);
+        }
+        final int to = seat(payee);
+        if (to != UNKNOWN) {
+            this.cash[to] += amount;
+            this.totalNetWorth += amount;
+            reposition(to);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onAssetsChanged(final String owner, final int propertyDelta, final int buildingDelta) {
+        final int seat = seat(owner);
+        if (seat != UNKNOWN) {
+            this.propertyValues[seat] += propertyDelta;
+            this.buildingValues[seat] += buildingDelta;
+            this.totalNetWorth += propertyDelta + buildingDelta;
+            reposition(seat);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.ids.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCash(final String playerId) {
+        final int seat = seat(playerId);
+        return seat == UNKNOWN ? 0 : this.cash[seat];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPropertyValue(final String playerId) {
+        final int seat = seat(playerId);
+        return seat == UNKNOWN ? 0 : this.propertyValues[seat];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBuildingValue(final String playerId) {
+        final int seat = seat(playerId);
+        return seat == UNKNOWN ? 0 : this.buildingValues[seat];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNetWorth(final String playerId) {
+        final int seat = seat(playerId);
+        return seat == UNKNOWN ? 0 : netWorth(seat);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalNetWorth() {
+        return this.totalNetWorth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isActive(final String playerId) {
+        final int seat = seat(playerId);
+        return seat != UNKNOWN && this.active[seat];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setActive(final String playerId, final boolean isActive) {
+        final int seat = seat(playerId);
+        if (seat != UNKNOWN && this.active[seat] != isActive) {
+            this.active[seat] = isActive;
+            this.activeCount += isActive ? 1 : -1;
+            reposition(seat);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActiveCount() {
+        return this.activeCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRank(final String playerId) {
+        final int seat = seat(playerId);
+        return seat == UNKNOWN ? UNKNOWN : this.ranks[seat];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getPlayerAt(final int rank) {
+        return this.ids[this.order[Objects.checkIndex(rank, this.order.length)]];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getStandings() {
+        final String[] standings = new String[this.order.length];
+        for (int rank = 0; rank < standings.length; rank++) {
+            standings[rank] = this.ids[this.order[rank]];
+        }
+        return List.of(standings);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder("Leaderboard[");
+        for (int rank = 0; rank < this.order.length; rank++) {
+            final int seat = this.order[rank];
+            text.append(rank == 0 ? "" : ", ").append(this.ids[seat]).append('=').append(netWorth(seat));
+            if (!this.active[seat]) {
+                text.append(" (bankrupt)");
+            }
+        }
+        return text.append(']').toString();
+    }
+
+    private int seat(final String playerId) {
+        if (playerId == null) {
+            return UNKNOWN;
+        }
+        final Integer seat = this.seats.get(playerId);
+        return seat == null ? UNKNOWN : seat;
+    }
+
+    private int netWorth(final int seat) {
+        return this.cash[seat] + this.propertyValues[seat] + this.buildingValues[seat];
+    }
+
+    /**
+     * Checks if a player ranks before another one.
+     *
+     * @param seat the seat of the player
+     * @param other the seat of the other player
+     * @return true if the player is active and the other is not, or it is worth more, or it sits before
+     */
+    private boolean ranksBefore(final int seat, final int other) {
+        if (this.active[seat] != this.active[other]) {
+            return this.active[seat];
+        }
+        final int worth = netWorth(seat);
+        final int otherWorth = netWorth(other);
+        return worth != otherWorth ? worth > otherWorth : seat < other;
+    }
+
+    /**
+     * Moves a player whose figures changed to its place in the standings.
+     *
+     * @param seat the seat of the player
+     */
+    private void reposition(final int seat) {
+        int rank = this.ranks[seat];
+        while (rank > 0 && ranksBefore(seat, this.order[rank - 1])) {
+            swap(rank, rank - 1);
+            rank--;
+        }
+        while (rank < this.order.length - 1 && ranksBefore(this.order[rank + 1], seat)) {
+            swap(rank, rank + 1);
+            rank++;
+        }
+    }
+
+    private void swap(final int rank, final int otherRank) {
+        final int seat = this.order[rank];
+        final int other = this.order[otherRank];
+        this.order[rank] = other;
+        this.order[otherRank] = seat;
+        this.ranks[other] = rank;
+        this.ranks[seat] = otherRank;
+    }
+}
@@ -0,0 +1,473 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.LedgerListener;
+import it.unibo.javapoly.model.api.economy.Posting;
+import it.unibo.javapoly.utils.ValidationUtils;
+import it.unibo.javapoly.utils.jfr.MoneyTransferEvent;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+
+/**
+ * Implementation of the Ledger interface.
+ *
+ * <p>
+ * The history is kept in parallel arrays of account and reason indexes, so a posting
+ * costs a few array writes and no allocation; {@link Posting} objects are created
+ * only when the history is queried.
+ */
+public final class LedgerImpl implements Ledger {
+
+    private static final String AMOUNT_MUST_BE_POSITIVE = "Amount must be positive";
+    private static final String PLAYER_NO_NULL = "Player can not be null";
+    private static final String DEPOSIT = "deposit";
+    private static final String WITHDRAWAL = "withdrawal";
+    private static final String TRANSFER = "transfer";
+    private static final int BANK = 0;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_LEGS = 8;
+
+    private final Map<String, Integer> accountIndex = new HashMap<>();
+    private final List<String> accounts = new ArrayList<>();
+    private long[] balances = new long[INITIAL_LEGS];
+    private final Map<String, Integer> reasonIndex = new HashMap<>();
+    private final List<String> reasons = new ArrayList<>();
+    private final List<LedgerListener> listeners = new ArrayList<>();
+    private final boolean emittingEvents;
+
+    private int size;
+    private long[] transactions = new long[INITIAL_CAPACITY];
+    private int[] payers = new int[INITIAL_CAPACITY];
+    private int[] payees = new int[INITIAL_CAPACITY];
+    private int[] amounts = new int[INITIAL_CAPACITY];
+    private int[] reasonIds = new int[INITIAL_CAPACITY];
+    private long lastTransaction;
+
+    private boolean inTransaction;
+    private boolean rejected;
+    private int legs;
+    private Player[] legPayers = new Player[INITIAL_LEGS];
+    private Player[] legPayees = new Player[INITIAL_LEGS];
+    private int[] legAmounts = new int[INITIAL_LEGS];
+    private String[] legReasons = new String[INITIAL_LEGS];
+    private int netCount;
+    private Player[] netPlayers = new Player[INITIAL_LEGS];
+    private int[] nets = new int[INITIAL_LEGS];
+    private int assetCount;
+    private Player[] assetOwners = new Player[INITIAL_LEGS];
+    private int[] propertyDeltas = new int[INITIAL_LEGS];
+    private int[] buildingDeltas = new int[INITIAL_LEGS];
+
+    /**
+     * Creates an empty ledger, where only the bank has an account.
+     */
+    public LedgerImpl() {
+        this(MetricsRegistry.getInstance());
+    }
+
+    /**
+     * Creates an empty ledger, where only the bank has an account, emitting a
+     * {@link MoneyTransferEvent} for every transfer unless the registry of the
+     * match is the {@link MetricsRegistry#noop() no-op registry}.
+     *
+     * @param metrics the registry of the metrics of the match
+     */
+    public LedgerImpl(final MetricsRegistry metrics) {
+        this.emittingEvents = !metrics.isNoop();
+        this.accounts.add(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deposit(final Player player, final int amount) {
+        Objects.requireNonNull(player, PLAYER_NO_NULL);
+        ValidationUtils.requirePositive(amount, AMOUNT_MUST_BE_POSITIVE);
+        transfer(null, player, amount, DEPOSIT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean withdraw(final Player player, final int amount) {
+        Objects.requireNonNull(player, PLAYER_NO_NULL);
+        return transfer(player, null, amount, WITHDRAWAL);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean transferFunds(final Player payer, final Player payee, final int amount) {
+        Objects.requireNonNull(payer, PLAYER_NO_NULL);
+        Objects.requireNonNull(payee, PLAYER_NO_NULL);
+        return transfer(payer, payee, amount, TRANSFER);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * During a settlement, the movements already accepted are taken into account.
+     */
+    @Override
+    public boolean canAfford(final Player player, final int amount) {
+        Objects.requireNonNull(player, PLAYER_NO_NULL);
+        ValidationUtils.requirePositive(amount, AMOUNT_MUST_BE_POSITIVE);
+        return available(player) >= amount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void open(final Player player) {
+        account(Objects.requireNonNull(player, PLAYER_NO_NULL));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean transfer(final Player payer, final Player payee, final int amount, final String reason) {
+        ValidationUtils.requireNonNegative(amount, AMOUNT_MUST_BE_POSITIVE);
+        Objects.requireNonNull(reason);
+        final int payerAccount = account(payer);
+        final int payeeAccount = account(payee);
+        if (this.inTransaction) {
+            if (payer != null && available(payer) < amount) {
+                this.rejected = true;
+                return false;
+            }
+            addNet(payer, -amount);
+            addNet(payee, amount);
+            addLeg(payer, payee, amount, reason);
+            return true;
+        }
+        if (payer != null && !payer.tryToPay(amount)) {
+            return false;
+        }
+        if (payee != null) {
+            payee.receiveMoney(amount);
+        }
+        record(++this.lastTransaction, payerAccount, payeeAccount, amount, reason);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordAssets(final Player owner, final int propertyDelta, final int buildingDelta) {
+        Objects.requireNonNull(owner, PLAYER_NO_NULL);
+        if (propertyDelta == 0 && buildingDelta == 0) {
+            return;
+        }
+        if (this.inTransaction) {
+            addAssets(owner, propertyDelta, buildingDelta);
+            return;
+        }
+        for (final LedgerListener listener : this.listeners) {
+            listener.onAssetsChanged(owner.getName(), propertyDelta, buildingDelta);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addListener(final LedgerListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void begin() {
+        if (this.inTransaction) {
+            throw new IllegalStateException("A settlement is already in progress");
+        }
+        this.inTransaction = true;
+        this.rejected = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isInTransaction() {
+        return this.inTransaction;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRejected() {
+        return this.rejected;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void commit() {
+        if (!this.inTransaction) {
+            throw new IllegalStateException("No settlement in progress");
+        }
+        this.inTransaction = false;
+        this.rejected = false;
+        try {
+            for (int i = 0; i < this.netCount; i++) {
+                final Player player = this.netPlayers[i];
+                if (this.nets[i] > 0) {
+                    player.receiveMoney(this.nets[i]);
+                } else if (this.nets[i] < 0 && !player.tryToPay(-this.nets[i])) {
+                    throw new IllegalStateException("The balance of " + player.getName()
+                            + " changed during the settlement");
+                }
+            }
+            if (this.legs > 0) {
+                final long transaction = ++this.lastTransaction;
+                for (int i = 0; i < this.legs; i++) {
+                    record(transaction, account(this.legPayers[i]), account(this.legPayees[i]),
+                            this.legAmounts[i], this.legReasons[i]);
+                }
+            }
+            for (int i = 0; i < this.assetCount; i++) {
+                recordAssets(this.assetOwners[i], this.propertyDeltas[i], this.buildingDeltas[i]);
+            }
+        } finally {
+            clearSettlement();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void rollback() {
+        if (!this.inTransaction) {
+            throw new IllegalStateException("No settlement in progress");
+        }
+        this.inTransaction = false;
+        this.rejected = false;
+        clearSettlement();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPostingCount() {
+        return this.size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Posting getPosting(final int index) {
+        Objects.checkIndex(index, this.size);
+        return new Posting(this.transactions[index], this.accounts.get(this.payers[index]),
+                this.accounts.get(this.payees[index]), this.amounts[index], this.reasons.get(this.reasonIds[index]));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Posting> getHistory(final String account) {
+        final Integer index = account == null ? Integer.valueOf(BANK) : this.accountIndex.get(account);
+        final List<Posting> history = new ArrayList<>();
+        if (index != null) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.payers[i] == index || this.payees[i] == index) {
+                    history.add(getPosting(i));
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getBalance(final String account) {
+        final Integer index = account == null ? Integer.valueOf(BANK) : this.accountIndex.get(account);
+        return index == null ? 0 : this.balances[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean audit(final Collection<? extends Player> players) {
+        long total = 0;
+        for (int i = 0; i < this.accounts.size(); i++) {
+            total += this.balances[i];
+        }
+        if (total != 0) {
+            return false;
+        }
+        for (final Player player : players) {
+            final Integer index = this.accountIndex.get(player.getName());
+            if (index == null ? player.getBalance() != 0 : player.getBalance() != this.balances[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the money a player can spend, net of the settlement in progress.
+     *
+     * @param player the player
+     * @return the available money
+     */
+    private int available(final Player player) {
+        int available = player.getBalance();
+        if (this.inTransaction) {
+            for (int i = 0; i < this.netCount; i++) {
+                if (this.netPlayers[i] == player) {
+                    available += this.nets[i];
+                }
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Returns the account of a player, opening it with the current balance of the player if needed.
+     *
+     * @param player the player, null for the bank
+     * @return the index of the account
+     */
+    private int account(final Player player) {
+        if (player == null) {
+            return BANK;
+        }
+        final Integer index = this.accountIndex.get(player.getName());
+        if (index != null) {
+            return index;
+        }
+        final int opened = this.accounts.size();
+        this.accountIndex.put(player.getName(), opened);
+        this.accounts.add(player.getName());
+        if (opened == this.balances.length) {
+            this.balances = Arrays.copyOf(this.balances, opened * 2);
+        }
+        if (player.getBalance() > 0) {
+            record(++this.lastTransaction, BANK, opened, player.getBalance(), OPENING);
+        }
+        return opened;
+    }
+
+    private void addNet(final Player player, final int amount) {
+        if (player == null) {
+            return;
+        }
+        for (int i = 0; i < this.netCount; i++) {
+            if (this.netPlayers[i] == player) {
+                this.nets[i] += amount;
+                return;
+            }
+        }
+        if (this.netCount == this.netPlayers.length) {
+            this.netPlayers = Arrays.copyOf(this.netPlayers, this.netCount * 2);
+            this.nets = Arrays.copyOf(this.nets, this.netCount * 2);
+        }
+        this.netPlayers[this.netCount] = player;
+        this.nets[this.netCount++] = amount;
+    }
+
+    private void addAssets(final Player owner, final int propertyDelta, final int buildingDelta) {
+        if (this.assetCount == this.assetOwners.length) {
+            this.assetOwners = Arrays.copyOf(this.assetOwners, this.assetCount * 2);
+            this.propertyDeltas = Arrays.copyOf(this.propertyDeltas, this.assetCount * 2);
+            this.buildingDeltas = Arrays.copyOf(this.buildingDeltas, this.assetCount * 2);
+        }
+        this.assetOwners[this.assetCount] = owner;
+        this.propertyDeltas[this.assetCount] = propertyDelta;
+        this.buildingDeltas[this.assetCount++] = buildingDelta;
+    }
+
+    /**
+     * Forgets the movements and the changes of holdings of the settlement just ended.
+     */
+    private void clearSettlement() {
+        Arrays.fill(this.legPayers, 0, this.legs, null);
+        Arrays.fill(this.legPayees, 0, this.legs, null);
+        Arrays.fill(this.legReasons, 0, this.legs, null);
+        Arrays.fill(this.netPlayers, 0, this.netCount, null);
+        Arrays.fill(this.assetOwners, 0, this.assetCount, null);
+        this.legs = 0;
+        this.netCount = 0;
+        this.assetCount = 0;
+    }
+
+    private void addLeg(final Player payer, final Player payee, final int amount, final String reason) {
+        if (this.legs == this.legPayers.length) {
+            this.legPayers = Arrays.copyOf(this.legPayers, this.legs * 2);
+            this.legPayees = Arrays.copyOf(this.legPayees, this.legs * 2);
+            this.legAmounts = Arrays.copyOf(this.legAmounts, this.legs * 2);
+            this.legReasons = Arrays.copyOf(this.legReasons, this.legs * 2);
+        }
+        this.legPayers[this.legs] = payer;
+        this.legPayees[this.legs] = payee;
+        this.legAmounts[this.legs] = amount;
+        this.legReasons[this.legs++] = reason;
+    }
+
+    /**
+     * Appends a posting to the history and updates the accounts it involves.
+     *
+     * @param transaction the transaction of the posting
+     * @param payer the account debited
+     * @param payee the account credited
+     * @param amount the amount
+     * @param reason the reason
+     */
+    private void record(final long transaction, final int payer, final int payee, final int amount,
+            final String reason) {
+        if (this.size == this.amounts.length) {
+            final int capacity = this.size * 2;
+            this.transactions = Arrays.copyOf(this.transactions, capacity);
+            this.payers = Arrays.copyOf(this.payers, capacity);
+            this.payees = Arrays.copyOf(this.payees, capacity);
+            this.amounts = Arrays.copyOf(this.amounts, capacity);
+            this.reasonIds = Arrays.copyOf(this.reasonIds, capacity);
+        }
+        Integer reasonId = this.reasonIndex.get(reason);
+        if (reasonId == null) {
+            reasonId = this.reasons.size();
+            this.reasonIndex.put(reason, reasonId);
+            this.reasons.add(reason);
+        }
+        this.transactions[this.size] = transaction;
+        this.payers[this.size] = payer;
+        this.payees[this.size] = payee;
+        this.amounts[this.size] = amount;
+        this.reasonIds[this.size++] = reasonId;
+        this.balances[payer] -= amount;
+        this.balances[payee] += amount;
+        if (this.emittingEvents && !OPENING.equals(reason)) {
+            MoneyTransferEvent.emit(this.accounts.get(payer), this.accounts.get(payee), amount, reason);
+        }
+        for (final LedgerListener listener : this.listeners) {
+            listener.onPosting(this.accounts.get(payer), this.accounts.get(payee), amount, reason);
+        }
+    }
+}
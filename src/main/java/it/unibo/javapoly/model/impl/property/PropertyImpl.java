@@ -2,13 +2,16 @@ package it.unibo.javapoly.model.impl.property;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Objects;
 import it.unibo.javapoly.model.api.RentContext;
+import it.unibo.javapoly.model.api.StateHash;
 import it.unibo.javapoly.model.api.property.Property;
 import it.unibo.javapoly.model.api.property.PropertyGroup;
 import it.unibo.javapoly.model.api.property.PropertyState;
+import it.unibo.javapoly.model.impl.ZobristHash;
 import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
 
 /**
@@ -20,11 +23,23 @@ import it.unibo.javapoly.model.impl.card.AbstractPropertyCard;
 public final class PropertyImpl implements Property {
 
     private static final int IS_HOTEL = 5;
+    private static final int HASH_OWNER = 0;
+    private static final int HASH_HOUSES = 1;
 
     private final String id;
     private final int position;
     private final AbstractPropertyCard card;
     private final PropertyStateImpl state;
+    @JsonIgnore
+    private final long hashEntity;
+    @JsonIgnore
+    private long stateHash;
+    @JsonIgnore
+    private StateHash hashSink;
+    @JsonIgnore
+    private String hashedOwnerId;
+    @JsonIgnore
+    private long ownerKey;
 
     /**
      * Create a property tile.
@@ -42,6 +57,7 @@ public final class PropertyImpl implements Property {
         this.position = position;
         this.card = Objects.requireNonNull(card);
         this.state = new PropertyStateImpl(card.getPropertyCost());
+        this.hashEntity = ZobristHash.entity(id);
     }
 
     /**
@@ -170,7 +186,7 @@ public final class PropertyImpl implements Property {
             throw new IllegalStateException("player is not the owner");
         }
 
-        return this.state.addHouse();
+        return rehash(this.state.addHouse());
     }
 
     /**
@@ -188,7 +204,7 @@ public final class PropertyImpl implements Property {
             throw new IllegalStateException("player is not the owner");
         }
 
-        return this.state.removeHouse();
+        return rehash(this.state.removeHouse());
     }
 
     /**
@@ -201,7 +217,7 @@ public final class PropertyImpl implements Property {
         }
 
         this.state.setNewOwnerID(Objects.requireNonNull(buyerID));
-        return true;
+        return rehash(true);
     }
 
     /**
@@ -210,6 +226,29 @@ public final class PropertyImpl implements Property {
     @Override
     public void clearOwner() {
         this.state.bankIsNewOwnerID();
+        rehash(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The hash covers the owner and the number of houses.
+     */
+    @Override
+    @JsonIgnore
+    public long getStateHash() {
+        return this.hashSink == null ? computeHash() : this.stateHash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void attachHash(final StateHash hash) {
+        this.hashSink = Objects.requireNonNull(hash);
+        this.stateHash = computeHash();
+        hash.toggle(this.stateHash);
     }
 
     /**
@@ -228,6 +267,38 @@ public final class PropertyImpl implements Property {
         return this.getBuiltHouses() == this.IS_HOTEL;
     }
 
+    /**
+     * Recomputes the hash of the property, if it has changed, and forwards the
+     * difference to the attached state hash.
+     *
+     * @param changed whether the state of the property has changed
+     * @return the value of {@code changed}
+     */
+    private boolean rehash(final boolean changed) {
+        if (changed) {
+            final long hash = computeHash();
+            if (this.hashSink != null) {
+                this.hashSink.toggle(this.stateHash ^ hash);
+            }
+            this.stateHash = hash;
+        }
+        return changed;
+    }
+
+    /**
+     * Computes the hash of the property. The key of the owner is cached with the ID it
+     * was computed from, so that only a change of owner hashes the ID string.
+     */
+    private long computeHash() {
+        final String ownerId = this.state.getOwnerId();
+        if (!Objects.equals(ownerId, this.hashedOwnerId)) {
+            this.hashedOwnerId = ownerId;
+            this.ownerKey = ZobristHash.entity(ownerId);
+        }
+        return ZobristHash.key(this.hashEntity, HASH_OWNER, this.ownerKey)
+                ^ ZobristHash.key(this.hashEntity, HASH_HOUSES, this.state.getHouses());
+    }
+
     /** 
      * Determines if this property is a land property or a special type of property like a utility or railroad.
      * 
@@ -0,0 +1,196 @@
+package it.unibo.javapoly.utils;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Fixed-capacity buffer of {@code int} samples, the oldest first, that never allocates
+ * after its creation.
+ *
+ * <p>
+ * Once full, a buffer either overwrites its oldest sample, keeping a sliding window of
+ * the last samples, or downsamples: it keeps every second sample and from then on stores
+ * one sample out of two, so it always covers everything offered at a coarser resolution.
+ * The {@linkplain #getStride() stride} is the number of offered samples each stored sample
+ * stands for; stored samples are the last of their stride. The buffer is not thread-safe.
+ * It is saved as JSON with its array, its stride and its count of offered samples.
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE, isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+public final class IntRingBuffer {
+
+    private final int[] samples;
+    private final boolean downsampling;
+    private int head;
+    private int size;
+    private int stride = 1;
+    private long offered;
+    private int last;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the maximum number of stored samples, even and at least 2
+     * @param downsampling true to downsample once full, false to overwrite the oldest sample
+     * @throws IllegalArgumentException if the capacity is odd or less than 2
+     */
+    public IntRingBuffer(final int capacity, final boolean downsampling) {
+        if (capacity < 2 || capacity % 2 != 0) {
+            throw new IllegalArgumentException("The capacity must be even and at least 2: " + capacity);
+        }
+        this.samples = new int[capacity];
+        this.downsampling = downsampling;
+    }
+
+    /**
+     * Restores a saved buffer, or copies one.
+     *
+     * @param samples the array of the samples, whose length is the capacity
+     * @param downsampling true to downsample once full, false to overwrite the oldest sample
+     * @param head the index of the oldest sample in the array
+     * @param size the number of stored samples
+     * @param stride the number of offered samples each stored sample stands for
+     * @param offered the number of samples offered
+     * @param last the last sample offered
+     * @throws IllegalArgumentException if the state is not one a buffer can reach
+     */
+    @JsonCreator
+    private IntRingBuffer(@JsonProperty("samples") final int[] samples,
+            @JsonProperty("downsampling") final boolean downsampling,
+            @JsonProperty("head") final int head,
+            @JsonProperty("size") final int size,
+            @JsonProperty("stride") final int stride,
+            @JsonProperty("offered") final long offered,
+            @JsonProperty("last") final int last) {
+        if (samples == null || samples.length < 2 || samples.length % 2 != 0 || size < 0 || size > samples.length
+                || head < 0 || head >= samples.length || stride < 1 || offered < size) {
+            throw new IllegalArgumentException("Inconsistent saved buffer");
+        }
+        this.samples = samples.clone();
+        this.downsampling = downsampling;
+        this.head = head;
+        this.size = size;
+        this.stride = stride;
+        this.offered = offered;
+        this.last = last;
+    }
+
+    /**
+     * Returns an independent copy of this buffer.
+     *
+     * @return the copy
+     */
+    public IntRingBuffer copy() {
+        return new IntRingBuffer(this.samples, this.downsampling, this.head, this.size, this.stride, this.offered,
+                this.last);
+    }
+
+    /**
+     * Offers a sample, stored unless the stride skips it.
+     *
+     * @param value the sample
+     */
+    public void add(final int value) {
+        this.last = value;
+        if (++this.offered % this.stride != 0) {
+            return;
+        }
+        if (this.size == this.samples.length) {
+            if (this.downsampling) {
+                downsample();
+                if (this.offered % this.stride != 0) {
+                    return;
+                }
+            } else {
+                this.samples[this.head] = value;
+                this.head = (this.head + 1) % this.samples.length;
+                return;
+            }
+        }
+        this.samples[(this.head + this.size++) % this.samples.length] = value;
+    }
+
+    /**
+     * Returns a stored sample.
+     *
+     * @param index the index of the sample, 0 for the oldest
+     * @return the sample
+     */
+    public int get(final int index) {
+        return this.samples[(this.head + Objects.checkIndex(index, this.size)) % this.samples.length];
+    }
+
+    /**
+     * Copies the stored samples, the oldest first.
+     *
+     * @param target the array receiving the samples, as long as the capacity at least
+     * @return the number of samples copied
+     */
+    public int copyTo(final int[] target) {
+        final int first = Math.min(this.size, this.samples.length - this.head);
+        System.arraycopy(this.samples, this.head, target, 0, first);
+        System.arraycopy(this.samples, 0, target, first, this.size - first);
+        return this.size;
+    }
+
+    /**
+     * Returns the last sample offered, stored or not.
+     *
+     * @return the last sample, 0 if none has been offered
+     */
+    public int getLast() {
+        return this.last;
+    }
+
+    /**
+     * Returns the number of stored samples.
+     *
+     * @return the size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the maximum number of stored samples.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return this.samples.length;
+    }
+
+    /**
+     * Returns the number of offered samples each stored sample stands for.
+     *
+     * @return the stride, 1 until the buffer downsamples
+     */
+    public int getStride() {
+        return this.stride;
+    }
+
+    /**
+     * Returns the number of samples offered since the creation of the buffer.
+     *
+     * @return the number of offered samples
+     */
+    public long getOfferedCount() {
+        return this.offered;
+    }
+
+    /**
+     * Keeps the second sample of every pair and doubles the stride, so the samples
+     * kept are still the last of their stride. The buffer is full and starts at
+     * index 0, as it never wraps when downsampling.
+     */
+    private void downsample() {
+        this.size /= 2;
+        for (int i = 0; i < this.size; i++) {
+            this.samples[i] = this.samples[2 * i + 1];
+        }
+        this.stride *= 2;
+    }
+}
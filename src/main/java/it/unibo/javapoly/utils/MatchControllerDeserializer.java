@@ -3,16 +3,27 @@ package it.unibo.javapoly.utils;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
 import it.unibo.javapoly.controller.impl.MatchControllerImpl;
+import it.unibo.javapoly.utils.jfr.PersistenceEvent;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Utility class for serializing and deserializing MatchControllerImpl instances to and from JSON files.
  */
 public final class MatchControllerDeserializer {
+    private static final LatencyHistogram LOAD_LATENCY = MetricsRegistry.getInstance().histogram("match.load");
+    private static final String HEADLESS_TARGET = "headless stream";
+
     private MatchControllerDeserializer() {
     }
 
@@ -24,14 +35,61 @@ public final class MatchControllerDeserializer {
      * @throws IOException if an error occurs during deserialization or file reading.
      */
     public static MatchControllerImpl deserialize(final File file) throws IOException {
+        final PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        event.setOperation(PersistenceEvent.LOAD, file.getPath());
+        final long start = LOAD_LATENCY.start();
+        try {
+            final ObjectMapper mapper = configure();
+            final MatchControllerImpl match = read(mapper, mapper.readTree(file), null);
+            event.succeeded();
+            return match;
+        } finally {
+            LOAD_LATENCY.recordSince(start);
+            event.commit();
+        }
+    }
+
+    /**
+     * Deserializes a headless MatchControllerImpl, played without GUI, from the given JSON stream.
+     *
+     * @param input the JSON stream containing the serialized MatchControllerImpl.
+     * @param strategies the strategies of the bot players, by player name.
+     * @return the deserialized MatchControllerImpl instance.
+     * @throws IOException if an error occurs during deserialization or stream reading.
+     */
+    public static MatchControllerImpl deserializeHeadless(final InputStream input,
+            final Map<String, PlayerStrategy> strategies) throws IOException {
+        final PersistenceEvent event = new PersistenceEvent();
+        event.begin();
+        event.setOperation(PersistenceEvent.LOAD, HEADLESS_TARGET);
+        final long start = LOAD_LATENCY.start();
+        try {
+            final ObjectMapper mapper = configure();
+            final MatchControllerImpl match = read(mapper, mapper.readTree(input), Objects.requireNonNull(strategies));
+            event.succeeded();
+            return match;
+        } finally {
+            LOAD_LATENCY.recordSince(start);
+            event.commit();
+        }
+    }
+
+    private static ObjectMapper configure() {
         final ObjectMapper mapper = JsonUtils.getInstance().mapper();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
-        final JsonNode root = mapper.readTree(file);
+        return mapper;
+    }
+
+    private static MatchControllerImpl read(final ObjectMapper mapper, final JsonNode root,
+            final Map<String, PlayerStrategy> strategies) throws IOException {
         final JsonNode matchNode = root.get("MatchControllerImpl");
         if (matchNode == null) {
             throw new IllegalArgumentException("Invalid JSON: missing 'MatchControllerImpl' field");
         }
-        return mapper.treeToValue(matchNode, MatchControllerImpl.class);
+        return mapper.readerFor(MatchControllerImpl.class)
+                .with(new InjectableValues.Std().addValue(MatchControllerImpl.STRATEGIES, strategies))
+                .readValue(matchNode);
     }
 }
@@ -0,0 +1,46 @@
+package it.unibo.javapoly.utils.jfr;
+
+/**
+ * Names shared by the Flight Recorder events of the game.
+ *
+ * <p>
+ * The events are disabled by default and enabled by the settings profile
+ * {@value #SETTINGS}, to be combined with a JDK profile, e.g.
+ * {@code -XX:StartFlightRecording:settings=profile,settings=src/main/resources/jfr/javapoly.jfc},
+ * so that one recording correlates slow frames with the engine work behind them.
+ */
+public final class JfrEvents {
+
+    /**
+     * Classpath resource of the settings profile enabling the events.
+     */
+    public static final String SETTINGS = "/jfr/javapoly.jfc";
+
+    /**
+     * Prefix of the names of the events.
+     */
+    static final String PREFIX = "it.unibo.javapoly.";
+
+    /**
+     * Top-level category of the events.
+     */
+    static final String CATEGORY = "JavaPoly";
+
+    /**
+     * Category of the events of the match engine.
+     */
+    static final String ENGINE = "Engine";
+
+    /**
+     * Category of the events moving money.
+     */
+    static final String ECONOMY = "Economy";
+
+    /**
+     * Category of the events of the user interface.
+     */
+    static final String GUI = "GUI";
+
+    private JfrEvents() {
+    }
+}
@@ -0,0 +1,67 @@
+package it.unibo.javapoly.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the liquidation of the assets of a player
+ * who cannot pay a debt, from the debt to its payment or the bankruptcy.
+ */
+@Name(JfrEvents.PREFIX + "Liquidation")
+@Label("Liquidation")
+@Category({JfrEvents.CATEGORY, JfrEvents.ECONOMY})
+@Description("Sale of the assets of a player to pay a debt, interactive for human players")
+@Enabled(false)
+@StackTrace(false)
+public final class LiquidationEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    private String player;
+
+    @Label("Creditor")
+    @Description("Name of the creditor, missing for the bank")
+    private String creditor;
+
+    @Label("Debt")
+    private int debt;
+
+    @Label("Remaining Debt")
+    private int remainingDebt;
+
+    @Label("Bankrupt")
+    private boolean bankrupt;
+
+    @Label("Automatic")
+    @Description("True if the assets were sold by a strategy rather than by the user")
+    private boolean automatic;
+
+    /**
+     * Sets the debt to pay.
+     *
+     * @param player the name of the player
+     * @param creditor the name of the creditor, null for the bank
+     * @param debt the amount owed
+     * @param automatic true if the assets are sold without the user
+     */
+    public void setDebt(final String player, final String creditor, final int debt, final boolean automatic) {
+        this.player = player;
+        this.creditor = creditor;
+        this.debt = debt;
+        this.automatic = automatic;
+    }
+
+    /**
+     * Sets the outcome of the liquidation.
+     *
+     * @param remainingDebt the debt left unpaid
+     * @param bankrupt true if the player went bankrupt
+     */
+    public void setOutcome(final int remainingDebt, final boolean bankrupt) {
+        this.remainingDebt = remainingDebt;
+        this.bankrupt = bankrupt;
+    }
+}
@@ -0,0 +1,54 @@
+package it.unibo.javapoly.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a movement of money between two players, or
+ * between a player and the bank.
+ */
+@Name(JfrEvents.PREFIX + "MoneyTransfer")
+@Label("Money Transfer")
+@Category({JfrEvents.CATEGORY, JfrEvents.ECONOMY})
+@Description("Money moved between two players or between a player and the bank")
+@Enabled(false)
+@StackTrace(false)
+public final class MoneyTransferEvent extends jdk.jfr.Event {
+
+    @Label("Payer")
+    @Description("Name of the paying player, missing for the bank")
+    private String payer;
+
+    @Label("Payee")
+    @Description("Name of the paid player, missing for the bank")
+    private String payee;
+
+    @Label("Amount")
+    private int amount;
+
+    @Label("Reason")
+    private String reason;
+
+    /**
+     * Records a transfer, if the event is enabled.
+     *
+     * @param payer the name of the paying player, null for the bank
+     * @param payee the name of the paid player, null for the bank
+     * @param amount the amount of money
+     * @param reason the reason of the transfer
+     */
+    public static void emit(final String payer, final String payee, final int amount, final String reason) {
+        final MoneyTransferEvent event = new MoneyTransferEvent();
+        if (event.shouldCommit()) {
+            event.payer = payer;
+            event.payee = payee;
+            event.amount = amount;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+}
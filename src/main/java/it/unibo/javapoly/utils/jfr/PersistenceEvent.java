@@ -0,0 +1,58 @@
+package it.unibo.javapoly.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the save or the load of a match.
+ */
+@Name(JfrEvents.PREFIX + "Persistence")
+@Label("Save/Load")
+@Category({JfrEvents.CATEGORY, JfrEvents.ENGINE})
+@Description("Serialization of a match to JSON or its deserialization")
+@Enabled(false)
+@StackTrace(false)
+public final class PersistenceEvent extends jdk.jfr.Event {
+
+    /**
+     * Operation writing a match.
+     */
+    public static final String SAVE = "save";
+
+    /**
+     * Operation reading a match.
+     */
+    public static final String LOAD = "load";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Target")
+    @Description("File or kind of stream written or read")
+    private String target;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * Sets the operation and its target.
+     *
+     * @param operation {@link #SAVE} or {@link #LOAD}
+     * @param target the file or the kind of stream
+     */
+    public void setOperation(final String operation, final String target) {
+        this.operation = operation;
+        this.target = target;
+    }
+
+    /**
+     * Marks the operation as completed without errors.
+     */
+    public void succeeded() {
+        this.succeeded = true;
+    }
+}
@@ -0,0 +1,34 @@
+package it.unibo.javapoly.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a refresh of the whole main view on the
+ * JavaFX application thread.
+ */
+@Name(JfrEvents.PREFIX + "Refresh")
+@Label("GUI Refresh")
+@Category({JfrEvents.CATEGORY, JfrEvents.GUI})
+@Description("Update of the board, info and command panels of the main view")
+@Enabled(false)
+@StackTrace(false)
+public final class RefreshEvent extends jdk.jfr.Event {
+
+    @Label("Node Count")
+    @Description("Nodes in the scene graph of the main view after the refresh")
+    private int nodeCount;
+
+    /**
+     * Sets the size of the refreshed scene graph.
+     *
+     * @param nodeCount the number of nodes
+     */
+    public void setNodeCount(final int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+}
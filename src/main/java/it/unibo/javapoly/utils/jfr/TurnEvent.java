@@ -0,0 +1,55 @@
+package it.unibo.javapoly.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a dice throw of a player and the resolution
+ * of the tile it reaches.
+ */
+@Name(JfrEvents.PREFIX + "Turn")
+@Label("Turn")
+@Category({JfrEvents.CATEGORY, JfrEvents.ENGINE})
+@Description("Dice throw of a player and the resolution of the tile reached")
+@Enabled(false)
+@StackTrace(false)
+public final class TurnEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    private String player;
+
+    @Label("Dice")
+    private int dice;
+
+    @Label("Double")
+    private boolean doubleThrow;
+
+    @Label("From Tile")
+    private int fromTile;
+
+    @Label("Tile")
+    @Description("Position of the player at the end of the throw")
+    private int tile;
+
+    /**
+     * Sets the outcome of the throw.
+     *
+     * @param player the name of the player
+     * @param dice the sum of the dice
+     * @param doubleThrow true if the dice showed a double
+     * @param fromTile the position before the throw
+     * @param tile the position after the throw
+     */
+    public void set(final String player, final int dice, final boolean doubleThrow, final int fromTile,
+            final int tile) {
+        this.player = player;
+        this.dice = dice;
+        this.doubleThrow = doubleThrow;
+        this.fromTile = fromTile;
+        this.tile = tile;
+    }
+}
@@ -0,0 +1,21 @@
+package it.unibo.javapoly.utils.metrics;
+
+/**
+ * Management interface of an {@link EventCounter}, exported through JMX.
+ */
+public interface CounterMXBean {
+
+    /**
+     * Returns the name of the counter.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return the count
+     */
+    long getCount();
+}
@@ -0,0 +1,73 @@
+package it.unibo.javapoly.utils.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter of events, striped over a {@link LongAdder} so that concurrent
+ * matches do not contend on the same cache line. Recording is a no-op while
+ * the registry is disabled.
+ */
+public final class EventCounter implements CounterMXBean {
+
+    private final String name;
+    private final MetricsRegistry registry;
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Constructor to create an instance of EventCounter.
+     *
+     * @param name the name of the counter
+     * @param registry the registry enabling the recording
+     */
+    EventCounter(final String name, final MetricsRegistry registry) {
+        this.name = Objects.requireNonNull(name);
+        this.registry = registry;
+    }
+
+    /**
+     * Records an event.
+     */
+    public void increment() {
+        if (this.registry.isEnabled()) {
+            this.count.increment();
+        }
+    }
+
+    /**
+     * Records a value, e.g. an amount of money.
+     *
+     * @param value the value to add
+     */
+    public void add(final long value) {
+        if (this.registry.isEnabled()) {
+            this.count.add(value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns a string representation of the counter.
+     *
+     * @return the name and the count
+     */
+    @Override
+    public String toString() {
+        return this.name + " count=" + getCount();
+    }
+}
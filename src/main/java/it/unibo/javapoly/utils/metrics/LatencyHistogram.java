@@ -0,0 +1,253 @@
+package it.unibo.javapoly.utils.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies with log-linear buckets, in the style of HdrHistogram:
+ * every power of two is split in {@value #SUB_BUCKETS} buckets, so any value
+ * up to {@link Long#MAX_VALUE} is recorded in constant time and memory with a
+ * relative error of at most 1/{@value #SUB_BUCKETS}.
+ *
+ * <p>
+ * A recording costs two reads of {@link System#nanoTime()}, one uncontended
+ * {@link LongAdder} update and a read of the maximum; the mean is estimated from the
+ * buckets rather than kept in another adder. Typical use:
+ * <pre>{@code
+ * final long start = HISTOGRAM.start();
+ * try {
+ *     ...
+ * } finally {
+ *     HISTOGRAM.recordSince(start);
+ * }
+ * }</pre>
+ * While the registry is disabled, {@link #start()} does not read the clock and
+ * {@link #recordSince(long)} does nothing.
+ */
+public final class LatencyHistogram implements LatencyHistogramMXBean {
+
+    /**
+     * Value returned by {@link #start()} while the registry is disabled.
+     */
+    public static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * Number of buckets of a histogram.
+     */
+    static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    private static final double P50 = 0.5;
+    private static final double P99 = 0.99;
+    private static final double P999 = 0.999;
+
+    private final String name;
+    private final MetricsRegistry registry;
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructor to create an instance of LatencyHistogram.
+     *
+     * @param name the name of the histogram
+     * @param registry the registry enabling the recording
+     */
+    LatencyHistogram(final String name, final MetricsRegistry registry) {
+        this.name = Objects.requireNonNull(name);
+        this.registry = registry;
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Starts timing an event.
+     *
+     * @return the start time to pass to {@link #recordSince(long)}, {@link #NOT_STARTED} if disabled
+     */
+    public long start() {
+        return this.registry.isEnabled() ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Records the time elapsed since {@link #start()}.
+     *
+     * @param start the value returned by {@link #start()}
+     */
+    public void recordSince(final long start) {
+        if (start != NOT_STARTED) {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency, in nanoseconds; negative values count as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        this.buckets[index(value)].increment();
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Returns a percentile of the recorded latencies.
+     *
+     * @param fraction the fraction of the latencies below the percentile, between 0 and 1
+     * @return the upper bound of the bucket holding the percentile, in nanoseconds, 0 if none is recorded
+     */
+    public long getPercentileNanos(final double fraction) {
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        long total = 0;
+        for (final LongAdder bucket : this.buckets) {
+            total += bucket.sum();
+        }
+        return total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMeanNanos() {
+        long count = 0;
+        double sum = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            final long bucket = this.buckets[i].sum();
+            count += bucket;
+            sum += bucket * ((double) lowerBound(i) + upperBound(i)) / 2;
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMaxNanos() {
+        return this.max.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getP50Nanos() {
+        return getPercentileNanos(P50);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getP99Nanos() {
+        return getPercentileNanos(P99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getP999Nanos() {
+        return getPercentileNanos(P999);
+    }
+
+    /**
+     * Returns a string representation of the histogram.
+     *
+     * @return the name and the statistics, in nanoseconds
+     */
+    @Override
+    public String toString() {
+        return this.name + " count=" + getCount() + " mean=" + Math.round(getMeanNanos())
+                + " p50=" + getP50Nanos() + " p99=" + getP99Nanos() + " p999=" + getP999Nanos()
+                + " max=" + getMaxNanos();
+    }
+
+    /**
+     * Returns the number of latencies recorded in a bucket.
+     *
+     * @param index the bucket index
+     * @return the count of the bucket
+     */
+    long getBucketCount(final int index) {
+        return this.buckets[index].sum();
+    }
+
+    /**
+     * Returns the bucket of a value: the values below {@value #SUB_BUCKETS} have a bucket
+     * each, the others are split by their highest bit and the {@value #SUB_BITS} following ones.
+     *
+     * @param value the non-negative value
+     * @return the bucket index
+     */
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Returns the lowest value of a bucket.
+     *
+     * @param index the bucket index
+     * @return the lower bound
+     */
+    static long lowerBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (index / SUB_BUCKETS - 1);
+    }
+
+    /**
+     * Returns the highest value of a bucket.
+     *
+     * @param index the bucket index
+     * @return the upper bound
+     */
+    static long upperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        return lowerBound(index) + (1L << (index / SUB_BUCKETS - 1)) - 1;
+    }
+}
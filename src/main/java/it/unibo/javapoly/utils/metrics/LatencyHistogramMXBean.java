@@ -0,0 +1,57 @@
+package it.unibo.javapoly.utils.metrics;
+
+/**
+ * Management interface of a {@link LatencyHistogram}, exported through JMX.
+ * The percentiles are upper bounds with a relative error of at most 1/8.
+ */
+public interface LatencyHistogramMXBean {
+
+    /**
+     * Returns the name of the histogram.
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the count
+     */
+    long getCount();
+
+    /**
+     * Returns the mean of the recorded latencies, estimated from the middle of their buckets.
+     *
+     * @return the mean, in nanoseconds
+     */
+    double getMeanNanos();
+
+    /**
+     * Returns the highest recorded latency.
+     *
+     * @return the maximum, in nanoseconds
+     */
+    long getMaxNanos();
+
+    /**
+     * Returns the median of the recorded latencies.
+     *
+     * @return the median, in nanoseconds
+     */
+    long getP50Nanos();
+
+    /**
+     * Returns the 99th percentile of the recorded latencies.
+     *
+     * @return the percentile, in nanoseconds
+     */
+    long getP99Nanos();
+
+    /**
+     * Returns the 99.9th percentile of the recorded latencies.
+     *
+     * @return the percentile, in nanoseconds
+     */
+    long getP999Nanos();
+}
@@ -0,0 +1,82 @@
+package it.unibo.javapoly.utils.metrics;
+
+import java.util.Objects;
+
+/**
+ * Statistics of the latencies recorded by a {@link LatencyHistogram} between two
+ * samples, computed from the differences of its buckets. The recording threads
+ * are not affected: the window only reads the striped counters of the histogram.
+ *
+ * <p>
+ * A window is meant to be sampled periodically by a single thread, e.g. a monitor
+ * refreshed a few times per second, and is not thread-safe.
+ */
+public final class LatencyWindow {
+
+    private final LatencyHistogram histogram;
+    private final long[] previous = new long[LatencyHistogram.BUCKETS];
+    private long count;
+    private double meanNanos;
+    private long maxNanos;
+
+    /**
+     * Creates a window over a histogram, starting from the latencies already recorded.
+     *
+     * @param histogram the histogram to sample
+     */
+    public LatencyWindow(final LatencyHistogram histogram) {
+        this.histogram = Objects.requireNonNull(histogram);
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            this.previous[i] = histogram.getBucketCount(i);
+        }
+    }
+
+    /**
+     * Computes the statistics of the latencies recorded since the previous sample.
+     */
+    public void sample() {
+        long total = 0;
+        double sum = 0;
+        int highest = -1;
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            final long current = this.histogram.getBucketCount(i);
+            final long delta = current - this.previous[i];
+            this.previous[i] = current;
+            if (delta > 0) {
+                total += delta;
+                sum += delta * ((double) LatencyHistogram.lowerBound(i) + LatencyHistogram.upperBound(i)) / 2;
+                highest = i;
+            }
+        }
+        this.count = total;
+        this.meanNanos = total == 0 ? 0 : sum / total;
+        this.maxNanos = highest < 0 ? 0 : Math.min(LatencyHistogram.upperBound(highest), this.histogram.getMaxNanos());
+    }
+
+    /**
+     * Returns the number of latencies recorded in the last window.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean of the latencies of the last window, estimated from the buckets.
+     *
+     * @return the mean, in nanoseconds, 0 if none was recorded
+     */
+    public double getMeanNanos() {
+        return this.meanNanos;
+    }
+
+    /**
+     * Returns the maximum latency of the last window, within the resolution of the buckets.
+     *
+     * @return the maximum, in nanoseconds, 0 if none was recorded
+     */
+    public long getMaxNanos() {
+        return this.maxNanos;
+    }
+}
@@ -0,0 +1,253 @@
+package it.unibo.javapoly.utils.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registry of the counters and latency histograms of the engine.
+ *
+ * <p>
+ * The metrics are created once, usually in static fields of the instrumented
+ * classes, and shared by all the matches of the process. The shared registry
+ * exports every metric as an MXBean named {@value #JMX_DOMAIN}{@code :type=...,name=...}
+ * and is enabled unless the system property {@value #ENABLED_PROPERTY} is {@code false};
+ * it can also be switched at run time. A disabled registry records nothing and
+ * does not read the clock. When the system property {@value #DUMP_PROPERTY} names
+ * a file, the shared registry appends its report to it every
+ * {@value #DEFAULT_DUMP_SECONDS} seconds.
+ *
+ * <p>
+ * The copies of a match played by the search-based bots are instrumented with the
+ * {@link #noop() no-op registry} instead, so that their turns do not show in the
+ * metrics of the real matches; the components given it skip their JFR events as well.
+ */
+public final class MetricsRegistry {
+
+    /**
+     * System property disabling the shared registry when set to {@code false}.
+     */
+    public static final String ENABLED_PROPERTY = "javapoly.metrics";
+
+    /**
+     * System property naming the file where the shared registry is dumped periodically.
+     */
+    public static final String DUMP_PROPERTY = "javapoly.metrics.dump";
+
+    /**
+     * Period of the dumps of the shared registry, in seconds.
+     */
+    public static final int DEFAULT_DUMP_SECONDS = 60;
+
+    /**
+     * JMX domain of the exported metrics.
+     */
+    public static final String JMX_DOMAIN = "it.unibo.javapoly";
+
+    private static final Logger LOGGER = Logger.getLogger(MetricsRegistry.class.getName());
+    private static final MetricsRegistry NOOP = new MetricsRegistry(true);
+
+    private final Map<String, EventCounter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final boolean noop;
+    private volatile boolean enabled;
+    private volatile MBeanServer server;
+
+    /**
+     * Creates an enabled registry, not exported through JMX.
+     */
+    public MetricsRegistry() {
+        this(false);
+    }
+
+    private MetricsRegistry(final boolean noop) {
+        this.noop = noop;
+        this.enabled = !noop;
+    }
+
+    /**
+     * Returns the registry shared by the engine.
+     *
+     * @return the shared registry
+     */
+    public static MetricsRegistry getInstance() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    /**
+     * Returns the registry of the simulated matches, which is never enabled:
+     * its metrics record nothing and are not exported.
+     *
+     * @return the no-op registry
+     */
+    public static MetricsRegistry noop() {
+        return NOOP;
+    }
+
+    /**
+     * Checks if this is the {@link #noop() no-op registry}, whose components
+     * do not emit their JFR events either.
+     *
+     * @return true for the no-op registry
+     */
+    public boolean isNoop() {
+        return this.noop;
+    }
+
+    /**
+     * Checks if the metrics are recorded.
+     *
+     * @return true if the registry is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Enables or disables the recording of all the metrics of the registry;
+     * the no-op registry stays disabled.
+     *
+     * @param enabled true to record the metrics
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled && !this.noop;
+    }
+
+    /**
+     * Returns a counter, creating it on first use.
+     *
+     * @param name the name of the counter
+     * @return the counter
+     */
+    public EventCounter counter(final String name) {
+        return this.counters.computeIfAbsent(name, n -> export("Counter", new EventCounter(n, this)));
+    }
+
+    /**
+     * Returns a latency histogram, creating it on first use.
+     *
+     * @param name the name of the histogram
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(final String name) {
+        return this.histograms.computeIfAbsent(name, n -> export("Latency", new LatencyHistogram(n, this)));
+    }
+
+    /**
+     * Exports the existing and future metrics to the platform MBean server;
+     * the no-op registry is never exported.
+     */
+    public synchronized void exportToJmx() {
+        if (this.server == null && !this.noop) {
+            this.server = ManagementFactory.getPlatformMBeanServer();
+            this.counters.values().forEach(counter -> export("Counter", counter));
+            this.histograms.values().forEach(histogram -> export("Latency", histogram));
+        }
+    }
+
+    /**
+     * Returns the current values of all the metrics, one line per metric sorted by name.
+     *
+     * @return the report
+     */
+    public String report() {
+        final List<Object> metrics = new ArrayList<>(this.counters.values());
+        metrics.addAll(this.histograms.values());
+        metrics.sort(Comparator.comparing(Object::toString));
+        final StringBuilder report = new StringBuilder();
+        for (final Object metric : metrics) {
+            report.append(metric).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * Appends the report of the metrics to a file at a fixed rate, from a daemon thread.
+     *
+     * @param file the file, created if missing
+     * @param period the time between two dumps
+     * @return the handle stopping the dumps
+     */
+    public Closeable startDumps(final Path file, final Duration period) {
+        Objects.requireNonNull(file);
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            final Thread thread = new Thread(task, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> dump(file), period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+        return scheduler::shutdown;
+    }
+
+    /**
+     * Appends the report of the metrics to a file, preceded by the current time.
+     *
+     * @param file the file, created if missing
+     */
+    public void dump(final Path file) {
+        try {
+            Files.writeString(file, "# " + Instant.now() + System.lineSeparator() + report(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to dump the metrics to " + file, e);
+        }
+    }
+
+    private <T> T export(final String type, final T metric) {
+        final MBeanServer mbeans = this.server;
+        if (mbeans != null) {
+            final String name = metric instanceof CounterMXBean counter
+                    ? counter.getName()
+                    : ((LatencyHistogramMXBean) metric).getName();
+            try {
+                final ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + type + ",name="
+                        + ObjectName.quote(name));
+                if (!mbeans.isRegistered(objectName)) {
+                    mbeans.registerMBean(metric, objectName);
+                }
+            } catch (final JMException e) {
+                LOGGER.log(Level.WARNING, "Failed to export the metric " + name, e);
+            }
+        }
+        return metric;
+    }
+
+    /**
+     * Static class containing the shared registry.
+     */
+    private static final class SingletonHelper {
+        private static final MetricsRegistry INSTANCE = create();
+
+        private static MetricsRegistry create() {
+            final MetricsRegistry registry = new MetricsRegistry();
+            registry.setEnabled(Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true")));
+            registry.exportToJmx();
+            final String dump = System.getProperty(DUMP_PROPERTY);
+            if (dump != null && !dump.isBlank()) {
+                registry.startDumps(Path.of(dump), Duration.ofSeconds(DEFAULT_DUMP_SECONDS));
+            }
+            return registry;
+        }
+    }
+}
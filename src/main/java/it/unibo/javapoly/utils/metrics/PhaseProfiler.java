@@ -0,0 +1,363 @@
+package it.unibo.javapoly.utils.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Accounts the bytes allocated and the CPU time spent by each {@link TurnPhase},
+ * reading the counters of the current thread from the {@link com.sun.management.ThreadMXBean}.
+ *
+ * <p>
+ * The phases nest: the resources used by a phase entered inside another one are
+ * charged to the inner phase only, so the statistics of every phase are exclusive
+ * and point at the phase really allocating, e.g. the rent computation in
+ * {@link TurnPhase#SETTLE} rather than the tile logic calling it. Turns are accounted
+ * as a whole as well, and what they use outside any phase is reported as {@code other}.
+ * Typical use:
+ * <pre>{@code
+ * final boolean entered = PHASES.enter(TurnPhase.MOVE);
+ * try {
+ *     ...
+ * } finally {
+ *     PHASES.exit(entered);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Reading the CPU time of a thread costs about a microsecond, so the shared profiler
+ * is disabled unless the system property {@value #ENABLED_PROPERTY} is {@code true};
+ * a disabled profiler reads nothing. The statistics are aggregated over all the
+ * matches of the process and logged at the end of each match.
+ *
+ * <p>
+ * The JVM does not measure the allocations and the CPU time of virtual threads, so the
+ * turns and phases entered on a virtual thread are not accounted: they are only counted
+ * and reported as unsupported. The match executors run their writer on a platform thread
+ * while the shared profiler is enabled. The copies of a match played by the search-based
+ * bots use the {@link #disabled() disabled profiler}, so their turns are not accounted.
+ */
+public final class PhaseProfiler {
+
+    /**
+     * System property enabling the shared profiler when set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "javapoly.phases";
+
+    private static final Logger LOGGER = Logger.getLogger(PhaseProfiler.class.getName());
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+    private static final int PHASES = TurnPhase.values().length;
+    private static final int OTHER = PHASES;
+    private static final int TURN = -1;
+    private static final int MAX_DEPTH = 16;
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final PhaseProfiler DISABLED = new PhaseProfiler(true);
+
+    private final LongAdder[] calls = newAdders(PHASES + 1);
+    private final LongAdder[] bytes = newAdders(PHASES + 1);
+    private final LongAdder[] cpuNanos = newAdders(PHASES + 1);
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder turnBytes = new LongAdder();
+    private final LongAdder turnCpuNanos = new LongAdder();
+    private final LongAdder unsupported = new LongAdder();
+    private final ThreadLocal<Frames> frames = ThreadLocal.withInitial(Frames::new);
+    private final boolean frozen;
+    private volatile boolean enabled;
+
+    /**
+     * Creates a disabled profiler.
+     */
+    public PhaseProfiler() {
+        this(false);
+    }
+
+    private PhaseProfiler(final boolean frozen) {
+        this.frozen = frozen;
+    }
+
+    /**
+     * Returns the profiler shared by the engine.
+     *
+     * @return the shared profiler
+     */
+    public static PhaseProfiler getInstance() {
+        return SingletonHelper.INSTANCE;
+    }
+
+    /**
+     * Returns the profiler of the simulated matches, which is never enabled.
+     *
+     * @return the disabled profiler
+     */
+    public static PhaseProfiler disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns the profiler of the components instrumented with a registry:
+     * the disabled profiler for the {@link MetricsRegistry#noop() no-op registry},
+     * the shared one otherwise.
+     *
+     * @param registry the registry of the component
+     * @return the profiler of the component
+     */
+    public static PhaseProfiler forRegistry(final MetricsRegistry registry) {
+        return registry.isNoop() ? DISABLED : getInstance();
+    }
+
+    /**
+     * Checks if the phases are accounted.
+     *
+     * @return true if the profiler is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Enables or disables the accounting; phases already entered are still exited normally.
+     * The disabled profiler stays disabled.
+     *
+     * @param enabled true to account the phases
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled && THREADS != null && !this.frozen;
+    }
+
+    /**
+     * Starts accounting a turn on the current thread.
+     *
+     * @return true if the turn is accounted, to pass to {@link #exit(boolean)}
+     */
+    public boolean enterTurn() {
+        return push(TURN);
+    }
+
+    /**
+     * Starts accounting a phase on the current thread.
+     *
+     * @param phase the phase
+     * @return true if the phase is accounted, to pass to {@link #exit(boolean)}
+     */
+    public boolean enter(final TurnPhase phase) {
+        return push(phase.ordinal());
+    }
+
+    /**
+     * Stops accounting the last turn or phase entered on the current thread.
+     *
+     * @param entered the value returned when entering it
+     */
+    public void exit(final boolean entered) {
+        if (!entered) {
+            return;
+        }
+        final Frames stack = this.frames.get();
+        final long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        final long cpu = THREADS.getCurrentThreadCpuTime();
+        charge(stack, allocated, cpu);
+        stack.depth--;
+        final int phase = stack.phases[stack.depth];
+        if (phase == TURN) {
+            this.turns.increment();
+            this.turnBytes.add(allocated - stack.startBytes[stack.depth]);
+            this.turnCpuNanos.add(cpu - stack.startCpu[stack.depth]);
+        } else {
+            this.calls[phase].increment();
+        }
+    }
+
+    /**
+     * Returns the number of times a phase has been exited.
+     *
+     * @param phase the phase
+     * @return the number of calls
+     */
+    public long getCalls(final TurnPhase phase) {
+        return this.calls[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the bytes allocated by a phase, excluding the phases nested in it.
+     *
+     * @param phase the phase
+     * @return the allocated bytes
+     */
+    public long getAllocatedBytes(final TurnPhase phase) {
+        return this.bytes[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the CPU time spent by a phase, excluding the phases nested in it.
+     *
+     * @param phase the phase
+     * @return the CPU time, in nanoseconds
+     */
+    public long getCpuNanos(final TurnPhase phase) {
+        return this.cpuNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns the number of turns accounted.
+     *
+     * @return the number of turns
+     */
+    public long getTurns() {
+        return this.turns.sum();
+    }
+
+    /**
+     * Returns the bytes allocated by the turns, phases included.
+     *
+     * @return the allocated bytes
+     */
+    public long getTurnAllocatedBytes() {
+        return this.turnBytes.sum();
+    }
+
+    /**
+     * Returns the number of turns and phases entered on a virtual thread, which are not accounted.
+     *
+     * @return the number of unsupported turns and phases
+     */
+    public long getUnsupported() {
+        return this.unsupported.sum();
+    }
+
+    /**
+     * Returns the statistics of the turns and of each phase, one line each.
+     *
+     * @return the report
+     */
+    public String report() {
+        final StringBuilder report = new StringBuilder();
+        line(report, "turn", this.turns.sum(), this.turnBytes.sum(), this.turnCpuNanos.sum());
+        for (final TurnPhase phase : TurnPhase.values()) {
+            line(report, phase.toString(), getCalls(phase), getAllocatedBytes(phase), getCpuNanos(phase));
+        }
+        line(report, "other", this.turns.sum(), this.bytes[OTHER].sum(), this.cpuNanos[OTHER].sum());
+        final long skipped = this.unsupported.sum();
+        if (skipped > 0) {
+            report.append(String.format(Locale.ROOT,
+                    "unsupported count=%d (entered on virtual threads, not accounted)%n", skipped));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Logs the report, if the profiler is enabled; called when a match is over.
+     */
+    public void matchEnded() {
+        if (this.enabled && LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Allocation and CPU time per phase:" + System.lineSeparator() + report());
+        }
+    }
+
+    /**
+     * Clears the statistics.
+     */
+    public void reset() {
+        for (int i = 0; i <= PHASES; i++) {
+            this.calls[i].reset();
+            this.bytes[i].reset();
+            this.cpuNanos[i].reset();
+        }
+        this.turns.reset();
+        this.turnBytes.reset();
+        this.turnCpuNanos.reset();
+        this.unsupported.reset();
+    }
+
+    private boolean push(final int phase) {
+        if (!this.enabled) {
+            return false;
+        }
+        if (Thread.currentThread().isVirtual()) {
+            this.unsupported.increment();
+            return false;
+        }
+        final Frames stack = this.frames.get();
+        if (stack.depth == MAX_DEPTH) {
+            return false;
+        }
+        final long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        final long cpu = THREADS.getCurrentThreadCpuTime();
+        charge(stack, allocated, cpu);
+        stack.phases[stack.depth] = phase;
+        stack.startBytes[stack.depth] = allocated;
+        stack.startCpu[stack.depth] = cpu;
+        stack.depth++;
+        return true;
+    }
+
+    /**
+     * Charges the resources used since the last mark to the innermost frame, and moves the mark.
+     *
+     * @param stack the frames of the current thread
+     * @param allocated the bytes allocated by the thread so far
+     * @param cpu the CPU time of the thread so far
+     */
+    private void charge(final Frames stack, final long allocated, final long cpu) {
+        if (stack.depth > 0) {
+            final int phase = stack.phases[stack.depth - 1];
+            final int slot = phase == TURN ? OTHER : phase;
+            this.bytes[slot].add(allocated - stack.markBytes);
+            this.cpuNanos[slot].add(cpu - stack.markCpu);
+        }
+        stack.markBytes = allocated;
+        stack.markCpu = cpu;
+    }
+
+    private static void line(final StringBuilder report, final String name, final long count, final long allocated,
+            final long cpu) {
+        final long divisor = Math.max(1, count);
+        report.append(String.format(Locale.ROOT, "%-8s count=%d bytes=%d bytes/call=%d cpu=%.1fus cpu/call=%.2fus%n",
+                name, count, allocated, allocated / divisor, cpu / NANOS_PER_MICRO,
+                cpu / NANOS_PER_MICRO / divisor));
+    }
+
+    private static LongAdder[] newAdders(final int size) {
+        final LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isCurrentThreadCpuTimeSupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            threads.setThreadCpuTimeEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+
+    /**
+     * Phases entered and not exited yet by a thread.
+     */
+    private static final class Frames {
+        private final int[] phases = new int[MAX_DEPTH];
+        private final long[] startBytes = new long[MAX_DEPTH];
+        private final long[] startCpu = new long[MAX_DEPTH];
+        private int depth;
+        private long markBytes;
+        private long markCpu;
+    }
+
+    /**
+     * Static class containing the shared profiler.
+     */
+    private static final class SingletonHelper {
+        private static final PhaseProfiler INSTANCE = create();
+
+        private static PhaseProfiler create() {
+            final PhaseProfiler profiler = new PhaseProfiler();
+            profiler.setEnabled(Boolean.getBoolean(ENABLED_PROPERTY));
+            return profiler;
+        }
+    }
+}
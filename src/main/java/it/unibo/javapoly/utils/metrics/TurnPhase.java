@@ -0,0 +1,44 @@
+package it.unibo.javapoly.utils.metrics;
+
+import java.util.Locale;
+
+/**
+ * Phases of a turn accounted by the {@link PhaseProfiler}.
+ */
+public enum TurnPhase {
+
+    /**
+     * Throw of the dice and the jail rules depending on it.
+     */
+    ROLL,
+
+    /**
+     * Movement of the token on the board.
+     */
+    MOVE,
+
+    /**
+     * Logic of the tile reached, cards and purchase decisions included.
+     */
+    RESOLVE,
+
+    /**
+     * Payments of rents and fees, and liquidations of the debtors.
+     */
+    SETTLE,
+
+    /**
+     * Refresh of the main view, on the JavaFX application thread.
+     */
+    RENDER;
+
+    /**
+     * Returns the name of the phase in reports.
+     *
+     * @return the lower case name
+     */
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,6 @@
 package it.unibo.javapoly.view.api;
 
+import it.unibo.javapoly.controller.api.RollForecast;
 import javafx.scene.layout.Pane;
 
 /**
@@ -20,4 +21,13 @@ public interface BoardPanel {
      * and property states based on the current model state.
      */
     void update();
+
+    /**
+     * Shows over the tiles the risk of the next turn of a player: how likely
+     * each tile is to be landed on and the rent expected to be paid there.
+     * Only the tiles whose values changed are redrawn.
+     *
+     * @param forecast the forecast of the player's next turn.
+     */
+    void showRisk(RollForecast forecast);
 }
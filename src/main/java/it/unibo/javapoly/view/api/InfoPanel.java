@@ -1,7 +1,6 @@
 package it.unibo.javapoly.view.api;
 
-import it.unibo.javapoly.controller.api.LiquidationCallback;
-import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.controller.api.RollForecast;
 import javafx.scene.layout.VBox;
 
 /**
@@ -36,15 +35,16 @@ public interface InfoPanel {
     /**
      * Prepares and displays the liquidation view for a specific player in debt.
      *
-     * @param player     the player who needs to liquidate assets.
+     * @param playerId   the player who needs to liquidate assets.
      * @param debtAmount the amount of debt to be settled.
      */
-    void showLiquidation(Player player, int debtAmount);
+    void showLiquidation(String playerId, int debtAmount);
 
     /**
-     * Sets the callback to be executed once the liquidation process is finished.
+     * Shows in the card of a player the expected rent, GO income and jail
+     * probability of their next turn.
      *
-     * @param callback the liquidation callback.
+     * @param forecast the forecast of the player's next turn.
      */
-    void setLiquidationCallback(LiquidationCallback callback);
+    void showRisk(RollForecast forecast);
 }
@@ -0,0 +1,37 @@
+package it.unibo.javapoly.view.api;
+
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+
+/**
+ * Interface representing the overlay showing the performance of the GUI and of
+ * the engine while the game is running.
+ */
+public interface PerformanceHud {
+
+    /**
+     * Starts measuring the pulses of a scene.
+     *
+     * @param scene the scene showing the overlay.
+     */
+    void attach(Scene scene);
+
+    /**
+     * Shows the overlay if hidden, hides it otherwise.
+     */
+    void toggle();
+
+    /**
+     * Checks if the overlay is shown.
+     *
+     * @return true if the overlay is shown.
+     */
+    boolean isShowing();
+
+    /**
+     * Returns the visual root node of the overlay.
+     *
+     * @return the VBox containing the measures.
+     */
+    VBox getRoot();
+}
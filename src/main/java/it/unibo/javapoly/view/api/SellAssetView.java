@@ -1,7 +1,5 @@
 package it.unibo.javapoly.view.api;
 
-import it.unibo.javapoly.controller.api.LiquidationCallback;
-import it.unibo.javapoly.model.api.Player;
 import javafx.scene.layout.BorderPane;
 
 /**
@@ -16,20 +14,14 @@ public interface SellAssetView {
      */
     BorderPane getRoot();
 
-    /**
-     * Register a callback.
-     *
-     * @param callback callback.
-     */
-    void setCallBack(LiquidationCallback callback);
-
     /**
      * Display the view for the given player with their current debit and available properties.
      * Updates the UI with button to sell house first(if any), otherwise regular properties.
+     * The sales are submitted as commands to the executor of the match.
      *
-     * @param player the player in turn, must not be {@code null}
+     * @param playerId the player in turn, must not be {@code null}
      * @param debtAmount the amount of debt to be settled (must be >0 for UI to populate buttons)
-     * @throws IllegalArgumentException if {@code player} is null or any list is null.
+     * @throws NullPointerException if {@code playerId} is null.
      */
-    void show(Player player, int debtAmount);
+    void show(String playerId, int debtAmount);
 }
@@ -4,6 +4,9 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Locale;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.RollForecast;
 import it.unibo.javapoly.model.api.Player;
 import it.unibo.javapoly.model.api.TokenType;
 import it.unibo.javapoly.model.api.board.Board;
@@ -36,20 +39,28 @@ import javafx.scene.text.TextAlignment;
  */
 public final class BoardPanelImpl implements BoardPanel {
 
-    private static final int GRID_SIZE = 11;
-    private static final double CELL_PERCENT = 100.0 / GRID_SIZE;
+    private static final int BOARD_SIDES = 4;
+    private static final double FULL_PERCENT = 100.0;
     private static final int TILE_BAR_HEIGHT = 15;
     private static final int TOKEN_SIZE = 35;
     private static final double SHADOW_RADIUS = 5.0;
     private static final double SHADOW_OPACITY = 0.4;
     private static final int FALLBACK_CIRCLE_RADIUS = 12;
-    private static final int POSITION_THRESHOLD_10 = 10;
-    private static final int POSITION_THRESHOLD_20 = 20;
-    private static final int POSITION_THRESHOLD_30 = 30;
+    private static final double MIN_RISK_SHOWN = 0.005;
+    private static final double RISK_ALPHA_SCALE = 2.0;
+    private static final double MAX_RISK_ALPHA = 0.6;
+    private static final double PERCENT = 100.0;
+    private static final String RENT_RISK_COLOR = "231,76,60";
+    private static final String LANDING_RISK_COLOR = "52,152,219";
 
     private final GridPane root;
     private final Board board;
     private final List<Player> players;
+    private final Supplier<MatchSnapshot> snapshots;
+    private final int sideLength;
+    private final Label[] riskLabels;
+    private final double[] riskLanding;
+    private final double[] riskRent;
 
     /**
      * Constructor for BoardPanel.
@@ -58,11 +69,27 @@ public final class BoardPanelImpl implements BoardPanel {
      * @param players the list of players.
      */
     public BoardPanelImpl(final Board board, final List<Player> players) {
+        this(board, players, () -> null);
+    }
+
+    /**
+     * Constructor for a BoardPanel drawn from the published snapshots of the match.
+     * 
+     * @param board the game board.
+     * @param players the list of players.
+     * @param snapshots the supplier of the last snapshot of the match, which may supply null.
+     */
+    public BoardPanelImpl(final Board board, final List<Player> players, final Supplier<MatchSnapshot> snapshots) {
+        this.snapshots = Objects.requireNonNull(snapshots);
         this.board = Objects.requireNonNull(board);
+        this.sideLength = Math.max(1, (board.size() + BOARD_SIDES - 1) / BOARD_SIDES);
         this.players = List.copyOf(Objects.requireNonNull(players));
         this.root = new GridPane();
         this.root.setStyle("-fx-background-color: #CDE6D0; -fx-padding: 5; -fx-border-color: black;");
         this.root.setAlignment(Pos.CENTER);
+        this.riskLabels = new Label[board.size()];
+        this.riskLanding = new double[board.size()];
+        this.riskRent = new double[board.size()];
         this.renderBoard();
     }
 
@@ -72,7 +99,7 @@ public final class BoardPanelImpl implements BoardPanel {
         return colors[hash % colors.length];
     }
 
-    private StackPane createTileUI(final Tile tile, final int index) {
+    private StackPane createTileUI(final Tile tile, final int index, final MatchSnapshot snapshot) {
         final StackPane container = new StackPane();
         final VBox tileDesign = new VBox();
         tileDesign.setStyle("-fx-border-color: black; -fx-background-color: white;");
@@ -92,8 +119,15 @@ public final class BoardPanelImpl implements BoardPanel {
             groupBar.setStyle("-fx-background-color: " + groupColor + "; -fx-border-color: black; -fx-border-width: 0 0 1 0;");
             tileDesign.getChildren().add(groupBar);
 
-            if (prop.getIdOwner() != null) {
-                tileDesign.setStyle("-fx-border-color: " + getColorForOwner(prop.getIdOwner()) 
+            final String owner;
+            if (snapshot == null) {
+                owner = prop.getIdOwner();
+            } else {
+                final int ownerIndex = snapshot.getOwnerIndex(index);
+                owner = ownerIndex == MatchSnapshot.NO_OWNER ? null : snapshot.getPlayerId(ownerIndex);
+            }
+            if (owner != null) {
+                tileDesign.setStyle("-fx-border-color: " + getColorForOwner(owner) 
                 + "; -fx-border-width: 3; -fx-background-color: white;");
             }
 
@@ -101,7 +135,7 @@ public final class BoardPanelImpl implements BoardPanel {
             houseContainer.setAlignment(Pos.CENTER);
             houseContainer.setPrefHeight(TILE_BAR_HEIGHT);
 
-            final int houseCount = prop.getBuiltHouses();
+            final int houseCount = snapshot == null ? prop.getBuiltHouses() : snapshot.getHouses(index);
             for (int i = 0; i < houseCount; i++) {
                 final Circle house = new Circle(4, Color.GREEN);
                 houseContainer.getChildren().add(house);
@@ -119,15 +153,43 @@ public final class BoardPanelImpl implements BoardPanel {
         final FlowPane tokenLayer = new FlowPane();
         tokenLayer.setAlignment(Pos.CENTER);
         tokenLayer.setPickOnBounds(false);
-        for (final Player p : players) {
-            if (p.getCurrentPosition() == index) {
+        for (int i = 0; i < this.players.size(); i++) {
+            final Player p = this.players.get(i);
+            final int position = snapshot == null ? p.getCurrentPosition() : snapshot.getPosition(i);
+            if (position == index) {
                 tokenLayer.getChildren().add(createToken(p));
             }
         }
-        container.getChildren().addAll(tileDesign, tokenLayer);
+        final Label risk = new Label();
+        risk.setMouseTransparent(true);
+        StackPane.setAlignment(risk, Pos.BOTTOM_CENTER);
+        this.riskLabels[index] = risk;
+        applyRisk(index);
+
+        container.getChildren().addAll(tileDesign, risk, tokenLayer);
         return container;
     }
 
+    /**
+     * Draws the risk overlay of a tile from the last forecast shown.
+     *
+     * @param index the tile position.
+     */
+    private void applyRisk(final int index) {
+        final Label label = this.riskLabels[index];
+        final double landing = this.riskLanding[index];
+        if (landing < MIN_RISK_SHOWN) {
+            label.setText("");
+            label.setStyle("");
+            return;
+        }
+        final long rent = Math.round(this.riskRent[index]);
+        label.setText(Math.round(landing * PERCENT) + "%" + (rent > 0 ? " €" + rent : ""));
+        final double alpha = Math.min(MAX_RISK_ALPHA, landing * RISK_ALPHA_SCALE);
+        label.setStyle("-fx-font-size: 9px; -fx-padding: 0 2 0 2; -fx-background-color: rgba("
+                + (rent > 0 ? RENT_RISK_COLOR : LANDING_RISK_COLOR) + "," + alpha + ");");
+    }
+
     private Node createToken(final Player p) {
         Image img = null;
 
@@ -169,29 +231,31 @@ public final class BoardPanelImpl implements BoardPanel {
     }
 
     private int calculateX(final int i) {
-        if (i <= POSITION_THRESHOLD_10) {
-            return POSITION_THRESHOLD_10 - i;
+        final int side = this.sideLength;
+        if (i <= side) {
+            return side - i;
         }
-        if (i <= POSITION_THRESHOLD_20) {
+        if (i <= 2 * side) {
             return 0;
         }
-        if (i <= POSITION_THRESHOLD_30) {
-            return i - POSITION_THRESHOLD_20;
+        if (i <= 3 * side) {
+            return i - 2 * side;
         }
-        return POSITION_THRESHOLD_10;
+        return side;
     }
 
     private int calculateY(final int i) {
-        if (i <= POSITION_THRESHOLD_10) {
-            return POSITION_THRESHOLD_10;
+        final int side = this.sideLength;
+        if (i <= side) {
+            return side;
         }
-        if (i <= POSITION_THRESHOLD_20) {
-            return POSITION_THRESHOLD_10 - (i - POSITION_THRESHOLD_10);
+        if (i <= 2 * side) {
+            return side - (i - side);
         }
-        if (i <= POSITION_THRESHOLD_30) {
+        if (i <= 3 * side) {
             return 0;
         }
-        return i - POSITION_THRESHOLD_30;
+        return i - 3 * side;
     }
 
     private void renderBoard() {
@@ -199,19 +263,22 @@ public final class BoardPanelImpl implements BoardPanel {
         this.root.getRowConstraints().clear();
         this.root.getColumnConstraints().clear();
 
-        for (int i = 0; i < GRID_SIZE; i++) {
+        final int gridSize = this.sideLength + 1;
+        final double cellPercent = FULL_PERCENT / gridSize;
+        for (int i = 0; i < gridSize; i++) {
             final ColumnConstraints col = new ColumnConstraints();
-            col.setPercentWidth(CELL_PERCENT);
+            col.setPercentWidth(cellPercent);
             final RowConstraints row = new RowConstraints();
-            row.setPercentHeight(CELL_PERCENT);
+            row.setPercentHeight(cellPercent);
             this.root.getColumnConstraints().add(col);
             this.root.getRowConstraints().add(row);
         }
 
+        final MatchSnapshot snapshot = this.snapshots.get();
         final int size = board.size();
         for (int i = 0; i < size; i++) {
             final Tile tile = board.getTileAt(i);
-            final StackPane tileUI = createTileUI(tile, i);
+            final StackPane tileUI = createTileUI(tile, i, snapshot);
             tileUI.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
             this.root.add(tileUI, calculateX(i), calculateY(i));
         }
@@ -238,4 +305,20 @@ public final class BoardPanelImpl implements BoardPanel {
     public void update() {
         renderBoard();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void showRisk(final RollForecast forecast) {
+        for (int i = 0; i < this.riskLabels.length; i++) {
+            final double landing = forecast.getLandingProbability(i);
+            final double rent = forecast.getExpectedRent(i);
+            if (Double.compare(landing, this.riskLanding[i]) != 0 || Double.compare(rent, this.riskRent[i]) != 0) {
+                this.riskLanding[i] = landing;
+                this.riskRent[i] = rent;
+                applyRisk(i);
+            }
+        }
+    }
 }
@@ -8,16 +8,23 @@ import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import it.unibo.javapoly.model.impl.BankruptState;
 import it.unibo.javapoly.utils.JsonUtils;
+import it.unibo.javapoly.utils.jfr.PersistenceEvent;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
 import it.unibo.javapoly.view.api.CommandPanel;
 import javafx.scene.control.Button;
 import javafx.scene.layout.HBox;
+import it.unibo.javapoly.controller.api.ActionType;
 import it.unibo.javapoly.controller.api.MatchController;
-import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.command.BuildCommand;
+import it.unibo.javapoly.controller.api.command.BuyCommand;
+import it.unibo.javapoly.controller.api.command.EndTurnCommand;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+import it.unibo.javapoly.controller.api.command.PayJailFeeCommand;
+import it.unibo.javapoly.controller.api.command.RollCommand;
 import it.unibo.javapoly.model.api.board.Tile;
-import it.unibo.javapoly.model.api.property.Property;
-import it.unibo.javapoly.model.impl.JailedState;
 import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
 
 /**
@@ -27,6 +34,7 @@ import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
 public final class CommandPanelImpl implements CommandPanel {
 
     private static final int SPACING = 15;
+    private static final LatencyHistogram SAVE_LATENCY = MetricsRegistry.getInstance().histogram("match.save");
 
     private final HBox root;
     private final MatchController matchController;
@@ -57,7 +65,6 @@ public final class CommandPanelImpl implements CommandPanel {
         this.endTurnButton = new Button("End turn");
         this.payJailButton = new Button("Pay 50€");
         this.saveButton = new Button("Save");
-        final Player p = matchController.getCurrentPlayer();
         this.buyButton = new Button("Buy property");
         this.buyButton.setStyle("-fx-base: #2ecc71; -fx-text-fill: white;");
         this.buildButton = new Button("Build house");
@@ -66,24 +73,16 @@ public final class CommandPanelImpl implements CommandPanel {
         this.payJailButton.setStyle("-fx-base: #e74c3c; -fx-text-fill: white;");
 
         this.throwDice.setOnAction(e -> {
-            if (p.getState() instanceof BankruptState) {
-                this.matchController.updatePlayerBankrupt();
-                this.actionDone = true;
-                return;
-            }
-
-            this.actionDone = false;
-            this.matchController.handleDiceThrow();
-            updateState();
+            final MatchSnapshot snapshot = matchController.getSnapshot();
+            this.actionDone = snapshot.isBankrupt(snapshot.getCurrentPlayerIndex());
+            submit(new RollCommand(currentPlayerId()));
         });
         this.payJailButton.setOnAction(e -> {
-            this.matchController.payToExitJail();
-            updateState();
+            submit(new PayJailFeeCommand(currentPlayerId()));
         });
         this.endTurnButton.setOnAction(e -> {
             this.actionDone = false;
-            this.matchController.nextTurn();
-            updateState();
+            submit(new EndTurnCommand(currentPlayerId()));
             saveStateGame();
         });
         this.saveButton.setOnAction(e -> {
@@ -91,15 +90,14 @@ public final class CommandPanelImpl implements CommandPanel {
         });
         this.buyButton.setOnAction(e -> {
             this.actionDone = true;
-            this.matchController.buyCurrentProperty();
-            updateState();
+            submit(new BuyCommand(currentPlayerId()));
         });
         this.buildButton.setOnAction(e -> {
-            final Tile t = matchController.getBoard().getTileAt(p.getCurrentPosition());
-            if (t instanceof PropertyTile pt) {
+            final MatchSnapshot snapshot = matchController.getSnapshot();
+            final int position = snapshot.getPosition(snapshot.getCurrentPlayerIndex());
+            if (matchController.getBoard().getTileAt(position) instanceof PropertyTile) {
                 this.actionDone = true;
-                this.matchController.buildHouseOnProperty(pt.getProperty());
-                updateState();
+                submit(new BuildCommand(snapshot.getCurrentPlayerId(), position));
             }
         });
         this.root.getChildren().addAll(
@@ -114,45 +112,57 @@ public final class CommandPanelImpl implements CommandPanel {
 
     /**
      * Updates the state of the buttons based on the game context.
+     * The legal actions are read by the writer of the match, and the buttons are
+     * then rendered on the JavaFX thread from the last published snapshot.
      */
     @Override
     public void updateState() {
-        final Player current = matchController.getCurrentPlayer();
-        final boolean canRoll = matchController.canCurrentPlayerRoll();
-        final boolean hasRolled = !canRoll;
+        this.matchController.getExecutor().query(match -> {
+            final int position = match.getCurrentPlayer().getCurrentPosition();
+            return new int[] {match.getLegalActions(), match.getStateView().canBuild(position) ? 1 : 0};
+        }).thenAccept(state -> FxTasks.runLater(() -> render(state[0], state[1] != 0)));
+    }
 
-        final boolean hasMoved = hasRolled || matchController.getConsecutiveDoubles() > 0;
+    /**
+     * Renders the buttons.
+     *
+     * @param actions the legal actions of the current player.
+     * @param canBuild whether the current player can build on its tile.
+     */
+    private void render(final int actions, final boolean canBuild) {
+        final MatchSnapshot snapshot = matchController.getSnapshot();
+        final int current = snapshot.getCurrentPlayerIndex();
+        final int position = snapshot.getPosition(current);
 
-        this.throwDice.setDisable(!canRoll);
-        this.endTurnButton.setDisable(canRoll);
+        this.throwDice.setDisable(!ActionType.ROLL.isIn(actions));
+        this.endTurnButton.setDisable(!ActionType.END_TURN.isIn(actions));
 
-        final Tile currentTile = matchController.getBoard().getTileAt(current.getCurrentPosition());
+        final Tile currentTile = matchController.getBoard().getTileAt(position);
 
         this.buyButton.setVisible(false);
         this.buyButton.setManaged(false);
         this.buildButton.setVisible(false);
         this.buildButton.setManaged(false);
 
-        if (currentTile instanceof PropertyTile pt) {
-            final Property prop = pt.getProperty();
-            final boolean isUnowned = !prop.isOwnedByPlayer();
+        if (currentTile instanceof PropertyTile) {
+            final int owner = snapshot.getOwnerIndex(position);
 
-            if (isUnowned) {
+            if (owner == MatchSnapshot.NO_OWNER) {
                 this.buyButton.setVisible(true);
                 this.buyButton.setManaged(true);
-                this.buyButton.setDisable(!hasMoved || actionDone);
-            } else if (prop.playerIsTheOwner(current.getName())) {
+                this.buyButton.setDisable(!ActionType.BUY.isIn(actions) || actionDone);
+            } else if (owner == current) {
                 this.buildButton.setVisible(true);
                 this.buildButton.setManaged(true);
-                this.buildButton.setDisable(!hasMoved || actionDone);
+                this.buildButton.setDisable(!ActionType.BUILD.isIn(actions) || !canBuild || actionDone);
             }
         }
 
-        final boolean isJailed = current.getState() instanceof JailedState;
+        final boolean isJailed = snapshot.isInJail(current);
 
         this.payJailButton.setVisible(isJailed);
         this.payJailButton.setManaged(isJailed);
-        this.payJailButton.setDisable(hasRolled);
+        this.payJailButton.setDisable(!ActionType.PAY_JAIL_FEE.isIn(actions));
 
         this.root.requestLayout();
     }
@@ -173,16 +183,47 @@ public final class CommandPanelImpl implements CommandPanel {
 
     /**
      * Method to save the game state on javapoly_save.json file in user directory.
+     * The match is written by its executor, after the commands already submitted.
      */
     @Override
     public void saveStateGame() {
-        try {
-            final String userHome = System.getProperty("user.home");
-            final Path saveDir = Paths.get(userHome);
-            final Path saveFile = saveDir.resolve("javapoly_save.json");
-            JsonUtils.getInstance().mapper().writeValue(saveFile.toFile(), this.matchController);
-        } catch (final IOException ex) {
-            Logger.getLogger(getClass().getName()).log(Level.SEVERE, "Failed to save game", ex);
-        }
+        this.matchController.getExecutor().query(match -> {
+            final PersistenceEvent event = new PersistenceEvent();
+            event.begin();
+            final long start = SAVE_LATENCY.start();
+            try {
+                final String userHome = System.getProperty("user.home");
+                final Path saveDir = Paths.get(userHome);
+                final Path saveFile = saveDir.resolve("javapoly_save.json");
+                event.setOperation(PersistenceEvent.SAVE, saveFile.toString());
+                JsonUtils.getInstance().mapper().writeValue(saveFile.toFile(), match);
+                event.succeeded();
+            } catch (final IOException ex) {
+                Logger.getLogger(getClass().getName()).log(Level.SEVERE, "Failed to save game", ex);
+            } finally {
+                SAVE_LATENCY.recordSince(start);
+                event.commit();
+            }
+            return null;
+        });
+    }
+
+    private String currentPlayerId() {
+        return this.matchController.getSnapshot().getCurrentPlayerId();
+    }
+
+    /**
+     * Submits a command of the current player to the executor of the match
+     * and updates the buttons once it has been applied.
+     *
+     * @param command the command to submit.
+     */
+    private void submit(final MatchCommand<?> command) {
+        this.matchController.getExecutor().submit(command).whenComplete((result, error) -> {
+            if (error != null) {
+                Logger.getLogger(getClass().getName()).log(Level.FINE, "Command rejected", error);
+            }
+            updateState();
+        });
     }
 }
@@ -0,0 +1,54 @@
+package it.unibo.javapoly.view.impl;
+
+import it.unibo.javapoly.utils.metrics.EventCounter;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+import javafx.application.Platform;
+
+/**
+ * Schedules tasks on the JavaFX application thread like {@link Platform#runLater(Runnable)},
+ * counting the tasks still queued and measuring how long each one waits before running.
+ */
+public final class FxTasks {
+
+    private static final EventCounter SUBMITTED = MetricsRegistry.getInstance().counter("gui.runLater.submitted");
+    private static final EventCounter RUN = MetricsRegistry.getInstance().counter("gui.runLater.run");
+    private static final LatencyHistogram QUEUE_LATENCY =
+            MetricsRegistry.getInstance().histogram("gui.runLater.queue");
+
+    private FxTasks() {
+    }
+
+    /**
+     * Runs a task on the JavaFX application thread at some time in the future.
+     *
+     * @param task the task to run
+     */
+    public static void runLater(final Runnable task) {
+        SUBMITTED.increment();
+        final long start = QUEUE_LATENCY.start();
+        Platform.runLater(() -> {
+            QUEUE_LATENCY.recordSince(start);
+            RUN.increment();
+            task.run();
+        });
+    }
+
+    /**
+     * Returns the number of tasks submitted and not started yet.
+     *
+     * @return the number of pending tasks
+     */
+    public static long getPendingCount() {
+        return Math.max(0, SUBMITTED.getCount() - RUN.getCount());
+    }
+
+    /**
+     * Returns the histogram of the time the tasks wait in the queue.
+     *
+     * @return the queue latency histogram
+     */
+    public static LatencyHistogram getQueueLatency() {
+        return QUEUE_LATENCY;
+    }
+}
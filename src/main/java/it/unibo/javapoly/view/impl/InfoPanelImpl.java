@@ -1,12 +1,16 @@
 package it.unibo.javapoly.view.impl;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import it.unibo.javapoly.controller.api.LiquidationCallback;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.RollForecast;
 import it.unibo.javapoly.view.api.InfoPanel;
 import it.unibo.javapoly.view.api.SellAssetView;
 import javafx.geometry.Insets;
@@ -21,10 +25,15 @@ import javafx.scene.text.FontPosture;
 import javafx.scene.text.FontWeight;
 import it.unibo.javapoly.controller.api.MatchController;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.BalanceHistory;
 
 /**
  * InfoPanel displays information about the current player,
  * such as name, balance, and board position.
+ *
+ * <p>
+ * Each card ends with a sparkline of the balance (blue) and of the net worth (green)
+ * of the player after every turn, see {@link SparklineChart}.
  */
 public final class InfoPanelImpl implements InfoPanel {
 
@@ -40,11 +49,19 @@ public final class InfoPanelImpl implements InfoPanel {
     private static final int POSITION_FONT_SIZE = 11;
     private static final int HEADER_SPACING = 10;
     private static final String FONT_FAMILY = "Segoe UI";
+    private static final double PERCENT = 100.0;
+    private static final int CHART_WIDTH = PREF_WIDTH - 2 * PADDING - 2 * CARD_PADDING;
+    private static final int CHART_HEIGHT = 32;
 
     private final VBox root;
     private final MatchController matchController;
     private final SellAssetView sellAssetView;
     private final VBox liquidation;
+    private final Map<String, String> riskTexts = new HashMap<>();
+    private final Map<String, Label> riskLabels = new HashMap<>();
+    private final Map<String, SparklineChart> charts = new HashMap<>();
+    private final int[] balanceSamples;
+    private final int[] netWorthSamples;
 
     /**
      * Constructor: creates labels and adds them to the panel.
@@ -57,6 +74,8 @@ public final class InfoPanelImpl implements InfoPanel {
     )
     public InfoPanelImpl(final MatchController matchController) {
         this.matchController = Objects.requireNonNull(matchController);
+        this.balanceSamples = new int[matchController.getBalanceHistory().getCapacity()];
+        this.netWorthSamples = new int[this.balanceSamples.length];
 
         this.root = new VBox(SPACING);
         this.root.setPadding(new Insets(PADDING));
@@ -81,14 +100,26 @@ public final class InfoPanelImpl implements InfoPanel {
         title.setFont(Font.font(FONT_FAMILY, FontWeight.BOLD, TITLE_FONT_SIZE));
         title.setPadding(new Insets(0, 0, HEADER_SPACING, 0));
         this.root.getChildren().add(title);
-        for (final Player p : this.matchController.getPlayers()) {
-            this.root.getChildren().add(createPlayerCard(p));
+        final MatchSnapshot snapshot = this.matchController.getSnapshot();
+        final List<Player> players = this.matchController.getPlayers();
+        for (int i = 0; snapshot != null && i < players.size(); i++) {
+            this.root.getChildren().add(createPlayerCard(players.get(i), snapshot, i));
         }
 
         this.root.getChildren().add(this.liquidation);
     }
 
-    private VBox createPlayerCard(final Player p) {
+    /**
+     * Creates the card of a player, from the published snapshot of the match,
+     * so that balances, positions and turn are consistent with each other and
+     * the engine state is never read from the JavaFX thread.
+     *
+     * @param p the player, for its name and token.
+     * @param snapshot the last snapshot of the match.
+     * @param index the index of the player in turn order.
+     * @return the card.
+     */
+    private VBox createPlayerCard(final Player p, final MatchSnapshot snapshot, final int index) {
         final VBox card = new VBox(CARD_SPACING);
         card.setPadding(new Insets(CARD_PADDING));
         card.setAlignment(Pos.CENTER_LEFT);
@@ -109,22 +140,26 @@ public final class InfoPanelImpl implements InfoPanel {
         final Label name = new Label(p.getName());
         name.setFont(Font.font(FONT_FAMILY, FontWeight.BOLD, NAME_FONT_SIZE));
 
-        final Label balance = new Label("Balance: " + p.getBalance() + "€");
+        final Label balance = new Label("Balance: " + snapshot.getBalance(index) + "€");
         balance.setFont(Font.font(FONT_FAMILY, FontWeight.NORMAL, BALANCE_FONT_SIZE));
 
-        final Label position = new Label("Position: " + p.getCurrentPosition());
+        final Label position = new Label("Position: " + snapshot.getPosition(index));
         position.setFont(Font.font(FONT_FAMILY, FontPosture.ITALIC, POSITION_FONT_SIZE));
 
         final HBox header = new HBox(HEADER_SPACING);
         header.setAlignment(Pos.CENTER_LEFT);
         header.getChildren().addAll(icon, name);
 
-        card.getChildren().addAll(header, balance, position);
+        final Label risk = new Label(this.riskTexts.getOrDefault(p.getName(), ""));
+        risk.setFont(Font.font(FONT_FAMILY, FontPosture.ITALIC, POSITION_FONT_SIZE));
+        this.riskLabels.put(p.getName(), risk);
+
+        card.getChildren().addAll(header, balance, position, risk, updateChart(p.getName()).getCanvas());
 
         final StringBuilder style = new StringBuilder(512);
         style.append("-fx-background-radius: 10; -fx-background-color: white;"
         + " -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.15), 10, 0, 0, 4); ");
-        if (p.equals(this.matchController.getCurrentPlayer())) {
+        if (snapshot.getCurrentPlayerIndex() == index) {
             style.append("-fx-border-color: #4CAF50; -fx-border-width: 2.5; -fx-background-color: #F1F8E9;");
             name.setText("▶ " + p.getName()); 
         } else {
@@ -135,6 +170,25 @@ public final class InfoPanelImpl implements InfoPanel {
         return card;
     }
 
+    /**
+     * Returns the sparkline of a player, created on first use and kept across the
+     * refreshes, after drawing the turns recorded since its last update. The history
+     * is synchronized, so it is copied here rather than carried by the snapshot.
+     *
+     * @param playerId the player ID.
+     * @return the chart.
+     */
+    private SparklineChart updateChart(final String playerId) {
+        final BalanceHistory history = this.matchController.getBalanceHistory();
+        final SparklineChart chart = this.charts.computeIfAbsent(playerId,
+                id -> new SparklineChart(CHART_WIDTH, CHART_HEIGHT, this.balanceSamples.length));
+        final int stride = history.getStride();
+        final int count = history.copyBalances(playerId, this.balanceSamples);
+        history.copyNetWorths(playerId, this.netWorthSamples);
+        chart.update(this.balanceSamples, this.netWorthSamples, count, stride);
+        return chart;
+    }
+
     /**
      * Returns the root node of this panel to be added to a Scene.
      *
@@ -170,22 +224,32 @@ public final class InfoPanelImpl implements InfoPanel {
     /**
      * Shows the sell asset view with player and debt information.
      *
-     * @param player the player who needs to liquidate assets.
+     * @param playerId the player who needs to liquidate assets.
      * @param debtAmount the amount of debt to pay off.
      */
     @Override
-    public void showLiquidation(final Player player, final int debtAmount) {
-        this.sellAssetView.show(player, debtAmount);
+    public void showLiquidation(final String playerId, final int debtAmount) {
+        this.sellAssetView.show(playerId, debtAmount);
         showSellAssetView();
     }
 
     /**
-     * Sets the callback to invoke when liquidation completes.
+     * Shows the risk of the next turn in the card of the player,
+     * updating the label in place if the card is already displayed.
      *
-     * @param callback the callback to invoke when liquidation completes.
+     * @param forecast the forecast of the player's next turn.
      */
     @Override
-    public void setLiquidationCallback(final LiquidationCallback callback) {
-        this.sellAssetView.setCallBack(callback);
+    public void showRisk(final RollForecast forecast) {
+        final String text = "Next roll: rent " + Math.round(forecast.getExpectedRent())
+                + "€, GO " + Math.round(forecast.getExpectedGoIncome())
+                + "€, jail " + Math.round(forecast.getJailProbability() * PERCENT) + "%";
+        if (text.equals(this.riskTexts.put(forecast.getPlayerId(), text))) {
+            return;
+        }
+        final Label label = this.riskLabels.get(forecast.getPlayerId());
+        if (label != null) {
+            label.setText(text);
+        }
     }
 }
@@ -1,14 +1,21 @@
 package it.unibo.javapoly.view.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -16,6 +23,16 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.RollEvaluator;
+import it.unibo.javapoly.controller.api.RollForecast;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.impl.RollEvaluatorImpl;
+import it.unibo.javapoly.utils.jfr.RefreshEvent;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+import it.unibo.javapoly.utils.metrics.PhaseProfiler;
+import it.unibo.javapoly.utils.metrics.TurnPhase;
 import it.unibo.javapoly.view.api.MainView;
 
 /**
@@ -33,12 +50,19 @@ public final class MainViewImpl implements MainView {
     private static final int INSET_VAL = 5;
     private static final int INSET_SIDE_VAL = 10;
     private static final String FONT_FAMILY = "Segoe UI";
+    private static final KeyCode HUD_KEY = KeyCode.F3;
+    private static final LatencyHistogram REFRESH_LATENCY = MetricsRegistry.getInstance().histogram("gui.refresh");
+    private static final PhaseProfiler PHASES = PhaseProfiler.getInstance();
 
     private final BorderPane root;
     private final BoardPanelImpl boardPanel; 
     private final CommandPanelImpl commandPanel; 
     private final InfoPanelImpl infoPanel; 
+    private final PerformanceHudImpl hud;
     private final MatchController matchController;
+    private final RollEvaluator rollEvaluator = new RollEvaluatorImpl();
+    private long riskStateHash;
+    private boolean riskShown;
 
     private final VBox logContainer;
     private final ScrollPane logScroll;
@@ -56,7 +80,8 @@ public final class MainViewImpl implements MainView {
         this.matchController = Objects.requireNonNull(matchController);
         this.root = new BorderPane();
 
-        this.boardPanel = new BoardPanelImpl(this.matchController.getBoard(), this.matchController.getPlayers()); 
+        this.boardPanel = new BoardPanelImpl(this.matchController.getBoard(), this.matchController.getPlayers(),
+                this.matchController::getSnapshot);
         this.commandPanel = new CommandPanelImpl(this.matchController);
         this.infoPanel = new InfoPanelImpl(this.matchController); 
 
@@ -64,6 +89,8 @@ public final class MainViewImpl implements MainView {
         this.logScroll = new ScrollPane(this.logContainer);
         this.logScroll.setFitToWidth(true);
         this.logScroll.setPrefWidth(LOG_PREF_WIDTH);
+        this.hud = new PerformanceHudImpl(REFRESH_LATENCY, () -> countNodes(this.root),
+                () -> this.logContainer.getChildren().size());
 
         this.root.setCenter(this.boardPanel.getRoot());
         this.root.setBottom(this.commandPanel.getRoot());
@@ -76,14 +103,23 @@ public final class MainViewImpl implements MainView {
     }
 
     /**
-     * Displays the main window.
+     * Displays the main window, with the performance overlay toggled by F3.
      *
      * @param stage the primary stage provided by JavaFX.
      */
     @Override
     public void start(final Stage stage) {
         Objects.requireNonNull(stage);
-        final Scene scene = new Scene(this.root, SCENE_WIDTH, SCENE_HEIGHT);
+        final StackPane layers = new StackPane(this.root, this.hud.getRoot());
+        StackPane.setAlignment(this.hud.getRoot(), Pos.TOP_RIGHT);
+        final Scene scene = new Scene(layers, SCENE_WIDTH, SCENE_HEIGHT);
+        this.hud.attach(scene);
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == HUD_KEY) {
+                this.hud.toggle();
+                e.consume();
+            }
+        });
         stage.setTitle("JavaPoly - Monopoly Java Edition");
         stage.setScene(scene);
         stage.setMaximized(true);
@@ -95,9 +131,86 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void refreshAll() {
-        this.boardPanel.update();
-        this.infoPanel.updateInfo();
-        this.commandPanel.updateState();
+        final RefreshEvent event = new RefreshEvent();
+        event.begin();
+        final long start = REFRESH_LATENCY.start();
+        final boolean rendering = PHASES.enter(TurnPhase.RENDER);
+        try {
+            this.boardPanel.update();
+            this.infoPanel.updateInfo();
+            this.updateRisk();
+            this.commandPanel.updateState();
+        } finally {
+            PHASES.exit(rendering);
+        }
+        REFRESH_LATENCY.recordSince(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setNodeCount(countNodes(this.root));
+            event.commit();
+        }
+    }
+
+    /**
+     * Counts the nodes of a scene graph.
+     *
+     * @param node the root of the scene graph.
+     * @return the number of nodes, including the root.
+     */
+    private static int countNodes(final Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (final Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Evaluates the next turn of every player and updates the risk overlay,
+     * only if the state of the match changed since the last evaluation.
+     * The forecasts are computed by the writer of the match and shown on the JavaFX thread.
+     */
+    private void updateRisk() {
+        final MatchSnapshot snapshot = this.matchController.getSnapshot();
+        if (snapshot == null || this.riskShown && snapshot.getStateHash() == this.riskStateHash) {
+            return;
+        }
+        this.riskStateHash = snapshot.getStateHash();
+        this.riskShown = true;
+        this.matchController.getExecutor().query(this::evaluateRisks)
+                .thenAccept(forecasts -> FxTasks.runLater(() -> showRisks(forecasts)));
+    }
+
+    /**
+     * Evaluates the next turn of every player, copying the forecasts out of the evaluator.
+     *
+     * @param match the match, read by its writer.
+     * @return the forecasts, the one of the current player first.
+     */
+    private List<RollForecast> evaluateRisks(final MatchController match) {
+        final GameStateView state = match.getStateView();
+        final List<RollForecast> forecasts = new ArrayList<>(state.getPlayerCount());
+        for (int i = 0; i < state.getPlayerCount(); i++) {
+            final RollForecast forecast = new ForecastCopy(this.rollEvaluator.evaluate(state, i),
+                    state.getBoardSize());
+            if (state.getCurrentPlayerId().equals(forecast.getPlayerId())) {
+                forecasts.add(0, forecast);
+            } else {
+                forecasts.add(forecast);
+            }
+        }
+        return forecasts;
+    }
+
+    private void showRisks(final List<RollForecast> forecasts) {
+        for (final RollForecast forecast : forecasts) {
+            this.infoPanel.showRisk(forecast);
+        }
+        if (!forecasts.isEmpty()) {
+            this.boardPanel.showRisk(forecasts.get(0));
+        }
     }
 
     /**
@@ -107,7 +220,7 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void addLog(final String msg) {
-        Platform.runLater(() -> {
+        FxTasks.runLater(() -> {
             final Text textNode = new Text(msg);
             textNode.setFont(Font.font(FONT_FAMILY, FontWeight.NORMAL, FONT_SIZE_SMALL)); 
 
@@ -139,7 +252,7 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void showLiquidation() {
-        Platform.runLater(() -> {
+        FxTasks.runLater(() -> {
             this.infoPanel.showSellAssetView();
             this.commandPanel.getRoot().setDisable(true);
         });
@@ -150,7 +263,7 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void hideLiquidation() {
-        Platform.runLater(() -> {
+        FxTasks.runLater(() -> {
             this.infoPanel.hideSellAssetView();
             this.commandPanel.getRoot().setDisable(false);
         });
@@ -164,7 +277,7 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void showCard(final String title, final String description) {
-        Platform.runLater(() -> {
+        FxTasks.runLater(() -> {
             final Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle("CHANCE CARD!");
             alert.setHeaderText(title);
@@ -181,7 +294,7 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void showBankruptAlert(final String playerName) {
-        Platform.runLater(() -> {
+        FxTasks.runLater(() -> {
             final Alert alert = new Alert(Alert.AlertType.WARNING);
             alert.setTitle("BANKRUPTCY!");
             alert.setHeaderText("Game Over for " + playerName);
@@ -199,7 +312,7 @@ public final class MainViewImpl implements MainView {
      */
     @Override
     public void showWinner(final String winnerName) {
-        Platform.runLater(() -> {
+        FxTasks.runLater(() -> {
             this.infoPanel.getRoot().setDisable(true);
             this.commandPanel.getRoot().setDisable(true);
             this.boardPanel.getRoot().setDisable(true);
@@ -250,4 +363,60 @@ public final class MainViewImpl implements MainView {
     public BorderPane getRoot() {
         return this.root;
     }
+
+    /**
+     * Copy of a forecast, handed from the writer of the match to the JavaFX thread.
+     */
+    private static final class ForecastCopy implements RollForecast {
+
+        private final String playerId;
+        private final double expectedRent;
+        private final double expectedGoIncome;
+        private final double jailProbability;
+        private final double[] landing;
+        private final double[] rents;
+
+        private ForecastCopy(final RollForecast forecast, final int tiles) {
+            this.playerId = forecast.getPlayerId();
+            this.expectedRent = forecast.getExpectedRent();
+            this.expectedGoIncome = forecast.getExpectedGoIncome();
+            this.jailProbability = forecast.getJailProbability();
+            this.landing = new double[tiles];
+            this.rents = new double[tiles];
+            for (int i = 0; i < tiles; i++) {
+                this.landing[i] = forecast.getLandingProbability(i);
+                this.rents[i] = forecast.getExpectedRent(i);
+            }
+        }
+
+        @Override
+        public String getPlayerId() {
+            return this.playerId;
+        }
+
+        @Override
+        public double getExpectedRent() {
+            return this.expectedRent;
+        }
+
+        @Override
+        public double getExpectedGoIncome() {
+            return this.expectedGoIncome;
+        }
+
+        @Override
+        public double getJailProbability() {
+            return this.jailProbability;
+        }
+
+        @Override
+        public double getLandingProbability(final int position) {
+            return this.landing[position];
+        }
+
+        @Override
+        public double getExpectedRent(final int position) {
+            return this.rents[position];
+        }
+    }
 }
@@ -0,0 +1,210 @@
+package it.unibo.javapoly.view.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unibo.javapoly.utils.metrics.EventCounter;
+import it.unibo.javapoly.utils.metrics.LatencyHistogram;
+import it.unibo.javapoly.utils.metrics.LatencyWindow;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+import it.unibo.javapoly.view.api.PerformanceHud;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.util.Duration;
+
+/**
+ * Overlay showing, twice per second, the measures needed to tell whether a
+ * sluggish game is slowed down by the GUI or by the engine: the layout pass of
+ * the pulses, the refreshes of the main view, the tasks queued on the JavaFX
+ * thread, the turns of the engine, the size of the scene graph and of the log,
+ * and the allocation rate of the heap.
+ *
+ * <p>
+ * The latencies are read from the striped histograms of the {@link MetricsRegistry},
+ * so the measured code never waits for the overlay; while hidden, the overlay does
+ * not sample at all. JavaFX does not expose the render time of a pulse: run with
+ * {@code -Djavafx.pulseLogger=true} to see it.
+ */
+public final class PerformanceHudImpl implements PerformanceHud {
+
+    private static final LatencyHistogram PULSE_LATENCY = MetricsRegistry.getInstance().histogram("gui.pulse");
+    private static final EventCounter PULSES = MetricsRegistry.getInstance().counter("gui.pulses");
+    private static final double SAMPLE_MILLIS = 500;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+    private static final int PADDING = 8;
+    private static final int FONT_SIZE = 12;
+    private static final String FONT_FAMILY = "Monospaced";
+    private static final String STYLE = "-fx-background-color: rgba(0, 0, 0, 0.7); -fx-background-radius: 6;";
+    private static final String TEXT_STYLE = "-fx-text-fill: #7CFC00;";
+
+    private final VBox root = new VBox();
+    private final Timeline sampler = new Timeline(new KeyFrame(Duration.millis(SAMPLE_MILLIS), e -> sample()));
+    private final IntSupplier nodeCount;
+    private final IntSupplier logSize;
+    private final LatencyWindow pulse = new LatencyWindow(PULSE_LATENCY);
+    private final LatencyWindow refresh;
+    private final LatencyWindow queue = new LatencyWindow(FxTasks.getQueueLatency());
+    private final LatencyWindow turn;
+    private final Label pulseLabel = newLabel();
+    private final Label refreshLabel = newLabel();
+    private final Label queueLabel = newLabel();
+    private final Label turnLabel = newLabel();
+    private final Label nodesLabel = newLabel();
+    private final Label heapLabel = newLabel();
+    private long pulseStart = LatencyHistogram.NOT_STARTED;
+    private long lastPulses;
+    private long lastAllocated;
+    private long lastSample;
+
+    /**
+     * Creates a hidden overlay.
+     *
+     * @param refreshLatency the histogram of the refreshes of the main view.
+     * @param nodeCount the supplier of the number of nodes of the scene graph.
+     * @param logSize the supplier of the number of lines of the log.
+     */
+    public PerformanceHudImpl(final LatencyHistogram refreshLatency, final IntSupplier nodeCount,
+            final IntSupplier logSize) {
+        this.refresh = new LatencyWindow(refreshLatency);
+        this.turn = new LatencyWindow(MetricsRegistry.getInstance().histogram("match.diceThrow"));
+        this.nodeCount = Objects.requireNonNull(nodeCount);
+        this.logSize = Objects.requireNonNull(logSize);
+        this.sampler.setCycleCount(Timeline.INDEFINITE);
+
+        this.root.getChildren().addAll(this.pulseLabel, this.refreshLabel, this.queueLabel, this.turnLabel,
+                this.nodesLabel, this.heapLabel);
+        this.root.setPadding(new Insets(PADDING));
+        this.root.setStyle(STYLE);
+        this.root.setMaxSize(VBox.USE_PREF_SIZE, VBox.USE_PREF_SIZE);
+        this.root.setAlignment(Pos.TOP_LEFT);
+        this.root.setMouseTransparent(true);
+        this.root.setVisible(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void attach(final Scene scene) {
+        scene.addPreLayoutPulseListener(() -> this.pulseStart = PULSE_LATENCY.start());
+        scene.addPostLayoutPulseListener(() -> {
+            PULSE_LATENCY.recordSince(this.pulseStart);
+            PULSES.increment();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void toggle() {
+        if (isShowing()) {
+            this.sampler.stop();
+            this.root.setVisible(false);
+        } else {
+            this.pulse.sample();
+            this.refresh.sample();
+            this.queue.sample();
+            this.turn.sample();
+            this.lastPulses = PULSES.getCount();
+            this.lastAllocated = allocatedBytes();
+            this.lastSample = System.nanoTime();
+            this.sample();
+            this.root.setVisible(true);
+            this.sampler.play();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isShowing() {
+        return this.root.isVisible();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressFBWarnings(
+        value = "EI_EXPOSE_REP",
+        justification = "JavaFX nodes must be exposed"
+    )
+    @Override
+    public VBox getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Reads the measures of the last period and updates the labels.
+     */
+    private void sample() {
+        final long now = System.nanoTime();
+        final double seconds = Math.max(1, now - this.lastSample) / (double) TimeUnit.SECONDS.toNanos(1);
+        this.lastSample = now;
+
+        this.pulse.sample();
+        final long pulses = PULSES.getCount();
+        this.pulseLabel.setText(String.format(Locale.ROOT, "pulse    %5.1f/s  layout %s",
+                (pulses - this.lastPulses) / seconds, format(this.pulse)));
+        this.lastPulses = pulses;
+
+        this.refresh.sample();
+        this.refreshLabel.setText(String.format(Locale.ROOT, "refresh  %5.1f/s  %s",
+                this.refresh.getCount() / seconds, format(this.refresh)));
+
+        this.queue.sample();
+        this.queueLabel.setText(String.format(Locale.ROOT, "runLater %5d     wait   %s",
+                FxTasks.getPendingCount(), format(this.queue)));
+
+        this.turn.sample();
+        this.turnLabel.setText(String.format(Locale.ROOT, "turn     %5.1f/s  %s",
+                this.turn.getCount() / seconds, format(this.turn)));
+
+        this.nodesLabel.setText(String.format(Locale.ROOT, "nodes    %5d     log    %d lines",
+                this.nodeCount.getAsInt(), this.logSize.getAsInt()));
+
+        final long allocated = allocatedBytes();
+        this.heapLabel.setText(allocated < 0
+                ? "alloc    n/a"
+                : String.format(Locale.ROOT, "alloc    %7.1f MB/s",
+                        (allocated - this.lastAllocated) / BYTES_PER_MEGABYTE / seconds));
+        this.lastAllocated = allocated;
+    }
+
+    private static String format(final LatencyWindow window) {
+        return String.format(Locale.ROOT, "avg %6.2f ms  max %6.2f ms",
+                window.getMeanNanos() / NANOS_PER_MILLI, window.getMaxNanos() / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Returns the bytes allocated in the heap by all the threads since the start of the JVM.
+     *
+     * @return the allocated bytes, -1 if the JVM does not measure them
+     */
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static Label newLabel() {
+        final Label label = new Label();
+        label.setFont(Font.font(FONT_FAMILY, FONT_SIZE));
+        label.setStyle(TEXT_STYLE);
+        return label;
+    }
+}
@@ -1,10 +1,16 @@
 package it.unibo.javapoly.view.impl;
 
-import it.unibo.javapoly.controller.api.LiquidationCallback;
 import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.command.DeclareBankruptcyCommand;
+import it.unibo.javapoly.controller.api.command.MatchCommand;
+import it.unibo.javapoly.controller.api.command.SellHouseCommand;
+import it.unibo.javapoly.controller.api.command.SellPropertyCommand;
 import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.board.Board;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
 import it.unibo.javapoly.model.api.property.Property;
-import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
 import it.unibo.javapoly.view.api.SellAssetView;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -12,10 +18,13 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -29,11 +38,12 @@ public class SellAssetViewImpl implements SellAssetView {
     private final GridPane propertyGrid;
     private final Label titleLabel;
     private final Label debtLabel;
+    private final Button suggestButton;
+    private final Label suggestionLabel;
     private final MatchController matchController;
     private String playerName;
     private int originalDebt;
     private int remainingDebt;
-    private LiquidationCallback liquidationCallback;
 
     /**
      * Constructor a new sell-asset view.
@@ -46,6 +56,8 @@ public class SellAssetViewImpl implements SellAssetView {
         this.propertyGrid = new GridPane();
         this.titleLabel = new Label("Amount to pay off: ");
         this.debtLabel = new Label();
+        this.suggestButton = new Button("Suggest");
+        this.suggestionLabel = new Label();
         this.matchController = Objects.requireNonNull(controller, "Match controller must not be null");
         initialize();
     }
@@ -57,18 +69,67 @@ public class SellAssetViewImpl implements SellAssetView {
         final HBox header = new HBox(titleLabel, debtLabel);
         header.setAlignment(Pos.CENTER);
 
+        this.suggestButton.setOnAction(e -> showSuggestion());
+        final VBox footer = new VBox(this.suggestButton, this.suggestionLabel);
+        footer.setAlignment(Pos.CENTER);
+
         this.root.setTop(header);
         this.root.setCenter(this.propertyGrid);
+        this.root.setBottom(footer);
+    }
+
+    /**
+     * Shows the sales suggested by the liquidation planner for the remaining debt.
+     * The plan is computed by the writer of the match and shown on the JavaFX thread.
+     */
+    private void showSuggestion() {
+        final String debtor = this.playerName;
+        final int debt = this.remainingDebt;
+        if (debtor == null) {
+            return;
+        }
+        this.matchController.getExecutor().query(match -> describe(match.getLiquidationPlanner()
+                .plan(findPlayer(match, debtor), debt)))
+                .thenAccept(text -> FxTasks.runLater(() -> this.suggestionLabel.setText(text)));
+    }
+
+    private static String describe(final LiquidationPlan plan) {
+        if (!plan.isCovering()) {
+            return "Selling everything raises only " + plan.getRaised() + CURRENCY;
+        }
+        final StringBuilder text = new StringBuilder("Suggested:");
+        for (final LiquidationPlan.Step step : plan.getSteps()) {
+            text.append(System.lineSeparator()).append(step.getProperty().getCard().getName()).append(": ");
+            if (step.getHousesToSell() > 0) {
+                text.append("sell ").append(step.getHousesToSell()).append(" house(s)");
+                if (step.isPropertySold()) {
+                    text.append(" and ");
+                }
+            }
+            if (step.isPropertySold()) {
+                text.append("sell the property");
+            }
+        }
+        text.append(System.lineSeparator()).append("Raises ").append(plan.getRaised()).append(CURRENCY);
+        return text.toString();
+    }
+
+    private static Player findPlayer(final MatchController match, final String playerId) {
+        return match.getPlayers().stream()
+                .filter(p -> p.getName().equals(playerId))
+                .findFirst()
+                .orElseThrow();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void show(final Player player, final int debtAmount) {
-        this.playerName = player.getName();
+    public void show(final String playerId, final int debtAmount) {
+        this.playerName = Objects.requireNonNull(playerId);
         this.originalDebt = debtAmount;
         this.remainingDebt = debtAmount;
+        this.suggestionLabel.setText("");
         debtDisplay();
         refreshPropertyGrid();
     }
@@ -81,22 +142,38 @@ public class SellAssetViewImpl implements SellAssetView {
     }
 
     /**
-     * This method update propertyGrid with buttons.
+     * This method update propertyGrid with buttons, from the last snapshot published by the match.
+     * The match completes the liquidation once the debt is covered; a player without assets
+     * left declares the bankruptcy.
      */
     private void refreshPropertyGrid() {
         this.propertyGrid.getChildren().clear();
-        final Player currentPlayer = this.matchController.getCurrentPlayer();
-        this.remainingDebt = Math.max(0, this.originalDebt - currentPlayer.getBalance());
+        this.suggestionLabel.setText("");
+        final MatchSnapshot snapshot = this.matchController.getSnapshot();
+        final int index = this.playerName == null ? -1 : indexOf(snapshot, this.playerName);
+        if (index < 0 || snapshot.isBankrupt(index)) {
+            this.playerName = null;
+            return;
+        }
+        this.remainingDebt = Math.max(0, this.originalDebt - snapshot.getBalance(index));
+        debtDisplay();
         if (this.remainingDebt == 0) {
-            completeLiquidation(true);
+            this.playerName = null;
             return;
         }
-        final List<Property> properties =
-                new ArrayList<>(this.matchController.getPropertyController().getOwnedProperties(this.playerName));
-        final List<Property> houses =
-                new ArrayList<>(this.matchController.getPropertyController().getPropertiesWithHouseByOwner(currentPlayer));
-        if (properties.isEmpty() && houses.isEmpty()) {
-            currentPlayer.setState(BankruptState.getInstance());
+        final Board board = this.matchController.getBoard();
+        final List<Property> properties = new ArrayList<>();
+        final List<Property> houses = new ArrayList<>();
+        for (int position = 0; position < snapshot.getTileCount(); position++) {
+            if (snapshot.getOwnerIndex(position) == index
+                    && board.getTileAt(position) instanceof PropertyTile propertyTile) {
+                properties.add(propertyTile.getProperty());
+                if (snapshot.getHouses(position) > 0) {
+                    houses.add(propertyTile.getProperty());
+                }
+            }
+        }
+        if (properties.isEmpty()) {
             declareBankruptcy();
             return;
         }
@@ -104,7 +181,7 @@ public class SellAssetViewImpl implements SellAssetView {
         int col = 0;
         if (!houses.isEmpty()) {
             for (final Property propertyWithHouse: houses) {
-                final Button houseButton = createHouseButton(propertyWithHouse);
+                final Button houseButton = createHouseButton(propertyWithHouse, snapshot);
                 propertyGrid.add(houseButton, col, row);
                 col++;
                 if (col >= 2) {
@@ -125,22 +202,32 @@ public class SellAssetViewImpl implements SellAssetView {
         }
     }
 
+    private static int indexOf(final MatchSnapshot snapshot, final String playerId) {
+        for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+            if (snapshot.getPlayerId(i).equals(playerId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Creates a button to sell a property with a house.
      * Value returned is half of the house construction cost.
      *
      * @param property the property, must not be null.
+     * @param snapshot the snapshot the view is rendered from.
      * @return a non-null button.
      */
-    private Button createHouseButton(final Property property) {
+    private Button createHouseButton(final Property property, final MatchSnapshot snapshot) {
         final Label nameLabel = new Label(property.getCard().getName() + " ");
-        final Label houseCountLabel = new Label("House " + property.getState().getHouses() + " ");
+        final Label houseCountLabel = new Label("House " + snapshot.getHouses(property.getPosition()) + " ");
         final int housePriceLabel = this.matchController.getPropertyController().getHouseCost(property) / 2;
         final Label price = new Label("Sell for " + housePriceLabel + CURRENCY);
         final HBox content = new HBox(nameLabel, houseCountLabel, price);
         final Button houseButton = new Button();
         houseButton.setGraphic(content);
-        houseButton.setOnAction(e -> sellHouse(property, housePriceLabel));
+        houseButton.setOnAction(e -> submit(new SellHouseCommand(this.playerName, property.getPosition())));
         return houseButton;
     }
 
@@ -153,79 +240,41 @@ public class SellAssetViewImpl implements SellAssetView {
      */
     private Button createPropertyButton(final Property property) {
         final Label name = new Label(property.getCard().getName() + " ");
-        final int pricePropertyToSell = property.getState().getPurchasePrice() / 2;
+        final int pricePropertyToSell = property.getPurchasePrice() / 2;
         final Label price = new Label(String.valueOf(pricePropertyToSell));
         final HBox content = new HBox(name, price);
         final Button propertyButton = new Button();
         propertyButton.setGraphic(content);
-        propertyButton.setOnAction(e -> sellProperty(property, pricePropertyToSell));
+        propertyButton.setOnAction(e -> submit(new SellPropertyCommand(this.playerName, property.getPosition())));
         return propertyButton;
     }
 
-    /**
-     * Sells a house and update debt.
-     *
-     * @param property the property with house.
-     * @param housePrice the sale price.
-     */
-    private void sellHouse(final Property property, final int housePrice) {
-        final Player currentPlayer = this.matchController.getCurrentPlayer();
-        final boolean success = matchController.getEconomyController().sellHouse(currentPlayer, property);
-        if (!success) {
-           return;
-        }
-        matchController.getMainViewImpl().addLog(
-                currentPlayer.getName() + " sold house in " + property.getId() + " for " + housePrice + CURRENCY);
-        if (currentPlayer.getBalance() >= this.originalDebt) {
-            this.remainingDebt = 0;
-            debtDisplay();
-            completeLiquidation(true);
-            return;
-        }
-        refreshPropertyGrid();
-    }
-
-    /**
-     * Sells a property and updates the debt.
-     *
-     * @param property the property.
-     * @param pricePropertyToSell the sale price.
-     */
-    private void sellProperty(final Property property, final int pricePropertyToSell) {
-        final Player currentPlayer = this.matchController.getCurrentPlayer();
-        final boolean success = matchController.getEconomyController().sellProperty(currentPlayer, property);
-        if (!success) {
-            return;
-        }
-        matchController.getMainViewImpl().addLog(
-                    currentPlayer.getName() + " sold " + property.getId() + " for " + pricePropertyToSell + CURRENCY);
-        if (currentPlayer.getBalance() >= this.originalDebt) {
-            this.remainingDebt = 0;
-            debtDisplay();
-            completeLiquidation(true);
-            return;
-        }
-        refreshPropertyGrid();
-    }
-
     /**
      * Declares bankruptcy.
      */
     private void declareBankruptcy() {
-        final Player currentPlayer = this.matchController.getCurrentPlayer();
-        currentPlayer.setState(BankruptState.getInstance());
-        completeLiquidation(false);
+        final String debtor = this.playerName;
+        this.playerName = null;
+        submit(new DeclareBankruptcyCommand(debtor));
     }
 
     /**
-     * Completes the liquidation process and notifies callback.
+     * Submits a sale or the bankruptcy to the executor of the match, which applies it
+     * and publishes the snapshot the view is then refreshed from.
      *
-     * @param success true if debt was full paid.
+     * @param command the command to submit.
      */
-    private void completeLiquidation(final boolean success) {
-        if (this.liquidationCallback != null) {
-            this.liquidationCallback.onLiquidationCompleted(success, this.remainingDebt);
-        }
+    private void submit(final MatchCommand<?> command) {
+        this.propertyGrid.setDisable(true);
+        this.matchController.getExecutor().submit(command).whenComplete((result, error) -> {
+            if (error != null) {
+                Logger.getLogger(getClass().getName()).log(Level.FINE, "Sale rejected", error);
+            }
+            FxTasks.runLater(() -> {
+                this.propertyGrid.setDisable(false);
+                refreshPropertyGrid();
+            });
+        });
     }
 
     /**
@@ -245,12 +294,4 @@ public class SellAssetViewImpl implements SellAssetView {
     public BorderPane getRoot() {
         return this.root;
     }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void setCallBack(final LiquidationCallback callback) {
-        this.liquidationCallback = callback;
-    }
 }
@@ -0,0 +1,106 @@
+package it.unibo.javapoly.view.impl;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Sparkline of the balance and of the net worth of a player, drawn on a {@link Canvas}.
+ *
+ * <p>
+ * The horizontal scale is fixed by the capacity of the history, so a new sample only
+ * adds a segment at the end of each line. The whole chart is redrawn only when the
+ * history is downsampled or a sample falls outside the vertical range, which is
+ * widened by a margin each time to keep those redraws rare.
+ */
+final class SparklineChart {
+
+    private static final Color BALANCE_COLOR = Color.web("#2196F3");
+    private static final Color NET_WORTH_COLOR = Color.web("#4CAF50");
+    private static final double LINE_WIDTH = 1.5;
+    private static final double PADDING = 2;
+    private static final double RANGE_MARGIN = 0.25;
+
+    private final Canvas canvas;
+    private final double step;
+    private int drawn;
+    private int stride;
+    private double min;
+    private double max;
+
+    /**
+     * Creates an empty chart.
+     *
+     * @param width the width of the chart
+     * @param height the height of the chart
+     * @param capacity the number of samples of a full history
+     */
+    SparklineChart(final double width, final double height, final int capacity) {
+        this.canvas = new Canvas(width, height);
+        this.step = (width - 2 * PADDING) / Math.max(1, capacity - 1);
+        this.canvas.getGraphicsContext2D().setLineWidth(LINE_WIDTH);
+    }
+
+    /**
+     * Returns the node of the chart.
+     *
+     * @return the canvas
+     */
+    Canvas getCanvas() {
+        return this.canvas;
+    }
+
+    /**
+     * Draws the samples not drawn yet, or the whole chart if the scales changed.
+     *
+     * @param balances the balances, the oldest first
+     * @param netWorths the net worths, the oldest first
+     * @param count the number of samples
+     * @param sampleStride the stride of the history
+     */
+    void update(final int[] balances, final int[] netWorths, final int count, final int sampleStride) {
+        boolean redraw = count < this.drawn || sampleStride != this.stride;
+        for (int i = redraw ? 0 : this.drawn; i < count && !redraw; i++) {
+            redraw = outOfRange(balances[i]) || outOfRange(netWorths[i]);
+        }
+        final GraphicsContext graphics = this.canvas.getGraphicsContext2D();
+        if (redraw) {
+            graphics.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+            this.drawn = 0;
+            this.stride = sampleStride;
+            this.min = Double.MAX_VALUE;
+            this.max = -Double.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                this.min = Math.min(this.min, Math.min(balances[i], netWorths[i]));
+                this.max = Math.max(this.max, Math.max(balances[i], netWorths[i]));
+            }
+            final double margin = Math.max(1, (this.max - this.min) * RANGE_MARGIN);
+            this.min -= margin;
+            this.max += margin;
+        }
+        drawSegments(graphics, balances, count, BALANCE_COLOR);
+        drawSegments(graphics, netWorths, count, NET_WORTH_COLOR);
+        this.drawn = count;
+    }
+
+    private boolean outOfRange(final int value) {
+        return value < this.min || value > this.max;
+    }
+
+    private void drawSegments(final GraphicsContext graphics, final int[] values, final int count,
+            final Color color) {
+        graphics.setStroke(color);
+        for (int i = Math.max(1, this.drawn); i < count; i++) {
+            graphics.strokeLine(x(i - 1), y(values[i - 1]), x(i), y(values[i]));
+        }
+    }
+
+    private double x(final int index) {
+        return PADDING + index * this.step;
+    }
+
+    private double y(final int value) {
+        final double height = this.canvas.getHeight() - 2 * PADDING;
+        return PADDING + height - (value - this.min) / (this.max - this.min) * height;
+    }
+}
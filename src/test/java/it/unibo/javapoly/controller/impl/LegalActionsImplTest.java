@@ -0,0 +1,105 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.ActionType;
+import it.unibo.javapoly.controller.api.LegalActions;
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.model.impl.JailedState;
+
+/**
+ * Unit tests for {@link LegalActionsImpl}.
+ */
+@DisplayName("LegalActionsImpl tests")
+class LegalActionsImplTest {
+
+    private static final long SEED = 3L;
+    private static final int FIRST_BROWN = 1;
+    private static final int SECOND_BROWN = 3;
+
+    private final LegalActions legalActions = new LegalActionsImpl();
+    private MatchController match;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("alice", new AggressiveBot());
+        bots.put("bob", new AggressiveBot());
+        this.match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+    }
+
+    private void landOn(final int position) {
+        this.match.getCurrentPlayer().setPosition(position);
+        this.match.setHasRolled(true);
+    }
+
+    /**
+     * Verifies the commands before and after the roll.
+     */
+    @Test
+    @DisplayName("roll before moving, buy and end turn afterwards")
+    void testTurnPhases() {
+        assertEquals(ActionType.ROLL.mask(), this.legalActions.generate(this.match.getStateView()));
+
+        landOn(FIRST_BROWN);
+        final int actions = this.legalActions.generate(this.match.getStateView());
+
+        assertFalse(ActionType.ROLL.isIn(actions));
+        assertTrue(ActionType.BUY.isIn(actions));
+        assertTrue(ActionType.END_TURN.isIn(actions));
+        assertEquals(actions, this.match.getLegalActions());
+    }
+
+    /**
+     * Verifies that the jail fee can be paid only before rolling.
+     */
+    @Test
+    @DisplayName("jail fee only before rolling")
+    void testJailFee() {
+        this.match.getCurrentPlayer().setState(new JailedState());
+        assertTrue(ActionType.PAY_JAIL_FEE.isIn(this.legalActions.generate(this.match.getStateView())));
+
+        this.match.setHasRolled(true);
+        assertFalse(ActionType.PAY_JAIL_FEE.isIn(this.legalActions.generate(this.match.getStateView())));
+    }
+
+    /**
+     * Verifies the build and sell positions of a complete group.
+     */
+    @Test
+    @DisplayName("houses are built evenly and sold where built")
+    void testBuildAndSellPositions() {
+        landOn(FIRST_BROWN);
+        this.match.buyCurrentProperty();
+        landOn(SECOND_BROWN);
+        this.match.buyCurrentProperty();
+        final BitSet positions = new BitSet();
+
+        this.legalActions.buildPositions(this.match.getStateView(), positions);
+        assertEquals(BitSet.valueOf(new long[] {1L << FIRST_BROWN | 1L << SECOND_BROWN}), positions);
+
+        this.match.buildHouseOnProperty(this.match.getPropertyController()
+            .getOwnedProperties("alice").stream().filter(p -> p.getPosition() == FIRST_BROWN).findFirst().get());
+        this.legalActions.buildPositions(this.match.getStateView(), positions);
+        assertEquals(BitSet.valueOf(new long[] {1L << SECOND_BROWN}), positions);
+
+        this.legalActions.sellHousePositions(this.match.getStateView(), positions);
+        assertEquals(BitSet.valueOf(new long[] {1L << FIRST_BROWN}), positions);
+        assertTrue(ActionType.SELL_HOUSE.isIn(this.legalActions.generate(this.match.getStateView())));
+    }
+}
@@ -0,0 +1,122 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.PropertyController;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+import it.unibo.javapoly.model.impl.card.LandPropertyCard;
+import it.unibo.javapoly.model.impl.card.StationPropertyCard;
+import it.unibo.javapoly.model.impl.property.PropertyImpl;
+
+/**
+ * Unit tests for {@link LiquidationPlannerImpl}.
+ */
+@DisplayName("LiquidationPlannerImpl tests")
+class LiquidationPlannerImplTest {
+
+    private static final int LAND_COST = 60;
+    private static final int BASE_RENT = 2;
+    private static final List<Integer> HOUSE_RENTS = List.of(10, 30, 90, 160);
+    private static final int HOTEL_RENT = 250;
+    private static final int HOUSE_COST = 50;
+    private static final int STATION_COST = 200;
+    private static final List<Integer> STATION_RENTS = List.of(25, 50, 100, 200);
+    private static final int SMALL_DEBT = 20;
+    private static final int MEDIUM_DEBT = 40;
+    private static final int HUGE_DEBT = 10_000;
+
+    private Map<String, Property> properties;
+    private Player player;
+
+    private static Property land(final String id, final int position) {
+        return new PropertyImpl(id, position, new LandPropertyCard(id, id, "", LAND_COST, PropertyGroup.BROWN,
+            BASE_RENT, HOUSE_RENTS, HOTEL_RENT, HOUSE_COST, HOUSE_COST));
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new HashMap<>();
+        this.properties.put("a", land("a", 1));
+        this.properties.put("b", land("b", 3));
+        this.player = new PlayerImpl("alice", TokenType.CAR);
+    }
+
+    private PropertyController ownAllWithHouses() {
+        final PropertyController controller = new PropertyControllerImpl(this.properties);
+        for (final String id : this.properties.keySet()) {
+            controller.purchaseProperty(this.player, id);
+        }
+        for (int i = 0; i < 2; i++) {
+            controller.buildHouse(this.player, "a");
+            controller.buildHouse(this.player, "b");
+        }
+        return controller;
+    }
+
+    /**
+     * Verifies that a single house is sold rather than breaking the monopoly.
+     */
+    @Test
+    @DisplayName("sells the cheapest house instead of a property")
+    void testSellsOneHouse() {
+        final LiquidationPlan plan = new LiquidationPlannerImpl(ownAllWithHouses()).plan(this.player, SMALL_DEBT);
+
+        assertTrue(plan.isCovering());
+        assertEquals(1, plan.getSteps().size());
+        assertEquals(1, plan.getSteps().getFirst().getHousesToSell());
+        assertFalse(plan.getSteps().getFirst().isPropertySold());
+        assertEquals(HOUSE_COST / 2, plan.getRaised());
+    }
+
+    /**
+     * Verifies that a low-rent station is sold before houses with a high rent.
+     */
+    @Test
+    @DisplayName("prefers the asset that loses the least rent")
+    void testPrefersStation() {
+        this.properties.put("s", new PropertyImpl("s", 5,
+            new StationPropertyCard("s", "Station", "", STATION_COST, STATION_RENTS)));
+        final PropertyController controller = ownAllWithHouses();
+        controller.purchaseProperty(this.player, "s");
+
+        final LiquidationPlan plan = new LiquidationPlannerImpl(controller).plan(this.player, MEDIUM_DEBT);
+
+        assertTrue(plan.isCovering());
+        assertEquals(1, plan.getSteps().size());
+        assertEquals("s", plan.getSteps().getFirst().getProperty().getId());
+        assertTrue(plan.getSteps().getFirst().isPropertySold());
+        assertEquals(STATION_COST / 2, plan.getRaised());
+    }
+
+    /**
+     * Verifies the plan when the debt cannot be covered, and its execution.
+     */
+    @Test
+    @DisplayName("sells everything when the debt cannot be covered")
+    void testNotCovering() {
+        final PropertyController controller = ownAllWithHouses();
+        final LiquidationPlannerImpl planner = new LiquidationPlannerImpl(controller);
+        final LiquidationPlan plan = planner.plan(this.player, HUGE_DEBT);
+        final int expected = 2 * (2 * HOUSE_COST / 2 + LAND_COST / 2);
+
+        assertFalse(plan.isCovering());
+        assertEquals(expected, plan.getRaised());
+        assertEquals(expected, planner.execute(this.player, plan, new EconomyControllerImpl(controller)));
+        assertTrue(controller.getOwnedProperties(this.player.getName()).isEmpty());
+    }
+}
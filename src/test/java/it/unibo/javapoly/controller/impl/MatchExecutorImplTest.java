@@ -0,0 +1,234 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchExecutor;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.command.BotTurnCommand;
+import it.unibo.javapoly.controller.api.command.EndTurnCommand;
+import it.unibo.javapoly.controller.api.command.RollCommand;
+import it.unibo.javapoly.controller.api.command.SellPropertyCommand;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.utils.metrics.PhaseProfiler;
+import it.unibo.javapoly.utils.metrics.TurnPhase;
+
+/**
+ * Unit tests for {@link MatchExecutorImpl}.
+ */
+@DisplayName("MatchExecutorImpl tests")
+class MatchExecutorImplTest {
+
+    private static final long SEED = 11L;
+    private static final int THREADS = 8;
+    private static final int QUERIES = 500;
+    private static final int HAND_OVERS = 2000;
+
+    private MatchController match;
+    private MatchExecutor executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("first", new AggressiveBot());
+        bots.put("second", new AggressiveBot());
+        this.match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+        this.executor = this.match.getExecutor();
+    }
+
+    /**
+     * Verifies that submissions from many threads are applied one at a time by a virtual thread.
+     */
+    @Test
+    @DisplayName("submissions from many threads are applied by a single writer")
+    void testSingleWriter() throws InterruptedException {
+        final int[] counter = new int[1];
+        final List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final List<CompletableFuture<Boolean>> own = new ArrayList<>();
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < QUERIES; i++) {
+                    own.add(this.executor.query(m -> {
+                        counter[0]++;
+                        return Thread.currentThread().isVirtual();
+                    }));
+                }
+                synchronized (results) {
+                    results.addAll(own);
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(results.stream().allMatch(CompletableFuture::join));
+        assertEquals(THREADS * QUERIES, this.executor.query(m -> counter[0]).join());
+    }
+
+    /**
+     * Verifies that a writer finishing its drain never releases the role taken by the next one:
+     * every submission waits for the previous one, so most of them race with the end of a drain.
+     */
+    @Test
+    @DisplayName("a finishing drain hands the writer role over without overlapping")
+    void testDrainHandOver() throws InterruptedException {
+        final MatchExecutor yielding = new MatchExecutorImpl(this.match, Thread::yield);
+        final AtomicInteger writers = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < HAND_OVERS; i++) {
+                    yielding.query(m -> {
+                        if (writers.incrementAndGet() != 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        Thread.yield();
+                        return writers.decrementAndGet();
+                    }).join();
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, overlaps.get());
+        assertEquals(0, yielding.query(m -> writers.get()).join());
+        assertTrue(yielding.getAppliedCount() >= THREADS * HAND_OVERS);
+    }
+
+    /**
+     * Verifies that a command of the current player is applied and returns its result.
+     */
+    @Test
+    @DisplayName("commands are applied in submission order")
+    void testCommands() {
+        final String first = this.match.getCurrentPlayer().getName();
+        final CompletableFuture<Integer> roll = this.executor.submit(new RollCommand(first));
+        final CompletableFuture<Integer> position = this.executor.query(m -> m.getCurrentPlayer().getCurrentPosition());
+        final CompletableFuture<String> turn = this.executor.submit(new BotTurnCommand(first));
+
+        assertEquals(position.join(), roll.join());
+        assertFalse(first.equals(turn.join()));
+        assertEquals(turn.join(), this.match.getCurrentPlayer().getName());
+    }
+
+    /**
+     * Verifies that commands of another player or not legal now are rejected.
+     */
+    @Test
+    @DisplayName("illegal commands complete exceptionally")
+    void testIllegalCommands() {
+        final String current = this.match.getCurrentPlayer().getName();
+        final String other = "first".equals(current) ? "second" : "first";
+
+        final ExecutionException wrongPlayer = assertThrows(ExecutionException.class,
+                () -> this.executor.submit(new RollCommand(other)).get());
+        assertInstanceOf(IllegalStateException.class, wrongPlayer.getCause());
+
+        final ExecutionException notRolled = assertThrows(ExecutionException.class,
+                () -> this.executor.submit(new EndTurnCommand(current)).get());
+        assertInstanceOf(IllegalStateException.class, notRolled.getCause());
+        final ExecutionException noDebt = assertThrows(ExecutionException.class,
+                () -> this.executor.submit(new SellPropertyCommand(current, 1)).get());
+        assertInstanceOf(IllegalStateException.class, noDebt.getCause());
+        assertEquals(current, this.executor.query(m -> m.getCurrentPlayer().getName()).join());
+    }
+
+    /**
+     * Verifies that every command publishes a new snapshot only if the state changed.
+     */
+    @Test
+    @DisplayName("commands publish the snapshot of the match")
+    void testSnapshotPublication() {
+        final MatchSnapshot initial = this.match.getSnapshot();
+        final String first = this.match.getCurrentPlayer().getName();
+
+        this.executor.submit(new EndTurnCommand(first)).exceptionally(e -> null).join();
+        assertSame(initial, this.match.getSnapshot());
+
+        final int position = this.executor.submit(new RollCommand(first)).join();
+        final MatchSnapshot rolled = this.match.getSnapshot();
+        assertTrue(rolled.getVersion() > initial.getVersion());
+        assertEquals(position, rolled.getPosition(0));
+        assertEquals(this.match.getStateHash(), rolled.getStateHash());
+    }
+
+    /**
+     * Verifies that an error thrown by a task completes its future and does not stop
+     * the other tasks of the batch, nor leave them pending.
+     */
+    @Test
+    @DisplayName("an error thrown by a task does not stop the batch")
+    void testErrorInBatch() {
+        final MatchExecutor executor = new MatchExecutorImpl(this.match, () -> { });
+        final CompletableFuture<Integer> gate = new CompletableFuture<>();
+        final CompletableFuture<Integer> blocking = executor.query(m -> gate.join());
+        final CompletableFuture<Integer> failing = executor.query(m -> {
+            throw new AssertionError("broken command");
+        });
+        final CompletableFuture<Integer> next = executor.query(m -> 1);
+        gate.complete(0);
+
+        assertEquals(0, blocking.join());
+        final ExecutionException error = assertThrows(ExecutionException.class, failing::get);
+        assertInstanceOf(AssertionError.class, error.getCause());
+        assertEquals(1, next.join());
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.getPendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, executor.getPendingCount());
+    }
+
+    /**
+     * Verifies that a turn submitted while the shared profiler is enabled is accounted,
+     * which requires the writer to run on a platform thread.
+     */
+    @Test
+    @DisplayName("a turn submitted while profiling is accounted")
+    void testProfiledTurn() {
+        final PhaseProfiler profiler = PhaseProfiler.getInstance();
+        final boolean enabled = profiler.isEnabled();
+        profiler.setEnabled(true);
+        profiler.reset();
+        try {
+            final String first = this.match.getCurrentPlayer().getName();
+            this.executor.submit(new RollCommand(first)).join();
+
+            assertEquals(1, profiler.getTurns());
+            assertTrue(profiler.getTurnAllocatedBytes() > 0);
+            assertTrue(profiler.getCalls(TurnPhase.MOVE) > 0);
+            assertEquals(0, profiler.getUnsupported());
+            assertFalse(this.executor.query(m -> Thread.currentThread().isVirtual()).join());
+        } finally {
+            profiler.setEnabled(enabled);
+            profiler.reset();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchExecutor;
+import it.unibo.javapoly.controller.api.MatchHandle;
+import it.unibo.javapoly.controller.api.MatchRegistry;
+import it.unibo.javapoly.controller.api.MatchUsage;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.command.BotTurnCommand;
+import it.unibo.javapoly.controller.api.command.RollCommand;
+import it.unibo.javapoly.controller.impl.bot.RandomBot;
+
+/**
+ * Unit tests for {@link MatchRegistryImpl}.
+ */
+@DisplayName("MatchRegistryImpl tests")
+class MatchRegistryImplTest {
+
+    private static final int MATCHES = 100;
+    private static final int TURNS = 10;
+    private static final List<String> PLAYERS = List.of("first", "second");
+
+    private static Map<String, PlayerStrategy> bots(final long seed) {
+        return Map.of("first", new RandomBot(new SplittableRandom(seed)),
+                "second", new RandomBot(new SplittableRandom(seed + 1)));
+    }
+
+    /**
+     * Verifies that many matches are played concurrently and accounted separately.
+     */
+    @Test
+    @DisplayName("many matches are hosted and played concurrently")
+    void testConcurrentMatches() throws IOException {
+        final MatchRegistry registry = new MatchRegistryImpl();
+        final List<String> ids = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            ids.add(registry.create(PLAYERS, bots(i), new SplittableRandom(i)));
+        }
+        assertEquals(MATCHES, registry.size());
+
+        for (int turn = 0; turn < TURNS; turn++) {
+            final List<CompletableFuture<String>> turns = new ArrayList<>();
+            for (final String id : ids) {
+                final String current = registry.find(id).orElseThrow().getSnapshot().orElseThrow()
+                        .getCurrentPlayerId();
+                turns.add(registry.submit(id, new BotTurnCommand(current)));
+            }
+            turns.forEach(CompletableFuture::join);
+        }
+
+        final String first = ids.getFirst();
+        registry.find(first).orElseThrow().query(m -> null).join();
+        final MatchUsage usage = registry.getUsage(first).orElseThrow();
+        assertTrue(usage.getAppliedCount() >= TURNS);
+        assertTrue(registry.getTotalUsage().getAppliedCount() >= (long) MATCHES * TURNS);
+
+        for (final String id : ids) {
+            assertTrue(registry.close(id));
+        }
+        assertEquals(0, registry.size());
+        assertFalse(registry.close(first));
+    }
+
+    /**
+     * Verifies the limits of the registry and the rejection of commands to unknown or closed matches.
+     */
+    @Test
+    @DisplayName("capacity, unknown and closed matches are enforced")
+    void testLimits() throws IOException {
+        final MatchRegistry registry = new MatchRegistryImpl(1, 1);
+        final String id = registry.create(PLAYERS, Map.of(), new SplittableRandom(0));
+        assertThrows(IllegalStateException.class, () -> registry.create(PLAYERS, Map.of(), new SplittableRandom(1)));
+
+        final CompletionException unknown = assertThrows(CompletionException.class,
+                () -> registry.submit("missing", new RollCommand("first")).join());
+        assertInstanceOf(RejectedExecutionException.class, unknown.getCause());
+
+        final MatchHandle handle = registry.find(id).orElseThrow();
+        final MatchExecutor executor = handle.query(MatchController::getExecutor).join();
+        assertTrue(registry.close(id));
+        assertTrue(executor.isShutdown());
+        final CompletionException stale = assertThrows(CompletionException.class,
+                () -> handle.submit(new RollCommand("first")).join());
+        assertInstanceOf(RejectedExecutionException.class, stale.getCause());
+        assertTrue(handle.getSnapshot().isEmpty());
+        final CompletionException closed = assertThrows(CompletionException.class,
+                () -> executor.submit(new RollCommand("first")).join());
+        assertInstanceOf(IllegalStateException.class, closed.getCause());
+
+        registry.create(PLAYERS, Map.of(), new SplittableRandom(2));
+        assertEquals(1, registry.size());
+    }
+}
@@ -0,0 +1,133 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchRegistry;
+import it.unibo.javapoly.controller.api.MatchSessionStore;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.command.BotTurnCommand;
+import it.unibo.javapoly.controller.api.command.EndTurnCommand;
+import it.unibo.javapoly.controller.api.command.RollCommand;
+import it.unibo.javapoly.controller.impl.bot.RandomBot;
+
+/**
+ * Unit tests for {@link MatchSessionStoreImpl}.
+ */
+@DisplayName("MatchSessionStoreImpl tests")
+class MatchSessionStoreImplTest {
+
+    private static final Duration TTL = Duration.ofMillis(50);
+    private static final long IDLE_MILLIS = 100;
+    private static final int TURNS = 5;
+    private static final int MAX_RESIDENT = 2;
+    private static final List<String> PLAYERS = List.of("first", "second");
+
+    @TempDir
+    private Path directory;
+
+    private static Map<String, PlayerStrategy> bots(final long seed) {
+        return Map.of("second", new RandomBot(new SplittableRandom(seed)));
+    }
+
+    /**
+     * Plays the turns of the bot until the remote player "first" has rolled.
+     *
+     * @param registry the registry hosting the match
+     * @param matchId the ID of the match
+     */
+    private static void playBots(final MatchRegistry registry, final String matchId) {
+        for (int turn = 0; turn < TURNS; turn++) {
+            final String current = registry.find(matchId).orElseThrow().getSnapshot().orElseThrow()
+                    .getCurrentPlayerId();
+            if ("first".equals(current)) {
+                registry.submit(matchId, new RollCommand(current)).join();
+                return;
+            }
+            registry.submit(matchId, new BotTurnCommand(current)).join();
+        }
+    }
+
+    /**
+     * Verifies that an idle match is written to disk and rehydrated with the same state by the next command.
+     */
+    @Test
+    @DisplayName("an idle match is passivated and rehydrated by the next command")
+    void testPassivation() throws IOException, InterruptedException {
+        final MatchSessionStore store = new MatchSessionStoreImpl(this.directory, TTL,
+                MatchSessionStoreImpl.DEFAULT_MAX_RESIDENT);
+        final MatchRegistry registry = new MatchRegistryImpl(MatchRegistryImpl.DEFAULT_MAX_MATCHES,
+                MatchRegistryImpl.DEFAULT_MAX_PENDING, store);
+        final String id = registry.create(PLAYERS, bots(1), new SplittableRandom(1));
+        playBots(registry, id);
+        final MatchController before = registry.find(id).orElseThrow().query(m -> m).join();
+        final MatchSnapshot snapshot = before.getSnapshot();
+
+        Thread.sleep(IDLE_MILLIS);
+        assertEquals(1, store.passivateIdle());
+        assertFalse(store.isResident(id));
+        assertTrue(before.getExecutor().isShutdown());
+        assertTrue(Files.exists(this.directory.resolve(id + ".json.gz")));
+        assertEquals(1, registry.size());
+
+        final MatchController after = registry.find(id).orElseThrow().query(m -> m).join();
+        assertNotSame(before, after);
+        assertTrue(store.isResident(id));
+        assertTrue(snapshot.hasSameState(after.getSnapshot()));
+        assertTrue(after.getSnapshot().getVersion() > snapshot.getVersion());
+        assertEquals(before.getStateHash(), after.getStateHash());
+        assertEquals(before.getBalanceHistory().getRecordedCount(), after.getBalanceHistory().getRecordedCount());
+        assertNotNull(after.getStrategy("second"));
+        assertFalse(Files.exists(this.directory.resolve(id + ".json.gz")));
+
+        assertEquals("second", registry.submit(id, new EndTurnCommand("first")).join());
+        playBots(registry, id);
+        assertTrue(after.getEconomyController().getLedger().audit(after.getPlayers()));
+    }
+
+    /**
+     * Verifies that the least recently used matches are passivated over the resident limit.
+     */
+    @Test
+    @DisplayName("the least recently used match is passivated over the resident limit")
+    void testLeastRecentlyUsed() throws IOException {
+        final MatchSessionStore store = new MatchSessionStoreImpl(this.directory, Duration.ofHours(1), MAX_RESIDENT);
+        final MatchRegistry registry = new MatchRegistryImpl(MatchRegistryImpl.DEFAULT_MAX_MATCHES,
+                MatchRegistryImpl.DEFAULT_MAX_PENDING, store);
+        final String first = registry.create(PLAYERS, bots(1), new SplittableRandom(1));
+        final String second = registry.create(PLAYERS, bots(2), new SplittableRandom(2));
+        registry.find(first);
+        final String third = registry.create(PLAYERS, bots(3), new SplittableRandom(3));
+
+        assertEquals(MAX_RESIDENT, store.getResidentCount());
+        assertFalse(store.isResident(second));
+        assertTrue(store.isResident(first) && store.isResident(third));
+        assertEquals(0, registry.getUsage(second).orElseThrow().getAppliedCount());
+
+        registry.submit(second, new RollCommand("first")).join();
+        assertTrue(store.isResident(second));
+        assertFalse(store.isResident(first));
+        assertEquals(MAX_RESIDENT, store.getResidentCount());
+
+        assertTrue(registry.close(first));
+        assertFalse(Files.exists(this.directory.resolve(first + ".json.gz")));
+        assertEquals(2, registry.size());
+    }
+}
@@ -0,0 +1,101 @@
+package it.unibo.javapoly.controller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.RollEvaluator;
+import it.unibo.javapoly.controller.api.RollForecast;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.impl.JailedState;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Unit tests for {@link RollEvaluatorImpl}.
+ */
+@DisplayName("RollEvaluatorImpl tests")
+class RollEvaluatorImplTest {
+
+    private static final long SEED = 5L;
+    private static final double EPSILON = 1e-9;
+    private static final int LIGHT_BLUE = 6;
+    private static final int JAIL = 10;
+    private static final double DIRECT_SIX = 5.0 / 36;
+    private static final double NO_DOUBLE = 30.0 / 36;
+
+    private final RollEvaluator evaluator = new RollEvaluatorImpl();
+    private MatchController match;
+    private GameStateView state;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("first", new AggressiveBot());
+        bots.put("second", new AggressiveBot());
+        this.match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+        this.state = this.match.getStateView();
+    }
+
+    /**
+     * Verifies the forecast of a free player on a board without owners.
+     */
+    @Test
+    @DisplayName("no rent is expected on an unowned board")
+    void testUnownedBoard() {
+        final RollForecast forecast = this.evaluator.evaluate(this.state, 0);
+
+        assertEquals(0, forecast.getExpectedRent(), EPSILON);
+        assertTrue(forecast.getJailProbability() > 0 && forecast.getJailProbability() < 1);
+        assertTrue(forecast.getLandingProbability(LIGHT_BLUE) > DIRECT_SIX);
+        assertSame(forecast, this.evaluator.evaluate(this.state, 0));
+    }
+
+    /**
+     * Verifies that the rent expected on a tile is its rent times the probability of landing on it.
+     */
+    @Test
+    @DisplayName("the expected rent is weighted by the landing probability")
+    void testExpectedRent() {
+        final Player owner = this.match.getPlayers().get(1);
+        final PropertyTile tile = (PropertyTile) this.match.getBoard().getTileAt(LIGHT_BLUE);
+        this.match.getPropertyController().purchaseProperty(owner, tile.getPropertyID());
+
+        final RollForecast forecast = this.evaluator.evaluate(this.state, 0);
+        final double rent = this.state.getRent(LIGHT_BLUE, 0);
+
+        assertTrue(rent > 0);
+        assertEquals(forecast.getLandingProbability(LIGHT_BLUE) * rent, forecast.getExpectedRent(LIGHT_BLUE), EPSILON);
+        assertEquals(forecast.getExpectedRent(LIGHT_BLUE), forecast.getExpectedRent(), EPSILON);
+        assertEquals(0, this.evaluator.evaluate(this.state, 1).getExpectedRent(), EPSILON);
+    }
+
+    /**
+     * Verifies the jail probability of a jailed player before and at the last attempt.
+     */
+    @Test
+    @DisplayName("a jailed player stays in jail unless a double is rolled")
+    void testJailedPlayer() {
+        final Player player = this.match.getPlayers().getFirst();
+        player.setState(new JailedState());
+        player.setPosition(JAIL);
+
+        assertTrue(this.evaluator.evaluate(this.state, 0).getJailProbability() >= NO_DOUBLE);
+
+        this.match.restoreJailTurnCounter(Map.of(player.getName(), 2), this.match.getPlayers());
+        assertTrue(this.evaluator.evaluate(this.state, 0).getJailProbability() < NO_DOUBLE);
+    }
+}
@@ -0,0 +1,139 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+
+/**
+ * Unit tests for {@link ExternalEngineBot}, played against the {@link ReferenceEngine} process.
+ */
+@DisplayName("ExternalEngineBot tests")
+class ExternalEngineBotTest {
+
+    private static final Duration MOVE_TIME = Duration.ofSeconds(2);
+    private static final Duration SHORT_MOVE_TIME = Duration.ofMillis(20);
+    private static final String SLOW_DELAY_MILLIS = "500";
+    private static final int GAMES = 3;
+    private static final int MAX_TURNS = 300;
+    private static final int CHEAP_PROPERTY = 1;
+    private static final int ODD_RESERVE = 155;
+
+    /**
+     * Returns the command line of the reference bot, which needs only the classes of its package.
+     *
+     * @param args the arguments of the bot
+     * @return the command line
+     */
+    private static List<String> referenceEngine(final String... args) {
+        final Path classes;
+        try {
+            classes = Path.of(ReferenceEngine.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+        final List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", classes.toString(),
+                ReferenceEngine.class.getName()));
+        command.addAll(List.of(args));
+        return command;
+    }
+
+    private static GameStateView newMatch(final PlayerStrategy bot) throws IOException {
+        return newMatchController(bot).getStateView();
+    }
+
+    private static MatchController newMatchController(final PlayerStrategy bot) throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("engine", bot);
+        bots.put("cautious", new CautiousBot());
+        return new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(1));
+    }
+
+    /**
+     * Verifies the decisions of the external bot and a series of matches played through the pipe.
+     */
+    @Test
+    @DisplayName("the external bot decides and plays a series through the protocol")
+    void testSeries() throws IOException {
+        try (ExternalEngineBot engine = new ExternalEngineBot(referenceEngine(), MOVE_TIME, new CautiousBot())) {
+            assertEquals("ReferenceEngine", engine.getName());
+            final GameStateView state = newMatch(engine);
+            assertTrue(engine.shouldBuy(state, CHEAP_PROPERTY));
+            assertEquals(PlayerStrategy.NO_BUILD, engine.chooseBuild(state));
+            assertTrue(engine.shouldPayJailFee(state));
+
+            final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+            bots.put("engine", engine);
+            bots.put("cautious", new CautiousBot());
+            final Map<String, Integer> wins = new HeadlessMatchRunner(MAX_TURNS).playSeries(bots, GAMES, 0);
+
+            assertEquals(List.of("engine", "cautious"), List.copyOf(wins.keySet()));
+            assertTrue(wins.values().stream().mapToInt(Integer::intValue).sum() <= GAMES);
+            assertEquals(0, engine.getTimeoutCount());
+            assertTrue(engine.isAlive());
+        }
+    }
+
+    /**
+     * Verifies that the fallback strategy decides when the external bot exceeds its move time.
+     */
+    @Test
+    @DisplayName("a late decision is taken by the fallback strategy")
+    void testTimeout() throws IOException {
+        final CautiousBot fallback = new CautiousBot();
+        try (ExternalEngineBot engine = new ExternalEngineBot(referenceEngine(SLOW_DELAY_MILLIS), SHORT_MOVE_TIME,
+                fallback)) {
+            final GameStateView state = newMatch(engine);
+            assertEquals(fallback.shouldBuy(state, CHEAP_PROPERTY), engine.shouldBuy(state, CHEAP_PROPERTY));
+            assertEquals(1, engine.getTimeoutCount());
+
+            engine.newGame();
+            assertEquals(fallback.shouldPayJailFee(state), engine.shouldPayJailFee(state));
+            assertEquals(2, engine.getTimeoutCount());
+        }
+    }
+
+    /**
+     * Verifies that the position is sent again after a change of balance too small to change the state hash.
+     *
+     * @throws IOException if the process cannot be started
+     */
+    @Test
+    @DisplayName("the position is sent again after any change of balance")
+    void testPositionResent() throws IOException {
+        try (ExternalEngineBot engine = new ExternalEngineBot(referenceEngine("0", String.valueOf(ODD_RESERVE)),
+                MOVE_TIME, new CautiousBot())) {
+            final MatchController match = newMatchController(engine);
+            final GameStateView state = match.getStateView();
+            final Player player = match.getCurrentPlayer();
+            final int threshold = state.getPrice(CHEAP_PROPERTY) + ODD_RESERVE;
+            match.getEconomyController().withdrawFromPlayer(player, player.getBalance() - threshold + 1);
+            assertFalse(engine.shouldBuy(state, CHEAP_PROPERTY));
+
+            final long hash = state.getStateHash();
+            match.getEconomyController().depositToPlayer(player, 1);
+            assertEquals(hash, state.getStateHash());
+            assertTrue(engine.shouldBuy(state, CHEAP_PROPERTY));
+            assertEquals(0, engine.getTimeoutCount());
+        }
+    }
+}
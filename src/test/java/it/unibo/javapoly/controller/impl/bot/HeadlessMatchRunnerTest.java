@@ -0,0 +1,178 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.Leaderboard;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.BankruptState;
+import it.unibo.javapoly.utils.metrics.MetricsRegistry;
+
+/**
+ * Unit tests for {@link HeadlessMatchRunner} and the heuristic bots.
+ */
+@DisplayName("HeadlessMatchRunner tests")
+class HeadlessMatchRunnerTest {
+
+    private static final long SEED = 7L;
+    private static final int MAX_TURNS = 500;
+    private static final int FIRST_PROPERTY = 1;
+    private static final List<String> MATCH_HISTOGRAMS =
+            List.of("match.diceThrow", "board.tileLogic", "economy.payRent", "cards.draw");
+
+    private static Map<String, PlayerStrategy> bots(final long seed) {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("aggressive", new AggressiveBot());
+        bots.put("cautious", new CautiousBot());
+        bots.put("collector", new CollectorBot());
+        bots.put("random", new RandomBot(new SplittableRandom(seed)));
+        return bots;
+    }
+
+    private static String playAndDescribe(final long seed) throws IOException {
+        final HeadlessMatchRunner runner = new HeadlessMatchRunner(MAX_TURNS);
+        final MatchController match = runner.createMatch(bots(seed), new SplittableRandom(seed));
+        final StringBuilder result = new StringBuilder().append(runner.play(match));
+        for (final Player player : match.getPlayers()) {
+            result.append(' ').append(player.getName()).append('=').append(player.getBalance())
+                .append('@').append(player.getCurrentPosition());
+        }
+        return result.toString();
+    }
+
+    /**
+     * Verifies that a match between bots is played without GUI and is reproducible from a seed.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("a seeded bot match is played headless and reproducibly")
+    void testSeededMatchIsReproducible() throws IOException {
+        assertEquals(playAndDescribe(SEED), playAndDescribe(SEED));
+    }
+
+    /**
+     * Verifies that all the money of a match moves through its ledger.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("the money of a match is conserved by its ledger")
+    void testLedgerAudit() throws IOException {
+        final HeadlessMatchRunner runner = new HeadlessMatchRunner(MAX_TURNS);
+        final MatchController match = runner.createMatch(bots(SEED), new SplittableRandom(SEED));
+        runner.play(match);
+
+        final Ledger ledger = match.getEconomyController().getLedger();
+        assertTrue(ledger.getPostingCount() > match.getPlayers().size());
+        assertTrue(ledger.audit(match.getPlayers()));
+        for (final Player player : match.getPlayers()) {
+            assertEquals(player.getBalance(), ledger.getBalance(player.getName()));
+        }
+    }
+
+    /**
+     * Verifies that the leaderboard fed by the ledger matches the holdings of the players,
+     * in the played match and in a fork of it.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("the leaderboard follows the holdings of the players")
+    void testLeaderboard() throws IOException {
+        final HeadlessMatchRunner runner = new HeadlessMatchRunner(MAX_TURNS);
+        final MatchController match = runner.createMatch(bots(SEED), new SplittableRandom(SEED));
+        runner.play(match);
+        assertLeaderboardMatches(match);
+        assertLeaderboardMatches(match.fork(bots(SEED), new SplittableRandom(SEED)));
+    }
+
+    private static void assertLeaderboardMatches(final MatchController match) {
+        final Leaderboard leaderboard = match.getLeaderboard();
+        long total = 0;
+        int active = 0;
+        for (final Player player : match.getPlayers()) {
+            int properties = 0;
+            int buildings = 0;
+            for (final Property property : match.getPropertyController().getOwnedProperties(player.getName())) {
+                properties += property.getPurchasePrice();
+                buildings += match.getEconomyController().getBuildingValue(property);
+            }
+            assertEquals(player.getBalance(), leaderboard.getCash(player.getName()));
+            assertEquals(properties, leaderboard.getPropertyValue(player.getName()));
+            assertEquals(buildings, leaderboard.getBuildingValue(player.getName()));
+            assertEquals(!(player.getState() instanceof BankruptState), leaderboard.isActive(player.getName()));
+            total += leaderboard.getNetWorth(player.getName());
+            active += leaderboard.isActive(player.getName()) ? 1 : 0;
+        }
+        assertEquals(total, leaderboard.getTotalNetWorth());
+        assertEquals(active, match.getStateView().getActivePlayerCount());
+        assertEquals(active <= 1, match.isGameOver());
+    }
+
+    /**
+     * Verifies that the turns played in a fork do not show in the shared metrics,
+     * while those of the match itself do.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("a fork records no metrics")
+    void testForkRecordsNoMetrics() throws IOException {
+        final HeadlessMatchRunner runner = new HeadlessMatchRunner(MAX_TURNS);
+        final MatchController match = runner.createMatch(bots(SEED), new SplittableRandom(SEED));
+        final long[] before = metricCounts();
+        runner.play(match.fork(bots(SEED), new SplittableRandom(SEED)));
+        assertArrayEquals(before, metricCounts());
+
+        runner.play(match);
+        final long[] after = metricCounts();
+        for (int i = 0; i < after.length; i++) {
+            assertTrue(after[i] > before[i]);
+        }
+    }
+
+    private static long[] metricCounts() {
+        final MetricsRegistry registry = MetricsRegistry.getInstance();
+        final long[] counts = new long[MATCH_HISTOGRAMS.size() + 1];
+        for (int i = 0; i < MATCH_HISTOGRAMS.size(); i++) {
+            counts[i] = registry.histogram(MATCH_HISTOGRAMS.get(i)).getCount();
+        }
+        counts[MATCH_HISTOGRAMS.size()] = registry.counter("match.turns").getCount();
+        return counts;
+    }
+
+    /**
+     * Verifies the purchase decision of the aggressive and the cautious bots.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("bots decide purchases according to their reserve")
+    void testPurchaseDecisions() throws IOException {
+        final MatchController match = new HeadlessMatchRunner().createMatch(bots(SEED), new SplittableRandom(SEED));
+        final GameStateView state = match.getStateView();
+        final int balance = state.getBalance(state.getCurrentPlayerId());
+
+        assertTrue(state.isBuyable(FIRST_PROPERTY));
+        assertTrue(new AggressiveBot().shouldBuy(state, FIRST_PROPERTY));
+        assertFalse(new CautiousBot(balance).shouldBuy(state, FIRST_PROPERTY));
+        assertEquals(PlayerStrategy.NO_BUILD, new AggressiveBot().chooseBuild(state));
+    }
+}
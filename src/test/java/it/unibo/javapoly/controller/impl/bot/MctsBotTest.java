@@ -0,0 +1,119 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.LiquidationPlan;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Unit tests for {@link MctsBot} and the match fork it relies on.
+ */
+@DisplayName("MctsBot tests")
+class MctsBotTest {
+
+    private static final long SEED = 11L;
+    private static final long BUDGET_MILLIS = 20;
+    private static final long SLACK_MILLIS = 500;
+    private static final int WORKERS = 2;
+    private static final int HORIZON = 10;
+    private static final int FIRST_PROPERTY = 1;
+    private static final int MAX_TURNS = 6;
+    private static final int[] OWNED = {1, 3, 5, 6, 8, 9};
+    private static final int SHORTFALL = 10;
+
+    private static MatchController newMatch(final PlayerStrategy first) throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("alice", first);
+        bots.put("bob", new CollectorBot());
+        return new HeadlessMatchRunner(MAX_TURNS).createMatch(bots, new SplittableRandom(SEED));
+    }
+
+    /**
+     * Verifies that a fork starts from the same state and evolves independently.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("a fork is independent from the original match")
+    void testForkIsIndependent() throws IOException {
+        final MatchController match = newMatch(new AggressiveBot());
+        match.getCurrentPlayer().setPosition(FIRST_PROPERTY);
+        final MatchController fork = match.fork(Map.of(), new SplittableRandom(SEED));
+
+        assertEquals(match.getCurrentPlayer().getName(), fork.getCurrentPlayer().getName());
+        assertEquals(FIRST_PROPERTY, fork.getCurrentPlayer().getCurrentPosition());
+        fork.buyCurrentProperty();
+
+        assertEquals("alice", fork.getStateView().getOwner(FIRST_PROPERTY));
+        assertTrue(match.getStateView().isBuyable(FIRST_PROPERTY));
+        assertNotEquals(match.getCurrentPlayer().getBalance(), fork.getCurrentPlayer().getBalance());
+    }
+
+    /**
+     * Verifies that a decision runs playouts within its time budget, and that
+     * the bot can play a match.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("decisions respect the time budget")
+    void testDecisionBudget() throws IOException {
+        try (MctsBot bot = new MctsBot(BUDGET_MILLIS, WORKERS, HORIZON, new CollectorBot())) {
+            final MatchController match = newMatch(bot);
+            match.getCurrentPlayer().setPosition(FIRST_PROPERTY);
+
+            final long start = System.nanoTime();
+            bot.shouldBuy(match.getStateView(), FIRST_PROPERTY);
+            final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(bot.getLastPlayouts() > 0);
+            assertTrue(elapsedMillis < BUDGET_MILLIS + SLACK_MILLIS);
+            assertTrue(match.getStateView().isBuyable(FIRST_PROPERTY));
+            new HeadlessMatchRunner(MAX_TURNS).play(match);
+            assertTrue(bot.getTotalPlayouts() >= bot.getLastPlayouts());
+        }
+    }
+
+    /**
+     * Verifies that a liquidation is searched over covering plans computed on a fork,
+     * and that the chosen plan can be executed on the match.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("a liquidation chooses among covering plans")
+    void testChooseLiquidation() throws IOException {
+        try (MctsBot bot = new MctsBot(BUDGET_MILLIS, WORKERS, HORIZON, new CollectorBot())) {
+            final MatchController match = newMatch(bot);
+            final Player alice = match.getCurrentPlayer();
+            for (final int position : OWNED) {
+                final PropertyTile tile = (PropertyTile) match.getBoard().getTileAt(position);
+                match.getPropertyController().purchaseProperty(alice, tile.getProperty().getId());
+            }
+            final int owned = match.getPropertyController().getOwnedProperties(alice.getName()).size();
+            final LiquidationPlan suggested = match.getLiquidationPlanner().plan(alice, SHORTFALL);
+
+            final LiquidationPlan chosen = bot.chooseLiquidation(match.getStateView(), suggested);
+
+            assertTrue(chosen.isCovering());
+            assertTrue(chosen.getRaised() >= suggested.getRaised());
+            assertTrue(bot.getLastPlayouts() > 0);
+            assertEquals(owned, match.getPropertyController().getOwnedProperties(alice.getName()).size());
+            assertEquals(chosen.getRaised(), match.getLiquidationPlanner()
+                    .execute(alice, chosen, match.getEconomyController()));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package it.unibo.javapoly.controller.impl.bot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.api.property.PropertyGroup;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Unit tests for {@link SimulatedMatch} and the {@link SimulationTables} it plays on.
+ */
+@DisplayName("SimulatedMatch tests")
+class SimulatedMatchTest {
+
+    private static final long SEED = 5L;
+    private static final int MAX_TURNS = 10;
+    private static final int FIRST_PROPERTY = 1;
+    private static final int FUNDS = 10_000;
+    private static final int HOUSES = 2;
+    private static final int PLAYED_TURNS = 300;
+    private static final int[] DICE = {2, 7, 12};
+
+    private MatchController match;
+    private GameStateView view;
+    private SimulatedMatch start;
+    private int buyable;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("alice", new CollectorBot());
+        bots.put("bob", new CollectorBot());
+        bots.put("carol", new CollectorBot());
+        this.match = new HeadlessMatchRunner(MAX_TURNS).createMatch(bots, new SplittableRandom(SEED));
+        this.view = this.match.getStateView();
+
+        // bob owns every other property, and the whole group of the first one with houses on it
+        final Player bob = this.match.getPlayers().get(1);
+        final PropertyGroup group = this.view.getGroup(FIRST_PROPERTY);
+        this.match.getEconomyController().depositToPlayer(bob, FUNDS);
+        for (int position = 0; position < this.view.getBoardSize(); position++) {
+            if (this.view.isProperty(position) && (position % 2 == 1 || this.view.getGroup(position) == group)) {
+                this.match.getEconomyController().purchaseProperty(bob, property(position));
+            }
+        }
+        for (int i = 0; i < HOUSES; i++) {
+            for (int position = 0; position < this.view.getBoardSize(); position++) {
+                if (this.view.getGroup(position) == group) {
+                    this.match.getEconomyController().purchaseHouse(bob, property(position));
+                }
+            }
+        }
+        this.buyable = FIRST_PROPERTY;
+        while (!this.view.isBuyable(this.buyable)) {
+            this.buyable++;
+        }
+        this.match.getCurrentPlayer().setPosition(this.buyable);
+        this.start = new SimulatedMatch(new SimulationTables(this.view), this.view);
+    }
+
+    private Property property(final int position) {
+        return ((PropertyTile) this.match.getBoard().getTileAt(position)).getProperty();
+    }
+
+    private SimulatedMatch copy(final long seed) {
+        final PlayerStrategy[] seats = new PlayerStrategy[this.start.getPlayerCount()];
+        Arrays.fill(seats, new CollectorBot());
+        return this.start.copy(seats, new SplittableRandom(seed));
+    }
+
+    /**
+     * Verifies that the simulation reads the state of the match, and computes
+     * the rents of the property controller from its tables.
+     */
+    @Test
+    @DisplayName("the simulation reads the match and its rents")
+    void testReadsMatch() {
+        final SimulatedMatch sim = copy(SEED);
+
+        assertEquals(HOUSES, sim.getHouses(FIRST_PROPERTY));
+        assertEquals(this.view.getCurrentPlayerId(), sim.getCurrentPlayerId());
+        assertEquals(this.view.getDrawableCardCount(), sim.getDrawableCardCount());
+        assertEquals(this.view.getTotalNetWorth(), sim.getTotalNetWorth());
+        for (int p = 0; p < this.view.getPlayerCount(); p++) {
+            final String id = this.view.getPlayerId(p);
+            assertEquals(this.view.getBalance(id), sim.getBalance(id));
+            assertEquals(this.view.getNetWorth(id), sim.getNetWorth(id));
+            assertEquals(this.view.getPosition(id), sim.getPosition(id));
+        }
+        for (int position = 0; position < this.view.getBoardSize(); position++) {
+            assertEquals(this.view.getOwner(position), sim.getOwner(position));
+            assertEquals(this.view.getHouses(position), sim.getHouses(position));
+            assertEquals(this.view.getPrice(position), sim.getPrice(position));
+            assertEquals(this.view.canBuild(position), sim.canBuild(position));
+            for (final int dice : DICE) {
+                assertEquals(this.view.getRent(position, dice), sim.getRent(position, dice),
+                        "rent at " + position + " with " + dice);
+            }
+        }
+    }
+
+    /**
+     * Verifies that a copy is independent from the state it was copied from and from the match.
+     */
+    @Test
+    @DisplayName("a copy is independent")
+    void testCopyIsIndependent() {
+        final String alice = this.view.getCurrentPlayerId();
+        final int position = this.buyable;
+        final SimulatedMatch sim = copy(SEED);
+        sim.buyCurrentProperty();
+
+        assertEquals(alice, sim.getOwner(position));
+        assertEquals(this.view.getBalance(alice) - this.view.getPrice(position), sim.getBalance(alice));
+        assertNull(this.start.getOwner(position));
+        assertNull(copy(SEED).getOwner(position));
+        assertTrue(this.view.isBuyable(position));
+    }
+
+    /**
+     * Verifies that a played simulation keeps the money and the properties consistent.
+     */
+    @Test
+    @DisplayName("a played simulation stays consistent")
+    void testPlayedSimulation() {
+        final long before = this.view.getTotalNetWorth();
+        final SimulatedMatch sim = copy(SEED);
+        for (int turn = 0; turn < PLAYED_TURNS && !sim.isGameOver(); turn++) {
+            sim.playBotTurn();
+        }
+
+        long total = 0;
+        int active = 0;
+        for (int p = 0; p < sim.getPlayerCount(); p++) {
+            final String id = sim.getPlayerId(p);
+            assertTrue(sim.getBalance(id) >= 0);
+            total += sim.getNetWorth(id);
+            if (sim.isBankrupt(id)) {
+                assertEquals(0, sim.getNetWorth(id));
+            } else {
+                active++;
+            }
+        }
+        assertEquals(total, sim.getTotalNetWorth());
+        assertEquals(active, sim.getActivePlayerCount());
+        assertEquals(before, this.view.getTotalNetWorth());
+    }
+}
@@ -0,0 +1,218 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchRegistry;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.command.EndTurnCommand;
+import it.unibo.javapoly.controller.api.command.RollCommand;
+import it.unibo.javapoly.controller.api.net.GameClient;
+import it.unibo.javapoly.controller.impl.MatchRegistryImpl;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+
+/**
+ * End-to-end tests of {@link GameServerImpl} and {@link GameClientImpl} over the loopback interface.
+ */
+@DisplayName("GameServerImpl tests")
+class GameServerImplTest {
+
+    private static final long TIMEOUT = 10;
+    private static final int MAX_ROLLS = 4;
+    private static final int PIPELINED = 5000;
+    private static final String HUMAN = "alice";
+    private static final String BOT = "bot";
+    private static final long POLL_MILLIS = 10;
+    private static final int UNREAD = 200_000;
+    private static final int SMALL_BUFFER = 1024;
+
+    private MatchRegistry registry;
+    private GameServerImpl server;
+    private GameClient client;
+    private int port;
+    private String matchId;
+    private final BlockingQueue<MatchSnapshot> states = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.registry = new MatchRegistryImpl();
+        this.matchId = this.registry.create(List.of(HUMAN, BOT), Map.of(BOT, new AggressiveBot()),
+                new SplittableRandom(3));
+        this.server = new GameServerImpl(this.registry, InetAddress.getLoopbackAddress());
+        this.port = this.server.start(0);
+        this.client = new GameClientImpl(InetAddress.getLoopbackAddress().getHostAddress(), this.port);
+        this.client.setStateListener(this.states::add);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        this.client.close();
+        this.server.close();
+    }
+
+    private MatchSnapshot awaitState(final Predicate<MatchSnapshot> condition) throws InterruptedException {
+        MatchSnapshot state = this.states.poll(TIMEOUT, TimeUnit.SECONDS);
+        while (state != null && !condition.test(state)) {
+            state = this.states.poll(TIMEOUT, TimeUnit.SECONDS);
+        }
+        assertNotNull(state, "no matching state received");
+        return state;
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(POLL_MILLIS);
+        }
+        assertTrue(condition.getAsBoolean(), "condition not reached");
+    }
+
+    /**
+     * Verifies a turn of the remote player, followed by the turn of the bot played by the server.
+     */
+    @Test
+    @DisplayName("a remote player plays a turn and receives the states")
+    void testRemoteTurn() throws InterruptedException, ExecutionException, TimeoutException {
+        this.client.join(this.matchId, HUMAN).get(TIMEOUT, TimeUnit.SECONDS);
+        assertEquals(HUMAN, awaitState(s -> true).getCurrentPlayerId());
+
+        String next = null;
+        long version = 0;
+        for (int i = 0; next == null && i < MAX_ROLLS; i++) {
+            final int position = this.client.send(new RollCommand(HUMAN)).get(TIMEOUT, TimeUnit.SECONDS);
+            version = awaitState(s -> s.getPosition(0) == position).getVersion();
+            try {
+                next = this.client.send(new EndTurnCommand(HUMAN)).get(TIMEOUT, TimeUnit.SECONDS);
+            } catch (final ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+        assertEquals(BOT, next);
+
+        final long rolled = version;
+        final MatchSnapshot state = awaitState(s -> s.getVersion() > rolled && HUMAN.equals(s.getCurrentPlayerId()));
+        assertEquals(BOT, state.getPlayerId(1));
+    }
+
+    /**
+     * Verifies that joins and commands not allowed are rejected without closing the connection.
+     */
+    @Test
+    @DisplayName("invalid requests are rejected")
+    void testRejectedRequests() throws InterruptedException, ExecutionException, TimeoutException {
+        final ExecutionException unknown = assertThrows(ExecutionException.class,
+                () -> this.client.join("missing", HUMAN).get(TIMEOUT, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, unknown.getCause());
+        final ExecutionException bot = assertThrows(ExecutionException.class,
+                () -> this.client.join(this.matchId, BOT).get(TIMEOUT, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, bot.getCause());
+
+        this.client.join(this.matchId, HUMAN).get(TIMEOUT, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class,
+                () -> this.client.send(new RollCommand(BOT)).get(TIMEOUT, TimeUnit.SECONDS));
+        final ExecutionException early = assertThrows(ExecutionException.class,
+                () -> this.client.send(new EndTurnCommand(HUMAN)).get(TIMEOUT, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, early.getCause());
+        assertEquals(1, this.server.getConnectionCount());
+    }
+
+    /**
+     * Verifies that pipelined requests are all answered.
+     */
+    @Test
+    @DisplayName("pipelined requests are all answered")
+    void testPipelinedRequests() throws InterruptedException, ExecutionException, TimeoutException {
+        this.client.join(this.matchId, HUMAN).get(TIMEOUT, TimeUnit.SECONDS);
+        final List<CompletableFuture<Integer>> answers = new ArrayList<>();
+        for (int i = 0; i < PIPELINED; i++) {
+            answers.add(this.client.send(new RollCommand(HUMAN)));
+        }
+        CompletableFuture.allOf(answers.stream().map(f -> f.exceptionally(e -> null))
+                .toArray(CompletableFuture[]::new)).get(TIMEOUT, TimeUnit.SECONDS);
+        assertTrue(answers.getFirst().isDone() && !answers.getFirst().isCompletedExceptionally());
+        assertTrue(answers.getLast().isCompletedExceptionally());
+    }
+
+    /**
+     * Verifies that the feed of a match is removed with its last subscriber or with the match.
+     */
+    @Test
+    @DisplayName("feeds are removed with their last subscriber or their match")
+    void testFeedRemoval() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        this.client.join(this.matchId, HUMAN).get(TIMEOUT, TimeUnit.SECONDS);
+        assertEquals(1, this.server.getFeedCount());
+        this.client.close();
+        awaitCondition(() -> this.server.getConnectionCount() == 0);
+        assertEquals(0, this.server.getFeedCount());
+
+        this.client = new GameClientImpl(InetAddress.getLoopbackAddress().getHostAddress(), this.port);
+        this.client.join(this.matchId, HUMAN).get(TIMEOUT, TimeUnit.SECONDS);
+        assertEquals(1, this.server.getFeedCount());
+        assertTrue(this.registry.close(this.matchId));
+        assertThrows(ExecutionException.class,
+                () -> this.client.send(new RollCommand(HUMAN)).get(TIMEOUT, TimeUnit.SECONDS));
+        awaitCondition(() -> this.server.getFeedCount() == 0);
+    }
+
+    /**
+     * Verifies that a client that never reads its answers is slowed down without
+     * blocking the writer of the match nor the other clients.
+     */
+    @Test
+    @DisplayName("a client that stops reading does not block the match")
+    void testClientNotReading() throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        final Socket socket = new Socket();
+        socket.setReceiveBufferSize(SMALL_BUFFER);
+        socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), this.port));
+        try (FrameChannel slow = new FrameChannel(socket)) {
+            final Thread flood = Thread.ofPlatform().daemon().start(() -> {
+                try {
+                    slow.write(Protocol.JOIN, buffer -> {
+                        Protocol.writeString(buffer.putInt(0), this.matchId);
+                        Protocol.writeString(buffer, HUMAN);
+                    });
+                    for (int i = 1; i <= UNREAD; i++) {
+                        final int requestId = i;
+                        slow.write(Protocol.ROLL, buffer -> Protocol.writeCommand(buffer.putInt(requestId),
+                                new RollCommand(HUMAN)));
+                    }
+                } catch (final IOException e) {
+                    // the socket is closed at the end of the test
+                }
+            });
+            flood.join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+
+            final long applied = this.registry.find(this.matchId).orElseThrow()
+                    .query(m -> m.getExecutor().getAppliedCount()).get(TIMEOUT, TimeUnit.SECONDS);
+            assertTrue(applied < UNREAD, "the server kept applying the requests of a client not reading");
+            this.client.join(this.matchId, HUMAN).get(TIMEOUT, TimeUnit.SECONDS);
+            assertTrue(this.client.send(new EndTurnCommand(HUMAN)).handle((result, error) -> true)
+                    .get(TIMEOUT, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.utils.JsonUtils;
+
+/**
+ * Unit tests for {@link SnapshotCodec}.
+ */
+@DisplayName("SnapshotCodec tests")
+class SnapshotCodecTest {
+
+    private static final long SEED = 7L;
+    private static final int LIGHT_BLUE = 6;
+    private static final int RENT = 120;
+    private static final int MAX_DELTA = 32;
+    private static final int JSON_RATIO = 100;
+
+    private MatchController match;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("first", new AggressiveBot());
+        bots.put("second", new AggressiveBot());
+        this.match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+    }
+
+    private static ByteBuffer body(final byte[] frame) {
+        final ByteBuffer buffer = ByteBuffer.wrap(frame);
+        assertEquals(frame.length - Protocol.HEADER, buffer.getInt());
+        buffer.get();
+        return buffer;
+    }
+
+    /**
+     * Verifies that a keyframe decodes to the encoded snapshot.
+     */
+    @Test
+    @DisplayName("a keyframe round trip keeps the whole state")
+    void testKeyframe() {
+        final MatchSnapshot snapshot = MatchSnapshot.of(1, this.match.getStateView());
+        final MatchSnapshot decoded = SnapshotCodec.readKeyframe(body(SnapshotCodec.keyframe(Protocol.KEYFRAME,
+                snapshot)));
+
+        assertEquals(snapshot, decoded);
+        assertEquals(this.match.getBoard().size(), decoded.getTileCount());
+    }
+
+    /**
+     * Verifies that a delta holds only the changes and rebuilds the new snapshot.
+     */
+    @Test
+    @DisplayName("a delta rebuilds the next snapshot from the base")
+    void testDelta() throws IOException {
+        final MatchSnapshot base = MatchSnapshot.of(1, this.match.getStateView());
+        final Player first = this.match.getPlayers().getFirst();
+        final Player second = this.match.getPlayers().get(1);
+        final PropertyTile tile = (PropertyTile) this.match.getBoard().getTileAt(LIGHT_BLUE);
+        this.match.getPropertyController().purchaseProperty(second, tile.getPropertyID());
+        first.setPosition(LIGHT_BLUE);
+        first.tryToPay(RENT);
+        second.receiveMoney(RENT);
+        final MatchSnapshot next = MatchSnapshot.of(2, this.match.getStateView());
+
+        final byte[] delta = SnapshotCodec.delta(Protocol.DELTA, base, next);
+        final byte[] keyframe = SnapshotCodec.keyframe(Protocol.KEYFRAME, next);
+        final byte[] json = JsonUtils.getInstance().mapper().writeValueAsBytes(this.match);
+        assertTrue(delta.length <= MAX_DELTA && delta.length < keyframe.length);
+        assertTrue(delta.length * JSON_RATIO < json.length);
+
+        final MatchSnapshot decoded = SnapshotCodec.readDelta(body(delta), base);
+        assertEquals(next, decoded);
+        assertEquals(1, decoded.getOwnerIndex(LIGHT_BLUE));
+        assertNull(SnapshotCodec.readDelta(body(delta), next));
+    }
+}
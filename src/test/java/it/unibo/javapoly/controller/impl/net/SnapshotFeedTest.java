@@ -0,0 +1,83 @@
+package it.unibo.javapoly.controller.impl.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.MatchSnapshot;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+
+/**
+ * Unit tests for {@link SnapshotFeed}.
+ */
+@DisplayName("SnapshotFeed tests")
+class SnapshotFeedTest {
+
+    private static final long SEED = 13L;
+    private static final int TURNS = 20;
+    private static final long TIMEOUT = 10;
+
+    /**
+     * Verifies that a blocked subscriber skips the intermediate snapshots and converges to the last one.
+     */
+    @Test
+    @DisplayName("a slow subscriber receives only the latest state")
+    void testSlowSubscriber() throws IOException, InterruptedException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("first", new AggressiveBot());
+        bots.put("second", new AggressiveBot());
+        final MatchController match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+
+        final SnapshotFeed feed = new SnapshotFeed();
+        feed.publish(match.getSnapshot());
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final List<byte[]> frames = new CopyOnWriteArrayList<>();
+        feed.subscribe(frame -> {
+            try {
+                blocked.await();
+            } catch (final InterruptedException e) {
+                throw new IOException(e);
+            }
+            frames.add(frame);
+        });
+        for (int i = 0; i < TURNS; i++) {
+            match.playBotTurn();
+            match.publishSnapshot();
+            feed.publish(match.getSnapshot());
+        }
+        final MatchSnapshot last = match.getSnapshot();
+        blocked.countDown();
+
+        MatchSnapshot received = null;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+        int decoded = 0;
+        while (System.nanoTime() < deadline && (received == null || !received.hasSameState(last))) {
+            if (decoded < frames.size()) {
+                final ByteBuffer buffer = ByteBuffer.wrap(frames.get(decoded++)).position(Protocol.HEADER);
+                received = buffer.get() == Protocol.KEYFRAME
+                        ? SnapshotCodec.readKeyframe(buffer)
+                        : SnapshotCodec.readDelta(buffer, received);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        assertTrue(last.hasSameState(received));
+        assertTrue(frames.size() <= 2, "intermediate states were not skipped: " + frames.size());
+        assertEquals(1, feed.getSubscriberCount());
+    }
+}
@@ -0,0 +1,174 @@
+package it.unibo.javapoly.controller.impl.trade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.CardController;
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.command.TradeCommand;
+import it.unibo.javapoly.controller.api.trade.TradeController;
+import it.unibo.javapoly.controller.api.trade.TradeStatus;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Unit tests for {@link TradeControllerImpl}.
+ */
+@DisplayName("TradeControllerImpl tests")
+class TradeControllerImplTest {
+
+    private static final long SEED = 11L;
+    private static final String FIRST = "first";
+    private static final String SECOND = "second";
+    private static final int BROWN_1 = 1;
+    private static final int BROWN_2 = 3;
+    private static final int STATION = 5;
+    private static final int START = 0;
+    private static final int CASH = 100;
+    private static final int GENEROUS_CASH = 500;
+
+    private MatchController match;
+    private TradeController trades;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put(FIRST, new AggressiveBot());
+        bots.put(SECOND, new AggressiveBot());
+        this.match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+        this.trades = this.match.getTradeController();
+        assertTrue(this.match.getEconomyController().purchaseProperty(player(FIRST), property(BROWN_1)));
+        assertTrue(this.match.getEconomyController().purchaseProperty(player(SECOND), property(BROWN_2)));
+    }
+
+    /**
+     * Verifies that every part of an offer is checked before it is executed.
+     */
+    @Test
+    @DisplayName("invalid offers are rejected with their reason")
+    void testValidation() {
+        assertEquals(TradeStatus.VALID, this.trades.validate(buyBrown(CASH)));
+        assertEquals(TradeStatus.EMPTY,
+                this.trades.validate(new TradeOffer(FIRST, SECOND, TradeOffer.Side.NOTHING, TradeOffer.Side.NOTHING)));
+        assertEquals(TradeStatus.SAME_PLAYER, this.trades.validate(offer(FIRST, TradeOffer.Side.cash(CASH),
+                TradeOffer.Side.properties(BROWN_1))));
+        assertEquals(TradeStatus.UNKNOWN_PLAYER, this.trades.validate(new TradeOffer(FIRST, "nobody",
+                TradeOffer.Side.cash(CASH), TradeOffer.Side.NOTHING)));
+        assertEquals(TradeStatus.NOT_A_PROPERTY, this.trades.validate(offer(SECOND, TradeOffer.Side.NOTHING,
+                TradeOffer.Side.properties(START))));
+        assertEquals(TradeStatus.NOT_OWNED, this.trades.validate(offer(SECOND, TradeOffer.Side.NOTHING,
+                TradeOffer.Side.properties(STATION))));
+        assertEquals(TradeStatus.NOT_OWNED, this.trades.validate(offer(SECOND, TradeOffer.Side.properties(BROWN_2),
+                TradeOffer.Side.NOTHING)));
+        assertEquals(TradeStatus.INSUFFICIENT_CASH,
+                this.trades.validate(buyBrown(player(FIRST).getBalance() + 1)));
+        assertEquals(TradeStatus.NO_JAIL_CARD, this.trades.validate(offer(SECOND,
+                new TradeOffer.Side(new int[0], 0, true), TradeOffer.Side.properties(BROWN_2))));
+    }
+
+    /**
+     * Verifies that an executed trade moves the properties and the cash and keeps the books balanced.
+     */
+    @Test
+    @DisplayName("an executed trade moves properties and cash in one transaction")
+    void testExecute() {
+        final int firstBalance = player(FIRST).getBalance();
+        final int secondBalance = player(SECOND).getBalance();
+        final int postings = this.match.getEconomyController().getLedger().getPostingCount();
+
+        assertEquals(TradeStatus.EXECUTED, this.trades.execute(buyBrown(CASH)));
+
+        final GameStateView state = this.match.getStateView();
+        assertEquals(FIRST, state.getOwner(BROWN_2));
+        assertEquals(firstBalance - CASH, player(FIRST).getBalance());
+        assertEquals(secondBalance + CASH, player(SECOND).getBalance());
+        assertEquals(postings + 1, this.match.getEconomyController().getLedger().getPostingCount());
+        assertTrue(this.match.getEconomyController().getLedger().audit(this.match.getPlayers()));
+        assertEquals(property(BROWN_1).getPurchasePrice() + property(BROWN_2).getPurchasePrice(),
+                this.match.getLeaderboard().getPropertyValue(FIRST));
+        assertEquals(0, this.match.getLeaderboard().getPropertyValue(SECOND));
+        assertEquals(this.match.fork(Map.of(), new SplittableRandom(SEED)).getStateHash(),
+                this.match.getStateHash());
+
+        assertEquals(TradeStatus.NOT_OWNED, this.trades.execute(buyBrown(CASH)));
+    }
+
+    /**
+     * Verifies that a trade failing halfway gives back what was already handed over.
+     */
+    @Test
+    @DisplayName("a trade failing halfway is rolled back")
+    void testRollback() {
+        final CardController lostCard = (CardController) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {CardController.class},
+                (proxy, method, args) -> method.getName().startsWith("has"));
+        final TradeController failing = new TradeControllerImpl(this.match, lostCard, () -> { });
+        final long hash = this.match.getStateHash();
+        final int balance = player(FIRST).getBalance();
+        final int postings = this.match.getEconomyController().getLedger().getPostingCount();
+
+        assertThrows(IllegalStateException.class, () -> failing.execute(offer(SECOND,
+                new TradeOffer.Side(new int[] {BROWN_1}, CASH, true), TradeOffer.Side.properties(BROWN_2))));
+
+        final GameStateView state = this.match.getStateView();
+        assertEquals(FIRST, state.getOwner(BROWN_1));
+        assertEquals(SECOND, state.getOwner(BROWN_2));
+        assertEquals(balance, player(FIRST).getBalance());
+        assertEquals(hash, this.match.getStateHash());
+        assertEquals(postings, this.match.getEconomyController().getLedger().getPostingCount());
+        assertFalse(this.match.getEconomyController().getLedger().isInTransaction());
+        assertEquals(property(BROWN_1).getPurchasePrice(), this.match.getLeaderboard().getPropertyValue(FIRST));
+        assertEquals(property(BROWN_2).getPurchasePrice(), this.match.getLeaderboard().getPropertyValue(SECOND));
+    }
+
+    /**
+     * Verifies that a bot recipient answers through its strategy.
+     */
+    @Test
+    @DisplayName("a bot accepts the offers it gains from and declines the others")
+    void testPropose() {
+        final TradeOffer stingy = buyBrown(1);
+        assertEquals(TradeStatus.DECLINED, this.trades.propose(stingy));
+        assertEquals(SECOND, this.match.getStateView().getOwner(BROWN_2));
+
+        final TradeCommand command = new TradeCommand(buyBrown(GENEROUS_CASH));
+        assertEquals(FIRST, this.match.getCurrentPlayer().getName());
+        assertEquals(TradeStatus.EXECUTED, this.match.getExecutor().submit(command).join());
+        assertEquals(FIRST, this.match.getStateView().getOwner(BROWN_2));
+    }
+
+    private TradeOffer buyBrown(final int cash) {
+        return offer(SECOND, TradeOffer.Side.cash(cash), TradeOffer.Side.properties(BROWN_2));
+    }
+
+    private static TradeOffer offer(final String recipient, final TradeOffer.Side offered,
+            final TradeOffer.Side requested) {
+        return new TradeOffer(FIRST, recipient, offered, requested);
+    }
+
+    private Player player(final String name) {
+        return this.match.getPlayers().stream().filter(p -> p.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private Property property(final int position) {
+        return ((PropertyTile) this.match.getBoard().getTileAt(position)).getProperty();
+    }
+}
@@ -0,0 +1,83 @@
+package it.unibo.javapoly.controller.impl.trade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.GameStateView;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.trade.TradeEvaluator;
+import it.unibo.javapoly.controller.api.trade.TradeScore;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.economy.TradeOffer;
+import it.unibo.javapoly.model.api.property.Property;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+
+/**
+ * Unit tests for {@link TradeEvaluatorImpl}.
+ */
+@DisplayName("TradeEvaluatorImpl tests")
+class TradeEvaluatorImplTest {
+
+    private static final long SEED = 11L;
+    private static final String FIRST = "first";
+    private static final String SECOND = "second";
+    private static final int BROWN_1 = 1;
+    private static final int BROWN_2 = 3;
+    private static final int CASH = 100;
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Verifies the material part of the score and the value of completing a group.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("completing a group is worth more than the purchase price")
+    void testGroupCompletion() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put(FIRST, new AggressiveBot());
+        bots.put(SECOND, new AggressiveBot());
+        final MatchController match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+        final GameStateView state = match.getStateView();
+        final TradeEvaluator evaluator = new TradeEvaluatorImpl(match.getBoard(), TradeEvaluatorImpl.DEFAULT_HORIZON);
+        match.getEconomyController().purchaseProperty(player(match, SECOND), property(match, BROWN_2));
+        final TradeOffer offer = new TradeOffer(FIRST, SECOND, TradeOffer.Side.cash(CASH),
+                TradeOffer.Side.properties(BROWN_2));
+        final int price = property(match, BROWN_2).getPurchasePrice();
+
+        final TradeScore score = evaluator.evaluate(state, offer);
+        final double alone = score.getProposerIncomeChange();
+        assertTrue(alone > 0);
+        assertEquals(-alone, score.getRecipientIncomeChange(), DELTA);
+        assertEquals(price - CASH + alone, score.getProposerGain(), DELTA);
+        assertEquals(CASH - price - alone, score.getRecipientGain(), DELTA);
+
+        match.getEconomyController().purchaseProperty(player(match, FIRST), property(match, BROWN_1));
+        assertSame(score, evaluator.evaluate(state, offer));
+        assertTrue(score.getProposerIncomeChange() > alone);
+        assertEquals(-alone, score.getRecipientIncomeChange(), DELTA);
+
+        final TradeScore reversed = evaluator.evaluate(state, offer.reversed());
+        assertTrue(reversed.getRecipientGain() > 0);
+    }
+
+    private static Player player(final MatchController match, final String name) {
+        return match.getPlayers().stream().filter(p -> p.getName().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static Property property(final MatchController match, final int position) {
+        return ((PropertyTile) match.getBoard().getTileAt(position)).getProperty();
+    }
+}
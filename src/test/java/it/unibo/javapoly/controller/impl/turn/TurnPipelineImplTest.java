@@ -0,0 +1,145 @@
+package it.unibo.javapoly.controller.impl.turn;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.api.turn.TurnInterceptor;
+import it.unibo.javapoly.controller.api.turn.TurnStage;
+import it.unibo.javapoly.controller.impl.bot.CautiousBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Unit tests for {@link TurnPipelineImpl}, {@link SettlementQueueImpl} and the built-in interceptors.
+ */
+@DisplayName("TurnPipelineImpl tests")
+class TurnPipelineImplTest {
+
+    private static final int BALANCE = 100;
+    private static final int AMOUNT = 30;
+    private static final int TURNS = 20;
+    private static final int JOURNAL_SIZE = 4;
+
+    /**
+     * Verifies that the interceptors wrap every stage in registration order.
+     */
+    @Test
+    @DisplayName("the interceptors wrap the stages in order")
+    void testOrder() {
+        final List<String> calls = new ArrayList<>();
+        final TurnPipelineImpl pipeline = new TurnPipelineImpl((stage, context) -> calls.add(stage.toString()));
+        final TurnInterceptor outer = (stage, context, chain) -> {
+            calls.add("outer");
+            chain.proceed(stage, context);
+            calls.add("/outer");
+        };
+        pipeline.addInterceptor(outer);
+        pipeline.addInterceptor((stage, context, chain) -> {
+            calls.add("inner");
+            chain.proceed(stage, context);
+        });
+
+        pipeline.run(newContext());
+        assertEquals(TurnStage.values().length * 4, calls.size());
+        assertEquals(List.of("outer", "inner", "roll", "/outer"), calls.subList(0, 4));
+
+        calls.clear();
+        assertTrue(pipeline.removeInterceptor(outer));
+        assertFalse(pipeline.removeInterceptor(outer));
+        pipeline.run(newContext());
+        assertEquals(List.of("inner", "roll"), calls.subList(0, 2));
+        assertEquals(1, pipeline.getInterceptors().size());
+    }
+
+    /**
+     * Verifies that a stopped throw skips the rule stages but is still settled and published.
+     */
+    @Test
+    @DisplayName("a stopped throw skips the rule stages")
+    void testStop() {
+        final List<TurnStage> stages = new ArrayList<>();
+        final TurnPipelineImpl pipeline = new TurnPipelineImpl((stage, context) -> stages.add(stage));
+        pipeline.addInterceptor((stage, context, chain) -> {
+            chain.proceed(stage, context);
+            if (stage == TurnStage.MOVE) {
+                context.stop();
+            }
+        });
+
+        pipeline.run(newContext());
+        assertEquals(List.of(TurnStage.ROLL, TurnStage.MOVE, TurnStage.SETTLE, TurnStage.COMMIT, TurnStage.PUBLISH),
+                stages);
+    }
+
+    /**
+     * Verifies that the money movements are deferred while the queue is open and settled in order.
+     */
+    @Test
+    @DisplayName("the settlements are executed in order")
+    void testSettlement() {
+        final SettlementQueueImpl queue = new SettlementQueueImpl();
+        final Player player = new PlayerImpl("player", BALANCE, TokenType.CAR, null);
+        assertThrows(IllegalStateException.class, () -> queue.defer(() -> player.tryToPay(AMOUNT)));
+
+        queue.open();
+        queue.defer(() -> player.tryToPay(AMOUNT));
+        queue.defer(() -> player.receiveMoney(player.getBalance()));
+        assertEquals(2, queue.getPendingCount());
+        assertEquals(BALANCE, player.getBalance());
+
+        queue.settle();
+        assertFalse(queue.isOpen());
+        assertEquals(0, queue.getPendingCount());
+        assertEquals(2 * (BALANCE - AMOUNT), player.getBalance());
+    }
+
+    /**
+     * Verifies that a match runs its throws through the pipeline and settles all their money.
+     */
+    @Test
+    @DisplayName("a match throws the dice through its pipeline")
+    void testMatch() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("first", new CautiousBot());
+        bots.put("second", new CautiousBot());
+        final MatchController match = new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(1));
+        final JournalTurnInterceptor journal = new JournalTurnInterceptor(JOURNAL_SIZE);
+        final List<Integer> pending = new ArrayList<>();
+        match.getTurnPipeline().addInterceptor(journal);
+        match.getTurnPipeline().addInterceptor((stage, context, chain) -> {
+            chain.proceed(stage, context);
+            if (stage == TurnStage.COMMIT) {
+                pending.add(context.getPendingSettlements());
+            }
+        });
+
+        for (int i = 0; i < TURNS && !match.isGameOver(); i++) {
+            match.playBotTurn();
+        }
+        assertFalse(pending.isEmpty());
+        assertTrue(pending.stream().allMatch(count -> count == 0));
+        assertEquals(Math.min(JOURNAL_SIZE, pending.size()), journal.getEntries().size());
+    }
+
+    private static TurnContextImpl newContext() {
+        final TurnContextImpl context = new TurnContextImpl(new SettlementQueueImpl());
+        context.reset(new PlayerImpl("player", BALANCE, TokenType.CAR, null));
+        return context;
+    }
+}
@@ -0,0 +1,98 @@
+package it.unibo.javapoly.model.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.CollectorBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.StateHash;
+import it.unibo.javapoly.model.api.TokenType;
+
+/**
+ * Unit tests for {@link ZobristHash} and the incremental hash of the match state.
+ */
+@DisplayName("ZobristHash tests")
+class ZobristHashTest {
+
+    private static final long SEED = 11L;
+    private static final int TURNS = 60;
+    private static final int POSITION = 7;
+
+    private static MatchController createMatch() throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("aggressive", new AggressiveBot());
+        bots.put("collector", new CollectorBot());
+        return new HeadlessMatchRunner().createMatch(bots, new SplittableRandom(SEED));
+    }
+
+    /**
+     * Verifies that the incrementally updated hash always equals the hash of a fresh copy of the state.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("the incremental hash matches the hash recomputed from scratch")
+    void testIncrementalMatchesRecomputed() throws IOException {
+        final MatchController match = createMatch();
+        for (int turn = 0; turn < TURNS && !match.isGameOver(); turn++) {
+            match.playBotTurn();
+            final MatchController copy = match.fork(Map.of(), new SplittableRandom(SEED));
+            assertEquals(copy.getStateHash(), match.getStateHash());
+        }
+    }
+
+    /**
+     * Verifies that equal states have equal hashes and that different states differ.
+     *
+     * @throws IOException if the board cannot be loaded
+     */
+    @Test
+    @DisplayName("equal states have equal hashes")
+    void testEqualStates() throws IOException {
+        final MatchController first = createMatch();
+        final MatchController second = createMatch();
+        assertEquals(first.getStateHash(), second.getStateHash());
+
+        first.playBotTurn();
+        assertNotEquals(first.getStateHash(), second.getStateHash());
+        second.playBotTurn();
+        assertEquals(first.getStateHash(), second.getStateHash());
+    }
+
+    /**
+     * Verifies that undoing a change restores the hash, and that balances are hashed in buckets.
+     */
+    @Test
+    @DisplayName("undoing a change restores the hash")
+    void testToggle() {
+        final StateHash hash = new ZobristHash();
+        final Player player = new PlayerImpl("alice", TokenType.CAR);
+        player.attachHash(hash);
+        final long initial = hash.getValue();
+
+        player.setPosition(POSITION);
+        assertNotEquals(initial, hash.getValue());
+        player.setPosition(0);
+        assertEquals(initial, hash.getValue());
+
+        player.receiveMoney(1);
+        assertEquals(initial, hash.getValue());
+        player.tryToPay(1);
+        player.setState(new JailedState());
+        assertNotEquals(initial, hash.getValue());
+        player.setState(FreeState.getInstance());
+        assertEquals(initial, hash.getValue());
+    }
+}
@@ -0,0 +1,128 @@
+package it.unibo.javapoly.model.impl.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.model.api.board.BoardTopology;
+import it.unibo.javapoly.model.api.board.Tile;
+import it.unibo.javapoly.model.api.board.TileType;
+import it.unibo.javapoly.model.impl.board.tile.FreeParkingTile;
+import it.unibo.javapoly.model.impl.board.tile.GoToJailTile;
+import it.unibo.javapoly.model.impl.board.tile.JailTile;
+import it.unibo.javapoly.model.impl.board.tile.PropertyTile;
+import it.unibo.javapoly.model.impl.board.tile.StartTile;
+import it.unibo.javapoly.model.impl.card.StationPropertyCard;
+import it.unibo.javapoly.model.impl.property.PropertyImpl;
+
+/**
+ * Unit tests for {@link BoardTopologyImpl}.
+ *
+ * <p>
+ * The tests use a small custom board to verify that the topology is derived
+ * from the tiles rather than from the classic 40-tile layout.
+ */
+@DisplayName("BoardTopologyImpl tests")
+class BoardTopologyTest {
+
+    private static final int GO_REWARD = 150;
+    private static final int STATION_COST = 200;
+    private static final int BOARD_SIZE = 8;
+    private static final int GO_POSITION = 1;
+    private static final int FIRST_STATION = 2;
+    private static final int JAIL_POSITION = 4;
+    private static final int SECOND_STATION = 6;
+    private static final int GO_TO_JAIL_POSITION = 7;
+
+    /**
+     * Builds the board: parking, start, station, parking, jail, parking, station, go to jail.
+     *
+     * @return the tiles of the test board
+     */
+    private static List<Tile> testTiles() {
+        final List<Tile> tiles = new ArrayList<>();
+        tiles.add(new FreeParkingTile(0, "Parking", ""));
+        tiles.add(new StartTile(GO_POSITION, "Start", GO_REWARD, ""));
+        tiles.add(stationTile(FIRST_STATION));
+        tiles.add(new FreeParkingTile(3, "Parking", ""));
+        tiles.add(new JailTile(JAIL_POSITION, "Jail", ""));
+        tiles.add(new FreeParkingTile(5, "Parking", ""));
+        tiles.add(stationTile(SECOND_STATION));
+        tiles.add(new GoToJailTile(GO_TO_JAIL_POSITION, "Go to jail", JAIL_POSITION, ""));
+        return tiles;
+    }
+
+    private static Tile stationTile(final int position) {
+        final StationPropertyCard card = new StationPropertyCard("s" + position, "Station", "", STATION_COST, List.of());
+        return new PropertyTile(position, "Station", new PropertyImpl("s" + position, position, card), "");
+    }
+
+    /**
+     * Verifies that size, Go position, Go reward and jail position come from the tiles.
+     */
+    @Test
+    @DisplayName("special positions are read from the tiles")
+    void testSpecialPositions() {
+        final BoardTopology topology = new BoardTopologyImpl(testTiles());
+
+        assertEquals(BOARD_SIZE, topology.size());
+        assertEquals(GO_POSITION, topology.getGoPosition());
+        assertEquals(GO_REWARD, topology.getGoReward());
+        assertEquals(JAIL_POSITION, topology.getJailPosition());
+        assertEquals(TileType.RAILROAD, topology.getTileType(FIRST_STATION));
+    }
+
+    /**
+     * Verifies the nearest-tile lookup, including the wrap-around and missing types.
+     */
+    @Test
+    @DisplayName("nextTileOfType wraps around the board")
+    void testNextTileOfType() {
+        final BoardTopology topology = new BoardTopologyImpl(testTiles());
+
+        assertEquals(FIRST_STATION, topology.nextTileOfType(0, TileType.RAILROAD));
+        assertEquals(SECOND_STATION, topology.nextTileOfType(FIRST_STATION, TileType.RAILROAD));
+        assertEquals(FIRST_STATION, topology.nextTileOfType(GO_TO_JAIL_POSITION, TileType.RAILROAD));
+        assertEquals(BoardTopology.NO_POSITION, topology.nextTileOfType(0, TileType.UTILITY));
+    }
+
+    /**
+     * Verifies normalization, distance and the pass-Go check.
+     */
+    @Test
+    @DisplayName("normalize, distance and passesGo")
+    void testMovementQueries() {
+        final BoardTopology topology = new BoardTopologyImpl(testTiles());
+
+        assertEquals(1, topology.normalize(BOARD_SIZE + 1));
+        assertEquals(BOARD_SIZE - 1, topology.normalize(-1));
+        assertEquals(3, topology.distance(SECOND_STATION, FIRST_STATION - 1));
+
+        assertTrue(topology.passesGo(SECOND_STATION, GO_POSITION));
+        assertTrue(topology.passesGo(GO_TO_JAIL_POSITION, FIRST_STATION));
+        assertFalse(topology.passesGo(GO_TO_JAIL_POSITION, 0));
+        assertFalse(topology.passesGo(FIRST_STATION, SECOND_STATION));
+    }
+
+    /**
+     * Verifies that the jail position falls back to the "go to jail" tile data.
+     */
+    @Test
+    @DisplayName("jail position falls back to the go to jail tile")
+    void testJailFallback() {
+        final List<Tile> tiles = new ArrayList<>();
+        tiles.add(new StartTile(0, "Start", GO_REWARD, ""));
+        tiles.add(new GoToJailTile(1, "Go to jail", BOARD_SIZE + 2, ""));
+        tiles.add(new FreeParkingTile(2, "Parking", ""));
+
+        final BoardTopology topology = new BoardTopologyImpl(tiles);
+        assertEquals(0, topology.getGoPosition());
+        assertEquals(1, topology.getJailPosition());
+    }
+}
@@ -0,0 +1,127 @@
+package it.unibo.javapoly.model.impl.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import it.unibo.javapoly.model.api.card.CardDeck;
+import it.unibo.javapoly.model.api.card.CardType;
+import it.unibo.javapoly.model.api.card.GameCard;
+import it.unibo.javapoly.model.api.card.payload.MoneyPayload;
+import it.unibo.javapoly.utils.JsonUtils;
+
+/**
+ * Unit tests for {@link CardDeckImpl}.
+ */
+@DisplayName("CardDeckImpl tests")
+class CardDeckImplTest {
+
+    private static final long SEED = 42L;
+    private static final int NORMAL_CARDS = 5;
+    private static final int AMOUNT = 50;
+    private static final String PLAYER = "alice";
+    private static final String JAIL_FREE_ID = "jail-free";
+
+    private static List<GameCard> testCards() {
+        final List<GameCard> cards = new ArrayList<>();
+        for (int i = 0; i < NORMAL_CARDS; i++) {
+            cards.add(new GameCardImpl("c" + i, "Card " + i, "", CardType.RECEIVE_BANK,
+                new MoneyPayload(AMOUNT, "PLAYER"), false));
+        }
+        cards.add(new GameCardImpl(JAIL_FREE_ID, "Jail free", "", CardType.GET_OUT_OF_JAIL_FREE, null, true));
+        return cards;
+    }
+
+    /**
+     * Verifies that every card is drawn exactly once per cycle and that the
+     * same seed produces the same order.
+     */
+    @Test
+    @DisplayName("draw cycles through every card with a reproducible order")
+    void testDrawCycleIsReproducible() {
+        final CardDeck first = new CardDeckImpl(testCards(), new SplittableRandom(SEED));
+        final CardDeck second = new CardDeckImpl(testCards(), new SplittableRandom(SEED));
+        final Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < NORMAL_CARDS + 1; i++) {
+            final GameCard card = first.draw(PLAYER);
+            assertEquals(card.getId(), second.draw(PLAYER).getId());
+            assertTrue(seen.add(card.getId()));
+        }
+        assertFalse(first.isEmpty());
+    }
+
+    /**
+     * Verifies the held card index used for the "Get Out Of Jail Free" card.
+     */
+    @Test
+    @DisplayName("held cards are found by player and type")
+    void testDiscardByType() {
+        final CardDeck deck = new CardDeckImpl(testCards(), new SplittableRandom(SEED));
+        for (int i = 0; i < NORMAL_CARDS + 1; i++) {
+            deck.draw(PLAYER);
+        }
+
+        assertFalse(deck.discardByType(CardType.GET_OUT_OF_JAIL_FREE, "bob"));
+        assertTrue(deck.discardByType(CardType.GET_OUT_OF_JAIL_FREE, PLAYER));
+        assertFalse(deck.discardByType(CardType.GET_OUT_OF_JAIL_FREE, PLAYER));
+    }
+
+    /**
+     * Verifies that a copy evolves independently from the original deck.
+     */
+    @Test
+    @DisplayName("copy is independent from the original")
+    void testCopyIsIndependent() {
+        final CardDeck deck = new CardDeckImpl(testCards(), new SplittableRandom(SEED));
+        for (int i = 0; i < NORMAL_CARDS + 1; i++) {
+            deck.draw(PLAYER);
+        }
+
+        final CardDeck copy = deck.copy(new SplittableRandom(SEED));
+        assertTrue(copy.discardByType(CardType.GET_OUT_OF_JAIL_FREE, PLAYER));
+        assertTrue(deck.discardByType(CardType.GET_OUT_OF_JAIL_FREE, PLAYER));
+    }
+
+    /**
+     * Verifies that the piles and the held cards survive a JSON round trip.
+     *
+     * @throws Exception if the serialization fails
+     */
+    @Test
+    @DisplayName("JSON round trip keeps piles and held cards")
+    void testJsonRoundTrip() throws Exception {
+        final CardDeck deck = new CardDeckImpl(testCards(), new SplittableRandom(SEED));
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < NORMAL_CARDS + 1; i++) {
+            deck.draw(PLAYER);
+        }
+
+        final ObjectMapper mapper = JsonUtils.getInstance().mapper();
+        mapper.disable(SerializationFeature.WRAP_ROOT_VALUE);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        final CardDeck restored = mapper.readValue(mapper.writeValueAsString(deck), CardDeckImpl.class);
+        final CardDeck reference = deck.copy(new SplittableRandom(SEED));
+        final CardDeck restoredCopy = restored.copy(new SplittableRandom(SEED));
+        for (int i = 0; i < NORMAL_CARDS; i++) {
+            expected.add(reference.draw(PLAYER).getId());
+        }
+        for (final String id : expected) {
+            assertEquals(id, restoredCopy.draw(PLAYER).getId());
+        }
+        assertTrue(restored.discardByType(CardType.GET_OUT_OF_JAIL_FREE, PLAYER));
+    }
+}
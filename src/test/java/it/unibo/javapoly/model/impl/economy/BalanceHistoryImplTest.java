@@ -0,0 +1,94 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.economy.BalanceHistory;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Unit tests for {@link BalanceHistoryImpl}.
+ */
+@DisplayName("BalanceHistoryImpl tests")
+class BalanceHistoryImplTest {
+
+    private static final int CAPACITY = 4;
+    private static final int INITIAL_BALANCE = 1500;
+    private static final int RENT = 100;
+    private static final int PRICE = 200;
+
+    /**
+     * Verifies that each turn samples the balance and the net worth of the players.
+     */
+    @Test
+    @DisplayName("the history samples balances and net worths every turn")
+    void testRecord() {
+        final Ledger ledger = new LedgerImpl();
+        final LeaderboardImpl leaderboard = new LeaderboardImpl(List.of("Mario", "Luigi"));
+        ledger.addListener(leaderboard);
+        final Player mario = new PlayerImpl("Mario", TokenType.CAR);
+        final Player luigi = new PlayerImpl("Luigi", TokenType.DOG);
+        ledger.open(mario);
+        ledger.open(luigi);
+        final BalanceHistory history = new BalanceHistoryImpl(List.of("Mario", "Luigi"), leaderboard, CAPACITY);
+        history.record();
+        ledger.transfer(mario, null, PRICE, "purchase");
+        ledger.recordAssets(mario, PRICE, 0);
+        history.record();
+        ledger.transfer(mario, luigi, RENT, "rent");
+        history.record();
+
+        final int[] samples = new int[history.getCapacity()];
+        int size = history.copyBalances("Mario", samples);
+        assertArrayEquals(new int[] {INITIAL_BALANCE, INITIAL_BALANCE - PRICE, INITIAL_BALANCE - PRICE - RENT},
+                Arrays.copyOf(samples, size));
+        size = history.copyNetWorths("Mario", samples);
+        assertArrayEquals(new int[] {INITIAL_BALANCE, INITIAL_BALANCE, INITIAL_BALANCE - RENT},
+                Arrays.copyOf(samples, size));
+        assertEquals(0, history.copyBalances("Peach", samples));
+
+        history.record();
+        history.record();
+        assertEquals(5, history.getRecordedCount());
+        assertEquals(2, history.getStride());
+        size = history.copyBalances("Luigi", samples);
+        assertArrayEquals(new int[] {INITIAL_BALANCE, INITIAL_BALANCE + RENT}, Arrays.copyOf(samples, size));
+    }
+
+    /**
+     * Verifies that a saved history is restored only into a history of the same shape.
+     */
+    @Test
+    @DisplayName("a history is saved and restored")
+    void testRestore() {
+        final LeaderboardImpl leaderboard = new LeaderboardImpl(List.of("Mario", "Luigi"));
+        final BalanceHistoryImpl history = new BalanceHistoryImpl(List.of("Mario", "Luigi"), leaderboard, CAPACITY);
+        for (int turn = 0; turn <= CAPACITY; turn++) {
+            history.record();
+        }
+        final Map<String, BalanceHistoryImpl.Series> saved = history.save();
+
+        final BalanceHistoryImpl restored = new BalanceHistoryImpl(List.of("Mario", "Luigi"), leaderboard, CAPACITY);
+        restored.restore(saved);
+        assertEquals(history.getRecordedCount(), restored.getRecordedCount());
+        assertEquals(history.getStride(), restored.getStride());
+        history.record();
+        assertEquals(history.getRecordedCount() - 1, restored.getRecordedCount());
+
+        assertThrows(IllegalArgumentException.class, () -> new BalanceHistoryImpl(List.of("Mario", "Peach"),
+                leaderboard, CAPACITY).restore(saved));
+        assertThrows(IllegalArgumentException.class, () -> new BalanceHistoryImpl(List.of("Mario", "Luigi"),
+                leaderboard, 2 * CAPACITY).restore(saved));
+    }
+}
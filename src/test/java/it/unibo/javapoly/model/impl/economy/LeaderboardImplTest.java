@@ -0,0 +1,124 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Unit tests for {@link LeaderboardImpl}, fed by a {@link LedgerImpl}.
+ */
+@DisplayName("LeaderboardImpl tests")
+class LeaderboardImplTest {
+
+    private static final int INITIAL_BALANCE = 1500;
+    private static final int RENT = 300;
+    private static final int PRICE = 200;
+    private static final int HOUSE_COST = 50;
+
+    private Ledger ledger;
+    private LeaderboardImpl leaderboard;
+    private Player mario;
+    private Player luigi;
+    private Player peach;
+
+    /**
+     * Opens the accounts of three players after registering the leaderboard.
+     */
+    @BeforeEach
+    void setUp() {
+        this.ledger = new LedgerImpl();
+        this.mario = new PlayerImpl("Mario", TokenType.CAR);
+        this.luigi = new PlayerImpl("Luigi", TokenType.DOG);
+        this.peach = new PlayerImpl("Peach", TokenType.HAT);
+        this.leaderboard = new LeaderboardImpl(List.of("Mario", "Luigi", "Peach"));
+        this.ledger.addListener(this.leaderboard);
+        this.ledger.open(this.mario);
+        this.ledger.open(this.luigi);
+        this.ledger.open(this.peach);
+    }
+
+    /**
+     * Verifies that the accounts opened feed the cash and that ties keep the seat order.
+     */
+    @Test
+    @DisplayName("the opening balances rank the players by seat")
+    void testOpening() {
+        assertEquals(INITIAL_BALANCE, this.leaderboard.getCash("Mario"));
+        assertEquals(INITIAL_BALANCE, this.leaderboard.getNetWorth("Peach"));
+        assertEquals(3L * INITIAL_BALANCE, this.leaderboard.getTotalNetWorth());
+        assertEquals(List.of("Mario", "Luigi", "Peach"), this.leaderboard.getStandings());
+        assertEquals(3, this.leaderboard.getActiveCount());
+        assertEquals(-1, this.leaderboard.getRank("Toad"));
+        assertEquals(0, this.leaderboard.getNetWorth("Toad"));
+    }
+
+    /**
+     * Verifies that the postings and the changes of holdings move the players in the standings.
+     */
+    @Test
+    @DisplayName("postings and holdings reorder the standings")
+    void testStandings() {
+        this.ledger.transfer(this.mario, this.peach, RENT, "rent");
+        assertEquals(List.of("Peach", "Luigi", "Mario"), this.leaderboard.getStandings());
+        assertEquals(0, this.leaderboard.getRank("Peach"));
+        assertEquals("Mario", this.leaderboard.getPlayerAt(2));
+
+        this.ledger.transfer(this.luigi, null, PRICE, "purchase");
+        this.ledger.recordAssets(this.luigi, PRICE, 0);
+        assertEquals(List.of("Peach", "Luigi", "Mario"), this.leaderboard.getStandings());
+        assertEquals(PRICE, this.leaderboard.getPropertyValue("Luigi"));
+
+        this.ledger.recordAssets(this.mario, PRICE * 3, HOUSE_COST * 2);
+        assertEquals(List.of("Mario", "Peach", "Luigi"), this.leaderboard.getStandings());
+        assertEquals(HOUSE_COST * 2, this.leaderboard.getBuildingValue("Mario"));
+        assertEquals(INITIAL_BALANCE - RENT + PRICE * 3 + HOUSE_COST * 2, this.leaderboard.getNetWorth("Mario"));
+        assertEquals(3L * INITIAL_BALANCE + PRICE * 3 + HOUSE_COST * 2, this.leaderboard.getTotalNetWorth());
+    }
+
+    /**
+     * Verifies that the settlements are reported once committed.
+     */
+    @Test
+    @DisplayName("a settlement updates the standings at commit")
+    void testSettlement() {
+        this.ledger.begin();
+        this.ledger.transfer(this.luigi, this.mario, RENT, "rent");
+        this.ledger.transfer(this.peach, this.mario, RENT, "rent");
+        assertEquals(INITIAL_BALANCE, this.leaderboard.getCash("Mario"));
+
+        this.ledger.commit();
+        assertEquals(INITIAL_BALANCE + 2 * RENT, this.leaderboard.getCash("Mario"));
+        assertEquals(List.of("Mario", "Luigi", "Peach"), this.leaderboard.getStandings());
+        assertEquals(3L * INITIAL_BALANCE, this.leaderboard.getTotalNetWorth());
+    }
+
+    /**
+     * Verifies that bankrupt players rank last whatever their worth.
+     */
+    @Test
+    @DisplayName("bankrupt players rank after the active ones")
+    void testBankruptcy() {
+        this.leaderboard.setActive("Mario", false);
+        assertFalse(this.leaderboard.isActive("Mario"));
+        assertEquals(2, this.leaderboard.getActiveCount());
+        assertEquals("Mario", this.leaderboard.getPlayerAt(2));
+
+        this.ledger.transfer(this.luigi, this.mario, RENT, "rent");
+        assertEquals(List.of("Peach", "Luigi", "Mario"), this.leaderboard.getStandings());
+
+        this.leaderboard.setActive("Mario", true);
+        assertTrue(this.leaderboard.isActive("Mario"));
+        assertEquals(List.of("Mario", "Peach", "Luigi"), this.leaderboard.getStandings());
+    }
+}
@@ -0,0 +1,193 @@
+package it.unibo.javapoly.model.impl.economy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import it.unibo.javapoly.model.api.Player;
+import it.unibo.javapoly.model.api.PlayerObserver;
+import it.unibo.javapoly.model.api.PlayerState;
+import it.unibo.javapoly.model.api.TokenType;
+import it.unibo.javapoly.model.api.economy.Ledger;
+import it.unibo.javapoly.model.api.economy.LedgerListener;
+import it.unibo.javapoly.model.api.economy.Posting;
+import it.unibo.javapoly.model.impl.PlayerImpl;
+
+/**
+ * Unit tests for {@link LedgerImpl}.
+ */
+@DisplayName("LedgerImpl tests")
+class LedgerImplTest {
+
+    private static final int INITIAL_BALANCE = 1500;
+    private static final int RENT = 300;
+    private static final int GO_BONUS = 200;
+    private static final int TAX = 100;
+    private static final String RENT_REASON = "rent";
+
+    private Ledger ledger;
+    private Player payer;
+    private Player payee;
+    private final List<Integer> notifications = new ArrayList<>();
+
+    /**
+     * Opens the accounts of two players, observing the balance of the payer.
+     */
+    @BeforeEach
+    void setUp() {
+        this.ledger = new LedgerImpl();
+        this.payer = new PlayerImpl("Mario", TokenType.CAR);
+        this.payee = new PlayerImpl("Luigi", TokenType.DOG);
+        this.payer.addObserver(new PlayerObserver() {
+            @Override
+            public void onPlayerMoved(final Player player, final int oldPosition, final int newPosition) {
+                // Only the balance is observed
+            }
+
+            @Override
+            public void onBalanceChanged(final Player player, final int newBalance) {
+                notifications.add(newBalance);
+            }
+
+            @Override
+            public void onStateChanged(final Player player, final PlayerState oldState, final PlayerState newState) {
+                // Only the balance is observed
+            }
+        });
+        this.ledger.open(this.payer);
+        this.ledger.open(this.payee);
+    }
+
+    /**
+     * Verifies that every movement is a posting between two accounts summing to zero.
+     */
+    @Test
+    @DisplayName("every movement is recorded as a double entry")
+    void testDoubleEntry() {
+        assertEquals(2, this.ledger.getPostingCount());
+        assertEquals(-2L * INITIAL_BALANCE, this.ledger.getBalance(null));
+
+        assertTrue(this.ledger.transfer(this.payer, this.payee, RENT, RENT_REASON));
+        this.ledger.deposit(this.payer, GO_BONUS);
+        assertFalse(this.ledger.transfer(this.payer, null, 2 * INITIAL_BALANCE, "tax"));
+
+        assertEquals(INITIAL_BALANCE - RENT + GO_BONUS, this.payer.getBalance());
+        assertEquals(INITIAL_BALANCE + RENT, this.ledger.getBalance("Luigi"));
+        assertEquals(4, this.ledger.getPostingCount());
+        final Posting rent = this.ledger.getPosting(2);
+        assertEquals("Mario", rent.getPayer());
+        assertEquals("Luigi", rent.getPayee());
+        assertEquals(RENT, rent.getAmount());
+        assertEquals(RENT_REASON, rent.getReason());
+        assertNull(this.ledger.getPosting(3).getPayer());
+        assertEquals(3, this.ledger.getHistory("Mario").size());
+        assertEquals(2, this.ledger.getHistory("Luigi").size());
+        assertTrue(this.ledger.getHistory("Peach").isEmpty());
+        assertTrue(this.ledger.audit(List.of(this.payer, this.payee)));
+    }
+
+    /**
+     * Verifies that a settlement is applied at commit, with one notification per player.
+     */
+    @Test
+    @DisplayName("a settlement is applied atomically")
+    void testSettlement() {
+        this.ledger.begin();
+        assertTrue(this.ledger.transfer(this.payer, this.payee, RENT, RENT_REASON));
+        this.ledger.deposit(this.payer, GO_BONUS);
+        assertTrue(this.ledger.withdraw(this.payer, TAX));
+        assertEquals(INITIAL_BALANCE, this.payer.getBalance());
+        assertTrue(this.notifications.isEmpty());
+        assertFalse(this.ledger.canAfford(this.payer, INITIAL_BALANCE));
+
+        this.ledger.commit();
+        final int balance = INITIAL_BALANCE - RENT + GO_BONUS - TAX;
+        assertEquals(balance, this.payer.getBalance());
+        assertEquals(List.of(balance), this.notifications);
+        final List<Posting> history = this.ledger.getHistory("Mario");
+        assertEquals(Ledger.OPENING, history.get(0).getReason());
+        assertEquals(4, history.size());
+        assertEquals(1, history.subList(1, history.size()).stream()
+                .mapToLong(Posting::getTransaction).distinct().count());
+        assertTrue(this.ledger.audit(List.of(this.payer, this.payee)));
+    }
+
+    /**
+     * Verifies that a movement not covered by the balance left by the settlement is refused.
+     */
+    @Test
+    @DisplayName("a settlement refuses the movements not covered")
+    void testRejection() {
+        this.ledger.begin();
+        assertTrue(this.ledger.withdraw(this.payer, INITIAL_BALANCE - TAX));
+        assertFalse(this.ledger.isRejected());
+        assertFalse(this.ledger.transfer(this.payer, this.payee, RENT, RENT_REASON));
+        assertTrue(this.ledger.isRejected());
+        assertThrows(IllegalStateException.class, this.ledger::begin);
+
+        this.ledger.commit();
+        assertFalse(this.ledger.isInTransaction());
+        assertEquals(TAX, this.payer.getBalance());
+        assertEquals(INITIAL_BALANCE, this.payee.getBalance());
+        assertThrows(IllegalStateException.class, this.ledger::commit);
+    }
+
+    /**
+     * Verifies that a rolled back settlement leaves balances, history and holdings untouched.
+     */
+    @Test
+    @DisplayName("a settlement can be rolled back")
+    void testRollback() {
+        final List<Integer> assets = new ArrayList<>();
+        this.ledger.addListener(new LedgerListener() {
+            @Override
+            public void onPosting(final String from, final String to, final int amount, final String reason) {
+                // Only the holdings are observed
+            }
+
+            @Override
+            public void onAssetsChanged(final String owner, final int propertyDelta, final int buildingDelta) {
+                assets.add(propertyDelta);
+            }
+        });
+        final int postings = this.ledger.getPostingCount();
+        assertThrows(IllegalStateException.class, this.ledger::rollback);
+
+        this.ledger.begin();
+        assertTrue(this.ledger.transfer(this.payer, this.payee, RENT, RENT_REASON));
+        this.ledger.recordAssets(this.payer, TAX, 0);
+        assertTrue(assets.isEmpty());
+        this.ledger.rollback();
+        assertFalse(this.ledger.isInTransaction());
+        assertEquals(INITIAL_BALANCE, this.payer.getBalance());
+        assertEquals(postings, this.ledger.getPostingCount());
+        assertTrue(assets.isEmpty());
+        assertTrue(this.notifications.isEmpty());
+
+        this.ledger.begin();
+        this.ledger.recordAssets(this.payer, TAX, 0);
+        this.ledger.commit();
+        assertEquals(List.of(TAX), assets);
+        assertTrue(this.ledger.audit(List.of(this.payer, this.payee)));
+    }
+
+    /**
+     * Verifies that the audit detects money moved outside the ledger.
+     */
+    @Test
+    @DisplayName("the audit detects money created outside the ledger")
+    void testAudit() {
+        assertTrue(this.ledger.audit(List.of(this.payer, this.payee)));
+        this.payee.receiveMoney(GO_BONUS);
+        assertFalse(this.ledger.audit(List.of(this.payer, this.payee)));
+    }
+}
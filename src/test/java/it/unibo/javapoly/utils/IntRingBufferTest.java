@@ -0,0 +1,102 @@
+package it.unibo.javapoly.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IntRingBuffer}.
+ */
+@DisplayName("IntRingBuffer tests")
+class IntRingBufferTest {
+
+    private static final int CAPACITY = 4;
+
+    /**
+     * Verifies that a sliding buffer keeps the last samples.
+     */
+    @Test
+    @DisplayName("a sliding buffer overwrites its oldest samples")
+    void testSliding() {
+        final IntRingBuffer buffer = new IntRingBuffer(CAPACITY, false);
+        for (int value = 1; value <= CAPACITY + 2; value++) {
+            buffer.add(value);
+        }
+        final int[] samples = new int[CAPACITY];
+        assertEquals(CAPACITY, buffer.copyTo(samples));
+        assertArrayEquals(new int[] {3, 4, 5, 6}, samples);
+        assertEquals(3, buffer.get(0));
+        assertEquals(6, buffer.getLast());
+        assertEquals(1, buffer.getStride());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(CAPACITY));
+    }
+
+    /**
+     * Verifies that a downsampling buffer keeps the last sample of every stride.
+     */
+    @Test
+    @DisplayName("a downsampling buffer covers every sample at a coarser resolution")
+    void testDownsampling() {
+        final IntRingBuffer buffer = new IntRingBuffer(CAPACITY, true);
+        for (int value = 1; value <= CAPACITY; value++) {
+            buffer.add(value);
+        }
+        assertEquals(1, buffer.getStride());
+
+        buffer.add(CAPACITY + 1);
+        assertEquals(2, buffer.getStride());
+        assertEquals(2, buffer.size());
+        assertEquals(CAPACITY + 1, buffer.getLast());
+
+        for (int value = CAPACITY + 2; value <= 4 * CAPACITY; value++) {
+            buffer.add(value);
+        }
+        final int[] samples = new int[CAPACITY];
+        final int size = buffer.copyTo(samples);
+        assertEquals(4, buffer.getStride());
+        assertArrayEquals(new int[] {4, 8, 12, 16}, Arrays.copyOf(samples, size));
+        assertEquals(4L * CAPACITY, buffer.getOfferedCount());
+    }
+
+    /**
+     * Verifies that the capacity must be even.
+     */
+    @Test
+    @DisplayName("the capacity must be even and at least 2")
+    void testCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new IntRingBuffer(1, true));
+        assertThrows(IllegalArgumentException.class, () -> new IntRingBuffer(CAPACITY + 1, false));
+    }
+
+    /**
+     * Verifies that a saved buffer is restored with its samples, stride and count.
+     */
+    @Test
+    @DisplayName("a buffer is saved and restored as JSON")
+    void testJson() throws JsonProcessingException {
+        final IntRingBuffer buffer = new IntRingBuffer(CAPACITY, false);
+        for (int value = 1; value <= CAPACITY + 1; value++) {
+            buffer.add(value);
+        }
+        final ObjectMapper mapper = new ObjectMapper();
+        final IntRingBuffer restored = mapper.readValue(mapper.writeValueAsString(buffer), IntRingBuffer.class);
+        final int[] samples = new int[CAPACITY];
+        assertEquals(CAPACITY, restored.copyTo(samples));
+        assertArrayEquals(new int[] {2, 3, 4, 5}, samples);
+        assertEquals(buffer.getOfferedCount(), restored.getOfferedCount());
+        assertEquals(buffer.getLast(), restored.getLast());
+
+        restored.add(CAPACITY + 2);
+        assertEquals(3, restored.get(0));
+        assertEquals(2, buffer.get(0));
+        assertThrows(JsonProcessingException.class,
+                () -> mapper.readValue("{\"samples\":[1,2,3],\"stride\":1}", IntRingBuffer.class));
+    }
+}
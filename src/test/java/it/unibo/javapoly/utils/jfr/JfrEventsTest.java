@@ -0,0 +1,102 @@
+package it.unibo.javapoly.utils.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import it.unibo.javapoly.controller.api.MatchController;
+import it.unibo.javapoly.controller.api.bot.PlayerStrategy;
+import it.unibo.javapoly.controller.impl.bot.AggressiveBot;
+import it.unibo.javapoly.controller.impl.bot.CautiousBot;
+import it.unibo.javapoly.controller.impl.bot.HeadlessMatchRunner;
+import it.unibo.javapoly.utils.JsonUtils;
+import it.unibo.javapoly.utils.MatchControllerDeserializer;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for the Flight Recorder events of the game and their settings profile.
+ */
+@DisplayName("JFR events tests")
+class JfrEventsTest {
+
+    private static final int MAX_TURNS = 200;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Verifies that the profile enables the events emitted by a headless match and its load.
+     */
+    @Test
+    @DisplayName("the settings profile records turns, transfers and loads")
+    void testProfile() throws IOException, ParseException {
+        final Configuration profile;
+        try (Reader reader = new InputStreamReader(JfrEvents.class.getResourceAsStream(JfrEvents.SETTINGS),
+                StandardCharsets.UTF_8)) {
+            profile = Configuration.create(reader);
+        }
+        final List<RecordedEvent> events = record(profile);
+
+        final RecordedEvent turn = find(events, "Turn");
+        assertNotNull(turn.getString("player"));
+        assertTrue(turn.getInt("dice") >= 2);
+        assertNotNull(find(events, "MoneyTransfer").getString("reason"));
+        final RecordedEvent load = find(events, "Persistence");
+        assertEquals(PersistenceEvent.LOAD, load.getString("operation"));
+        assertTrue(load.getBoolean("succeeded"));
+    }
+
+    /**
+     * Verifies that the events are not recorded by the profiles of the JDK.
+     */
+    @Test
+    @DisplayName("the events are disabled without the profile")
+    void testDisabledByDefault() throws IOException, ParseException {
+        final List<RecordedEvent> events = record(Configuration.getConfiguration("default"));
+        assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().startsWith(JfrEvents.PREFIX)));
+    }
+
+    private List<RecordedEvent> record(final Configuration configuration) throws IOException {
+        final Map<String, PlayerStrategy> bots = new LinkedHashMap<>();
+        bots.put("aggressive", new AggressiveBot());
+        bots.put("cautious", new CautiousBot());
+        final Path file = this.directory.resolve("javapoly.jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            final HeadlessMatchRunner runner = new HeadlessMatchRunner(MAX_TURNS);
+            final MatchController match = runner.createMatch(bots, new SplittableRandom(1));
+            runner.play(match);
+            final byte[] json = JsonUtils.getInstance().mapper().writeValueAsBytes(match);
+            MatchControllerDeserializer.deserializeHeadless(new ByteArrayInputStream(json), bots);
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent find(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(JfrEvents.PREFIX + name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " not recorded"));
+    }
+}
@@ -0,0 +1,152 @@
+package it.unibo.javapoly.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link MetricsRegistry}, {@link EventCounter}, {@link LatencyHistogram}
+ * and {@link LatencyWindow}.
+ */
+@DisplayName("MetricsRegistry tests")
+class MetricsRegistryTest {
+
+    private static final int SAMPLES = 1000;
+    private static final double RELATIVE_ERROR = 1.0 / 8;
+    private static final long MICROSECOND = 1000;
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * Verifies that the buckets cover every value with the expected relative error.
+     */
+    @Test
+    @DisplayName("the buckets have a bounded relative error")
+    void testBuckets() {
+        for (long value = 0; value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            final long upper = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+            assertTrue(upper >= value && upper - value <= value * RELATIVE_ERROR, "value " + value);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.index(Long.MAX_VALUE)));
+    }
+
+    /**
+     * Verifies the statistics of a histogram.
+     */
+    @Test
+    @DisplayName("a histogram reports count, mean, percentiles and maximum")
+    void testHistogram() {
+        final LatencyHistogram histogram = new MetricsRegistry().histogram("test.latency");
+        for (int i = 1; i <= SAMPLES; i++) {
+            histogram.record(i * MICROSECOND);
+        }
+
+        assertEquals(SAMPLES, histogram.getCount());
+        final double mean = (SAMPLES + 1) * MICROSECOND / 2.0;
+        assertEquals(mean, histogram.getMeanNanos(), mean * RELATIVE_ERROR / 2);
+        assertEquals(SAMPLES * MICROSECOND, histogram.getMaxNanos());
+        assertWithin(SAMPLES / 2 * MICROSECOND, histogram.getP50Nanos());
+        assertWithin(SAMPLES * 99 / 100 * MICROSECOND, histogram.getP99Nanos());
+        assertEquals(SAMPLES * MICROSECOND, histogram.getPercentileNanos(1));
+    }
+
+    /**
+     * Verifies that a window reports only the latencies recorded since the previous sample.
+     */
+    @Test
+    @DisplayName("a window reports the latencies between two samples")
+    void testWindow() {
+        final LatencyHistogram histogram = new MetricsRegistry().histogram("test.latency");
+        histogram.record(SAMPLES * MICROSECOND);
+        final LatencyWindow window = new LatencyWindow(histogram);
+
+        window.sample();
+        assertEquals(0, window.getCount());
+        assertEquals(0, window.getMaxNanos());
+
+        histogram.record(MICROSECOND);
+        histogram.record(3 * MICROSECOND);
+        window.sample();
+        assertEquals(2, window.getCount());
+        assertEquals(2 * MICROSECOND, window.getMeanNanos(), 2 * MICROSECOND * RELATIVE_ERROR);
+        assertWithin(3 * MICROSECOND, window.getMaxNanos());
+
+        window.sample();
+        assertEquals(0, window.getCount());
+    }
+
+    /**
+     * Verifies that a disabled registry records nothing.
+     */
+    @Test
+    @DisplayName("a disabled registry records nothing")
+    void testDisabled() {
+        final MetricsRegistry registry = new MetricsRegistry();
+        final EventCounter counter = registry.counter("test.events");
+        final LatencyHistogram histogram = registry.histogram("test.latency");
+        assertSame(counter, registry.counter("test.events"));
+
+        registry.setEnabled(false);
+        counter.increment();
+        assertEquals(LatencyHistogram.NOT_STARTED, histogram.start());
+        histogram.recordSince(histogram.start());
+        assertEquals(0, counter.getCount());
+        assertEquals(0, histogram.getCount());
+
+        registry.setEnabled(true);
+        counter.add(2);
+        histogram.recordSince(histogram.start());
+        assertEquals(2, counter.getCount());
+        assertEquals(1, histogram.getCount());
+    }
+
+    /**
+     * Verifies the export of the metrics through JMX and their dump to a file.
+     */
+    @Test
+    @DisplayName("the metrics are exported through JMX and dumped to a file")
+    void testExport() throws JMException, IOException {
+        final MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test.exported").increment();
+        registry.exportToJmx();
+        registry.histogram("test.exportedLatency").record(MICROSECOND);
+
+        final ObjectName counter = new ObjectName(MetricsRegistry.JMX_DOMAIN + ":type=Counter,name="
+                + ObjectName.quote("test.exported"));
+        final ObjectName histogram = new ObjectName(MetricsRegistry.JMX_DOMAIN + ":type=Latency,name="
+                + ObjectName.quote("test.exportedLatency"));
+        try {
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(counter, "Count"));
+            assertEquals(MICROSECOND, ManagementFactory.getPlatformMBeanServer().getAttribute(histogram, "MaxNanos"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(counter);
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(histogram);
+        }
+
+        final Path file = this.directory.resolve("metrics.log");
+        registry.dump(file);
+        registry.dump(file);
+        final String dump = Files.readString(file);
+        assertTrue(dump.contains("test.exported count=1"));
+        assertTrue(dump.contains("test.exportedLatency count=1"));
+        assertEquals(2, dump.lines().filter(line -> line.startsWith("#")).count());
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected * RELATIVE_ERROR,
+                () -> expected + " expected, " + actual + " reported");
+    }
+}
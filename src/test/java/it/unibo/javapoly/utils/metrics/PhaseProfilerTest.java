@@ -0,0 +1,93 @@
+package it.unibo.javapoly.utils.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PhaseProfiler}.
+ */
+@DisplayName("PhaseProfiler tests")
+class PhaseProfilerTest {
+
+    private static final int SMALL = 1 << 10;
+    private static final int LARGE = 1 << 20;
+
+    private byte[] sink;
+
+    /**
+     * Verifies that the phases are accounted exclusively and the turns inclusively.
+     */
+    @Test
+    @DisplayName("nested phases are charged to the innermost one")
+    void testNesting() {
+        final PhaseProfiler profiler = new PhaseProfiler();
+        profiler.setEnabled(true);
+        final boolean turn = profiler.enterTurn();
+        final boolean resolve = profiler.enter(TurnPhase.RESOLVE);
+        this.sink = new byte[SMALL];
+        final boolean settle = profiler.enter(TurnPhase.SETTLE);
+        this.sink = new byte[LARGE];
+        profiler.exit(settle);
+        profiler.exit(resolve);
+        profiler.exit(turn);
+
+        assertTrue(turn && resolve && settle);
+        assertEquals(1, profiler.getTurns());
+        assertEquals(1, profiler.getCalls(TurnPhase.RESOLVE));
+        assertEquals(1, profiler.getCalls(TurnPhase.SETTLE));
+        assertTrue(profiler.getAllocatedBytes(TurnPhase.SETTLE) >= LARGE);
+        assertTrue(profiler.getAllocatedBytes(TurnPhase.RESOLVE) >= SMALL);
+        assertTrue(profiler.getAllocatedBytes(TurnPhase.RESOLVE) < LARGE);
+        assertTrue(profiler.getTurnAllocatedBytes() >= LARGE + SMALL);
+        assertTrue(profiler.report().contains("settle   count=1"));
+
+        profiler.reset();
+        assertEquals(0, profiler.getTurns());
+        assertEquals(0, profiler.getAllocatedBytes(TurnPhase.SETTLE));
+    }
+
+    /**
+     * Verifies that a disabled profiler accounts nothing.
+     */
+    @Test
+    @DisplayName("a disabled profiler accounts nothing")
+    void testDisabled() {
+        final PhaseProfiler profiler = new PhaseProfiler();
+        final boolean roll = profiler.enter(TurnPhase.ROLL);
+        this.sink = new byte[SMALL];
+        profiler.exit(roll);
+
+        assertFalse(roll);
+        assertEquals(0, profiler.getCalls(TurnPhase.ROLL));
+        assertEquals(0, profiler.getAllocatedBytes(TurnPhase.ROLL));
+        assertEquals(SMALL, this.sink.length);
+    }
+
+    /**
+     * Verifies that the phases entered on a virtual thread are reported as unsupported
+     * instead of being accounted with no resources.
+     *
+     * @throws InterruptedException if interrupted while waiting for the virtual thread
+     */
+    @Test
+    @DisplayName("phases on virtual threads are reported as unsupported")
+    void testVirtualThread() throws InterruptedException {
+        final PhaseProfiler profiler = new PhaseProfiler();
+        profiler.setEnabled(true);
+        Thread.ofVirtual().start(() -> {
+            final boolean turn = profiler.enterTurn();
+            final boolean move = profiler.enter(TurnPhase.MOVE);
+            profiler.exit(move);
+            profiler.exit(turn);
+        }).join();
+
+        assertEquals(2, profiler.getUnsupported());
+        assertEquals(0, profiler.getTurns());
+        assertEquals(0, profiler.getCalls(TurnPhase.MOVE));
+        assertTrue(profiler.report().contains("unsupported count=2"));
+    }
+}